@@ -10,6 +10,8 @@ Deploy and perform operations on your application in AWS EC2
 - [passive-downscale](operations/passive-downscale)
 - [scale](operations/scale)
 - [update-asg](operations/update-asg)
+- [advise](operations/advise)
+- [compare-performance](operations/compare-performance)
 
 {{ .Markdown 3 }}
 
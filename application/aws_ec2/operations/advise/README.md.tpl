@@ -0,0 +1,5 @@
+## Advise operation
+
+Recommend instance type and count for the application from CloudWatch utilisation history of both its deployment stacks. Read only, nothing is changed
+
+{{ .Markdown 3 }}
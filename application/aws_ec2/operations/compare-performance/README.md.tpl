@@ -0,0 +1,5 @@
+## Compare performance operation
+
+Compare performance of in service instances of the active stacks grouped by architecture and by instance type. Groups are ranked by requests served per fully utilised vCPU and then by p99 latency of their instances. Read only, nothing is changed
+
+{{ .Markdown 3 }}
@@ -7,10 +7,14 @@ import com.dream11.application.aws.EC2Client;
 import com.dream11.application.aws.LaunchTemplateClient;
 import com.dream11.application.aws.LoadBalancerClient;
 import com.dream11.application.aws.Route53Client;
+import com.dream11.application.aws.SNSClient;
+import com.dream11.application.aws.SQSClient;
 import com.dream11.application.aws.SystemsManagerClient;
 import com.dream11.application.aws.TargetGroupClient;
 import com.dream11.application.config.metadata.ComponentMetadata;
 import com.dream11.application.config.metadata.aws.AwsAccountData;
+import com.dream11.application.config.user.AdviseConfig;
+import com.dream11.application.config.user.ComparePerformanceConfig;
 import com.dream11.application.config.user.DeployConfig;
 import com.dream11.application.config.user.RevertConfig;
 import com.dream11.application.config.user.RollingRestartConfig;
@@ -24,6 +28,8 @@ import com.dream11.application.inject.AwsModule;
 import com.dream11.application.inject.ConfigModule;
 import com.dream11.application.inject.OptionalConfigModule;
 import com.dream11.application.operation.AMITemplate;
+import com.dream11.application.operation.Advise;
+import com.dream11.application.operation.ComparePerformance;
 import com.dream11.application.operation.Deploy;
 import com.dream11.application.operation.Operation;
 import com.dream11.application.operation.PassiveDownscale;
@@ -107,6 +113,9 @@ public class Application {
 
   SystemsManagerClient systemsManagerClient;
 
+  SQSClient sqsClient;
+  SNSClient snsClient;
+
   String config;
   ComponentMetadata componentMetadata;
   AwsAccountData awsAccountData;
@@ -258,6 +267,39 @@ public class Application {
             this.deployConfig = this.deployConfig.mergeWith(this.config);
             yield Update.class;
           }
+          case ADVISE -> {
+            if (Objects.isNull(this.deployConfig)) {
+              throw new GenericApplicationException(
+                  ApplicationError.DEPLOY_CONFIG_NOT_FOUND_IN_STATE, "advise");
+            }
+            AdviseConfig config =
+                Application.getObjectMapper().readValue(this.config, AdviseConfig.class);
+            log.debug("Advise config:[{}]", config);
+            config.validate();
+            modules.add(
+                OptionalConfigModule.<AdviseConfig>builder()
+                    .clazz(AdviseConfig.class)
+                    .config(config)
+                    .build());
+            yield Advise.class;
+          }
+          case COMPARE_PERFORMANCE -> {
+            if (Objects.isNull(this.deployConfig)) {
+              throw new GenericApplicationException(
+                  ApplicationError.DEPLOY_CONFIG_NOT_FOUND_IN_STATE, "compare-performance");
+            }
+            ComparePerformanceConfig config =
+                Application.getObjectMapper()
+                    .readValue(this.config, ComparePerformanceConfig.class);
+            log.debug("Compare performance config:[{}]", config);
+            config.validate();
+            modules.add(
+                OptionalConfigModule.<ComparePerformanceConfig>builder()
+                    .clazz(ComparePerformanceConfig.class)
+                    .config(config)
+                    .build());
+            yield ComparePerformance.class;
+          }
         };
     modules.addAll(this.getGuiceModules());
     Operation operation = this.initializeGuiceModules(modules).getInstance(operationClass);
@@ -338,6 +380,8 @@ public class Application {
     this.launchTemplateClient = new LaunchTemplateClient(region, retryStrategy);
     this.cloudwatchClient = new CloudwatchClient(region, retryStrategy);
     this.systemsManagerClient = new SystemsManagerClient(region, retryStrategy);
+    this.sqsClient = new SQSClient(region, retryStrategy);
+    this.snsClient = new SNSClient(region, retryStrategy);
   }
 
   private Injector initializeGuiceModules(List<Module> modules) {
@@ -357,6 +401,8 @@ public class Application {
                 .ec2Client(this.ec2Client)
                 .cloudwatchClient(this.cloudwatchClient)
                 .systemsManagerClient(this.systemsManagerClient)
+                .sqsClient(this.sqsClient)
+                .snsClient(this.snsClient)
                 .build(),
             ConfigModule.builder()
                 .componentMetadata(this.componentMetadata)
@@ -2,9 +2,13 @@ package com.dream11.application.aws;
 
 import com.dream11.application.Application;
 import com.dream11.application.config.user.AutoScalingGroupConfig;
+import com.dream11.application.config.user.RollingStrategyConfig;
+import com.dream11.application.config.user.ScalingConfig;
 import com.dream11.application.constant.Constants;
 import com.dream11.application.exception.AsgNotFoundException;
 import com.dream11.application.state.LaunchTemplateState;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,15 +20,29 @@ import software.amazon.awssdk.core.waiters.WaiterResponse;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.services.autoscaling.AutoScalingClient;
+import software.amazon.awssdk.services.autoscaling.model.Activity;
 import software.amazon.awssdk.services.autoscaling.model.AutoScalingException;
 import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
 import software.amazon.awssdk.services.autoscaling.model.CreateAutoScalingGroupRequest;
 import software.amazon.awssdk.services.autoscaling.model.DescribeAutoScalingGroupsResponse;
+import software.amazon.awssdk.services.autoscaling.model.DescribeScalingActivitiesResponse;
 import software.amazon.awssdk.services.autoscaling.model.EnableMetricsCollectionRequest;
 import software.amazon.awssdk.services.autoscaling.model.InstanceMaintenancePolicy;
+import software.amazon.awssdk.services.autoscaling.model.InstanceRefresh;
+import software.amazon.awssdk.services.autoscaling.model.LaunchTemplate;
 import software.amazon.awssdk.services.autoscaling.model.LaunchTemplateOverrides;
+import software.amazon.awssdk.services.autoscaling.model.LaunchTemplateSpecification;
+import software.amazon.awssdk.services.autoscaling.model.LifecycleHookSpecification;
+import software.amazon.awssdk.services.autoscaling.model.MetricDimension;
+import software.amazon.awssdk.services.autoscaling.model.MetricType;
 import software.amazon.awssdk.services.autoscaling.model.MixedInstancesPolicy;
+import software.amazon.awssdk.services.autoscaling.model.RefreshPreferences;
+import software.amazon.awssdk.services.autoscaling.model.RefreshStrategy;
+import software.amazon.awssdk.services.autoscaling.model.ScalingPolicy;
+import software.amazon.awssdk.services.autoscaling.model.ScheduledUpdateGroupAction;
+import software.amazon.awssdk.services.autoscaling.model.StepAdjustment;
 import software.amazon.awssdk.services.autoscaling.model.Tag;
+import software.amazon.awssdk.services.autoscaling.model.TargetTrackingConfiguration;
 
 @Slf4j
 public class AutoscalingGroupClient {
@@ -47,17 +65,11 @@ public class AutoscalingGroupClient {
       Map<String, String> launchTemplateIdArchitectureMap,
       List<String> subnets,
       AutoScalingGroupConfig autoScalingGroupConfig,
+      Map<String, Integer> instanceTypeWeights,
       Map<String, String> tags) {
     Map<String, List<String>> launchTemplateToInstanceTypesMap =
-        launchTemplateIdArchitectureMap.entrySet().stream()
-            .collect(
-                Collectors.toMap(
-                    Map.Entry::getKey,
-                    entry ->
-                        autoScalingGroupConfig.getInstances().stream()
-                            .filter(instance -> instance.getArchitecture().equals(entry.getValue()))
-                            .flatMap(instance -> instance.getTypes().stream())
-                            .toList()));
+        this.buildLaunchTemplateToInstanceTypesMap(
+            launchTemplateIdArchitectureMap, autoScalingGroupConfig);
     Integer desiredInstances = autoScalingGroupConfig.getDesiredInstances();
     Integer maxSize = autoScalingGroupConfig.getMaxInstances();
     CreateAutoScalingGroupRequest createAutoScalingGroupRequest =
@@ -77,12 +89,18 @@ public class AutoscalingGroupClient {
             .instanceMaintenancePolicy(
                 policy -> buildInstanceMaintenancePolicy(policy, autoScalingGroupConfig).build())
             .healthCheckGracePeriod(autoScalingGroupConfig.getHealthcheckGracePeriod())
+            .lifecycleHookSpecificationList(
+                Boolean.TRUE.equals(autoScalingGroupConfig.getWarmup().getEnabled())
+                    ? List.of(buildWarmupLifecycleHook(autoScalingGroupConfig.getWarmup()))
+                    : List.of())
             .mixedInstancesPolicy(
                 mixedInstancePolicyBuilder ->
                     buildMixedInstancesPolicy(
                             mixedInstancePolicyBuilder,
                             launchTemplateToInstanceTypesMap,
-                            autoScalingGroupConfig)
+                            autoScalingGroupConfig,
+                            Constants.LATEST,
+                            instanceTypeWeights)
                         .build())
             .tags(
                 tags.entrySet().stream()
@@ -135,28 +153,101 @@ public class AutoscalingGroupClient {
                 .topicARN(snsTopicArn));
   }
 
+  /**
+   * Timeout of the hook bounds boot. Heartbeat recorded by userdata when warm-up starts resets it,
+   * after which it bounds warm-up. Instances are put in service when it times out
+   */
+  private static LifecycleHookSpecification buildWarmupLifecycleHook(
+      AutoScalingGroupConfig.WarmupConfig warmupConfig) {
+    return LifecycleHookSpecification.builder()
+        .lifecycleHookName(Constants.WARMUP_LIFECYCLE_HOOK_NAME)
+        .lifecycleTransition(Constants.INSTANCE_LAUNCHING_TRANSITION)
+        .heartbeatTimeout(warmupConfig.getTimeout() + Constants.WARMUP_HEARTBEAT_MARGIN_SECONDS)
+        .defaultResult("CONTINUE")
+        .build();
+  }
+
+  /** Adds or removes warm-up lifecycle hook of an existing ASG as per configuration */
+  private void syncWarmupLifecycleHook(
+      String name, AutoScalingGroupConfig.WarmupConfig warmupConfig) {
+    if (Boolean.TRUE.equals(warmupConfig.getEnabled())) {
+      LifecycleHookSpecification hook = buildWarmupLifecycleHook(warmupConfig);
+      this.autoScalingClient.putLifecycleHook(
+          request ->
+              request
+                  .autoScalingGroupName(name)
+                  .lifecycleHookName(hook.lifecycleHookName())
+                  .lifecycleTransition(hook.lifecycleTransition())
+                  .heartbeatTimeout(hook.heartbeatTimeout())
+                  .defaultResult(hook.defaultResult()));
+      return;
+    }
+    boolean hookExists =
+        !this.autoScalingClient
+            .describeLifecycleHooks(
+                request ->
+                    request
+                        .autoScalingGroupName(name)
+                        .lifecycleHookNames(Constants.WARMUP_LIFECYCLE_HOOK_NAME))
+            .lifecycleHooks()
+            .isEmpty();
+    if (hookExists) {
+      this.autoScalingClient.deleteLifecycleHook(
+          request ->
+              request
+                  .autoScalingGroupName(name)
+                  .lifecycleHookName(Constants.WARMUP_LIFECYCLE_HOOK_NAME));
+    }
+  }
+
   public void delete(String name) {
     this.autoScalingClient.deleteAutoScalingGroup(
         request -> request.autoScalingGroupName(name).forceDelete(true));
   }
 
-  public void setDesiredCapacity(String name, Integer desiredInstances) {
+  public void setDesiredCapacity(String name, Integer desiredInstances, Integer minSize) {
     this.autoScalingClient.updateAutoScalingGroup(
         request ->
             request
                 .autoScalingGroupName(name)
                 .desiredCapacity(desiredInstances)
-                .minSize(desiredInstances));
+                .minSize(minSize));
   }
 
-  public void setDesiredCapacity(String name, Integer desiredInstances, Integer maxSize) {
+  public void setDesiredCapacity(
+      String name, Integer desiredInstances, Integer minSize, Integer maxSize) {
     this.autoScalingClient.updateAutoScalingGroup(
         request ->
             request
                 .autoScalingGroupName(name)
                 .desiredCapacity(desiredInstances)
                 .maxSize(desiredInstances > maxSize ? desiredInstances : maxSize)
-                .minSize(desiredInstances));
+                .minSize(minSize));
+  }
+
+  /** Schedules one time action which downscales ASG to zero at the given time */
+  public void scheduleDownscale(String name, String actionName, Instant startTime) {
+    this.autoScalingClient.putScheduledUpdateGroupAction(
+        request ->
+            request
+                .autoScalingGroupName(name)
+                .scheduledActionName(actionName)
+                .startTime(startTime)
+                .minSize(0)
+                .desiredCapacity(0));
+  }
+
+  public void deleteScheduledAction(String name, String actionName) {
+    boolean exists =
+        !this.autoScalingClient
+            .describeScheduledActions(
+                request -> request.autoScalingGroupName(name).scheduledActionNames(actionName))
+            .scheduledUpdateGroupActions()
+            .isEmpty();
+    if (exists) {
+      this.autoScalingClient.deleteScheduledAction(
+          request -> request.autoScalingGroupName(name).scheduledActionName(actionName));
+    }
   }
 
   public AutoScalingGroup describe(String name) {
@@ -170,6 +261,41 @@ public class AutoscalingGroupClient {
     return autoScalingGroups.get(0);
   }
 
+  /**
+   * Fetches scaling activities of ASG which started at or after the given time
+   *
+   * @param name name of the ASG
+   * @param startTime activities started before this time are ignored
+   * @return activities sorted by start time in descending order
+   */
+  public List<Activity> describeScalingActivities(String name, Instant startTime) {
+    List<Activity> activities = new ArrayList<>();
+    String nextToken = null;
+    do {
+      String token = nextToken;
+      DescribeScalingActivitiesResponse response =
+          this.autoScalingClient.describeScalingActivities(
+              request -> request.autoScalingGroupName(name).nextToken(token));
+      List<Activity> page =
+          response.activities().stream()
+              .filter(activity -> !activity.startTime().isBefore(startTime))
+              .toList();
+      activities.addAll(page);
+      if (page.size() < response.activities().size()) {
+        // Activities are returned latest first, remaining pages are older than start time
+        break;
+      }
+      nextToken = response.nextToken();
+    } while (Objects.nonNull(nextToken));
+    return activities;
+  }
+
+  /** Terminates instance without decrementing desired capacity so that it gets replaced */
+  public void terminateInstance(String instanceId) {
+    this.autoScalingClient.terminateInstanceInAutoScalingGroup(
+        request -> request.instanceId(instanceId).shouldDecrementDesiredCapacity(false));
+  }
+
   public void detachTargetGroups(String name, List<String> targetGroupARNs) {
     this.autoScalingClient.detachLoadBalancerTargetGroups(
         request -> request.autoScalingGroupName(name).targetGroupARNs(targetGroupARNs));
@@ -180,6 +306,124 @@ public class AutoscalingGroupClient {
         request -> request.autoScalingGroupName(name).loadBalancerNames(loadBalancerNames));
   }
 
+  /**
+   * Creates or updates target tracking policy of ASG
+   *
+   * @param resourceLabel identifies target group for request count per target, null otherwise
+   */
+  public void putTargetTrackingPolicy(
+      String name, ScalingConfig.TargetTrackingPolicy policy, String resourceLabel) {
+    TargetTrackingConfiguration.Builder configuration =
+        TargetTrackingConfiguration.builder()
+            .targetValue(policy.getTargetValue())
+            .disableScaleIn(policy.getDisableScaleIn());
+    switch (policy.getMetric()) {
+      case CPU -> configuration.predefinedMetricSpecification(
+          metric -> metric.predefinedMetricType(MetricType.ASG_AVERAGE_CPU_UTILIZATION));
+      case REQUEST_COUNT_PER_TARGET -> configuration.predefinedMetricSpecification(
+          metric ->
+              metric
+                  .predefinedMetricType(MetricType.ALB_REQUEST_COUNT_PER_TARGET)
+                  .resourceLabel(resourceLabel));
+      case CUSTOM -> configuration.customizedMetricSpecification(
+          metric ->
+              metric
+                  .namespace(policy.getCustomMetric().getNamespace())
+                  .metricName(policy.getCustomMetric().getMetricName())
+                  .statistic(policy.getCustomMetric().getStatistic())
+                  .dimensions(
+                      policy.getCustomMetric().getDimensions().entrySet().stream()
+                          .map(
+                              entry ->
+                                  MetricDimension.builder()
+                                      .name(entry.getKey())
+                                      .value(entry.getValue())
+                                      .build())
+                          .toList()));
+    }
+    this.autoScalingClient.putScalingPolicy(
+        request ->
+            request
+                .autoScalingGroupName(name)
+                .policyName(policy.getName())
+                .policyType("TargetTrackingScaling")
+                .targetTrackingConfiguration(configuration.build()));
+  }
+
+  /**
+   * Creates or updates step scaling policy of ASG
+   *
+   * @return ARN of the policy, to be used as action of the alarm triggering it
+   */
+  public String putStepScalingPolicy(String name, ScalingConfig.StepPolicy policy) {
+    return this.autoScalingClient
+        .putScalingPolicy(
+            request ->
+                request
+                    .autoScalingGroupName(name)
+                    .policyName(policy.getName())
+                    .policyType("StepScaling")
+                    .adjustmentType(policy.getAdjustmentType())
+                    .metricAggregationType("Average")
+                    .stepAdjustments(
+                        policy.getSteps().stream()
+                            .map(
+                                step ->
+                                    StepAdjustment.builder()
+                                        .metricIntervalLowerBound(step.getLowerBound())
+                                        .metricIntervalUpperBound(step.getUpperBound())
+                                        .scalingAdjustment(step.getAdjustment())
+                                        .build())
+                            .toList()))
+        .policyARN();
+  }
+
+  public List<String> describePolicyNames(String name) {
+    return this.autoScalingClient
+        .describePoliciesPaginator(request -> request.autoScalingGroupName(name))
+        .scalingPolicies()
+        .stream()
+        .map(ScalingPolicy::policyName)
+        .toList();
+  }
+
+  public void deletePolicy(String name, String policyName) {
+    this.autoScalingClient.deletePolicy(
+        request -> request.autoScalingGroupName(name).policyName(policyName));
+  }
+
+  public void putScheduledAction(String name, ScalingConfig.ScheduledAction scheduledAction) {
+    this.autoScalingClient.putScheduledUpdateGroupAction(
+        request ->
+            request
+                .autoScalingGroupName(name)
+                .scheduledActionName(scheduledAction.getName())
+                .recurrence(scheduledAction.getRecurrence())
+                .timeZone(scheduledAction.getTimeZone())
+                .minSize(scheduledAction.getMinInstances())
+                .maxSize(scheduledAction.getMaxInstances())
+                .desiredCapacity(scheduledAction.getDesiredInstances()));
+  }
+
+  public List<String> describeScheduledActionNames(String name) {
+    return this.autoScalingClient
+        .describeScheduledActionsPaginator(request -> request.autoScalingGroupName(name))
+        .scheduledUpdateGroupActions()
+        .stream()
+        .map(ScheduledUpdateGroupAction::scheduledActionName)
+        .toList();
+  }
+
+  public void suspendProcesses(String name, List<String> processes) {
+    this.autoScalingClient.suspendProcesses(
+        request -> request.autoScalingGroupName(name).scalingProcesses(processes));
+  }
+
+  public void resumeProcesses(String name, List<String> processes) {
+    this.autoScalingClient.resumeProcesses(
+        request -> request.autoScalingGroupName(name).scalingProcesses(processes));
+  }
+
   public void updateTag(String name, Map<String, String> tags) {
     this.autoScalingClient.createOrUpdateTags(
         request ->
@@ -197,7 +441,10 @@ public class AutoscalingGroupClient {
                     .toList()));
   }
 
-  public void updateAsg(String name, AutoScalingGroupConfig autoScalingGroupConfig) {
+  public void updateAsg(
+      String name,
+      AutoScalingGroupConfig autoScalingGroupConfig,
+      Map<String, Integer> instanceTypeWeights) {
     // Fetch LT ids for the given ASG before creating launchTemplateToInstanceTypesMap
     Set<String> ltIdsInAsg =
         Application.getState().getAsg().stream()
@@ -232,11 +479,18 @@ public class AutoscalingGroupClient {
                         buildMixedInstancesPolicy(
                                 mixedInstancePolicyBuilder,
                                 launchTemplateToInstanceTypesMap,
-                                autoScalingGroupConfig)
+                                autoScalingGroupConfig,
+                                Constants.LATEST,
+                                instanceTypeWeights)
                             .build())
                 .instanceMaintenancePolicy(
                     policy ->
                         buildInstanceMaintenancePolicy(policy, autoScalingGroupConfig).build()));
+    // Instances launched from existing launch templates may not warm up, hence the hook is added
+    // only along with new launch templates
+    if (!Boolean.TRUE.equals(autoScalingGroupConfig.getWarmup().getEnabled())) {
+      this.syncWarmupLifecycleHook(name, autoScalingGroupConfig.getWarmup());
+    }
     if (!autoScalingGroupConfig.getSuspendProcesses().isEmpty()) {
       this.autoScalingClient.suspendProcesses(
           request ->
@@ -246,10 +500,159 @@ public class AutoscalingGroupClient {
     }
   }
 
+  /**
+   * Starts a rolling instance refresh which replaces the instances of the ASG with instances
+   * launched from the given launch templates
+   *
+   * @param name name of the ASG
+   * @param launchTemplateIdArchitectureMap launch templates of the desired configuration. Key:
+   *     launch template id, Value: architecture
+   * @param autoScalingGroupConfig ASG configuration
+   * @param rollingStrategyConfig rolling strategy configuration
+   * @param instanceTypeWeights weighted capacity of instance types, empty when unweighted
+   * @return instance refresh id
+   */
+  public String startInstanceRefresh(
+      String name,
+      Map<String, String> launchTemplateIdArchitectureMap,
+      AutoScalingGroupConfig autoScalingGroupConfig,
+      RollingStrategyConfig rollingStrategyConfig,
+      Map<String, Integer> instanceTypeWeights) {
+    Map<String, List<String>> launchTemplateToInstanceTypesMap =
+        this.buildLaunchTemplateToInstanceTypesMap(
+            launchTemplateIdArchitectureMap, autoScalingGroupConfig);
+    this.syncWarmupLifecycleHook(name, autoScalingGroupConfig.getWarmup());
+    return this.autoScalingClient
+        .startInstanceRefresh(
+            request ->
+                request
+                    .autoScalingGroupName(name)
+                    .strategy(RefreshStrategy.ROLLING)
+                    .desiredConfiguration(
+                        desiredConfigurationBuilder ->
+                            desiredConfigurationBuilder.mixedInstancesPolicy(
+                                mixedInstancePolicyBuilder ->
+                                    buildMixedInstancesPolicy(
+                                            mixedInstancePolicyBuilder,
+                                            launchTemplateToInstanceTypesMap,
+                                            autoScalingGroupConfig,
+                                            Constants.INITIAL_LAUNCH_TEMPLATE_VERSION,
+                                            instanceTypeWeights)
+                                        .build()))
+                    .preferences(
+                        buildRefreshPreferences(autoScalingGroupConfig, rollingStrategyConfig)))
+        .instanceRefreshId();
+  }
+
+  static RefreshPreferences buildRefreshPreferences(
+      AutoScalingGroupConfig autoScalingGroupConfig, RollingStrategyConfig rollingStrategyConfig) {
+    RefreshPreferences.Builder preferencesBuilder =
+        RefreshPreferences.builder()
+            .minHealthyPercentage(
+                autoScalingGroupConfig.getInstanceMaintenancePolicy().getMinHealthyPercentage())
+            .maxHealthyPercentage(
+                autoScalingGroupConfig.getInstanceMaintenancePolicy().getMaxHealthyPercentage())
+            .skipMatching(rollingStrategyConfig.getSkipMatching())
+            .autoRollback(rollingStrategyConfig.getAutoRollback())
+            .instanceWarmup(rollingStrategyConfig.getInstanceWarmup());
+    if (!rollingStrategyConfig.getCheckpointPercentages().isEmpty()) {
+      preferencesBuilder
+          .checkpointPercentages(rollingStrategyConfig.getCheckpointPercentages())
+          .checkpointDelay(rollingStrategyConfig.getCheckpointDelay());
+    }
+    return preferencesBuilder.build();
+  }
+
+  public InstanceRefresh describeInstanceRefresh(String name, String instanceRefreshId) {
+    return this.autoScalingClient
+        .describeInstanceRefreshes(
+            request -> request.autoScalingGroupName(name).instanceRefreshIds(instanceRefreshId))
+        .instanceRefreshes()
+        .get(0);
+  }
+
+  public void rollbackInstanceRefresh(String name) {
+    this.autoScalingClient.rollbackInstanceRefresh(request -> request.autoScalingGroupName(name));
+  }
+
+  public void cancelInstanceRefresh(String name) {
+    this.autoScalingClient.cancelInstanceRefresh(request -> request.autoScalingGroupName(name));
+  }
+
+  /**
+   * Replaces $Latest with explicit launch template versions in the mixed instances policy of the
+   * ASG, instance refresh can only roll back to a configuration with explicit versions
+   *
+   * @param name name of the ASG
+   */
+  public void pinLaunchTemplateVersions(String name) {
+    MixedInstancesPolicy mixedInstancesPolicy = this.describe(name).mixedInstancesPolicy();
+    LaunchTemplate launchTemplate = mixedInstancesPolicy.launchTemplate();
+    this.autoScalingClient.updateAutoScalingGroup(
+        request ->
+            request
+                .autoScalingGroupName(name)
+                .mixedInstancesPolicy(
+                    mixedInstancesPolicy.toBuilder()
+                        .launchTemplate(
+                            launchTemplate.toBuilder()
+                                .launchTemplateSpecification(
+                                    this.pinLaunchTemplateVersion(
+                                        launchTemplate.launchTemplateSpecification()))
+                                .overrides(
+                                    launchTemplate.overrides().stream()
+                                        .map(
+                                            overrides ->
+                                                overrides.toBuilder()
+                                                    .launchTemplateSpecification(
+                                                        this.pinLaunchTemplateVersion(
+                                                            overrides
+                                                                .launchTemplateSpecification()))
+                                                    .build())
+                                        .toList())
+                                .build())
+                        .build()));
+  }
+
+  private LaunchTemplateSpecification pinLaunchTemplateVersion(
+      LaunchTemplateSpecification launchTemplateSpecification) {
+    if (Objects.isNull(launchTemplateSpecification)) {
+      return null;
+    }
+    return launchTemplateSpecification.toBuilder()
+        .version(Constants.INITIAL_LAUNCH_TEMPLATE_VERSION)
+        .build();
+  }
+
+  private Map<String, List<String>> buildLaunchTemplateToInstanceTypesMap(
+      Map<String, String> launchTemplateIdArchitectureMap,
+      AutoScalingGroupConfig autoScalingGroupConfig) {
+    return launchTemplateIdArchitectureMap.entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey,
+                entry ->
+                    autoScalingGroupConfig.getInstances().stream()
+                        .filter(instance -> instance.getArchitecture().equals(entry.getValue()))
+                        .flatMap(instance -> instance.getTypes().stream())
+                        .toList()));
+  }
+
+  /**
+   * @return weighted capacity of the instance type, null when instances are not weighted
+   */
+  private static String getWeightedCapacity(
+      Map<String, Integer> instanceTypeWeights, String instanceType) {
+    Integer weight = instanceTypeWeights.get(instanceType);
+    return Objects.isNull(weight) ? null : String.valueOf(weight);
+  }
+
   private MixedInstancesPolicy.Builder buildMixedInstancesPolicy(
       MixedInstancesPolicy.Builder mixedInstancePolicyBuilder,
       Map<String, List<String>> launchTemplateToInstanceTypesMap,
-      AutoScalingGroupConfig autoScalingGroupConfig) {
+      AutoScalingGroupConfig autoScalingGroupConfig,
+      String launchTemplateVersion,
+      Map<String, Integer> instanceTypeWeights) {
     return mixedInstancePolicyBuilder
         .launchTemplate(
             launchTemplateBuilder ->
@@ -259,7 +662,7 @@ public class AutoscalingGroupClient {
                             launchTemplateSpecificationBuilder
                                 .launchTemplateId(
                                     launchTemplateToInstanceTypesMap.keySet().iterator().next())
-                                .version(Constants.LATEST))
+                                .version(launchTemplateVersion))
                     .overrides(
                         launchTemplateToInstanceTypesMap.entrySet().stream()
                             .flatMap(
@@ -269,11 +672,14 @@ public class AutoscalingGroupClient {
                                             instanceType ->
                                                 LaunchTemplateOverrides.builder()
                                                     .instanceType(instanceType)
+                                                    .weightedCapacity(
+                                                        getWeightedCapacity(
+                                                            instanceTypeWeights, instanceType))
                                                     .launchTemplateSpecification(
                                                         launchTemplateSpecificationBuilder ->
                                                             launchTemplateSpecificationBuilder
                                                                 .launchTemplateId(entry.getKey())
-                                                                .version(Constants.LATEST))
+                                                                .version(launchTemplateVersion))
                                                     .build()))
                             .toList()))
         .instancesDistribution(
@@ -1,9 +1,11 @@
 package com.dream11.application.aws;
 
+import com.dream11.application.config.user.LoadBalancerAttributesConfig;
 import com.dream11.application.config.user.LoadBalancerConfig;
 import com.dream11.application.constant.Protocol;
 import com.dream11.application.error.ApplicationError;
 import com.dream11.application.exception.GenericApplicationException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,6 +18,7 @@ import software.amazon.awssdk.services.elasticloadbalancing.model.CreateLoadBala
 import software.amazon.awssdk.services.elasticloadbalancing.model.HealthCheck;
 import software.amazon.awssdk.services.elasticloadbalancing.model.InstanceState;
 import software.amazon.awssdk.services.elasticloadbalancing.model.Listener;
+import software.amazon.awssdk.services.elasticloadbalancing.model.LoadBalancerAttributes;
 import software.amazon.awssdk.services.elasticloadbalancing.model.LoadBalancerDescription;
 import software.amazon.awssdk.services.elasticloadbalancing.model.Tag;
 
@@ -78,6 +81,72 @@ public class ClassicLoadBalancerClient {
                             crossZoneLoadBalancing -> crossZoneLoadBalancing.enabled(true))));
   }
 
+  /**
+   * @return attributes keyed as in {@link LoadBalancerAttributesConfig}
+   */
+  public Map<String, String> describeAttributes(String loadBalancerName) {
+    LoadBalancerAttributes attributes =
+        this.loadBalancingClient
+            .describeLoadBalancerAttributes(request -> request.loadBalancerName(loadBalancerName))
+            .loadBalancerAttributes();
+    Map<String, String> attributeMap = new HashMap<>();
+    if (Objects.nonNull(attributes.crossZoneLoadBalancing())) {
+      attributeMap.put(
+          LoadBalancerAttributesConfig.CLB_CROSS_ZONE,
+          String.valueOf(attributes.crossZoneLoadBalancing().enabled()));
+    }
+    if (Objects.nonNull(attributes.connectionSettings())) {
+      attributeMap.put(
+          LoadBalancerAttributesConfig.CLB_IDLE_TIMEOUT,
+          String.valueOf(attributes.connectionSettings().idleTimeout()));
+    }
+    if (Objects.nonNull(attributes.connectionDraining())) {
+      attributeMap.put(
+          LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING,
+          String.valueOf(attributes.connectionDraining().enabled()));
+      attributeMap.put(
+          LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING_TIMEOUT,
+          String.valueOf(attributes.connectionDraining().timeout()));
+    }
+    return attributeMap;
+  }
+
+  /**
+   * @param attributes attributes keyed as in {@link LoadBalancerAttributesConfig}. Connection
+   *     draining is modified only when both of its attributes are present
+   */
+  public void modifyAttributes(String loadBalancerName, Map<String, String> attributes) {
+    LoadBalancerAttributes.Builder builder = LoadBalancerAttributes.builder();
+    if (attributes.containsKey(LoadBalancerAttributesConfig.CLB_CROSS_ZONE)) {
+      builder.crossZoneLoadBalancing(
+          crossZoneLoadBalancing ->
+              crossZoneLoadBalancing.enabled(
+                  Boolean.valueOf(attributes.get(LoadBalancerAttributesConfig.CLB_CROSS_ZONE))));
+    }
+    if (attributes.containsKey(LoadBalancerAttributesConfig.CLB_IDLE_TIMEOUT)) {
+      builder.connectionSettings(
+          connectionSettings ->
+              connectionSettings.idleTimeout(
+                  Integer.valueOf(attributes.get(LoadBalancerAttributesConfig.CLB_IDLE_TIMEOUT))));
+    }
+    if (attributes.containsKey(LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING)
+        && attributes.containsKey(LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING_TIMEOUT)) {
+      builder.connectionDraining(
+          connectionDraining ->
+              connectionDraining
+                  .enabled(
+                      Boolean.valueOf(
+                          attributes.get(LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING)))
+                  .timeout(
+                      Integer.valueOf(
+                          attributes.get(
+                              LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING_TIMEOUT))));
+    }
+    this.loadBalancingClient.modifyLoadBalancerAttributes(
+        request ->
+            request.loadBalancerName(loadBalancerName).loadBalancerAttributes(builder.build()));
+  }
+
   public void configureHealthcheck(String loadBalancerName, LoadBalancerConfig.Listener listener) {
     String healthCheckTargetPath =
         listener.getTargetProtocol() == Protocol.HTTP
@@ -1,8 +1,14 @@
 package com.dream11.application.aws;
 
+import com.dream11.application.config.user.ScalingConfig;
+import com.dream11.application.constant.Constants;
 import com.dream11.application.entity.CloudWatchMetric;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.retries.api.RetryStrategy;
@@ -10,6 +16,7 @@ import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
 import software.amazon.awssdk.services.cloudwatch.model.GetMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.MetricDataQuery;
+import software.amazon.awssdk.services.cloudwatch.model.MetricAlarm;
 import software.amazon.awssdk.services.cloudwatch.model.MetricDataResult;
 
 public class CloudwatchClient {
@@ -30,26 +37,124 @@ public class CloudwatchClient {
         GetMetricDataRequest.builder()
             .startTime(startTime)
             .endTime(endTime)
-            .metricDataQueries(
-                MetricDataQuery.builder()
-                    .id("id")
-                    .metricStat(
-                        statBuilder ->
-                            statBuilder
-                                .stat(metric.getStatistic())
-                                .period(60)
-                                .metric(
-                                    metricBuilder ->
-                                        metricBuilder
-                                            .namespace(metric.getNamespace())
-                                            .metricName(metric.getMetricName())
-                                            .dimensions(
-                                                Dimension.builder()
-                                                    .name(metric.getResourceName())
-                                                    .value(metric.getResourceValue())
-                                                    .build())))
-                    .build())
+            .metricDataQueries(this.buildMetricDataQuery("id", 60, metric))
             .build();
     return this.client.getMetricData(request).metricDataResults();
   }
+
+  /**
+   * Fetches datapoints of metrics with as few GetMetricData calls as possible
+   *
+   * @param metrics map of query id to metric. Query ids must start with a lowercase letter
+   * @return map of query id to datapoints keyed by epoch seconds
+   */
+  public Map<String, Map<Long, Double>> getMetrics(
+      Instant startTime, Instant endTime, int period, Map<String, CloudWatchMetric> metrics) {
+    List<MetricDataQuery> queries =
+        metrics.entrySet().stream()
+            .map(entry -> this.buildMetricDataQuery(entry.getKey(), period, entry.getValue()))
+            .toList();
+    Map<String, Map<Long, Double>> datapoints = new HashMap<>();
+    for (int i = 0; i < queries.size(); i += Constants.GET_METRIC_DATA_MAX_QUERIES) {
+      GetMetricDataRequest request =
+          GetMetricDataRequest.builder()
+              .startTime(startTime)
+              .endTime(endTime)
+              .metricDataQueries(
+                  queries.subList(
+                      i, Math.min(i + Constants.GET_METRIC_DATA_MAX_QUERIES, queries.size())))
+              .build();
+      this.client
+          .getMetricDataPaginator(request)
+          .metricDataResults()
+          .forEach(
+              result -> {
+                Map<Long, Double> values =
+                    datapoints.computeIfAbsent(result.id(), id -> new TreeMap<>());
+                for (int j = 0; j < result.timestamps().size(); j++) {
+                  values.put(result.timestamps().get(j).getEpochSecond(), result.values().get(j));
+                }
+              });
+    }
+    return datapoints;
+  }
+
+  private MetricDataQuery buildMetricDataQuery(String id, int period, CloudWatchMetric metric) {
+    List<Dimension> dimensions = new ArrayList<>();
+    dimensions.add(
+        Dimension.builder()
+            .name(metric.getResourceName())
+            .value(metric.getResourceValue())
+            .build());
+    metric
+        .getDimensions()
+        .forEach(
+            (name, value) -> dimensions.add(Dimension.builder().name(name).value(value).build()));
+    return MetricDataQuery.builder()
+        .id(id)
+        .returnData(true)
+        .metricStat(
+            statBuilder ->
+                statBuilder
+                    .stat(metric.getStatistic())
+                    .period(period)
+                    .metric(
+                        metricBuilder ->
+                            metricBuilder
+                                .namespace(metric.getNamespace())
+                                .metricName(metric.getMetricName())
+                                .dimensions(dimensions)))
+        .build();
+  }
+
+  /**
+   * Creates or updates alarm which triggers the given step scaling policy
+   *
+   * @param dimensions dimensions of the metric
+   */
+  public void putScalingAlarm(
+      String alarmName,
+      String namespace,
+      String metricName,
+      String statistic,
+      Map<String, String> dimensions,
+      ScalingConfig.StepPolicy policy,
+      String policyArn) {
+    this.client.putMetricAlarm(
+        request ->
+            request
+                .alarmName(alarmName)
+                .namespace(namespace)
+                .metricName(metricName)
+                .statistic(statistic)
+                .dimensions(
+                    dimensions.entrySet().stream()
+                        .map(
+                            entry ->
+                                Dimension.builder()
+                                    .name(entry.getKey())
+                                    .value(entry.getValue())
+                                    .build())
+                        .toList())
+                .period(policy.getPeriod())
+                .evaluationPeriods(policy.getEvaluationPeriods())
+                .threshold(policy.getThreshold())
+                .comparisonOperator(policy.getComparisonOperator())
+                .alarmActions(policyArn));
+  }
+
+  public List<String> describeAlarmNames(String alarmNamePrefix) {
+    return this.client
+        .describeAlarmsPaginator(request -> request.alarmNamePrefix(alarmNamePrefix))
+        .metricAlarms()
+        .stream()
+        .map(MetricAlarm::alarmName)
+        .toList();
+  }
+
+  public void deleteAlarms(List<String> alarmNames) {
+    if (!alarmNames.isEmpty()) {
+      this.client.deleteAlarms(request -> request.alarmNames(alarmNames));
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package com.dream11.application.aws;
 
 import com.google.inject.Inject;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,4 +44,21 @@ public class EC2Client {
         .map(Image::imageId)
         .findFirst();
   }
+
+  public List<Instance> describeInstances(List<String> instanceIds) {
+    return this.client
+        .describeInstancesPaginator(request -> request.instanceIds(instanceIds))
+        .reservations()
+        .stream()
+        .flatMap(reservation -> reservation.instances().stream())
+        .toList();
+  }
+
+  public List<InstanceTypeInfo> describeInstanceTypes(List<String> instanceTypes) {
+    return this.client
+        .describeInstanceTypesPaginator(request -> request.instanceTypesWithStrings(instanceTypes))
+        .instanceTypes()
+        .stream()
+        .toList();
+  }
 }
@@ -2,8 +2,10 @@ package com.dream11.application.aws;
 
 import com.dream11.application.config.user.EbsConfig;
 import com.dream11.application.exception.LaunchTemplateNotFoundException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
@@ -11,6 +13,7 @@ import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.CreateLaunchTemplateRequest;
 import software.amazon.awssdk.services.ec2.model.Ec2Exception;
+import software.amazon.awssdk.services.ec2.model.Image;
 import software.amazon.awssdk.services.ec2.model.LaunchTemplate;
 import software.amazon.awssdk.services.ec2.model.LaunchTemplateBlockDeviceMappingRequest;
 import software.amazon.awssdk.services.ec2.model.LaunchTemplateInstanceMetadataEndpointState;
@@ -34,30 +37,61 @@ public class LaunchTemplateClient {
             .build();
   }
 
-  private List<LaunchTemplateBlockDeviceMappingRequest> buildBlockDeviceMappings(
+  List<LaunchTemplateBlockDeviceMappingRequest> buildBlockDeviceMappings(
       String amiId, EbsConfig ebsConfig) {
-    return this.ec2Client
-        .describeImages(request -> request.imageIds(amiId))
-        .images()
-        .get(0)
-        .blockDeviceMappings()
-        .stream()
+    Image image = this.ec2Client.describeImages(request -> request.imageIds(amiId)).images().get(0);
+    List<LaunchTemplateBlockDeviceMappingRequest> blockDeviceMappings =
+        new ArrayList<>(
+            image.blockDeviceMappings().stream()
+                .map(
+                    blockDeviceMapping -> {
+                      // Performance of AMI volumes is retained unless volume type of root volume
+                      // is overridden
+                      boolean volumeTypeOverridden =
+                          Objects.nonNull(ebsConfig.getVolumeType())
+                              && blockDeviceMapping.deviceName().equals(image.rootDeviceName());
+                      return LaunchTemplateBlockDeviceMappingRequest.builder()
+                          .deviceName(blockDeviceMapping.deviceName())
+                          .ebs(
+                              builder ->
+                                  builder
+                                      .snapshotId(blockDeviceMapping.ebs().snapshotId())
+                                      .iops(
+                                          volumeTypeOverridden
+                                              ? ebsConfig.getIops()
+                                              : blockDeviceMapping.ebs().iops())
+                                      .deleteOnTermination(
+                                          blockDeviceMapping.ebs().deleteOnTermination())
+                                      .volumeSize(ebsConfig.getSize())
+                                      .volumeType(
+                                          volumeTypeOverridden
+                                              ? ebsConfig.getVolumeType().getValue()
+                                              : blockDeviceMapping.ebs().volumeTypeAsString())
+                                      .throughput(
+                                          volumeTypeOverridden
+                                              ? ebsConfig.getThroughput()
+                                              : blockDeviceMapping.ebs().throughput())
+                                      .encrypted(blockDeviceMapping.ebs().encrypted()))
+                          .build();
+                    })
+                .toList());
+    ebsConfig.getVolumes().stream()
         .map(
-            blockDeviceMapping ->
+            volume ->
                 LaunchTemplateBlockDeviceMappingRequest.builder()
-                    .deviceName(blockDeviceMapping.deviceName())
+                    .deviceName(volume.getDeviceName())
                     .ebs(
                         builder ->
                             builder
-                                .snapshotId(blockDeviceMapping.ebs().snapshotId())
-                                .iops(blockDeviceMapping.ebs().iops())
-                                .deleteOnTermination(blockDeviceMapping.ebs().deleteOnTermination())
-                                .volumeSize(ebsConfig.getSize())
-                                .volumeType(blockDeviceMapping.ebs().volumeType())
-                                .throughput(blockDeviceMapping.ebs().throughput())
-                                .encrypted(blockDeviceMapping.ebs().encrypted()))
+                                .volumeSize(volume.getSize())
+                                .volumeType(volume.getVolumeType().getValue())
+                                .iops(volume.getIops())
+                                .throughput(volume.getThroughput())
+                                .deleteOnTermination(volume.getDeleteOnTermination())
+                                .encrypted(volume.getEncrypted()))
                     .build())
-        .toList();
+        .forEach(blockDeviceMappings::add);
+    return blockDeviceMappings;
   }
 
   public LaunchTemplate create(
@@ -2,9 +2,15 @@ package com.dream11.application.aws;
 
 import com.dream11.application.constant.Constants;
 import com.dream11.application.entity.ProvisionedCapacityResponse;
+import com.dream11.application.error.ApplicationError;
+import com.dream11.application.exception.GenericApplicationException;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.SneakyThrows;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
@@ -12,23 +18,35 @@ import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.Action;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.ActionTypeEnum;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.CapacityReservationStateEnum;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.CapacityReservationStatus;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.Certificate;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.CreateListenerRequest;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.CreateLoadBalancerRequest;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.DescribeCapacityReservationResponse;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.ElasticLoadBalancingV2Exception;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.ForwardActionConfig;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.Listener;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.LoadBalancer;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.LoadBalancerAttribute;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.LoadBalancerSchemeEnum;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.LoadBalancerTypeEnum;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.ModifyCapacityReservationResponse;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.ProtocolEnum;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.Tag;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroupStickinessConfig;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroupTuple;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.ZonalCapacityReservationState;
 
 @Slf4j
 public class LoadBalancerClient {
 
   final ElasticLoadBalancingV2Client loadBalancingV2Client;
 
+  LoadBalancerClient(ElasticLoadBalancingV2Client loadBalancingV2Client) {
+    this.loadBalancingV2Client = loadBalancingV2Client;
+  }
+
   public LoadBalancerClient(String region, RetryStrategy retryStrategy) {
     this.loadBalancingV2Client =
         ElasticLoadBalancingV2Client.builder()
@@ -78,6 +96,30 @@ public class LoadBalancerClient {
                         .build()));
   }
 
+  public Map<String, String> describeAttributes(String loadBalancerArn) {
+    return this.loadBalancingV2Client
+        .describeLoadBalancerAttributes(request -> request.loadBalancerArn(loadBalancerArn))
+        .attributes()
+        .stream()
+        .collect(Collectors.toMap(LoadBalancerAttribute::key, LoadBalancerAttribute::value));
+  }
+
+  public void modifyAttributes(String loadBalancerArn, Map<String, String> attributes) {
+    this.loadBalancingV2Client.modifyLoadBalancerAttributes(
+        request ->
+            request
+                .loadBalancerArn(loadBalancerArn)
+                .attributes(
+                    attributes.entrySet().stream()
+                        .map(
+                            entry ->
+                                LoadBalancerAttribute.builder()
+                                    .key(entry.getKey())
+                                    .value(entry.getValue())
+                                    .build())
+                        .toList()));
+  }
+
   public void delete(String loadBalancerArn) {
     this.loadBalancingV2Client.deleteLoadBalancer(
         request -> request.loadBalancerArn(loadBalancerArn));
@@ -134,21 +176,143 @@ public class LoadBalancerClient {
         .get(0);
   }
 
-  @SneakyThrows
+  /**
+   * Reserves minimum capacity units for load balancer
+   *
+   * @param lcu capacity units to reserve, 0 resets the reservation
+   */
   public void modifyProvisionedCapacity(String loadBalancerArn, Integer lcu) {
-    // TODO Implement modifyProvisionedCapacity
+    try {
+      ModifyCapacityReservationResponse response =
+          this.loadBalancingV2Client.modifyCapacityReservation(
+              request -> {
+                request.loadBalancerArn(loadBalancerArn);
+                if (lcu == 0) {
+                  request.resetCapacityReservation(true);
+                } else {
+                  request.minimumLoadBalancerCapacity(capacity -> capacity.capacityUnits(lcu));
+                }
+              });
+      log.debug(
+          "Modified capacity reservation of load balancer:[{}]. Decrease requests remaining:[{}]",
+          loadBalancerArn,
+          response.decreaseRequestsRemaining());
+    } catch (ElasticLoadBalancingV2Exception exception) {
+      throw new GenericApplicationException(
+          ApplicationError.LCU_MODIFY_CALL_FAILED,
+          loadBalancerArn,
+          exception.awsErrorDetails().errorCode(),
+          exception.awsErrorDetails().errorMessage());
+    }
   }
 
-  @SneakyThrows
+  /**
+   * @return reserved capacity units and reservation status across zones. Status is provisioned
+   *     only when every zone is provisioned, otherwise status of the first zone that is not
+   */
   public ProvisionedCapacityResponse.ProvisionedCapacity getProvisionedCapacity(
       String loadBalancerArn) {
-    // TODO Implement getProvisionedCapacity
+    DescribeCapacityReservationResponse response;
+    try {
+      response =
+          this.loadBalancingV2Client.describeCapacityReservation(
+              request -> request.loadBalancerArn(loadBalancerArn));
+    } catch (ElasticLoadBalancingV2Exception exception) {
+      throw new GenericApplicationException(
+          ApplicationError.LCU_GET_CALL_FAILED,
+          loadBalancerArn,
+          exception.awsErrorDetails().errorCode(),
+          exception.awsErrorDetails().errorMessage());
+    }
+    Integer lcu =
+        Objects.isNull(response.minimumLoadBalancerCapacity())
+            ? 0
+            : response.minimumLoadBalancerCapacity().capacityUnits();
+    Optional<CapacityReservationStatus> pendingZone =
+        response.capacityReservationState().stream()
+            .map(ZonalCapacityReservationState::state)
+            .filter(state -> state.code() != CapacityReservationStateEnum.PROVISIONED)
+            .min(
+                Comparator.comparing(
+                    state -> state.code() == CapacityReservationStateEnum.FAILED ? 0 : 1));
     return ProvisionedCapacityResponse.ProvisionedCapacity.builder()
-        .lcu(0)
-        .status(Constants.LCU_PROVISIONED_STATUS)
+        .lcu(lcu)
+        .status(
+            pendingZone
+                .map(CapacityReservationStatus::codeAsString)
+                .orElse(Constants.LCU_PROVISIONED_STATUS))
+        .reason(pendingZone.map(CapacityReservationStatus::reason).orElse(null))
         .build();
   }
 
+  /**
+   * @return weights of target groups in forward action of listener. Key: target group arn, Value:
+   *     weight
+   */
+  public Map<String, Long> getListenerWeights(String listenerArn) {
+    Map<String, Long> weights = new LinkedHashMap<>();
+    this.describeListener(listenerArn).defaultActions().stream()
+        .filter(action -> action.type() == ActionTypeEnum.FORWARD)
+        .findFirst()
+        .ifPresent(
+            action -> {
+              if (Objects.isNull(action.forwardConfig())) {
+                weights.put(action.targetGroupArn(), 1L);
+                return;
+              }
+              action
+                  .forwardConfig()
+                  .targetGroups()
+                  .forEach(
+                      targetGroup ->
+                          weights.put(
+                              targetGroup.targetGroupArn(),
+                              Objects.isNull(targetGroup.weight())
+                                  ? 1L
+                                  : targetGroup.weight().longValue()));
+            });
+    return weights;
+  }
+
+  /**
+   * Forwards requests of listener to target groups in proportion to their weights. Target group
+   * stickiness of existing forward action is retained
+   *
+   * @param weights Key: target group arn, Value: weight
+   */
+  public void modifyListenerWeights(String listenerArn, Map<String, Long> weights) {
+    TargetGroupStickinessConfig stickinessConfig =
+        this.describeListener(listenerArn).defaultActions().stream()
+            .filter(action -> action.type() == ActionTypeEnum.FORWARD)
+            .map(Action::forwardConfig)
+            .filter(Objects::nonNull)
+            .map(ForwardActionConfig::targetGroupStickinessConfig)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+    this.loadBalancingV2Client.modifyListener(
+        request ->
+            request
+                .listenerArn(listenerArn)
+                .defaultActions(
+                    Action.builder()
+                        .type(ActionTypeEnum.FORWARD)
+                        .forwardConfig(
+                            forwardConfigBuilder ->
+                                forwardConfigBuilder
+                                    .targetGroups(
+                                        weights.entrySet().stream()
+                                            .map(
+                                                entry ->
+                                                    TargetGroupTuple.builder()
+                                                        .targetGroupArn(entry.getKey())
+                                                        .weight(entry.getValue().intValue())
+                                                        .build())
+                                            .toList())
+                                    .targetGroupStickinessConfig(stickinessConfig))
+                        .build()));
+  }
+
   public void deleteListener(String listenerArn) {
     this.loadBalancingV2Client.deleteListener(request -> request.listenerArn(listenerArn));
   }
@@ -5,93 +5,177 @@ import com.dream11.application.exception.Route53NotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.services.route53.model.Change;
 import software.amazon.awssdk.services.route53.model.ChangeAction;
 import software.amazon.awssdk.services.route53.model.GetChangeRequest;
+import software.amazon.awssdk.services.route53.model.ListResourceRecordSetsRequest;
 import software.amazon.awssdk.services.route53.model.ListResourceRecordSetsResponse;
 import software.amazon.awssdk.services.route53.model.RRType;
 import software.amazon.awssdk.services.route53.model.ResourceRecordSet;
 
 public class Route53Client {
 
+  static final List<RRType> RECORD_TYPES = List.of(RRType.A, RRType.AAAA, RRType.CNAME);
+
   final software.amazon.awssdk.services.route53.Route53Client r53Client;
 
   public Route53Client(String region, RetryStrategy retryStrategy) {
-    this.r53Client =
+    this(
         software.amazon.awssdk.services.route53.Route53Client.builder()
             .region(Region.of(region))
             .credentialsProvider(DefaultCredentialsProvider.builder().build())
             .overrideConfiguration(overrideConfig -> overrideConfig.retryStrategy(retryStrategy))
-            .build();
+            .build());
+  }
+
+  Route53Client(software.amazon.awssdk.services.route53.Route53Client r53Client) {
+    this.r53Client = r53Client;
   }
 
-  private String executeUpdate(
-      String hostedZoneId, List<Route53Record> records, ChangeAction changeAction) {
+  private static ResourceRecordSet toResourceRecordSet(Route53Record r53record) {
+    ResourceRecordSet.Builder builder =
+        ResourceRecordSet.builder()
+            .type(r53record.getType())
+            .setIdentifier(r53record.getIdentifier())
+            .name(r53record.getName())
+            .weight(r53record.getWeight());
+    if (r53record.isAlias()) {
+      // Alias records follow ttl of the load balancer dns
+      return builder
+          .aliasTarget(
+              aliasTargetBuilder ->
+                  aliasTargetBuilder
+                      .hostedZoneId(r53record.getAliasHostedZoneId())
+                      .dnsName(r53record.getDns())
+                      .evaluateTargetHealth(r53record.getEvaluateTargetHealth()))
+          .build();
+    }
+    return builder
+        .ttl(r53record.getTtl())
+        .resourceRecords(resourceRecordBuilder -> resourceRecordBuilder.value(r53record.getDns()))
+        .build();
+  }
+
+  private static Route53Record toRoute53Record(ResourceRecordSet resourceRecordSet) {
+    Route53Record.Route53RecordBuilder builder =
+        Route53Record.builder()
+            .name(resourceRecordSet.name())
+            .weight(resourceRecordSet.weight())
+            .ttl(resourceRecordSet.ttl())
+            .identifier(resourceRecordSet.setIdentifier())
+            .type(resourceRecordSet.type());
+    if (Objects.nonNull(resourceRecordSet.aliasTarget())) {
+      return builder
+          .dns(stripTrailingDot(resourceRecordSet.aliasTarget().dnsName()))
+          .aliasHostedZoneId(resourceRecordSet.aliasTarget().hostedZoneId())
+          .evaluateTargetHealth(resourceRecordSet.aliasTarget().evaluateTargetHealth())
+          .build();
+    }
+    return builder.dns(resourceRecordSet.resourceRecords().get(0).value()).build();
+  }
+
+  private static String stripTrailingDot(String dns) {
+    return dns.endsWith(".") ? dns.substring(0, dns.length() - 1) : dns;
+  }
+
+  private static List<Change> toChanges(List<Route53Record> records, ChangeAction changeAction) {
+    return records.stream()
+        .map(
+            r53record ->
+                Change.builder()
+                    .action(changeAction)
+                    .resourceRecordSet(toResourceRecordSet(r53record))
+                    .build())
+        .toList();
+  }
+
+  private String executeUpdate(String hostedZoneId, List<Change> changes) {
     return this.r53Client
         .changeResourceRecordSets(
             builder ->
                 builder
                     .hostedZoneId(hostedZoneId)
-                    .changeBatch(
-                        changeBatchBuilder ->
-                            changeBatchBuilder.changes(
-                                records.stream()
-                                    .map(
-                                        r53record ->
-                                            Change.builder()
-                                                .action(changeAction)
-                                                .resourceRecordSet(
-                                                    ResourceRecordSet.builder()
-                                                        .ttl(r53record.getTtl())
-                                                        .type(RRType.CNAME)
-                                                        .setIdentifier(r53record.getIdentifier())
-                                                        .name(r53record.getName())
-                                                        .weight(r53record.getWeight())
-                                                        .resourceRecords(
-                                                            resourceRecordBuilder ->
-                                                                resourceRecordBuilder.value(
-                                                                    r53record.getDns()))
-                                                        .build())
-                                                .build())
-                                    .toList())))
+                    .changeBatch(changeBatchBuilder -> changeBatchBuilder.changes(changes)))
         .changeInfo()
         .id();
   }
 
-  public Route53Record get(String hostedZoneId, String name, String identifier) {
-    ListResourceRecordSetsResponse response =
-        this.r53Client.listResourceRecordSets(
-            listResourceRecordSetsBuilder ->
-                listResourceRecordSetsBuilder
-                    .hostedZoneId(hostedZoneId)
-                    .startRecordName(name)
-                    .startRecordIdentifier(identifier)
-                    .startRecordType(RRType.CNAME)
-                    .maxItems("1"));
-
-    if (response.hasResourceRecordSets()
-        && !response.resourceRecordSets().isEmpty()
-        && response.resourceRecordSets().get(0).name().equals(name + ".")
-        && response.resourceRecordSets().get(0).setIdentifier().equals(identifier)) {
-      ResourceRecordSet resourceRecordSet = response.resourceRecordSets().get(0);
-      return Route53Record.builder()
-          .name(resourceRecordSet.name())
-          .weight(resourceRecordSet.weight())
-          .ttl(resourceRecordSet.ttl())
-          .identifier(identifier)
-          .dns(resourceRecordSet.resourceRecords().get(0).value())
-          .build();
-    } else {
+  /**
+   * @return all weighted CNAME, A and AAAA records of a route
+   */
+  public List<Route53Record> list(String hostedZoneId, String name) {
+    List<Route53Record> records = new ArrayList<>();
+    ListResourceRecordSetsRequest request =
+        ListResourceRecordSetsRequest.builder()
+            .hostedZoneId(hostedZoneId)
+            .startRecordName(name)
+            .build();
+    while (true) {
+      ListResourceRecordSetsResponse response = this.r53Client.listResourceRecordSets(request);
+      for (ResourceRecordSet resourceRecordSet : response.resourceRecordSets()) {
+        // Record sets are sorted by name, hence no further records of the route exist
+        if (!resourceRecordSet.name().equals(name + ".")) {
+          return records;
+        }
+        if (Objects.nonNull(resourceRecordSet.setIdentifier())
+            && RECORD_TYPES.contains(resourceRecordSet.type())) {
+          records.add(toRoute53Record(resourceRecordSet));
+        }
+      }
+      if (!Boolean.TRUE.equals(response.isTruncated())) {
+        return records;
+      }
+      request =
+          request.toBuilder()
+              .startRecordName(response.nextRecordName())
+              .startRecordType(response.nextRecordType())
+              .startRecordIdentifier(response.nextRecordIdentifier())
+              .build();
+    }
+  }
+
+  /**
+   * @return all records of a route with the identifier. Alias records of dualstack load balancers
+   *     have an A and an AAAA record with the same identifier
+   */
+  public List<Route53Record> getAll(String hostedZoneId, String name, String identifier) {
+    List<Route53Record> records =
+        this.list(hostedZoneId, name).stream()
+            .filter(r53record -> r53record.getIdentifier().equals(identifier))
+            .toList();
+    if (records.isEmpty()) {
       throw new Route53NotFoundException(
           String.format("Route53 record:[%s] with identifier:[%s] not found", name, identifier));
     }
+    return records;
+  }
+
+  public Route53Record get(String hostedZoneId, String name, String identifier) {
+    return this.getAll(hostedZoneId, name, identifier).get(0);
   }
 
   public String createOrUpdate(String hostedZoneId, List<Route53Record> records) {
-    return this.executeUpdate(hostedZoneId, records, ChangeAction.UPSERT);
+    return this.executeUpdate(hostedZoneId, toChanges(records, ChangeAction.UPSERT));
+  }
+
+  /**
+   * Deletes and upserts records in a single change batch, which route53 applies atomically. Used
+   * to switch records of a route between CNAME and alias, as both can not exist for a name
+   */
+  public String replace(
+      String hostedZoneId, List<Route53Record> deletes, List<Route53Record> upserts) {
+    return this.executeUpdate(
+        hostedZoneId,
+        Stream.concat(
+                toChanges(deletes, ChangeAction.DELETE).stream(),
+                toChanges(upserts, ChangeAction.UPSERT).stream())
+            .toList());
   }
 
   public void delete(String hostedZoneId, String name, String identifier) {
@@ -99,26 +183,32 @@ public class Route53Client {
   }
 
   public void delete(String hostedZoneId, String name, List<String> identifiers) {
-    List<Route53Record> records = new ArrayList<>();
-    identifiers.forEach(
-        identifier -> {
-          try {
-            records.add(this.get(hostedZoneId, name, identifier));
-          } catch (Route53NotFoundException ignored) {
-            // Route 53 does not exist skip delete
-          }
-        });
+    List<Route53Record> records =
+        this.list(hostedZoneId, name).stream()
+            .filter(r53record -> identifiers.contains(r53record.getIdentifier()))
+            .toList();
+    // Route 53 does not exist skip delete
     if (!records.isEmpty()) {
-      this.executeUpdate(hostedZoneId, records, ChangeAction.DELETE);
+      this.executeUpdate(hostedZoneId, toChanges(records, ChangeAction.DELETE));
     }
   }
 
   public String updateWeights(String hostedZoneId, String name, Map<String, Long> weights) {
-    List<Route53Record> records =
-        weights.entrySet().stream()
-            .map(entry -> this.get(hostedZoneId, name, entry.getKey()).setWeight(entry.getValue()))
-            .toList();
-
+    List<Route53Record> records = new ArrayList<>();
+    Map<String, List<Route53Record>> recordsByIdentifier =
+        this.list(hostedZoneId, name).stream()
+            .collect(Collectors.groupingBy(Route53Record::getIdentifier));
+    weights.forEach(
+        (identifier, weight) -> {
+          if (!recordsByIdentifier.containsKey(identifier)) {
+            throw new Route53NotFoundException(
+                String.format(
+                    "Route53 record:[%s] with identifier:[%s] not found", name, identifier));
+          }
+          recordsByIdentifier
+              .get(identifier)
+              .forEach(r53record -> records.add(r53record.setWeight(weight)));
+        });
     return this.createOrUpdate(hostedZoneId, records);
   }
 
@@ -0,0 +1,46 @@
+package com.dream11.application.aws;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.services.sns.SnsClient;
+
+@RequiredArgsConstructor
+public class SNSClient {
+
+  final SnsClient snsClient;
+
+  public SNSClient(String region, RetryStrategy retryStrategy) {
+    this.snsClient =
+        SnsClient.builder()
+            .region(Region.of(region))
+            .credentialsProvider(DefaultCredentialsProvider.builder().build())
+            .overrideConfiguration(overrideConfig -> overrideConfig.retryStrategy(retryStrategy))
+            .build();
+  }
+
+  /**
+   * Subscribes SQS queue to the topic. Raw message delivery is enabled so that queue receives the
+   * notification published by ASG without the SNS envelope
+   *
+   * @return arn of the subscription
+   */
+  public String subscribeQueue(String topicArn, String queueArn) {
+    return this.snsClient
+        .subscribe(
+            request ->
+                request
+                    .topicArn(topicArn)
+                    .protocol("sqs")
+                    .endpoint(queueArn)
+                    .attributes(Map.of("RawMessageDelivery", "true"))
+                    .returnSubscriptionArn(true))
+        .subscriptionArn();
+  }
+
+  public void unsubscribe(String subscriptionArn) {
+    this.snsClient.unsubscribe(request -> request.subscriptionArn(subscriptionArn));
+  }
+}
@@ -0,0 +1,101 @@
+package com.dream11.application.aws;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+@RequiredArgsConstructor
+public class SQSClient {
+
+  final SqsClient sqsClient;
+
+  public SQSClient(String region, RetryStrategy retryStrategy) {
+    this.sqsClient =
+        SqsClient.builder()
+            .region(Region.of(region))
+            .credentialsProvider(DefaultCredentialsProvider.builder().build())
+            .overrideConfiguration(overrideConfig -> overrideConfig.retryStrategy(retryStrategy))
+            .build();
+  }
+
+  public String createQueue(String name, Map<String, String> tags) {
+    return this.sqsClient.createQueue(request -> request.queueName(name).tags(tags)).queueUrl();
+  }
+
+  public String getQueueArn(String queueUrl) {
+    return this.sqsClient
+        .getQueueAttributes(
+            request -> request.queueUrl(queueUrl).attributeNames(QueueAttributeName.QUEUE_ARN))
+        .attributes()
+        .get(QueueAttributeName.QUEUE_ARN);
+  }
+
+  /** Allows SNS topic to deliver messages to the queue */
+  public void allowTopic(String queueUrl, String queueArn, String topicArn) {
+    String policy =
+        String.format(
+            """
+            {
+              "Version": "2012-10-17",
+              "Statement": [{
+                "Effect": "Allow",
+                "Principal": {"Service": "sns.amazonaws.com"},
+                "Action": "sqs:SendMessage",
+                "Resource": "%s",
+                "Condition": {"ArnEquals": {"aws:SourceArn": "%s"}}
+              }]
+            }""",
+            queueArn, topicArn);
+    this.sqsClient.setQueueAttributes(
+        request ->
+            request.queueUrl(queueUrl).attributes(Map.of(QueueAttributeName.POLICY, policy)));
+  }
+
+  /**
+   * Long polls the queue for messages
+   *
+   * @param queueUrl url of the queue
+   * @param waitTimeSeconds maximum time to wait for a message to arrive
+   * @return received messages, empty if none arrived within wait time
+   */
+  public List<Message> receiveMessages(String queueUrl, Integer waitTimeSeconds) {
+    return this.sqsClient
+        .receiveMessage(
+            request ->
+                request
+                    .queueUrl(queueUrl)
+                    .maxNumberOfMessages(10)
+                    .waitTimeSeconds(waitTimeSeconds))
+        .messages();
+  }
+
+  public void deleteMessages(String queueUrl, List<Message> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    this.sqsClient.deleteMessageBatch(
+        request ->
+            request
+                .queueUrl(queueUrl)
+                .entries(
+                    messages.stream()
+                        .map(
+                            message ->
+                                DeleteMessageBatchRequestEntry.builder()
+                                    .id(message.messageId())
+                                    .receiptHandle(message.receiptHandle())
+                                    .build())
+                        .toList()));
+  }
+
+  public void deleteQueue(String queueUrl) {
+    this.sqsClient.deleteQueue(request -> request.queueUrl(queueUrl));
+  }
+}
@@ -4,6 +4,7 @@ import com.dream11.application.config.user.HealthCheckConfig;
 import com.dream11.application.constant.Protocol;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.retries.api.RetryStrategy;
@@ -13,6 +14,7 @@ import software.amazon.awssdk.services.elasticloadbalancingv2.model.Matcher;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.ProtocolEnum;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.Tag;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroup;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroupAttribute;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetHealthDescription;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetTypeEnum;
 
@@ -71,6 +73,41 @@ public class TargetGroupClient {
         .get(0);
   }
 
+  public void modifyHealthCheck(String targetGroupArn, HealthCheckConfig healthCheckConfig) {
+    this.loadBalancingV2Client.modifyTargetGroup(
+        request ->
+            request
+                .targetGroupArn(targetGroupArn)
+                .healthCheckIntervalSeconds(healthCheckConfig.getInterval())
+                .healthCheckTimeoutSeconds(healthCheckConfig.getTimeout())
+                .healthyThresholdCount(healthCheckConfig.getHealthyThreshold())
+                .unhealthyThresholdCount(healthCheckConfig.getUnhealthyThreshold()));
+  }
+
+  public Map<String, String> describeAttributes(String targetGroupArn) {
+    return this.loadBalancingV2Client
+        .describeTargetGroupAttributes(request -> request.targetGroupArn(targetGroupArn))
+        .attributes()
+        .stream()
+        .collect(Collectors.toMap(TargetGroupAttribute::key, TargetGroupAttribute::value));
+  }
+
+  public void modifyAttributes(String targetGroupArn, Map<String, String> attributes) {
+    this.loadBalancingV2Client.modifyTargetGroupAttributes(
+        request ->
+            request
+                .targetGroupArn(targetGroupArn)
+                .attributes(
+                    attributes.entrySet().stream()
+                        .map(
+                            entry ->
+                                TargetGroupAttribute.builder()
+                                    .key(entry.getKey())
+                                    .value(entry.getValue())
+                                    .build())
+                        .toList()));
+  }
+
   public List<TargetHealthDescription> describeTargets(String targetGroupArn) {
     return this.loadBalancingV2Client
         .describeTargetHealth(request -> request.targetGroupArn(targetGroupArn))
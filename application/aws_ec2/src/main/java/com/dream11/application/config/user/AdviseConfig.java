@@ -0,0 +1,45 @@
+package com.dream11.application.config.user;
+
+import com.dream11.application.config.Config;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+
+@Data
+public class AdviseConfig implements Config {
+  @NotNull
+  @Min(1)
+  @Max(63)
+  Integer lookbackDays = 14;
+
+  // Percentile of hourly utilisation the fleet is sized for
+  @NotNull
+  @Min(50)
+  @Max(100)
+  Integer percentile = 95;
+
+  @NotNull
+  @Min(1)
+  @Max(100)
+  Integer targetCpuUtilization = 60;
+
+  @NotNull
+  @Min(1)
+  @Max(100)
+  Integer targetNetworkUtilization = 70;
+
+  @NotNull
+  @Min(1)
+  Integer minInstances = 2;
+
+  // Instance types considered in addition to the ones configured in ASG
+  @NotNull List<String> candidateTypes = new ArrayList<>();
+
+  // On demand price per hour of instance types, used to project cost
+  @NotNull Map<String, Double> hourlyPrices = new HashMap<>();
+}
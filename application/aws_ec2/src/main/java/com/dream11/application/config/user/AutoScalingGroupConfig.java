@@ -1,10 +1,21 @@
 package com.dream11.application.config.user;
 
+import com.dream11.application.constant.CapacityUnit;
+import com.dream11.application.constant.Constants;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.Data;
 
 @Data
@@ -17,6 +28,12 @@ public class AutoScalingGroupConfig {
   @NotNull Integer maxInstances = 1000;
   @NotNull Integer initialCapacity = 1;
 
+  /**
+   * Unit of desired instances, max instances, initial capacity and on demand base capacity. With
+   * vcpu or memory (GiB), every instance type is weighted by its size
+   */
+  @NotNull CapacityUnit capacityUnit = CapacityUnit.INSTANCE;
+
   @NotNull
   @Size(min = 1)
   List<Instance> instances;
@@ -31,8 +48,14 @@ public class AutoScalingGroupConfig {
   @NotNull List<String> terminationPolicies = new ArrayList<>();
   @NotNull List<String> suspendProcesses = new ArrayList<>();
   String snsTopicArn;
+  @NotNull Boolean eventDrivenWait = Boolean.FALSE;
   @NotNull Boolean capacityRebalance = Boolean.TRUE;
 
+  @AssertTrue(message = "snsTopicArn must be set when eventDrivenWait is enabled")
+  public boolean isEventDrivenWaitValid() {
+    return !Boolean.TRUE.equals(eventDrivenWait) || snsTopicArn != null;
+  }
+
   @NotNull @Valid
   InstanceMaintenancePolicy instanceMaintenancePolicy = new InstanceMaintenancePolicy();
 
@@ -42,6 +65,120 @@ public class AutoScalingGroupConfig {
     @NotNull Integer maxHealthyPercentage = 110;
   }
 
+  @NotNull @Valid ScaleOutConfig scaleOut = new ScaleOutConfig();
+
+  @Data
+  public static class ScaleOutConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    @NotNull
+    @DecimalMin(value = "1.0", inclusive = false)
+    Double growthFactor = 2.0;
+
+    @NotNull
+    @Min(1)
+    Integer minStep = 1;
+
+    @Min(1)
+    Integer maxStep;
+
+    @NotNull
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    Double minLaunchSuccessRate = 0.9;
+
+    @NotNull
+    @Min(1)
+    Integer targetStepDuration = 300;
+
+    @AssertTrue(message = "maxStep must be greater than or equal to minStep")
+    public boolean isMaxStepValid() {
+      return maxStep == null || minStep == null || maxStep >= minStep;
+    }
+  }
+
+  @NotNull @Valid
+  StragglerReplacementConfig stragglerReplacement = new StragglerReplacementConfig();
+
+  @Data
+  public static class StragglerReplacementConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    @NotNull
+    @DecimalMin("1.0")
+    Double p90Multiplier = 2.0;
+
+    @NotNull
+    @Min(1)
+    Integer minHealthyInstances = 3;
+
+    @NotNull
+    @Min(0)
+    Integer maxReplacements = 2;
+  }
+
+  @NotNull @Valid ScalingConfig scaling = new ScalingConfig();
+
+  @NotNull @Valid WarmupConfig warmup = new WarmupConfig();
+
+  /**
+   * @return wait for instances to become healthy, extended by the time warm-up may hold them in
+   *     Pending:Wait once they have booted
+   */
+  public Duration extendByWarmup(Duration wait) {
+    if (!Boolean.TRUE.equals(this.warmup.getEnabled())) {
+      return wait;
+    }
+    return wait.plusSeconds(this.warmup.getTimeout() + Constants.WARMUP_HEARTBEAT_MARGIN_SECONDS);
+  }
+
+  /**
+   * Drives requests at the application over localhost from userdata before the instance is
+   * registered with load balancers, so that first requests of real traffic do not pay for class
+   * loading and JIT compilation. Instances are held in Pending:Wait by a launch lifecycle hook
+   * until warm-up completes
+   */
+  @Data
+  public static class WarmupConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    // Defaults to target port of first listener
+    Integer port;
+
+    @Valid @NotEmpty List<WarmupRequest> requests = List.of(new WarmupRequest());
+
+    @NotNull
+    @Min(1)
+    Integer concurrency = 4;
+
+    // Requests per batch over which latency is measured
+    @NotNull
+    @Min(10)
+    Integer batchSize = 100;
+
+    @NotNull
+    @Min(1)
+    Integer maxRequests = 5000;
+
+    // Milliseconds. Warm-up completes early once p90 latency of a batch is within target
+    @Min(1)
+    Integer latencyTarget;
+
+    // Seconds, after which instance is put in service irrespective of warm-up
+    @NotNull
+    @Min(30)
+    @Max(7200)
+    Integer timeout = 300;
+  }
+
+  @Data
+  public static class WarmupRequest {
+    @NotNull String method = "GET";
+    @NotNull String path = "/";
+    @NotNull Map<String, String> headers = new HashMap<>();
+    String body;
+  }
+
   @NotNull Integer defaultCooldown = 300;
   @NotNull Integer defaultInstanceWarmup = 0;
   @NotNull String imdsv2 = "required";
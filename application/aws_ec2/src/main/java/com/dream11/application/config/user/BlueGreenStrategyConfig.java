@@ -1,10 +1,19 @@
 package com.dream11.application.config.user;
 
 import com.dream11.application.constant.ErrorMetric;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.Data;
 
 @Data
@@ -21,12 +30,81 @@ public class BlueGreenStrategyConfig implements StrategyConfig {
   @NotNull
   CanaryConfig canaryConfig = new CanaryConfig();
 
+  @Valid @NotNull MatchActiveConfig matchActive = new MatchActiveConfig();
+
+  @Valid @NotNull LoadTestConfig loadTest = new LoadTestConfig();
+
+  /**
+   * Sizes new stack from live capacity of active stack instead of desired instances, so that it
+   * does not take full traffic under-provisioned
+   */
+  @Data
+  public static class MatchActiveConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    @NotNull
+    @Min(0)
+    Integer headroomPercentage = 0;
+  }
+
   @Data
   public static class CanaryConfig {
     @NotNull Boolean enabled = Boolean.TRUE;
     @Valid @NotNull CanaryErrorThreshold errorThreshold = new CanaryErrorThreshold();
 
+    @Valid @NotNull CanaryLatencyThreshold latencyThreshold = new CanaryLatencyThreshold();
+
     @Valid @NotNull Step steps = new Step();
+
+    @Valid @NotNull ExperimentConfig experiment = new ExperimentConfig();
+
+    @AssertTrue(message = "experiment weight must not be below weight of the last canary step")
+    boolean isExperimentWeightValid() {
+      return !Boolean.TRUE.equals(this.experiment.getEnabled())
+          || this.experiment.getWeight() >= this.steps.getCount() * this.steps.getWeight();
+    }
+  }
+
+  /**
+   * Holds a fixed share of traffic on new stack after canary steps and compares its performance
+   * with the active stack before routing full traffic. Weight must not be below the weight of the
+   * last canary step
+   */
+  @Data
+  public static class ExperimentConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    @NotNull
+    @Min(1)
+    @Max(99)
+    Integer weight = 50;
+
+    @NotNull
+    @Min(300)
+    Integer duration = 900;
+
+    @NotNull
+    @Min(80)
+    @Max(99)
+    Integer confidenceLevel = 95;
+
+    // Regressions within this percentage are tolerated
+    @NotNull
+    @Min(0)
+    Integer maxRegressionPercentage = 5;
+
+    @NotNull Boolean blockOnRegression = Boolean.TRUE;
+
+    // Successive per minute datapoints are correlated, hence they are averaged into blocks of
+    // these many minutes which are compared as samples
+    @NotNull
+    @Min(1)
+    Integer blockMinutes = 3;
+
+    @AssertTrue(message = "experiment duration must span at least two blocks")
+    boolean isDurationValid() {
+      return this.duration >= this.blockMinutes * 120;
+    }
   }
 
   @Data
@@ -35,6 +113,46 @@ public class BlueGreenStrategyConfig implements StrategyConfig {
     @NotNull ErrorMetric metric = ErrorMetric.ABSOLUTE;
   }
 
+  /**
+   * Target response time ceilings of new stack, either absolute or relative to the same percentile
+   * of active stack over the same window. Thresholds which are not set are not checked
+   */
+  @Data
+  public static class CanaryLatencyThreshold {
+    // Milliseconds
+    @Min(1)
+    Integer p50;
+
+    @Min(1)
+    Integer p90;
+
+    @Min(1)
+    Integer p99;
+
+    @Min(0)
+    Integer maxIncreasePercentage;
+
+    // Percentiles over fewer requests are too noisy to fail canary on
+    @NotNull
+    @Min(1)
+    Integer minRequests = 100;
+
+    @JsonIgnore
+    public boolean isEnabled() {
+      return Stream.of(this.p50, this.p90, this.p99, this.maxIncreasePercentage)
+          .anyMatch(Objects::nonNull);
+    }
+
+    public Integer getThreshold(String percentile) {
+      return switch (percentile) {
+        case "p50" -> this.p50;
+        case "p90" -> this.p90;
+        case "p99" -> this.p99;
+        default -> null;
+      };
+    }
+  }
+
   @Data
   public static class Step {
     @NotNull Integer weight = 20;
@@ -51,6 +169,63 @@ public class BlueGreenStrategyConfig implements StrategyConfig {
     }
   }
 
+  /**
+   * Drives synthetic traffic at the load balancer of new stack once its instances are healthy and
+   * before any traffic is routed to it. Results are compared with those of previous deploy
+   */
+  @Data
+  public static class LoadTestConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    // Port of a listener, defaults to first HTTP listener, else first HTTPS listener
+    Integer port;
+
+    @Valid @NotEmpty List<LoadTestRequest> requests = List.of(new LoadTestRequest());
+
+    @NotNull
+    @Min(1)
+    Integer rps = 50;
+
+    // Seconds
+    @NotNull
+    @Min(10)
+    Integer duration = 60;
+
+    // Milliseconds
+    @NotNull
+    @Min(1)
+    Integer timeout = 5000;
+
+    @NotNull
+    @Min(0)
+    @Max(100)
+    Integer maxErrorPercentage = 1;
+
+    // Achieved throughput below this percentage of rps is a regression
+    @NotNull
+    @Min(1)
+    @Max(100)
+    Integer minThroughputPercentage = 95;
+
+    // Increase in latency percentiles over previous deploy tolerated
+    @NotNull
+    @Min(0)
+    Integer maxLatencyIncreasePercentage = 20;
+  }
+
+  @Data
+  public static class LoadTestRequest {
+    @NotNull String method = "GET";
+    @NotNull String path = "/";
+    @NotNull Map<String, String> headers = new HashMap<>();
+    String body;
+
+    // Share of requests relative to other requests
+    @NotNull
+    @Min(1)
+    Integer weight = 1;
+  }
+
   @AssertTrue(message = "Passive downscale must be disabled if auto routing is disabled")
   boolean isPassiveDownscaleAllowed() {
     return this.getAutoRouting() || !this.getPassiveDownscale().getEnabled();
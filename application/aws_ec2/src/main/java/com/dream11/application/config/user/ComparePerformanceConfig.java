@@ -0,0 +1,26 @@
+package com.dream11.application.config.user;
+
+import com.dream11.application.config.Config;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Per instance metrics are looked up with an InstanceId dimension in addition to the configured
+ * dimensions, as published by the CloudWatch agent
+ */
+@Data
+public class ComparePerformanceConfig implements Config {
+  @NotNull
+  @Min(5)
+  @Max(1440)
+  Integer windowMinutes = 60;
+
+  // Load balancers publish request count and latency per target group only, which cannot tell
+  // architectures or instance types within an ASG apart
+  @NotNull @Valid ScalingConfig.CustomMetric requestMetric;
+  @NotNull @Valid ScalingConfig.CustomMetric latencyMetric;
+  @Valid ScalingConfig.CustomMetric errorMetric;
+}
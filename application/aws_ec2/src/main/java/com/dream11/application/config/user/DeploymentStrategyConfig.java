@@ -15,7 +15,10 @@ public class DeploymentStrategyConfig {
       use = JsonTypeInfo.Id.NAME,
       include = JsonTypeInfo.As.EXTERNAL_PROPERTY,
       property = "name")
-  @JsonSubTypes({@JsonSubTypes.Type(value = BlueGreenStrategyConfig.class, name = "blue-green")})
+  @JsonSubTypes({
+    @JsonSubTypes.Type(value = BlueGreenStrategyConfig.class, name = "blue-green"),
+    @JsonSubTypes.Type(value = RollingStrategyConfig.class, name = "rolling")
+  })
   @Valid
   @NotNull
   StrategyConfig config;
@@ -0,0 +1,15 @@
+package com.dream11.application.config.user;
+
+import com.dream11.application.constant.DnsRecordType;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class DnsRecordConfig {
+  // Existing records of a route are converted when the type changes
+  @NotNull DnsRecordType type = DnsRecordType.CNAME;
+
+  // Only for alias records. Records are weighted, so route53 falls back to the deployment stack
+  // with weight 0 when enabled
+  @NotNull Boolean evaluateTargetHealth = Boolean.FALSE;
+}
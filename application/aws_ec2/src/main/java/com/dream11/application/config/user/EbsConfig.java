@@ -1,12 +1,111 @@
 package com.dream11.application.config.user;
 
 import com.dream11.application.config.Config;
+import com.dream11.application.constant.EbsVolumeType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import lombok.Data;
 
 @Data
 public class EbsConfig implements Config {
 
   @NotNull @Positive Integer size = 50;
+
+  // Volume type, IOPS and throughput of the AMI are retained when not set
+  EbsVolumeType volumeType;
+  @Positive Integer iops;
+  @Positive Integer throughput;
+
+  @NotNull @Valid List<Volume> volumes = new ArrayList<>();
+
+  @NotNull @Valid InstanceStoreConfig instanceStore = new InstanceStoreConfig();
+
+  @AssertTrue(message = "volumeType must be set when iops or throughput is set")
+  boolean isVolumeTypeSet() {
+    return Objects.nonNull(this.volumeType)
+        || (Objects.isNull(this.iops) && Objects.isNull(this.throughput));
+  }
+
+  @AssertTrue(message = "size is outside the limits of volumeType")
+  boolean isSizeValid() {
+    return Objects.isNull(this.size)
+        || Objects.isNull(this.volumeType)
+        || this.volumeType.isSizeValid(this.size);
+  }
+
+  @AssertTrue(message = "iops is outside the limits of volumeType")
+  boolean isIopsValid() {
+    return Objects.isNull(this.size)
+        || Objects.isNull(this.volumeType)
+        || this.volumeType.isIopsValid(this.size, this.iops);
+  }
+
+  @AssertTrue(message = "throughput is outside the limits of volumeType")
+  boolean isThroughputValid() {
+    return Objects.isNull(this.volumeType)
+        || this.volumeType.isThroughputValid(this.iops, this.throughput);
+  }
+
+  @AssertTrue(message = "deviceName of volumes must be unique")
+  boolean isDeviceNameUnique() {
+    return this.volumes.stream().map(Volume::getDeviceName).distinct().count()
+        == this.volumes.size();
+  }
+
+  /** Additional EBS volume attached to every instance */
+  @Data
+  public static class Volume {
+    @NotBlank
+    @Pattern(regexp = "^/dev/(sd|xvd)[b-z]$")
+    String deviceName;
+
+    @NotNull @Positive Integer size;
+    @NotNull EbsVolumeType volumeType = EbsVolumeType.GP3;
+    @Positive Integer iops;
+    @Positive Integer throughput;
+    @NotNull Boolean deleteOnTermination = Boolean.TRUE;
+    // Encryption by default setting of the account applies when not set
+    Boolean encrypted;
+
+    @AssertTrue(message = "size is outside the limits of volumeType")
+    boolean isSizeValid() {
+      return Objects.isNull(this.size)
+          || Objects.isNull(this.volumeType)
+          || this.volumeType.isSizeValid(this.size);
+    }
+
+    @AssertTrue(message = "iops is outside the limits of volumeType")
+    boolean isIopsValid() {
+      return Objects.isNull(this.size)
+          || Objects.isNull(this.volumeType)
+          || this.volumeType.isIopsValid(this.size, this.iops);
+    }
+
+    @AssertTrue(message = "throughput is outside the limits of volumeType")
+    boolean isThroughputValid() {
+      return Objects.isNull(this.volumeType)
+          || this.volumeType.isThroughputValid(this.iops, this.throughput);
+    }
+  }
+
+  /** NVMe instance store volumes are formatted and mounted by userdata when enabled */
+  @Data
+  public static class InstanceStoreConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    @NotNull
+    @Pattern(regexp = "^/[^\\s]+$")
+    String mountPoint = "/mnt/instance-store";
+
+    @NotNull
+    @Pattern(regexp = "^(xfs|ext4)$")
+    String filesystem = "xfs";
+  }
 }
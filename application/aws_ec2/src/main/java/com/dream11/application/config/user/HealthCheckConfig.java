@@ -1,6 +1,9 @@
 package com.dream11.application.config.user;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -13,9 +16,53 @@ public class HealthCheckConfig {
   @NotNull Integer timeout = 5;
   @NotNull Integer interval = 10;
   @NotEmpty String path = "/healthcheck";
+  @Valid @NotNull FastRegistrationConfig fastRegistration = new FastRegistrationConfig();
 
   @AssertTrue(message = "healthcheck path must start with /")
   boolean isPathValid() {
     return this.path.startsWith("/");
   }
+
+  /**
+   * @return health check used while instances of a new deployment stack register. Unhealthy
+   *     threshold and path are same as steady state
+   */
+  public HealthCheckConfig toFastRegistration() {
+    HealthCheckConfig healthCheckConfig = new HealthCheckConfig();
+    healthCheckConfig.setHealthyThreshold(this.fastRegistration.getHealthyThreshold());
+    healthCheckConfig.setUnhealthyThreshold(this.unhealthyThreshold);
+    healthCheckConfig.setTimeout(this.fastRegistration.getTimeout());
+    healthCheckConfig.setInterval(this.fastRegistration.getInterval());
+    healthCheckConfig.setPath(this.path);
+    return healthCheckConfig;
+  }
+
+  /**
+   * Health check profile applied to new deployment stack till its instances are healthy. Steady
+   * state health check is restored before the stack takes any traffic
+   */
+  @Data
+  public static class FastRegistrationConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    @NotNull
+    @Min(5)
+    @Max(300)
+    Integer interval = 5;
+
+    @NotNull
+    @Min(2)
+    @Max(60)
+    Integer timeout = 4;
+
+    @NotNull
+    @Min(2)
+    @Max(10)
+    Integer healthyThreshold = 2;
+
+    @AssertTrue(message = "fastRegistration timeout must be less than interval")
+    boolean isValidTimeout() {
+      return this.timeout < this.interval;
+    }
+  }
 }
@@ -1,16 +1,59 @@
 package com.dream11.application.config.user;
 
+import com.dream11.application.constant.LoadBalancerType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.util.stream.Stream;
 import lombok.Data;
 
 @Data
 public class LcuConfig {
+  // Capacity units reserved across stacks, 0 disables reservation
   @NotNull
   @Min(0)
-  Integer internal = 1;
+  Integer internal = 0;
 
   @NotNull
   @Min(0)
-  Integer external = 1;
+  Integer external = 0;
+
+  // Release reservation once new stack is stable with full traffic
+  @NotNull Boolean releaseAfterStable = Boolean.FALSE;
+
+  // Seconds to wait after routing full traffic before releasing reservation
+  @NotNull
+  @Min(0)
+  Integer stabilizationPeriod = 600;
+
+  @Valid @NotNull PredictiveConfig predictive = new PredictiveConfig();
+
+  /**
+   * @return whether reserved capacity units are either 0 or at least the minimum accepted for type
+   */
+  public boolean isSupportedBy(LoadBalancerType type) {
+    return Stream.of(this.internal, this.external)
+        .allMatch(lcu -> lcu == 0 || lcu >= type.getMinimumLcu());
+  }
+
+  /**
+   * Sizes reservation of new stack from peak capacity consumed by active load balancer. Configured
+   * units act as the minimum
+   */
+  @Data
+  public static class PredictiveConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    // Per minute metrics are retained by cloudwatch for 15 days
+    @NotNull
+    @Min(1)
+    @Max(14)
+    Integer lookbackDays = 7;
+
+    // Headroom over the observed peak
+    @NotNull
+    @Min(0)
+    Integer marginPercentage = 30;
+  }
 }
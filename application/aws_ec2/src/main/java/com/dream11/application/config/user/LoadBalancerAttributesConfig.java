@@ -0,0 +1,97 @@
+package com.dream11.application.config.user;
+
+import com.dream11.application.constant.LoadBalancerType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Data;
+
+/**
+ * Attributes of load balancers, applied when they are created and reconciled on every deployment.
+ * Attributes which are not set are left as they are
+ */
+@Data
+public class LoadBalancerAttributesConfig {
+  // Attributes of classic load balancers, keyed in the same way as those of other load balancers
+  public static final String CLB_CROSS_ZONE = "cross_zone.enabled";
+  public static final String CLB_IDLE_TIMEOUT = "connection_settings.idle_timeout";
+  public static final String CLB_CONNECTION_DRAINING = "connection_draining.enabled";
+  public static final String CLB_CONNECTION_DRAINING_TIMEOUT = "connection_draining.timeout";
+
+  // Seconds a connection may stay idle, alb and clb
+  @Min(1)
+  @Max(4000)
+  Integer idleTimeout;
+
+  // alb
+  Boolean http2;
+
+  // Seconds after which alb closes client connections, alb
+  @Min(60)
+  @Max(604800)
+  Integer clientKeepAlive;
+
+  // nlb and clb, application load balancers are always cross zone
+  Boolean crossZone;
+
+  // clb, other load balancers use deregistration delay of target group
+  @Valid ConnectionDrainingConfig connectionDraining;
+
+  @Data
+  public static class ConnectionDrainingConfig {
+    @NotNull Boolean enabled = Boolean.TRUE;
+
+    // Seconds
+    @NotNull
+    @Min(1)
+    @Max(3600)
+    Integer timeout = 300;
+  }
+
+  public boolean isSupportedBy(LoadBalancerType type) {
+    return switch (type) {
+      case ALB -> Objects.isNull(this.crossZone) && Objects.isNull(this.connectionDraining);
+      case NLB ->
+          Objects.isNull(this.idleTimeout)
+              && Objects.isNull(this.http2)
+              && Objects.isNull(this.clientKeepAlive)
+              && Objects.isNull(this.connectionDraining);
+      case CLB -> Objects.isNull(this.http2) && Objects.isNull(this.clientKeepAlive);
+    };
+  }
+
+  /**
+   * @return attributes of the load balancer type keyed by attribute name, only for attributes
+   *     which are set
+   */
+  public Map<String, String> toAttributes(LoadBalancerType type) {
+    Map<String, String> attributes = new HashMap<>();
+    if (type == LoadBalancerType.CLB) {
+      putIfSet(attributes, CLB_CROSS_ZONE, this.crossZone);
+      putIfSet(attributes, CLB_IDLE_TIMEOUT, this.idleTimeout);
+      if (Objects.nonNull(this.connectionDraining)) {
+        attributes.put(
+            CLB_CONNECTION_DRAINING, String.valueOf(this.connectionDraining.getEnabled()));
+        attributes.put(
+            CLB_CONNECTION_DRAINING_TIMEOUT, String.valueOf(this.connectionDraining.getTimeout()));
+      }
+    } else if (type == LoadBalancerType.NLB) {
+      putIfSet(attributes, "load_balancing.cross_zone.enabled", this.crossZone);
+    } else {
+      putIfSet(attributes, "idle_timeout.timeout_seconds", this.idleTimeout);
+      putIfSet(attributes, "routing.http2.enabled", this.http2);
+      putIfSet(attributes, "client_keep_alive.seconds", this.clientKeepAlive);
+    }
+    return attributes;
+  }
+
+  private static void putIfSet(Map<String, String> attributes, String key, Object value) {
+    if (Objects.nonNull(value)) {
+      attributes.put(key, String.valueOf(value));
+    }
+  }
+}
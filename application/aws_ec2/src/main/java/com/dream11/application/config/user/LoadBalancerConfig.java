@@ -2,6 +2,7 @@ package com.dream11.application.config.user;
 
 import com.dream11.application.constant.LoadBalancerType;
 import com.dream11.application.constant.Protocol;
+import com.dream11.application.constant.TrafficRouting;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
@@ -24,8 +25,42 @@ public class LoadBalancerConfig {
 
   @NotNull @Valid List<Listener> listeners = new ArrayList<>();
 
+  // Applied when load balancers of a stack are created
+  @NotNull TrafficRouting routing = TrafficRouting.ROUTE53;
+
+  @Valid @NotNull DnsRecordConfig dnsRecord = new DnsRecordConfig();
+
+  @Valid @NotNull LoadBalancerAttributesConfig attributes = new LoadBalancerAttributesConfig();
+
+  @AssertTrue(message = "target-group routing is supported only for application load balancers")
+  boolean isValidRouting() {
+    return this.routing != TrafficRouting.TARGET_GROUP || this.type == LoadBalancerType.ALB;
+  }
+
+  @AssertTrue(
+      message =
+          "alb supports idleTimeout, http2 and clientKeepAlive attributes. nlb supports crossZone. clb supports idleTimeout, crossZone and connectionDraining")
+  boolean isValidAttributes() {
+    return this.attributes.isSupportedBy(this.type);
+  }
+
+  @AssertTrue(
+      message =
+          "lcus must be 0 or at least the minimum reservation of load balancer type, which is 100 for alb and 2750 for nlb")
+  boolean isValidLcus() {
+    return this.type == LoadBalancerType.CLB || this.lcuConfig.isSupportedBy(this.type);
+  }
+
+  @AssertTrue(
+      message =
+          "targetGroup attributes are not supported for clb. nlb supports only deregistrationDelay and source_ip stickiness. source_ip stickiness is not supported for alb")
+  boolean isValidTargetGroupAttributes() {
+    return this.listeners.stream()
+        .allMatch(listener -> listener.getTargetGroup().isSupportedBy(this.type));
+  }
+
   @Data
-  @Builder
+  @Builder(toBuilder = true)
   @NoArgsConstructor
   @AllArgsConstructor
   public static class Listener {
@@ -39,6 +74,8 @@ public class LoadBalancerConfig {
     @NotNull
     HealthCheckConfig healthChecks = new HealthCheckConfig();
 
+    @Builder.Default @Valid @NotNull TargetGroupConfig targetGroup = new TargetGroupConfig();
+
     @AssertTrue(
         message =
             "either both protocol and targetProtocol should be TCP, or if the targetProtocol is GRPC, then the protocol should be HTTPS")
@@ -1,6 +1,10 @@
 package com.dream11.application.config.user;
 
 import com.dream11.application.constant.Constants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
@@ -8,4 +12,53 @@ import lombok.Data;
 public class PassiveDownscaleConfig {
   @NotNull Boolean enabled = Boolean.TRUE;
   @NotNull Long delay = Constants.ROUTE_53_TTL;
+  @Valid @NotNull StandbyConfig standby = new StandbyConfig();
+  @Valid @NotNull DrainConfig drain = new DrainConfig();
+
+  /**
+   * Keeps passive stack warm at a fraction of active capacity instead of downscaling it to zero, so
+   * that a revert only needs to shift traffic. Passive stack is downscaled to zero after ttl and
+   * its LCUs are released by the next deployment
+   */
+  @Data
+  public static class StandbyConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    @NotNull
+    @Min(1)
+    @Max(100)
+    Integer capacityPercentage = 100;
+
+    @NotNull
+    @Min(60)
+    Long ttl = 3600L;
+  }
+
+  /**
+   * Downscales passive stack as soon as traffic on its load balancers stays below threshold for a
+   * window, instead of after fixed delay. Needs discovery
+   */
+  @Data
+  public static class DrainConfig {
+    @NotNull Boolean enabled = Boolean.FALSE;
+
+    // Requests (new flows for network load balancer) and active connections per minute
+    @NotNull
+    @Min(0)
+    Integer threshold = 10;
+
+    @NotNull
+    @Min(60)
+    Integer window = 120;
+
+    // Upper bound on the wait, passive stack is downscaled even if traffic has not drained
+    @NotNull
+    @Min(60)
+    Integer maxDelay = 1800;
+
+    @AssertTrue(message = "drain window must not be greater than maxDelay")
+    boolean isValidWindow() {
+      return this.window <= this.maxDelay;
+    }
+  }
 }
@@ -0,0 +1,39 @@
+package com.dream11.application.config.user;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class RollingStrategyConfig implements StrategyConfig {
+  @NotNull List<Integer> checkpointPercentages = new ArrayList<>();
+
+  @NotNull
+  @Min(0)
+  Integer checkpointDelay = 3600;
+
+  @NotNull Boolean skipMatching = Boolean.TRUE;
+  @NotNull Boolean autoRollback = Boolean.TRUE;
+
+  // Defaults to the instance warmup of the ASG when not specified
+  @Min(0)
+  Integer instanceWarmup;
+
+  // method name must start with "is" to get this method invoked during validation flow
+  @AssertTrue(
+      message = "Checkpoint percentages must be between 1 and 100 and in strictly ascending order")
+  boolean isCheckpointPercentagesValid() {
+    for (int index = 0; index < this.checkpointPercentages.size(); index++) {
+      Integer percentage = this.checkpointPercentages.get(index);
+      if (percentage < 1
+          || percentage > 100
+          || (index > 0 && percentage <= this.checkpointPercentages.get(index - 1))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
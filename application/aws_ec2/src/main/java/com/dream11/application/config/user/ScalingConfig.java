@@ -0,0 +1,108 @@
+package com.dream11.application.config.user;
+
+import com.dream11.application.constant.ScalingMetric;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Data;
+
+/**
+ * Scaling policies and scheduled actions attached to every ASG of the application. Policies scale
+ * in down to min instances, which is capped at desired instances of the ASG
+ */
+@Data
+public class ScalingConfig {
+  @NotNull
+  @Min(1)
+  Integer minInstances = 1;
+
+  @NotNull @Valid List<TargetTrackingPolicy> targetTracking = new ArrayList<>();
+  @NotNull @Valid List<StepPolicy> step = new ArrayList<>();
+  @NotNull @Valid List<ScheduledAction> scheduled = new ArrayList<>();
+
+  public boolean isEmpty() {
+    return this.targetTracking.isEmpty() && this.step.isEmpty() && this.scheduled.isEmpty();
+  }
+
+  @Data
+  public static class TargetTrackingPolicy {
+    @NotBlank String name;
+    @NotNull ScalingMetric metric;
+    @NotNull Double targetValue;
+    @Valid CustomMetric customMetric;
+    @NotNull Boolean disableScaleIn = Boolean.FALSE;
+
+    @AssertTrue(message = "customMetric must be set when metric is custom")
+    public boolean isCustomMetricValid() {
+      return this.metric != ScalingMetric.CUSTOM || Objects.nonNull(this.customMetric);
+    }
+  }
+
+  @Data
+  public static class StepPolicy {
+    @NotBlank String name;
+    @NotNull String adjustmentType = "ChangeInCapacity";
+    // CPU utilization of the ASG is used when not set
+    @Valid CustomMetric customMetric;
+    @NotNull String comparisonOperator = "GreaterThanOrEqualToThreshold";
+    @NotNull Double threshold;
+
+    @NotNull
+    @Min(1)
+    Integer evaluationPeriods = 1;
+
+    @NotNull
+    @Min(10)
+    Integer period = 60;
+
+    @NotNull
+    @Size(min = 1)
+    @Valid
+    List<Step> steps;
+  }
+
+  /** Bounds are relative to the alarm threshold */
+  @Data
+  public static class Step {
+    Double lowerBound;
+    Double upperBound;
+    @NotNull Integer adjustment;
+  }
+
+  @Data
+  public static class CustomMetric {
+    @NotBlank String namespace;
+    @NotBlank String metricName;
+    @NotNull String statistic = "Average";
+    @NotNull Map<String, String> dimensions = new HashMap<>();
+  }
+
+  @Data
+  public static class ScheduledAction {
+    @NotBlank String name;
+    @NotBlank String recurrence;
+    @NotNull String timeZone = "UTC";
+    @Min(0)
+    Integer minInstances;
+    @Min(0)
+    Integer maxInstances;
+    @Min(0)
+    Integer desiredInstances;
+
+    @AssertTrue(
+        message = "At least one of minInstances, maxInstances or desiredInstances is required")
+    public boolean isCapacitySet() {
+      return Objects.nonNull(this.minInstances)
+          || Objects.nonNull(this.maxInstances)
+          || Objects.nonNull(this.desiredInstances);
+    }
+  }
+}
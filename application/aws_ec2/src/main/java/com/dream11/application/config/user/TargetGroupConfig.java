@@ -0,0 +1,129 @@
+package com.dream11.application.config.user;
+
+import com.dream11.application.constant.LoadBalancerType;
+import com.dream11.application.constant.LoadBalancingAlgorithm;
+import com.dream11.application.constant.StickinessType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Data;
+
+/**
+ * Attributes of target group of a listener. Attributes which are not set are left as they are, so
+ * that removing one from configuration does not reset it
+ */
+@Data
+public class TargetGroupConfig {
+  // Seconds over which a new target ramps up to its full share of requests. 0 disables
+  Integer slowStart;
+
+  LoadBalancingAlgorithm algorithm;
+
+  Boolean anomalyMitigation;
+
+  @Min(0)
+  @Max(3600)
+  Integer deregistrationDelay;
+
+  @Valid StickinessConfig stickiness;
+
+  @Data
+  public static class StickinessConfig {
+    @NotNull Boolean enabled = Boolean.TRUE;
+    @NotNull StickinessType type = StickinessType.LB_COOKIE;
+
+    // Seconds
+    @NotNull
+    @Min(1)
+    @Max(604800)
+    Integer duration = 86400;
+
+    // Name of application cookie, required for app_cookie
+    String cookieName;
+
+    @AssertTrue(message = "stickiness cookieName is required for app_cookie")
+    boolean isValidCookieName() {
+      return this.type != StickinessType.APP_COOKIE || Objects.nonNull(this.cookieName);
+    }
+  }
+
+  @AssertTrue(message = "target group slowStart must be 0 or between 30 and 900 seconds")
+  boolean isValidSlowStart() {
+    return Objects.isNull(this.slowStart)
+        || this.slowStart == 0
+        || (this.slowStart >= 30 && this.slowStart <= 900);
+  }
+
+  @AssertTrue(message = "target group anomalyMitigation is supported only with weighted_random")
+  boolean isValidAnomalyMitigation() {
+    return !Boolean.TRUE.equals(this.anomalyMitigation)
+        || this.algorithm == LoadBalancingAlgorithm.WEIGHTED_RANDOM;
+  }
+
+  @AssertTrue(message = "target group slowStart is not supported with weighted_random")
+  boolean isValidSlowStartAlgorithm() {
+    return Objects.isNull(this.slowStart)
+        || this.slowStart == 0
+        || this.algorithm != LoadBalancingAlgorithm.WEIGHTED_RANDOM;
+  }
+
+  /**
+   * @return whether the attributes are supported by target groups of the load balancer type.
+   *     Network load balancers support only deregistration delay and source ip stickiness
+   */
+  public boolean isSupportedBy(LoadBalancerType type) {
+    if (type == LoadBalancerType.CLB) {
+      return this.toAttributes().isEmpty();
+    }
+    if (type == LoadBalancerType.NLB) {
+      return Objects.isNull(this.slowStart)
+          && Objects.isNull(this.algorithm)
+          && Objects.isNull(this.anomalyMitigation)
+          && (Objects.isNull(this.stickiness)
+              || this.stickiness.getType() == StickinessType.SOURCE_IP);
+    }
+    return Objects.isNull(this.stickiness) || this.stickiness.getType() != StickinessType.SOURCE_IP;
+  }
+
+  /**
+   * @return target group attributes keyed by attribute name, only for attributes which are set
+   */
+  public Map<String, String> toAttributes() {
+    Map<String, String> attributes = new HashMap<>();
+    if (Objects.nonNull(this.slowStart)) {
+      attributes.put("slow_start.duration_seconds", String.valueOf(this.slowStart));
+    }
+    if (Objects.nonNull(this.algorithm)) {
+      attributes.put("load_balancing.algorithm.type", this.algorithm.getValue());
+    }
+    if (Objects.nonNull(this.anomalyMitigation)) {
+      attributes.put(
+          "load_balancing.algorithm.anomaly_mitigation",
+          Boolean.TRUE.equals(this.anomalyMitigation) ? "on" : "off");
+    }
+    if (Objects.nonNull(this.deregistrationDelay)) {
+      attributes.put(
+          "deregistration_delay.timeout_seconds", String.valueOf(this.deregistrationDelay));
+    }
+    if (Objects.nonNull(this.stickiness)) {
+      attributes.put("stickiness.enabled", String.valueOf(this.stickiness.getEnabled()));
+      attributes.put("stickiness.type", this.stickiness.getType().getValue());
+      if (this.stickiness.getType() == StickinessType.LB_COOKIE) {
+        attributes.put(
+            "stickiness.lb_cookie.duration_seconds",
+            String.valueOf(this.stickiness.getDuration()));
+      } else if (this.stickiness.getType() == StickinessType.APP_COOKIE) {
+        attributes.put(
+            "stickiness.app_cookie.duration_seconds",
+            String.valueOf(this.stickiness.getDuration()));
+        attributes.put("stickiness.app_cookie.cookie_name", this.stickiness.getCookieName());
+      }
+    }
+    return attributes;
+  }
+}
@@ -0,0 +1,12 @@
+package com.dream11.application.constant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum CapacityUnit {
+  @JsonProperty("instance")
+  INSTANCE,
+  @JsonProperty("vcpu")
+  VCPU,
+  @JsonProperty("memory")
+  MEMORY
+}
@@ -4,7 +4,9 @@ import com.dream11.application.util.ApplicationUtil;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -19,6 +21,33 @@ public class Constants {
   public final Duration WAIT_FOR_INITIAL_HEALHTY_INSTANCES_DURATION = Duration.ofMinutes(10);
   public final Duration WAIT_FOR_TOTAL_HEALHTY_INSTANCES_DURATION = Duration.ofMinutes(20);
 
+  public final Duration WAIT_FOR_INSTANCE_REFRESH_DURATION = Duration.ofMinutes(60);
+
+  public final String LAUNCH_ACTIVITY_DESCRIPTION_PREFIX = "Launching a new EC2 instance";
+  // Status messages and EC2 error codes of launches which can succeed on retry
+  public final List<Pattern> CAPACITY_ERRORS =
+      List.of(
+          Pattern.compile("InsufficientInstanceCapacity"),
+          Pattern.compile("We currently do not have sufficient \\S+ capacity"),
+          Pattern.compile("There is no Spot capacity available"),
+          Pattern.compile("MaxSpotInstanceCountExceeded|Max spot instance count exceeded"),
+          Pattern.compile(
+              "SpotMaxPriceTooLow|lower than the minimum required Spot request fulfillment price"));
+  // Status messages and EC2 error codes of launches which fail on every retry
+  public final List<Pattern> FATAL_LAUNCH_ERRORS =
+      List.of(
+          Pattern.compile("InvalidAMIID\\.\\w+|The image id '\\[?ami-\\w+]?' does not exist"),
+          Pattern.compile("The security group '[^']+' does not exist|InvalidGroup\\.NotFound"),
+          Pattern.compile("The key pair '[^']+' does not exist|InvalidKeyPair\\.NotFound"),
+          Pattern.compile("for parameter iamInstanceProfile\\.\\w+ is invalid"),
+          Pattern.compile("InvalidParameterValue|InvalidParameterCombination"),
+          Pattern.compile("not enough free addresses in subnet|InsufficientFreeAddressesInSubnet"),
+          Pattern.compile("VcpuLimitExceeded|than your current vCPU limit"),
+          Pattern.compile("InstanceLimitExceeded"),
+          Pattern.compile("UnauthorizedOperation|You are not authorized to perform this operation"),
+          Pattern.compile("Client\\.InternalError"));
+  public final Duration DELAY_FOR_CHECKING_SCALING_ACTIVITIES = Duration.ofSeconds(30);
+
   public final Duration WAIT_FOR_LCU_PROVISIONING_DURATION = Duration.ofMinutes(15);
   public final Duration DELAY_FOR_MAKING_NEXT_REQUEST = Duration.ofSeconds(10);
   public final Duration DELAY_FOR_CLOUD_METRICS_STABILIZATION = Duration.ofSeconds(90);
@@ -70,11 +99,16 @@ public class Constants {
 
   public final Character EXTERNAL_IDENTIFIER = 'e';
   public final String LCU_PROVISIONED_STATUS = "provisioned";
+  public final String LCU_FAILED_STATUS = "failed";
 
   public final String NAME_TAG = "Name";
   public final String ARTIFACT_NAME_TAG = "component:application:artifact_name";
   public final String ARTIFACT_VERSION_TAG = "component:application:artifact_version";
   public final String DEPLOYMENT_STRATEGY_TAG = "component:application:deployment_strategy";
+  public final String USERDATA_COMPLETED_TAG = "component:application:userdata_completed_at";
+  public final String WARMUP_LIFECYCLE_HOOK_NAME = "odin-warmup";
+  public final String INSTANCE_LAUNCHING_TRANSITION = "autoscaling:EC2_INSTANCE_LAUNCHING";
+  public final Integer WARMUP_HEARTBEAT_MARGIN_SECONDS = 60;
   public final String APPLICATION_DEPLOYMENT_STACK_TAG = "component:application:deployment_stack";
   public final String DEPLOYMENT_STACK_TAG = "deployment_stack";
   public final String SHEBANG_COMMAND = "#!/usr/bin/env bash";
@@ -106,6 +140,36 @@ public class Constants {
           "autoscaling:EC2_INSTANCE_TERMINATE",
           "autoscaling:EC2_INSTANCE_TERMINATE_ERROR");
 
+  public final Pattern LAUNCH_ACTIVITY_INSTANCE_ID_PATTERN =
+      Pattern.compile("Launching a new EC2 instance: (i-[0-9a-f]+)");
+  public final Integer DESCRIBE_INSTANCES_BATCH_SIZE = 100;
+  public final Double TIME_TO_HEALTHY_REGRESSION_THRESHOLD = 0.2;
+  public final Long TIME_TO_HEALTHY_REGRESSION_MIN_SECONDS = 30L;
+
+  public final Integer MAX_WEIGHTED_CAPACITY = 999;
+  public final String STANDBY_EXPIRY_SCHEDULED_ACTION = "odin-standby-expiry";
+  public final String SCHEDULED_ACTIONS_PROCESS = "ScheduledActions";
+  // Processes through which scaling policies and scheduled actions change capacity
+  public final List<String> SCALING_POLICY_PROCESSES =
+      List.of("AlarmNotification", SCHEDULED_ACTIONS_PROCESS);
+
+  public final Integer GET_METRIC_DATA_MAX_QUERIES = 500;
+  public final List<String> LATENCY_PERCENTILES = List.of("p50", "p90", "p99");
+  public final Integer ADVISE_METRIC_PERIOD = 3600;
+  public final Integer HOURS_PER_MONTH = 730;
+
+  // Dimensions of a load balancer capacity unit
+  public final Integer ALB_NEW_CONNECTIONS_PER_SECOND_PER_LCU = 25;
+  public final Integer ALB_ACTIVE_CONNECTIONS_PER_LCU = 3000;
+  public final Integer NLB_NEW_FLOWS_PER_SECOND_PER_LCU = 800;
+  public final Integer NLB_ACTIVE_FLOWS_PER_LCU = 100000;
+  public final Long PROCESSED_BYTES_PER_HOUR_PER_LCU = 1_000_000_000L;
+
+  public final String ASG_EVENT_QUEUE_PREFIX = "odin-asg-events-";
+  public final Integer ASG_EVENT_QUEUE_RANDOM_ID_LENGTH = 16;
+  public final Integer ASG_EVENT_RECEIVE_WAIT_SECONDS = 20;
+  public final Duration DELAY_FOR_CONFIRMING_ASG_EVENT = Duration.ofSeconds(2);
+
   public final String BASE_DIR = "/var/www";
   public final String DEPLOYMENT_TYPE = "aws_ec2";
   public final UnaryOperator<String> APPLICATION_DIRECTORY =
@@ -118,4 +182,8 @@ public class Constants {
   public final Duration WAIT_FOR_R53_SYNC = Duration.ofMinutes(5);
 
   public final String LATEST = "$Latest";
+  // Launch templates are never versioned, every deployment creates new ones
+  public final String INITIAL_LAUNCH_TEMPLATE_VERSION = "1";
+  public final Set<String> INSTANCE_REFRESH_TERMINAL_STATUSES =
+      Set.of("Successful", "Failed", "Cancelled", "RollbackSuccessful", "RollbackFailed");
 }
@@ -4,5 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 public enum DeploymentStrategy {
   @JsonProperty("blue-green")
-  BLUE_GREEN
+  BLUE_GREEN,
+  @JsonProperty("rolling")
+  ROLLING
 }
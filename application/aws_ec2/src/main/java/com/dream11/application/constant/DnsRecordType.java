@@ -0,0 +1,13 @@
+package com.dream11.application.constant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum DnsRecordType {
+  // Alias A (and AAAA for dualstack load balancers) records to canonical hosted zone of load
+  // balancer
+  @JsonProperty("alias")
+  ALIAS,
+  // CNAME records to dns name of load balancer
+  @JsonProperty("cname")
+  CNAME
+}
@@ -0,0 +1,73 @@
+package com.dream11.application.constant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** EBS volume types with their size (GiB), IOPS and throughput (MiB/s) limits */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum EbsVolumeType {
+  @JsonProperty("gp2")
+  GP2("gp2", 1, 16384, null, null, null, false),
+  @JsonProperty("gp3")
+  GP3("gp3", 1, 16384, 3000, 16000, 500, true),
+  @JsonProperty("io1")
+  IO1("io1", 4, 16384, 100, 64000, 50, false),
+  @JsonProperty("io2")
+  IO2("io2", 4, 65536, 100, 256000, 1000, false),
+  @JsonProperty("st1")
+  ST1("st1", 125, 16384, null, null, null, false),
+  @JsonProperty("sc1")
+  SC1("sc1", 125, 16384, null, null, null, false),
+  @JsonProperty("standard")
+  STANDARD("standard", 1, 1024, null, null, null, false);
+
+  public static final int GP3_MIN_THROUGHPUT = 125;
+  public static final int GP3_MAX_THROUGHPUT = 1000;
+  // Throughput of gp3 can be provisioned at 0.25 MiB/s per provisioned IOPS
+  public static final int GP3_IOPS_PER_THROUGHPUT = 4;
+
+  final String value;
+  final int minSize;
+  final int maxSize;
+  final Integer minIops;
+  final Integer maxIops;
+  final Integer maxIopsPerGib;
+  final boolean throughputSupported;
+
+  public boolean isIopsSupported() {
+    return Objects.nonNull(this.maxIops);
+  }
+
+  /** Provisioned IOPS are mandatory for io1 and io2 */
+  public boolean isIopsRequired() {
+    return this == IO1 || this == IO2;
+  }
+
+  public boolean isSizeValid(int size) {
+    return size >= this.minSize && size <= this.maxSize;
+  }
+
+  public boolean isIopsValid(int size, Integer iops) {
+    if (Objects.isNull(iops)) {
+      return !this.isIopsRequired();
+    }
+    return this.isIopsSupported()
+        && iops >= this.minIops
+        && iops <= this.maxIops
+        && iops <= Math.max(this.minIops, size * this.maxIopsPerGib);
+  }
+
+  public boolean isThroughputValid(Integer iops, Integer throughput) {
+    if (Objects.isNull(throughput)) {
+      return true;
+    }
+    return this.throughputSupported
+        && throughput >= GP3_MIN_THROUGHPUT
+        && throughput <= GP3_MAX_THROUGHPUT
+        && throughput * GP3_IOPS_PER_THROUGHPUT <= Objects.requireNonNullElse(iops, this.minIops);
+  }
+}
@@ -6,9 +6,12 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum LoadBalancerType {
-  ALB("application"),
-  CLB("classic"),
-  NLB("network");
+  ALB("application", 100),
+  CLB("classic", 0),
+  NLB("network", 2750);
 
   final String value;
+
+  // Smallest capacity reservation accepted by AWS, reservation is not supported for classic
+  final Integer minimumLcu;
 }
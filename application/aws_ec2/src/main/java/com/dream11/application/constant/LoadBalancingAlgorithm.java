@@ -0,0 +1,21 @@
+package com.dream11.application.constant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Algorithms with which application load balancers pick a target of a target group */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum LoadBalancingAlgorithm {
+  @JsonProperty("round_robin")
+  ROUND_ROBIN("round_robin"),
+  @JsonProperty("least_outstanding_requests")
+  LEAST_OUTSTANDING_REQUESTS("least_outstanding_requests"),
+  // Supports anomaly mitigation, which shifts traffic away from targets with elevated errors
+  @JsonProperty("weighted_random")
+  WEIGHTED_RANDOM("weighted_random");
+
+  final String value;
+}
@@ -19,7 +19,9 @@ public enum Operations {
   REDEPLOY("redeploy"),
   REVERT("revert"),
   STATUS("status"),
-  UPDATE_ASG("update-asg");
+  UPDATE_ASG("update-asg"),
+  ADVISE("advise"),
+  COMPARE_PERFORMANCE("compare-performance");
   final String value;
 
   public static Operations fromValue(String value) {
@@ -0,0 +1,12 @@
+package com.dream11.application.constant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum ScalingMetric {
+  @JsonProperty("cpu")
+  CPU,
+  @JsonProperty("request-count-per-target")
+  REQUEST_COUNT_PER_TARGET,
+  @JsonProperty("custom")
+  CUSTOM
+}
@@ -0,0 +1,22 @@
+package com.dream11.application.constant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum StickinessType {
+  // Cookie generated by application load balancer
+  @JsonProperty("lb_cookie")
+  LB_COOKIE("lb_cookie"),
+  // Cookie generated by application, supported only by application load balancers
+  @JsonProperty("app_cookie")
+  APP_COOKIE("app_cookie"),
+  // Supported only by network load balancers
+  @JsonProperty("source_ip")
+  SOURCE_IP("source_ip");
+
+  final String value;
+}
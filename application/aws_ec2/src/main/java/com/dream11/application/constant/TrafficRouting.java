@@ -0,0 +1,12 @@
+package com.dream11.application.constant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public enum TrafficRouting {
+  // Weighted route53 records, each pointing to load balancer of a deployment stack
+  @JsonProperty("route53")
+  ROUTE53,
+  // Weighted target groups of deployment stacks behind listeners of a shared load balancer
+  @JsonProperty("target-group")
+  TARGET_GROUP
+}
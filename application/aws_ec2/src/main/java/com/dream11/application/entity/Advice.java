@@ -0,0 +1,47 @@
+package com.dream11.application.entity;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/** Right sizing recommendation for the active fleet, ordered from most to least preferred */
+@Data
+@Builder
+public class Advice {
+  Integer lookbackDays;
+  Integer percentile;
+  Integer datapoints;
+  Fleet current;
+  Recommendation recommended;
+  List<Recommendation> recommendations;
+
+  @Data
+  @Builder
+  public static class Fleet {
+    Integer instances;
+    Double vCpus;
+    // Utilisation values are at the configured percentile of hourly datapoints
+    Double vCpuDemand;
+    Double cpuUtilization;
+    Double networkGbps;
+    Double requestsPerSecond;
+    Double targetResponseTime;
+  }
+
+  @Data
+  @Builder
+  public static class Recommendation {
+    String instanceType;
+    String family;
+    String size;
+    String architecture;
+    Integer vCpus;
+    Integer count;
+    Double projectedCpuUtilization;
+    Double projectedAverageCpuUtilization;
+    Double projectedNetworkUtilization;
+    Double projectedRequestsPerSecondPerInstance;
+    Double hourlyCost;
+    Double monthlyCost;
+  }
+}
@@ -0,0 +1,38 @@
+package com.dream11.application.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+/** Notification published by ASG to SNS topic on instance launch and terminate */
+@Data
+public class AsgEvent {
+
+  @JsonProperty("Event")
+  String event;
+
+  @JsonProperty("AutoScalingGroupName")
+  String autoScalingGroupName;
+
+  @JsonProperty("ActivityId")
+  String activityId;
+
+  @JsonProperty("EC2InstanceId")
+  String instanceId;
+
+  @JsonProperty("StatusCode")
+  String statusCode;
+
+  @JsonProperty("StatusMessage")
+  String statusMessage;
+
+  @JsonProperty("Description")
+  String description;
+
+  public boolean isLaunch() {
+    return "autoscaling:EC2_INSTANCE_LAUNCH".equals(this.event);
+  }
+
+  public boolean isLaunchError() {
+    return "autoscaling:EC2_INSTANCE_LAUNCH_ERROR".equals(this.event);
+  }
+}
@@ -0,0 +1,28 @@
+package com.dream11.application.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Utilisation history of an ASG. Every metric is keyed by epoch seconds of its period */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsgUtilisation {
+  String name;
+  Integer instances;
+  Double vCpusPerInstance;
+  @Builder.Default Map<Long, Double> cpuUtilization = new HashMap<>();
+  @Builder.Default Map<Long, Double> inServiceInstances = new HashMap<>();
+  // Bytes per period summed over instances
+  @Builder.Default Map<Long, Double> networkIn = new HashMap<>();
+  @Builder.Default Map<Long, Double> networkOut = new HashMap<>();
+  // Summed over target groups of ASG
+  @Builder.Default Map<Long, Double> requestCount = new HashMap<>();
+  // p99 in seconds, maximum over target groups of ASG
+  @Builder.Default Map<Long, Double> targetResponseTime = new HashMap<>();
+}
@@ -1,5 +1,7 @@
 package com.dream11.application.entity;
 
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Data;
 
@@ -11,4 +13,6 @@ public class CloudWatchMetric {
   String metricName;
   String resourceName;
   String resourceValue;
+  // Dimensions in addition to the resource dimension
+  @Builder.Default Map<String, String> dimensions = new HashMap<>();
 }
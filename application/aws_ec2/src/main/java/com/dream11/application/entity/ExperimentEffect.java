@@ -0,0 +1,20 @@
+package com.dream11.application.entity;
+
+import lombok.Builder;
+import lombok.Data;
+
+/** Effect of new deployment stack on a metric relative to the active stack */
+@Data
+@Builder
+public class ExperimentEffect {
+  String stackId;
+  String metric;
+  Integer samples;
+  Double activeMean;
+  Double newMean;
+  // Relative change in mean and its confidence interval, in percentage of active mean
+  Double changePercentage;
+  Double lowerBoundPercentage;
+  Double upperBoundPercentage;
+  Boolean regression;
+}
@@ -0,0 +1,121 @@
+package com.dream11.application.entity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tracks time taken by each instance from its launch to becoming healthy across successive health
+ * checks of a single wait
+ */
+@RequiredArgsConstructor
+public class InstanceHealthTracker {
+
+  // Returns map of instance id to launch time for given instance ids
+  @NonNull final Function<List<String>, Map<String, Instant>> launchTimeProvider;
+
+  final Map<String, Instant> launchTimes = new HashMap<>();
+  final Map<String, Instant> healthyTimes = new HashMap<>();
+  // Instances healthy on first check of the wait, their time to healthy is unknown
+  final Set<String> initiallyHealthyInstances = new HashSet<>();
+  final Set<String> ignoredInstances = new HashSet<>();
+  Map<String, Boolean> instanceHealth = Map.of();
+  boolean updated = false;
+
+  /**
+   * @param instanceHealth map of instance id to whether the instance is healthy
+   */
+  public void update(Map<String, Boolean> instanceHealth) {
+    Instant now = Instant.now();
+    List<String> newInstanceIds =
+        instanceHealth.keySet().stream()
+            .filter(instanceId -> !this.launchTimes.containsKey(instanceId))
+            .toList();
+    if (!newInstanceIds.isEmpty()) {
+      Map<String, Instant> newLaunchTimes = this.launchTimeProvider.apply(newInstanceIds);
+      // Instances whose launch time is not known are timed from when they are first seen
+      newInstanceIds.forEach(
+          instanceId ->
+              this.launchTimes.put(instanceId, newLaunchTimes.getOrDefault(instanceId, now)));
+    }
+    instanceHealth.forEach(
+        (instanceId, healthy) -> {
+          if (Boolean.TRUE.equals(healthy) && !this.healthyTimes.containsKey(instanceId)) {
+            this.healthyTimes.put(instanceId, now);
+            if (!this.updated) {
+              this.initiallyHealthyInstances.add(instanceId);
+            }
+          }
+        });
+    this.instanceHealth = instanceHealth;
+    this.updated = true;
+  }
+
+  public long getHealthyCount() {
+    return this.instanceHealth.values().stream().filter(Boolean.TRUE::equals).count();
+  }
+
+  public Set<String> getHealthyInstanceIds() {
+    return this.instanceHealth.entrySet().stream()
+        .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * @param instanceWeights map of instance id to its weighted capacity, instances missing from it
+   *     count as 1
+   */
+  public long getHealthyCapacity(Map<String, Integer> instanceWeights) {
+    return this.instanceHealth.entrySet().stream()
+        .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+        .mapToLong(entry -> instanceWeights.getOrDefault(entry.getKey(), 1))
+        .sum();
+  }
+
+  /**
+   * @return time from launch to healthy of instances which became healthy during the wait
+   */
+  public List<Duration> getTimesToHealthy() {
+    return this.getHealthyTimes().entrySet().stream()
+        .map(entry -> Duration.between(this.launchTimes.get(entry.getKey()), entry.getValue()))
+        .toList();
+  }
+
+  /**
+   * @return map of instance id to time at which the instance was first seen healthy, for instances
+   *     which became healthy during the wait
+   */
+  public Map<String, Instant> getHealthyTimes() {
+    return this.healthyTimes.entrySet().stream()
+        .filter(entry -> !this.initiallyHealthyInstances.contains(entry.getKey()))
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  }
+
+  /**
+   * @return map of instance id to time since launch for instances which have never been healthy
+   */
+  public Map<String, Duration> getUnhealthyInstanceAges() {
+    Instant now = Instant.now();
+    return this.instanceHealth.keySet().stream()
+        .filter(instanceId -> !this.healthyTimes.containsKey(instanceId))
+        .filter(instanceId -> !this.ignoredInstances.contains(instanceId))
+        .collect(
+            Collectors.toMap(
+                instanceId -> instanceId,
+                instanceId -> Duration.between(this.launchTimes.get(instanceId), now)));
+  }
+
+  /** Stops reporting an instance as unhealthy, for example after it has been replaced */
+  public void ignore(String instanceId) {
+    this.ignoredInstances.add(instanceId);
+  }
+}
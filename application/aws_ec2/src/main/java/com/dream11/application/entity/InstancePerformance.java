@@ -0,0 +1,22 @@
+package com.dream11.application.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Performance of an instance over the comparison window */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstancePerformance {
+  String instanceId;
+  String architecture;
+  String instanceType;
+  Integer vCpus;
+  Double cpuUtilization;
+  Double requests;
+  Double latency;
+  Double errors;
+}
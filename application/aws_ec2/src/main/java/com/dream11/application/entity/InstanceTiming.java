@@ -0,0 +1,38 @@
+package com.dream11.application.entity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Data;
+
+/** Boot stages of an instance launched during deploy */
+@Data
+@Builder
+public class InstanceTiming {
+
+  String instanceId;
+  String asgName;
+  String architecture;
+  String instanceType;
+  Instant requestedAt;
+  Instant runningAt;
+  Instant userdataCompletedAt;
+  Instant healthyAt;
+
+  public Duration getTimeToRunning() {
+    return this.since(this.runningAt);
+  }
+
+  public Duration getTimeToUserdataCompletion() {
+    return this.since(this.userdataCompletedAt);
+  }
+
+  public Duration getTimeToHealthy() {
+    return this.since(this.healthyAt);
+  }
+
+  private Duration since(Instant time) {
+    return Objects.isNull(time) ? null : Duration.between(this.requestedAt, time);
+  }
+}
@@ -0,0 +1,20 @@
+package com.dream11.application.entity;
+
+import lombok.Builder;
+import lombok.Data;
+
+/** Performance of instances sharing an architecture or instance type */
+@Data
+@Builder
+public class PerformanceGroup {
+  String dimension;
+  String value;
+  Integer instances;
+  Double cpuUtilization;
+  Double requestsPerSecondPerInstance;
+  // Requests served per second by a fully utilised vCPU
+  Double requestsPerVCpuSecond;
+  // p99 of latency of instances in the group
+  Double latency;
+  Double errorRate;
+}
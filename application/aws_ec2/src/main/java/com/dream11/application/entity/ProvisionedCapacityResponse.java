@@ -22,5 +22,9 @@ public class ProvisionedCapacityResponse {
 
     @JsonProperty("Status")
     String status;
+
+    // Why reservation is not provisioned yet, if known
+    @JsonProperty("Reason")
+    String reason;
   }
 }
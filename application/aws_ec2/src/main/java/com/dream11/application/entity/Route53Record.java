@@ -1,7 +1,9 @@
 package com.dream11.application.entity;
 
+import java.util.Objects;
 import lombok.Builder;
 import lombok.Data;
+import software.amazon.awssdk.services.route53.model.RRType;
 
 @Data
 @Builder
@@ -12,9 +14,16 @@ public class Route53Record {
   Long ttl;
   Long weight;
   String identifier;
+  @Builder.Default RRType type = RRType.CNAME;
+  String aliasHostedZoneId; // Only for alias records
+  Boolean evaluateTargetHealth; // Only for alias records
 
   public Route53Record setWeight(Long weight) {
     this.weight = weight;
     return this;
   }
+
+  public boolean isAlias() {
+    return Objects.nonNull(this.aliasHostedZoneId);
+  }
 }
@@ -32,6 +32,9 @@ public enum ApplicationError {
   LCU_PROVISIONING_TIMEOUT(
       ErrorCategory.AWS_ERROR,
       "Timeout of:[%s minutes] exceeded while waiting for lcu provisioning"),
+  LCU_PROVISIONING_FAILED(
+      ErrorCategory.AWS_ERROR,
+      "Lcu provisioning failed for load balancer:[%s]. Reason:[%s]"),
   TARGET_DRAIN_TIMEOUT(
       ErrorCategory.AWS_ERROR,
       "Timeout of:[%s minutes] exceeded while waiting for targets to drain"),
@@ -46,6 +49,12 @@ public enum ApplicationError {
       ErrorCategory.USER_ERROR, "Canary analysis failed. Error count:[%f] > threshold:[%d]"),
   PERCENTAGE_CANARY_ANALYSIS_FAILED(
       ErrorCategory.USER_ERROR, "Canary analysis failed. Error percentage:[%f] > threshold:[%d]"),
+  LATENCY_CANARY_ANALYSIS_FAILED(
+      ErrorCategory.USER_ERROR, "Canary analysis failed. Latency %s:[%f ms] > threshold:[%f ms]"),
+  LOAD_TEST_FAILED(ErrorCategory.USER_ERROR, "Load test of stackId:[%s] failed. %s"),
+  PERFORMANCE_REGRESSION(
+      ErrorCategory.USER_ERROR,
+      "Performance experiment failed. New deployment stack regressed beyond tolerance of:[%d%%] in %s"),
   INVALID_ROUTE53_WEIGHT(
       ErrorCategory.USER_ERROR,
       "Invalid weight:[%d] for route 53 with identifier:[%s%s%s]. Allowed values are:%s"),
@@ -90,6 +99,32 @@ public enum ApplicationError {
   INVALID_CLOUD_PROVIDER(
       ErrorCategory.ODIN_ERROR,
       "EC2 flavour cannot be invoked with %s cloud provider. Requires 'aws' cloud provider"),
+  INSTANCE_REFRESH_FAILED(
+      ErrorCategory.USER_ERROR,
+      "Instance refresh:[%s] of ASG:[%s] ended with status:[%s]. Reason:[%s]"),
+  INSTANCE_REFRESH_TIMEOUT(
+      ErrorCategory.USER_ERROR,
+      "Timeout of:[%s minutes] exceeded while waiting for instance refresh:[%s] of ASG:[%s]"),
+  ASG_LAUNCH_FAILED(
+      ErrorCategory.USER_ERROR,
+      "Instances could not be launched in ASG:[%s]. Activity:[%s] failed with reason:[%s]"),
+  REQUEST_COUNT_SCALING_NOT_SUPPORTED(
+      ErrorCategory.USER_ERROR,
+      "Scaling policy:[%s] tracks request count per target which needs an application load balancer"),
+  INVALID_WEIGHTED_CAPACITY(
+      ErrorCategory.USER_ERROR,
+      "Weighted capacity of instance type:[%s] is:[%d] which exceeds maximum of:[%d]. Use a smaller capacity unit"),
+  CAPACITY_UNIT_CHANGED(
+      ErrorCategory.USER_ERROR,
+      "Capacity unit of ASG:[%s] cannot be changed to:[%s] in place. Deploy with blue green strategy to change it"),
+  PASSIVE_STACK_UNDER_PROVISIONED(
+      ErrorCategory.USER_ERROR,
+      "Refusing to route traffic. Deployment stack:[%s%s] has:[%d] in service capacity while:[%d] is needed to match active stack"),
+  INSTANCE_TYPES_NOT_FOUND(
+      ErrorCategory.USER_ERROR, "None of instance types:%s are offered in the region"),
+  NO_UTILISATION_HISTORY(
+      ErrorCategory.USER_ERROR,
+      "No CPU utilisation found for ASGs:%s in the last:[%d days]. Cannot advise on sizing"),
   R53_SYNC(
       ErrorCategory.AWS_ERROR,
       "Timeout of:[%s minutes] exceeded while waiting for R53 change to become INSYNC");
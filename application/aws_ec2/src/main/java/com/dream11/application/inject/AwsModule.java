@@ -7,6 +7,8 @@ import com.dream11.application.aws.EC2Client;
 import com.dream11.application.aws.LaunchTemplateClient;
 import com.dream11.application.aws.LoadBalancerClient;
 import com.dream11.application.aws.Route53Client;
+import com.dream11.application.aws.SNSClient;
+import com.dream11.application.aws.SQSClient;
 import com.dream11.application.aws.SystemsManagerClient;
 import com.dream11.application.aws.TargetGroupClient;
 import com.google.inject.AbstractModule;
@@ -25,6 +27,8 @@ public class AwsModule extends AbstractModule {
   @NonNull final EC2Client ec2Client;
   @NonNull final CloudwatchClient cloudwatchClient;
   @NonNull final SystemsManagerClient systemsManagerClient;
+  @NonNull final SQSClient sqsClient;
+  @NonNull final SNSClient snsClient;
 
   @Override
   protected void configure() {
@@ -37,5 +41,7 @@ public class AwsModule extends AbstractModule {
     bind(EC2Client.class).toInstance(this.ec2Client);
     bind(CloudwatchClient.class).toInstance(this.cloudwatchClient);
     bind(SystemsManagerClient.class).toInstance(this.systemsManagerClient);
+    bind(SQSClient.class).toInstance(this.sqsClient);
+    bind(SNSClient.class).toInstance(this.snsClient);
   }
 }
@@ -0,0 +1,19 @@
+package com.dream11.application.operation;
+
+import com.dream11.application.service.AdvisorService;
+import com.google.inject.Inject;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class Advise implements Operation {
+  @NonNull final AdvisorService advisorService;
+
+  @Override
+  public boolean execute() {
+    this.advisorService.advise();
+    return false;
+  }
+}
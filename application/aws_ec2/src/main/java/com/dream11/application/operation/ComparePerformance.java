@@ -0,0 +1,19 @@
+package com.dream11.application.operation;
+
+import com.dream11.application.service.PerformanceService;
+import com.google.inject.Inject;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class ComparePerformance implements Operation {
+  @NonNull final PerformanceService performanceService;
+
+  @Override
+  public boolean execute() {
+    this.performanceService.comparePerformance();
+    return false;
+  }
+}
@@ -0,0 +1,432 @@
+package com.dream11.application.service;
+
+import com.dream11.application.Application;
+import com.dream11.application.aws.CloudwatchClient;
+import com.dream11.application.aws.EC2Client;
+import com.dream11.application.aws.TargetGroupClient;
+import com.dream11.application.config.user.AdviseConfig;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.entity.Advice;
+import com.dream11.application.entity.AsgUtilisation;
+import com.dream11.application.entity.CloudWatchMetric;
+import com.dream11.application.error.ApplicationError;
+import com.dream11.application.exception.GenericApplicationException;
+import com.dream11.application.state.AutoscalingGroupState;
+import com.dream11.application.util.StatisticsUtil;
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
+import software.amazon.awssdk.services.autoscaling.model.Instance;
+import software.amazon.awssdk.services.ec2.model.InstanceTypeInfo;
+import software.amazon.awssdk.services.ec2.model.NetworkCardInfo;
+
+/**
+ * Recommends instance type and count for the fleet from CloudWatch utilisation history of ASGs of
+ * both deployment stacks. The fleet is sized so that vCPU demand and network throughput at the
+ * configured percentile stay below target utilisation. vCPUs of all instance types are assumed to
+ * perform alike
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class AdvisorService {
+
+  static final String CPU = "cpu";
+  static final String IN_SERVICE_INSTANCES = "instances";
+  static final String NETWORK_IN = "networkin";
+  static final String NETWORK_OUT = "networkout";
+  static final String REQUEST_COUNT = "requests";
+  static final String TARGET_RESPONSE_TIME = "latency";
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final AdviseConfig adviseConfig;
+  @NonNull final AutoscalingGroupService autoscalingGroupService;
+  @NonNull final EC2Client ec2Client;
+  @NonNull final CloudwatchClient cloudwatchClient;
+  @NonNull final TargetGroupClient targetGroupClient;
+
+  @SneakyThrows
+  public void advise() {
+    // History of a stack before its last flip belongs to ASGs of the now passive deployment stack
+    List<AutoScalingGroup> asgs =
+        Application.getState().getAsg().stream()
+            .map(AutoscalingGroupState::getName)
+            .map(this.autoscalingGroupService::describe)
+            .toList();
+    List<String> candidateTypes =
+        Stream.concat(
+                this.deployConfig.getAutoScalingGroupConfig().getInstances().stream()
+                    .flatMap(instance -> instance.getTypes().stream()),
+                this.adviseConfig.getCandidateTypes().stream())
+            .distinct()
+            .toList();
+    Map<String, InstanceTypeInfo> instanceTypes =
+        this.ec2Client
+            .describeInstanceTypes(
+                Stream.concat(
+                        candidateTypes.stream(),
+                        asgs.stream()
+                            .flatMap(asg -> asg.instances().stream())
+                            .map(Instance::instanceType))
+                    .distinct()
+                    .toList())
+            .stream()
+            .collect(
+                Collectors.toMap(InstanceTypeInfo::instanceTypeAsString, Function.identity()));
+
+    Instant endTime = Instant.now().truncatedTo(ChronoUnit.HOURS);
+    Instant startTime = endTime.minus(Duration.ofDays(this.adviseConfig.getLookbackDays()));
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    IntStream.range(0, asgs.size()).forEach(i -> metrics.putAll(this.getMetrics(i, asgs.get(i))));
+    log.info(
+        "Fetching utilisation of ASGs:{} from {} to {}",
+        asgs.stream().map(AutoScalingGroup::autoScalingGroupName).toList(),
+        startTime,
+        endTime);
+    Map<String, Map<Long, Double>> datapoints =
+        this.cloudwatchClient.getMetrics(
+            startTime, endTime, Constants.ADVISE_METRIC_PERIOD, metrics);
+
+    List<AsgUtilisation> utilisations =
+        IntStream.range(0, asgs.size())
+            .mapToObj(
+                i ->
+                    getUtilisation(
+                        i,
+                        asgs.get(i),
+                        getVCpusPerInstance(asgs.get(i), instanceTypes, candidateTypes),
+                        datapoints))
+            .toList();
+    Advice advice =
+        recommend(
+            utilisations,
+            candidateTypes.stream().map(instanceTypes::get).filter(Objects::nonNull).toList(),
+            this.adviseConfig,
+            Constants.ADVISE_METRIC_PERIOD);
+
+    Advice.Recommendation recommended = advice.getRecommended();
+    log.info(
+        "Recommended [{}] instances of type:[{}] ({}) with projected cpu utilisation of [{}%] at p{} against current [{}%] over [{}] instances",
+        recommended.getCount(),
+        recommended.getInstanceType(),
+        recommended.getArchitecture(),
+        recommended.getProjectedCpuUtilization(),
+        advice.getPercentile(),
+        advice.getCurrent().getCpuUtilization(),
+        advice.getCurrent().getInstances());
+    log.info(
+        "Advice:{}",
+        Application.getObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(advice));
+  }
+
+  private Map<String, CloudWatchMetric> getMetrics(int index, AutoScalingGroup asg) {
+    String name = asg.autoScalingGroupName();
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    metrics.put(
+        getMetricId(CPU, index), getAsgMetric(name, "AWS/EC2", "CPUUtilization", "Average"));
+    metrics.put(
+        getMetricId(IN_SERVICE_INSTANCES, index),
+        getAsgMetric(name, "AWS/AutoScaling", "GroupInServiceInstances", "Average"));
+    metrics.put(getMetricId(NETWORK_IN, index), getAsgMetric(name, "AWS/EC2", "NetworkIn", "Sum"));
+    metrics.put(
+        getMetricId(NETWORK_OUT, index), getAsgMetric(name, "AWS/EC2", "NetworkOut", "Sum"));
+
+    List<String> targetGroupArns = asg.targetGroupARNs();
+    for (int j = 0; j < targetGroupArns.size(); j++) {
+      String targetGroupArn = targetGroupArns.get(j);
+      List<String> loadBalancerArns =
+          this.targetGroupClient.describe(targetGroupArn).loadBalancerArns();
+      // Request metrics are published only for application load balancers
+      if (loadBalancerArns.isEmpty()
+          || !LoadBalancerService.isApplicationLoadBalancer(loadBalancerArns.get(0))) {
+        continue;
+      }
+      Map<String, String> dimensions =
+          Map.of("LoadBalancer", LoadBalancerService.getLbResourceFromArn(loadBalancerArns.get(0)));
+      String targetGroup = targetGroupArn.substring(targetGroupArn.lastIndexOf(':') + 1);
+      metrics.put(
+          getMetricId(REQUEST_COUNT, index, j),
+          getTargetGroupMetric(targetGroup, dimensions, "RequestCount", "Sum"));
+      metrics.put(
+          getMetricId(TARGET_RESPONSE_TIME, index, j),
+          getTargetGroupMetric(targetGroup, dimensions, "TargetResponseTime", "p99"));
+    }
+    return metrics;
+  }
+
+  private static CloudWatchMetric getAsgMetric(
+      String name, String namespace, String metricName, String statistic) {
+    return CloudWatchMetric.builder()
+        .namespace(namespace)
+        .metricName(metricName)
+        .statistic(statistic)
+        .resourceName("AutoScalingGroupName")
+        .resourceValue(name)
+        .build();
+  }
+
+  private static CloudWatchMetric getTargetGroupMetric(
+      String targetGroup, Map<String, String> dimensions, String metricName, String statistic) {
+    return CloudWatchMetric.builder()
+        .namespace("AWS/ApplicationELB")
+        .metricName(metricName)
+        .statistic(statistic)
+        .resourceName("TargetGroup")
+        .resourceValue(targetGroup)
+        .dimensions(dimensions)
+        .build();
+  }
+
+  private static String getMetricId(String metric, int asgIndex) {
+    return String.format("%s_%d", metric, asgIndex);
+  }
+
+  private static String getMetricId(String metric, int asgIndex, int targetGroupIndex) {
+    return String.format("%s_%d_%d", metric, asgIndex, targetGroupIndex);
+  }
+
+  static double getVCpusPerInstance(
+      AutoScalingGroup asg, Map<String, InstanceTypeInfo> instanceTypes, List<String> types) {
+    return asg.instances().stream()
+        .map(instance -> instanceTypes.get(instance.instanceType()))
+        .filter(Objects::nonNull)
+        .mapToInt(instanceType -> instanceType.vCpuInfo().defaultVCpus())
+        .average()
+        .orElseGet(
+            () ->
+                types.stream()
+                    .map(instanceTypes::get)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElseThrow(
+                        () ->
+                            new GenericApplicationException(
+                                ApplicationError.INSTANCE_TYPES_NOT_FOUND, types))
+                    .vCpuInfo()
+                    .defaultVCpus());
+  }
+
+  private static AsgUtilisation getUtilisation(
+      int index,
+      AutoScalingGroup asg,
+      double vCpusPerInstance,
+      Map<String, Map<Long, Double>> datapoints) {
+    Map<Long, Double> requestCount = new TreeMap<>();
+    Map<Long, Double> targetResponseTime = new TreeMap<>();
+    for (int j = 0; j < asg.targetGroupARNs().size(); j++) {
+      datapoints
+          .getOrDefault(getMetricId(REQUEST_COUNT, index, j), Map.of())
+          .forEach((timestamp, value) -> requestCount.merge(timestamp, value, Double::sum));
+      datapoints
+          .getOrDefault(getMetricId(TARGET_RESPONSE_TIME, index, j), Map.of())
+          .forEach((timestamp, value) -> targetResponseTime.merge(timestamp, value, Math::max));
+    }
+    return AsgUtilisation.builder()
+        .name(asg.autoScalingGroupName())
+        .instances(asg.desiredCapacity())
+        .vCpusPerInstance(vCpusPerInstance)
+        .cpuUtilization(datapoints.getOrDefault(getMetricId(CPU, index), Map.of()))
+        .inServiceInstances(
+            datapoints.getOrDefault(getMetricId(IN_SERVICE_INSTANCES, index), Map.of()))
+        .networkIn(datapoints.getOrDefault(getMetricId(NETWORK_IN, index), Map.of()))
+        .networkOut(datapoints.getOrDefault(getMetricId(NETWORK_OUT, index), Map.of()))
+        .requestCount(requestCount)
+        .targetResponseTime(targetResponseTime)
+        .build();
+  }
+
+  /**
+   * @param utilisations utilisation history of ASGs serving the application
+   * @param candidates instance types to choose from
+   * @param period period of datapoints in seconds
+   */
+  static Advice recommend(
+      List<AsgUtilisation> utilisations,
+      List<InstanceTypeInfo> candidates,
+      AdviseConfig config,
+      int period) {
+    Map<Long, Double> vCpuDemand = new TreeMap<>();
+    Map<Long, Double> networkGbps = new TreeMap<>();
+    Map<Long, Double> requestsPerSecond = new TreeMap<>();
+    Map<Long, Double> targetResponseTime = new TreeMap<>();
+    for (AsgUtilisation utilisation : utilisations) {
+      utilisation
+          .getCpuUtilization()
+          .forEach(
+              (timestamp, cpuUtilization) ->
+                  vCpuDemand.merge(
+                      timestamp,
+                      cpuUtilization
+                          / 100
+                          * utilisation
+                              .getInServiceInstances()
+                              .getOrDefault(timestamp, utilisation.getInstances().doubleValue())
+                          * utilisation.getVCpusPerInstance(),
+                      Double::sum));
+      // Bandwidth limits apply to each direction separately
+      utilisation
+          .getNetworkIn()
+          .forEach(
+              (timestamp, bytesIn) ->
+                  networkGbps.merge(
+                      timestamp,
+                      Math.max(bytesIn, utilisation.getNetworkOut().getOrDefault(timestamp, 0d))
+                          * 8
+                          / period
+                          / 1e9,
+                      Double::sum));
+      utilisation
+          .getRequestCount()
+          .forEach(
+              (timestamp, count) ->
+                  requestsPerSecond.merge(timestamp, count / period, Double::sum));
+      utilisation
+          .getTargetResponseTime()
+          .forEach((timestamp, latency) -> targetResponseTime.merge(timestamp, latency, Math::max));
+    }
+    if (vCpuDemand.isEmpty()) {
+      throw new GenericApplicationException(
+          ApplicationError.NO_UTILISATION_HISTORY,
+          utilisations.stream().map(AsgUtilisation::getName).toList(),
+          config.getLookbackDays());
+    }
+
+    double peakVCpuDemand = percentile(vCpuDemand, config.getPercentile());
+    double averageVCpuDemand =
+        vCpuDemand.values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    Double peakNetworkGbps = percentile(networkGbps, config.getPercentile());
+    Double peakRequestsPerSecond = percentile(requestsPerSecond, config.getPercentile());
+    double vCpus =
+        utilisations.stream()
+            .mapToDouble(
+                utilisation -> utilisation.getInstances() * utilisation.getVCpusPerInstance())
+            .sum();
+
+    List<Advice.Recommendation> recommendations =
+        candidates.stream()
+            .map(
+                candidate ->
+                    recommend(
+                        candidate,
+                        peakVCpuDemand,
+                        averageVCpuDemand,
+                        peakNetworkGbps,
+                        peakRequestsPerSecond,
+                        config))
+            .sorted(
+                Comparator.comparing(
+                        Advice.Recommendation::getMonthlyCost,
+                        Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(
+                        recommendation -> recommendation.getCount() * recommendation.getVCpus())
+                    .thenComparing(Advice.Recommendation::getCount))
+            .toList();
+    return Advice.builder()
+        .lookbackDays(config.getLookbackDays())
+        .percentile(config.getPercentile())
+        .datapoints(vCpuDemand.size())
+        .current(
+            Advice.Fleet.builder()
+                .instances(utilisations.stream().mapToInt(AsgUtilisation::getInstances).sum())
+                .vCpus(StatisticsUtil.round(vCpus))
+                .vCpuDemand(StatisticsUtil.round(peakVCpuDemand))
+                .cpuUtilization(
+                    vCpus > 0 ? StatisticsUtil.round(peakVCpuDemand / vCpus * 100) : null)
+                .networkGbps(StatisticsUtil.round(peakNetworkGbps))
+                .requestsPerSecond(StatisticsUtil.round(peakRequestsPerSecond))
+                .targetResponseTime(percentile(targetResponseTime, config.getPercentile()))
+                .build())
+        .recommended(recommendations.get(0))
+        .recommendations(recommendations)
+        .build();
+  }
+
+  private static Advice.Recommendation recommend(
+      InstanceTypeInfo instanceType,
+      double peakVCpuDemand,
+      double averageVCpuDemand,
+      Double peakNetworkGbps,
+      Double peakRequestsPerSecond,
+      AdviseConfig config) {
+    int vCpus = instanceType.vCpuInfo().defaultVCpus();
+    int count =
+        Math.max(
+            config.getMinInstances(),
+            (int) Math.ceil(peakVCpuDemand / (vCpus * config.getTargetCpuUtilization() / 100.0)));
+    Double bandwidthGbps = getBaselineBandwidth(instanceType);
+    if (Objects.nonNull(peakNetworkGbps) && Objects.nonNull(bandwidthGbps) && bandwidthGbps > 0) {
+      count =
+          Math.max(
+              count,
+              (int)
+                  Math.ceil(
+                      peakNetworkGbps
+                          / (bandwidthGbps * config.getTargetNetworkUtilization() / 100.0)));
+    }
+    Double hourlyPrice = config.getHourlyPrices().get(instanceType.instanceTypeAsString());
+    String[] familyAndSize = instanceType.instanceTypeAsString().split("\\.", 2);
+    return Advice.Recommendation.builder()
+        .instanceType(instanceType.instanceTypeAsString())
+        .family(familyAndSize[0])
+        .size(familyAndSize.length > 1 ? familyAndSize[1] : null)
+        .architecture(
+            Objects.isNull(instanceType.processorInfo())
+                    || instanceType.processorInfo().supportedArchitecturesAsStrings().isEmpty()
+                ? null
+                : instanceType.processorInfo().supportedArchitecturesAsStrings().get(0))
+        .vCpus(vCpus)
+        .count(count)
+        .projectedCpuUtilization(StatisticsUtil.round(peakVCpuDemand / (count * vCpus) * 100))
+        .projectedAverageCpuUtilization(
+            StatisticsUtil.round(averageVCpuDemand / (count * vCpus) * 100))
+        .projectedNetworkUtilization(
+            Objects.isNull(peakNetworkGbps) || Objects.isNull(bandwidthGbps) || bandwidthGbps == 0
+                ? null
+                : StatisticsUtil.round(peakNetworkGbps / (count * bandwidthGbps) * 100))
+        .projectedRequestsPerSecondPerInstance(
+            Objects.isNull(peakRequestsPerSecond)
+                ? null
+                : StatisticsUtil.round(peakRequestsPerSecond / count))
+        .hourlyCost(Objects.isNull(hourlyPrice) ? null : StatisticsUtil.round(hourlyPrice * count))
+        .monthlyCost(
+            Objects.isNull(hourlyPrice)
+                ? null
+                : StatisticsUtil.round(hourlyPrice * count * Constants.HOURS_PER_MONTH))
+        .build();
+  }
+
+  /**
+   * @return baseline network bandwidth of instance type in Gbps, null if not known
+   */
+  private static Double getBaselineBandwidth(InstanceTypeInfo instanceType) {
+    if (Objects.isNull(instanceType.networkInfo())) {
+      return null;
+    }
+    return instanceType.networkInfo().networkCards().stream()
+        .map(NetworkCardInfo::baselineBandwidthInGbps)
+        .filter(Objects::nonNull)
+        .reduce(Double::sum)
+        .orElse(null);
+  }
+
+  private static Double percentile(Map<Long, Double> values, int percentile) {
+    return StatisticsUtil.percentile(new ArrayList<>(values.values()), percentile);
+  }
+}
@@ -0,0 +1,208 @@
+package com.dream11.application.service;
+
+import com.dream11.application.Application;
+import com.dream11.application.aws.SNSClient;
+import com.dream11.application.aws.SQSClient;
+import com.dream11.application.config.metadata.aws.AwsAccountData;
+import com.dream11.application.config.user.AutoScalingGroupConfig;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.entity.AsgEvent;
+import com.dream11.application.error.ApplicationError;
+import com.dream11.application.exception.GenericApplicationException;
+import com.dream11.application.util.ApplicationUtil;
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+/**
+ * Tracks ASG lifecycle events published to the SNS topic of the ASG. An operation scoped SQS queue
+ * is subscribed to the topic and long polled in background. Waits subscribe to events of their ASG
+ * and describe calls are made only to confirm the state after an event arrives. Every event is
+ * fanned out to all subscriptions of its ASG, so concurrent waits on the same ASG are all woken up
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class AsgEventService {
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final SQSClient sqsClient;
+  @NonNull final SNSClient snsClient;
+  @NonNull final AwsAccountData awsAccountData;
+
+  final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+  final Map<String, Instant> lastLaunchTimes = new ConcurrentHashMap<>();
+  String queueUrl;
+  String subscriptionArn;
+  Future<?> listener;
+  volatile boolean listening;
+
+  public void start() {
+    AutoScalingGroupConfig autoScalingGroupConfig = this.deployConfig.getAutoScalingGroupConfig();
+    if (!Boolean.TRUE.equals(autoScalingGroupConfig.getEventDrivenWait())) {
+      return;
+    }
+    String queueName =
+        Constants.ASG_EVENT_QUEUE_PREFIX
+            + ApplicationUtil.generateRandomId(Constants.ASG_EVENT_QUEUE_RANDOM_ID_LENGTH);
+    this.queueUrl =
+        this.sqsClient.createQueue(
+            queueName,
+            ApplicationUtil.merge(
+                List.of(
+                    this.awsAccountData.getTags(),
+                    this.deployConfig.getTags(),
+                    Constants.COMPONENT_TAGS)));
+    String queueArn = this.sqsClient.getQueueArn(this.queueUrl);
+    this.sqsClient.allowTopic(this.queueUrl, queueArn, autoScalingGroupConfig.getSnsTopicArn());
+    this.subscriptionArn =
+        this.snsClient.subscribeQueue(autoScalingGroupConfig.getSnsTopicArn(), queueArn);
+    this.listening = true;
+    this.listener = Application.getExecutorService().submit(this::listen);
+    log.info(
+        "Listening for ASG events from topic:[{}] on queue:[{}]",
+        autoScalingGroupConfig.getSnsTopicArn(),
+        queueName);
+  }
+
+  public void stop() {
+    if (Objects.isNull(this.queueUrl)) {
+      return;
+    }
+    this.listening = false;
+    this.listener.cancel(true);
+    try {
+      this.snsClient.unsubscribe(this.subscriptionArn);
+    } finally {
+      this.sqsClient.deleteQueue(this.queueUrl);
+      log.info("Stopped listening for ASG events");
+      this.queueUrl = null;
+      this.subscriptions.clear();
+      this.lastLaunchTimes.clear();
+    }
+  }
+
+  /**
+   * Subscribes to events of the ASG. Events which arrive before subscribing are not received
+   *
+   * @param asgName name of the ASG
+   */
+  public Subscription subscribe(String asgName) {
+    Subscription subscription = new Subscription(asgName);
+    this.subscriptions
+        .computeIfAbsent(asgName, name -> ConcurrentHashMap.newKeySet())
+        .add(subscription);
+    return subscription;
+  }
+
+  /**
+   * Blocks until next check of ASG state is due. Without events this is a fixed delay. With events
+   * the wait ends as soon as an event of the ASG arrives, and checks are made more frequently for
+   * a healthcheck grace period after an instance launches
+   */
+  @SneakyThrows
+  void waitForNextCheck(Subscription subscription) {
+    if (Objects.isNull(this.queueUrl)) {
+      Thread.sleep(Constants.DELAY_FOR_MAKING_NEXT_REQUEST.toMillis());
+      return;
+    }
+    String asgName = subscription.getAsgName();
+    Instant lastLaunchTime = this.lastLaunchTimes.get(asgName);
+    Duration delay =
+        Objects.nonNull(lastLaunchTime)
+                && Instant.now()
+                    .isBefore(
+                        lastLaunchTime.plusSeconds(
+                            this.deployConfig
+                                .getAutoScalingGroupConfig()
+                                .getHealthcheckGracePeriod()))
+            ? Constants.DELAY_FOR_CONFIRMING_ASG_EVENT
+            : Constants.DELAY_FOR_MAKING_NEXT_REQUEST;
+    AsgEvent event = subscription.getEvents().poll(delay.toMillis(), TimeUnit.MILLISECONDS);
+    if (Objects.isNull(event)) {
+      return;
+    }
+    log.debug("Received event:[{}] for ASG:[{}]", event.getEvent(), asgName);
+    if (event.isLaunchError()) {
+      if (ScalingActivityService.isFatalError(event.getStatusMessage())) {
+        throw new GenericApplicationException(
+            ApplicationError.ASG_LAUNCH_FAILED,
+            asgName,
+            event.getActivityId(),
+            event.getStatusMessage());
+      }
+      log.warn(
+          "Instance launch failed in ASG:[{}]. Reason:[{}]", asgName, event.getStatusMessage());
+    }
+  }
+
+  @SneakyThrows
+  void listen() {
+    while (this.listening) {
+      try {
+        List<Message> messages =
+            this.sqsClient.receiveMessages(
+                this.queueUrl, Constants.ASG_EVENT_RECEIVE_WAIT_SECONDS);
+        messages.forEach(this::dispatch);
+        this.sqsClient.deleteMessages(this.queueUrl, messages);
+      } catch (Exception exception) {
+        if (!this.listening) {
+          return;
+        }
+        log.warn("Error while receiving ASG events", exception);
+        Thread.sleep(Constants.DELAY_FOR_MAKING_NEXT_REQUEST.toMillis());
+      }
+    }
+  }
+
+  void dispatch(Message message) {
+    try {
+      AsgEvent event = Application.getObjectMapper().readValue(message.body(), AsgEvent.class);
+      String asgName = event.getAutoScalingGroupName();
+      if (Objects.isNull(asgName)) {
+        return;
+      }
+      if (event.isLaunch()) {
+        this.lastLaunchTimes.put(asgName, Instant.now());
+      }
+      this.subscriptions
+          .getOrDefault(asgName, Set.of())
+          .forEach(subscription -> subscription.getEvents().add(event));
+    } catch (Exception exception) {
+      log.debug("Ignoring message:[{}] which is not an ASG event", message.body(), exception);
+    }
+  }
+
+  /** Events of an ASG received by a single wait. Closing the subscription stops delivery */
+  @Getter
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  public class Subscription implements AutoCloseable {
+    final String asgName;
+    final BlockingQueue<AsgEvent> events = new LinkedBlockingQueue<>();
+
+    public void waitForNextCheck() {
+      AsgEventService.this.waitForNextCheck(this);
+    }
+
+    @Override
+    public void close() {
+      AsgEventService.this.subscriptions.getOrDefault(this.asgName, Set.of()).remove(this);
+    }
+  }
+}
@@ -2,27 +2,39 @@ package com.dream11.application.service;
 
 import com.dream11.application.Application;
 import com.dream11.application.aws.AutoscalingGroupClient;
+import com.dream11.application.aws.EC2Client;
 import com.dream11.application.config.metadata.aws.AwsAccountData;
 import com.dream11.application.config.metadata.aws.EC2Data;
 import com.dream11.application.config.metadata.aws.NetworkData;
 import com.dream11.application.config.user.AutoScalingGroupConfig;
 import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.RollingStrategyConfig;
+import com.dream11.application.config.user.ScalingConfig;
 import com.dream11.application.constant.Constants;
-import com.dream11.application.constant.DeploymentStrategy;
+import com.dream11.application.error.ApplicationError;
+import com.dream11.application.exception.GenericApplicationException;
 import com.dream11.application.state.AutoscalingGroupState;
 import com.dream11.application.state.State;
 import com.dream11.application.util.ApplicationUtil;
 import com.google.inject.Inject;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.autoscaling.model.Activity;
 import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
+import software.amazon.awssdk.services.autoscaling.model.Instance;
+import software.amazon.awssdk.services.autoscaling.model.InstanceRefresh;
+import software.amazon.awssdk.services.autoscaling.model.LaunchTemplateOverrides;
 import software.amazon.awssdk.services.autoscaling.model.LifecycleState;
 
 @Slf4j
@@ -32,11 +44,14 @@ public class AutoscalingGroupService {
   @NonNull final DeployConfig deployConfig;
 
   @NonNull final AutoscalingGroupClient autoscalingGroupClient;
+  @NonNull final EC2Client ec2Client;
 
   @NonNull final EC2Data ec2Data;
   @NonNull final NetworkData networkData;
 
   @NonNull final AwsAccountData awsAccountData;
+  @NonNull final ScalingPolicyService scalingPolicyService;
+  @NonNull final CapacityUnitService capacityUnitService;
   Map<String, String> tags;
 
   @Inject
@@ -65,6 +80,7 @@ public class AutoscalingGroupService {
             launchTemplateIdArchitectureMap,
             this.networkData.getEc2Subnets().getPrivateSubnets(),
             autoScalingGroupConfig,
+            this.capacityUnitService.getInstanceTypeWeights(),
             ApplicationUtil.merge(
                 List.of(
                     this.tags,
@@ -77,8 +93,11 @@ public class AutoscalingGroupService {
                         Constants.ARTIFACT_VERSION_TAG,
                         this.deployConfig.getArtifactConfig().getVersion(),
                         Constants.DEPLOYMENT_STRATEGY_TAG,
-                        DeploymentStrategy.BLUE_GREEN.name()))));
+                        this.deployConfig.getDeploymentStrategyConfig().getName().name()))));
     log.info("ASG:[{}] created successfully", name);
+    // Policies stay suspended until the deployment creating the ASG resumes them
+    this.scalingPolicyService.suspendScaling(List.of(name));
+    this.scalingPolicyService.syncScalingPolicies(name, targetGroupArns);
     Application.getState()
         .addAsgState(autoScalingGroup, launchTemplateIdArchitectureMap.keySet().stream().toList());
     return autoScalingGroup;
@@ -131,21 +150,68 @@ public class AutoscalingGroupService {
     State state = Application.getState();
     log.debug("Deleting ASG:[{}]", name);
     this.autoscalingGroupClient.delete(name);
+    this.scalingPolicyService.deleteAlarms(name);
     log.info("Deleted ASG:[{}]", name);
     state.removeAsgState(name);
   }
 
   public void scale(String name, Integer desiredCapacity) {
-    this.autoscalingGroupClient.setDesiredCapacity(name, desiredCapacity);
+    this.autoscalingGroupClient.setDesiredCapacity(
+        name, desiredCapacity, this.getMinSize(desiredCapacity));
     log.info("Scaled ASG:[{}] to {} instances", name, desiredCapacity);
   }
 
   public void scale(String name, Integer desiredCapacity, Integer maxSize) {
-    this.autoscalingGroupClient.setDesiredCapacity(name, desiredCapacity, maxSize);
+    this.autoscalingGroupClient.setDesiredCapacity(
+        name, desiredCapacity, this.getMinSize(desiredCapacity), maxSize);
     log.info(
         "Scaled ASG:[{}] to [{}] instances and max size: [{}]", name, desiredCapacity, maxSize);
   }
 
+  /** Scales passive ASG to zero along with removing its scaling, which would scale it back up */
+  public void scaleToZero(String name) {
+    this.scalingPolicyService.removeScalingPolicies(name);
+    this.scale(name, 0);
+  }
+
+  /** Restores scaling of ASG removed while it was passive, once it is upscaled to become active */
+  public void restoreScaling(String name) {
+    this.scalingPolicyService.syncScalingPolicies(
+        name, this.autoscalingGroupClient.describe(name).targetGroupARNs());
+    this.scalingPolicyService.resumeScaling(List.of(name));
+  }
+
+  /**
+   * Keeps ASG warm as standby till the given time, after which it is downscaled to zero by a
+   * scheduled action
+   */
+  public void scaleToStandby(String name, Integer desiredCapacity, Instant expiresAt) {
+    this.scalingPolicyService.removeScalingPolicies(name);
+    this.autoscalingGroupClient.setDesiredCapacity(
+        name, desiredCapacity, this.getMinSize(desiredCapacity));
+    this.autoscalingGroupClient.scheduleDownscale(
+        name, Constants.STANDBY_EXPIRY_SCHEDULED_ACTION, expiresAt);
+    Application.getState()
+        .getAsgByName(name)
+        .ifPresent(asgState -> asgState.setStandbyExpiresAt(expiresAt.getEpochSecond()));
+    log.info(
+        "Scaled ASG:[{}] to {} standby instances till {}", name, desiredCapacity, expiresAt);
+  }
+
+  public boolean isProcessSuspended(String name, String process) {
+    return this.autoscalingGroupClient.describe(name).suspendedProcesses().stream()
+        .anyMatch(suspendedProcess -> suspendedProcess.processName().equals(process));
+  }
+
+  /** Cancels pending standby expiry of ASG so that it is not downscaled once it is active */
+  public void cancelStandbyExpiry(String name) {
+    this.autoscalingGroupClient.deleteScheduledAction(
+        name, Constants.STANDBY_EXPIRY_SCHEDULED_ACTION);
+    Application.getState()
+        .getAsgByName(name)
+        .ifPresent(asgState -> asgState.setStandbyExpiresAt(null));
+  }
+
   public long getInServiceInstances(String name) {
     long healthyInstances =
         this.autoscalingGroupClient.describe(name).instances().stream()
@@ -155,10 +221,94 @@ public class AutoscalingGroupService {
     return healthyInstances;
   }
 
+  /**
+   * @return capacity of in service instances of ASG, in the configured capacity unit
+   */
+  public long getInServiceCapacity(String name) {
+    return this.autoscalingGroupClient.describe(name).instances().stream()
+        .filter(instance -> instance.lifecycleState().equals(LifecycleState.IN_SERVICE))
+        .mapToLong(AutoscalingGroupService::getWeight)
+        .sum();
+  }
+
+  /**
+   * @return map of instance id to its weighted capacity in the ASG
+   */
+  public Map<String, Integer> getInstanceWeights(String name) {
+    return this.autoscalingGroupClient.describe(name).instances().stream()
+        .collect(Collectors.toMap(Instance::instanceId, AutoscalingGroupService::getWeight));
+  }
+
+  /**
+   * Desired capacity is the floor of the ASG, unless scaling policies are configured which may
+   * scale in down to their min instances
+   */
+  private int getMinSize(Integer desiredCapacity) {
+    ScalingConfig scalingConfig = this.deployConfig.getAutoScalingGroupConfig().getScaling();
+    return scalingConfig.isEmpty()
+        ? desiredCapacity
+        : Math.min(scalingConfig.getMinInstances(), desiredCapacity);
+  }
+
+  /**
+   * @return map of instance id to launch time of the instance
+   */
+  public Map<String, Instant> getLaunchTimes(List<String> instanceIds) {
+    Map<String, Instant> launchTimes = new HashMap<>();
+    for (int i = 0; i < instanceIds.size(); i += Constants.DESCRIBE_INSTANCES_BATCH_SIZE) {
+      this.ec2Client
+          .describeInstances(
+              instanceIds.subList(
+                  i, Math.min(i + Constants.DESCRIBE_INSTANCES_BATCH_SIZE, instanceIds.size())))
+          .forEach(instance -> launchTimes.put(instance.instanceId(), instance.launchTime()));
+    }
+    return launchTimes;
+  }
+
+  private static int getWeight(Instance instance) {
+    return Objects.isNull(instance.weightedCapacity())
+        ? 1
+        : Integer.parseInt(instance.weightedCapacity());
+  }
+
+  /**
+   * @return map of instance id to whether the instance is in service in the ASG
+   */
+  public Map<String, Boolean> getInstanceHealth(String name) {
+    return this.autoscalingGroupClient.describe(name).instances().stream()
+        .collect(
+            Collectors.toMap(
+                Instance::instanceId,
+                instance -> instance.lifecycleState().equals(LifecycleState.IN_SERVICE)));
+  }
+
+  /**
+   * @return ids of instances held in Pending:Wait by the warm-up lifecycle hook
+   */
+  public Set<String> getWarmingInstanceIds(String name) {
+    return this.autoscalingGroupClient.describe(name).instances().stream()
+        .filter(instance -> instance.lifecycleState().equals(LifecycleState.PENDING_WAIT))
+        .map(Instance::instanceId)
+        .collect(Collectors.toSet());
+  }
+
+  public void terminateInstance(String name, String instanceId) {
+    this.autoscalingGroupClient.terminateInstance(instanceId);
+    log.info("Terminated instance:[{}] of ASG:[{}] for replacement", instanceId, name);
+  }
+
   public AutoScalingGroup describe(String name) {
     return this.autoscalingGroupClient.describe(name);
   }
 
+  public List<Activity> getScalingActivities(String name, Instant startTime) {
+    List<Activity> activities =
+        this.autoscalingGroupClient.describeScalingActivities(name, startTime);
+    log.debug(
+        "Found {} scaling activities in ASG:[{}] since {}", activities.size(), name, startTime);
+    return activities;
+  }
+
   public Set<String> getAsgsFromTgArns(List<String> tgArns) {
     Set<String> asgs = new HashSet<>();
     tgArns.forEach(
@@ -186,8 +336,104 @@ public class AutoscalingGroupService {
 
   public void updateAsg(List<String> asgs) {
     asgs.forEach(
-        asg ->
-            this.autoscalingGroupClient.updateAsg(
-                asg, this.deployConfig.getAutoScalingGroupConfig()));
+        asg -> {
+          this.verifyCapacityUnit(asg);
+          this.autoscalingGroupClient.updateAsg(
+              asg,
+              this.deployConfig.getAutoScalingGroupConfig(),
+              this.capacityUnitService.getInstanceTypeWeights());
+          this.scalingPolicyService.syncScalingPolicies(
+              asg, this.autoscalingGroupClient.describe(asg).targetGroupARNs());
+        });
+  }
+
+  public String startInstanceRefresh(
+      String name,
+      Map<String, String> launchTemplateIdArchitectureMap,
+      RollingStrategyConfig rollingStrategyConfig) {
+    this.verifyCapacityUnit(name);
+    if (Boolean.TRUE.equals(rollingStrategyConfig.getAutoRollback())) {
+      this.autoscalingGroupClient.pinLaunchTemplateVersions(name);
+    }
+    String instanceRefreshId =
+        this.autoscalingGroupClient.startInstanceRefresh(
+            name,
+            launchTemplateIdArchitectureMap,
+            this.deployConfig.getAutoScalingGroupConfig(),
+            rollingStrategyConfig,
+            this.capacityUnitService.getInstanceTypeWeights());
+    log.info("Started instance refresh:[{}] for ASG:[{}]", instanceRefreshId, name);
+    return instanceRefreshId;
+  }
+
+  /**
+   * Refuses to change capacity unit of an existing ASG in place, as its desired, min and max
+   * capacity counted in the old unit would be read in the new one
+   */
+  private void verifyCapacityUnit(String name) {
+    if (isCapacityUnitChanged(
+        this.autoscalingGroupClient.describe(name),
+        this.capacityUnitService.getInstanceTypeWeights())) {
+      throw new GenericApplicationException(
+          ApplicationError.CAPACITY_UNIT_CHANGED,
+          name,
+          this.deployConfig.getAutoScalingGroupConfig().getCapacityUnit());
+    }
+  }
+
+  /**
+   * @return true when weights of instance types in ASG differ from the given weights, which are
+   *     empty when capacity is counted in instances
+   */
+  static boolean isCapacityUnitChanged(
+      AutoScalingGroup asg, Map<String, Integer> instanceTypeWeights) {
+    if (Objects.isNull(asg.mixedInstancesPolicy())) {
+      return !instanceTypeWeights.isEmpty();
+    }
+    List<LaunchTemplateOverrides> overrides =
+        asg.mixedInstancesPolicy().launchTemplate().overrides();
+    boolean weighted =
+        overrides.stream().anyMatch(override -> Objects.nonNull(override.weightedCapacity()));
+    return weighted == instanceTypeWeights.isEmpty()
+        || overrides.stream()
+            .filter(override -> instanceTypeWeights.containsKey(override.instanceType()))
+            .anyMatch(
+                override ->
+                    !String.valueOf(instanceTypeWeights.get(override.instanceType()))
+                        .equals(override.weightedCapacity()));
+  }
+
+  public InstanceRefresh describeInstanceRefresh(String name, String instanceRefreshId) {
+    return this.autoscalingGroupClient.describeInstanceRefresh(name, instanceRefreshId);
+  }
+
+  public void stopInstanceRefresh(String name, Boolean rollback) {
+    if (Boolean.TRUE.equals(rollback)) {
+      log.info("Rolling back instance refresh of ASG:[{}]", name);
+      this.autoscalingGroupClient.rollbackInstanceRefresh(name);
+    } else {
+      log.info("Cancelling instance refresh of ASG:[{}]", name);
+      this.autoscalingGroupClient.cancelInstanceRefresh(name);
+    }
+  }
+
+  /**
+   * Replaces launch templates of ASG in state
+   *
+   * @param name name of the ASG
+   * @param launchTemplateIds ids of the new launch templates
+   * @return ids of the launch templates which were replaced
+   */
+  public List<String> replaceLaunchTemplates(String name, List<String> launchTemplateIds) {
+    AutoscalingGroupState autoscalingGroupState =
+        Application.getState()
+            .getAsgByName(name)
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        String.format("ASG:[%s] not found in state", name)));
+    List<String> oldLaunchTemplateIds = autoscalingGroupState.getLtIds();
+    autoscalingGroupState.setLtIds(launchTemplateIds);
+    return oldLaunchTemplateIds;
   }
 }
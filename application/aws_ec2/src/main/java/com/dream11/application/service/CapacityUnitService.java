@@ -0,0 +1,77 @@
+package com.dream11.application.service;
+
+import com.dream11.application.aws.EC2Client;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.CapacityUnit;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.error.ApplicationError;
+import com.dream11.application.exception.GenericApplicationException;
+import com.google.inject.Inject;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.ec2.model.InstanceTypeInfo;
+
+/**
+ * Weighs instance types by vCPUs or memory so that ASG capacity is counted in compute units
+ * instead of instances
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class CapacityUnitService {
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final EC2Client ec2Client;
+
+  Map<String, Integer> instanceTypeWeights;
+
+  public boolean isWeighted() {
+    return this.deployConfig.getAutoScalingGroupConfig().getCapacityUnit()
+        != CapacityUnit.INSTANCE;
+  }
+
+  /**
+   * @return map of instance type to its weighted capacity, empty when capacity is counted in
+   *     instances
+   */
+  public synchronized Map<String, Integer> getInstanceTypeWeights() {
+    if (!this.isWeighted()) {
+      return Map.of();
+    }
+    if (Objects.isNull(this.instanceTypeWeights)) {
+      CapacityUnit capacityUnit = this.deployConfig.getAutoScalingGroupConfig().getCapacityUnit();
+      this.instanceTypeWeights =
+          this.ec2Client
+              .describeInstanceTypes(
+                  this.deployConfig.getAutoScalingGroupConfig().getInstances().stream()
+                      .flatMap(instance -> instance.getTypes().stream())
+                      .distinct()
+                      .toList())
+              .stream()
+              .collect(
+                  Collectors.toUnmodifiableMap(
+                      InstanceTypeInfo::instanceTypeAsString,
+                      instanceTypeInfo -> getWeight(instanceTypeInfo, capacityUnit)));
+      log.info("Weighted capacity of instance types:{}", this.instanceTypeWeights);
+    }
+    return this.instanceTypeWeights;
+  }
+
+  static int getWeight(InstanceTypeInfo instanceTypeInfo, CapacityUnit capacityUnit) {
+    int weight =
+        capacityUnit == CapacityUnit.VCPU
+            ? instanceTypeInfo.vCpuInfo().defaultVCpus()
+            : (int) Math.max(1, instanceTypeInfo.memoryInfo().sizeInMiB() / 1024);
+    if (weight > Constants.MAX_WEIGHTED_CAPACITY) {
+      throw new GenericApplicationException(
+          ApplicationError.INVALID_WEIGHTED_CAPACITY,
+          instanceTypeInfo.instanceTypeAsString(),
+          weight,
+          Constants.MAX_WEIGHTED_CAPACITY);
+    }
+    return weight;
+  }
+}
@@ -8,8 +8,11 @@ import com.dream11.application.config.metadata.aws.DiscoveryData;
 import com.dream11.application.config.metadata.aws.EC2Data;
 import com.dream11.application.config.metadata.aws.NetworkData;
 import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.HealthCheckConfig;
+import com.dream11.application.config.user.LoadBalancerAttributesConfig;
 import com.dream11.application.config.user.LoadBalancerConfig;
 import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.LoadBalancerType;
 import com.dream11.application.entity.CloudWatchMetric;
 import com.dream11.application.error.ApplicationError;
 import com.dream11.application.exception.GenericApplicationException;
@@ -18,7 +21,9 @@ import com.dream11.application.state.State;
 import com.dream11.application.util.ApplicationUtil;
 import com.google.inject.Inject;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -27,6 +32,8 @@ import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.elasticloadbalancing.model.HealthCheck;
+import software.amazon.awssdk.services.elasticloadbalancing.model.InstanceState;
 import software.amazon.awssdk.services.elasticloadbalancing.model.LoadBalancerDescription;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.LoadBalancerSchemeEnum;
 
@@ -126,6 +133,43 @@ public class ClassicLoadBalancerService {
     }
   }
 
+  /**
+   * Applies configured attributes which differ from current attributes of load balancer, both for
+   * new and existing load balancers
+   */
+  public void reconcileLoadBalancerAttributes(String identifier) {
+    Map<String, String> attributes =
+        this.deployConfig
+            .getLoadBalancerConfig()
+            .getAttributes()
+            .toAttributes(LoadBalancerType.CLB);
+    String loadBalancerName = Application.getState().getLbArnOrName(identifier).getRight();
+    if (attributes.isEmpty() || Objects.isNull(loadBalancerName)) {
+      return;
+    }
+    Map<String, String> currentAttributes =
+        this.classicLoadBalancerClient.describeAttributes(loadBalancerName);
+    Map<String, String> changedAttributes =
+        ApplicationUtil.getChangedAttributes(attributes, currentAttributes);
+    if (changedAttributes.isEmpty()) {
+      return;
+    }
+    // Connection draining is set as a whole, so both of its attributes are sent if either changed
+    if (changedAttributes.containsKey(LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING)
+        || changedAttributes.containsKey(
+            LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING_TIMEOUT)) {
+      changedAttributes.put(
+          LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING,
+          attributes.get(LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING));
+      changedAttributes.put(
+          LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING_TIMEOUT,
+          attributes.get(LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING_TIMEOUT));
+    }
+    this.classicLoadBalancerClient.modifyAttributes(loadBalancerName, changedAttributes);
+    log.info(
+        "Load balancer attributes for identifier:[{}] updated:{}", identifier, changedAttributes);
+  }
+
   private void validateListenersConfig() {
     if (this.deployConfig.getLoadBalancerConfig().getListeners().stream()
             .map(LoadBalancerConfig.Listener::getHealthChecks)
@@ -151,6 +195,44 @@ public class ClassicLoadBalancerService {
             });
   }
 
+  /**
+   * Switches health check of load balancers of a deployment stack between fast registration and
+   * steady state. Load balancers which already have the health check are not modified
+   */
+  public void configureHealthChecks(
+      String stackId, Character deploymentStack, boolean fastRegistration) {
+    // All listeners of classic load balancer have same health check
+    LoadBalancerConfig.Listener listener =
+        this.deployConfig.getLoadBalancerConfig().getListeners().get(0);
+    HealthCheckConfig healthCheckConfig =
+        fastRegistration
+            ? listener.getHealthChecks().toFastRegistration()
+            : listener.getHealthChecks();
+    this.getLoadBalancerNamesForStack(stackId, deploymentStack)
+        .forEach(
+            loadBalancerName -> {
+              HealthCheck healthCheck =
+                  this.classicLoadBalancerClient.describe(loadBalancerName).healthCheck();
+              if (healthCheck.interval().equals(healthCheckConfig.getInterval())
+                  && healthCheck.timeout().equals(healthCheckConfig.getTimeout())
+                  && healthCheck.healthyThreshold().equals(healthCheckConfig.getHealthyThreshold())
+                  && healthCheck
+                      .unhealthyThreshold()
+                      .equals(healthCheckConfig.getUnhealthyThreshold())) {
+                return;
+              }
+              this.classicLoadBalancerClient.configureHealthcheck(
+                  loadBalancerName,
+                  listener.toBuilder().healthChecks(healthCheckConfig).build());
+              log.info(
+                  "Health check of load balancer:[{}] set to {} interval:[{}s] healthy threshold:[{}]",
+                  loadBalancerName,
+                  fastRegistration ? "fast registration" : "steady state",
+                  healthCheckConfig.getInterval(),
+                  healthCheckConfig.getHealthyThreshold());
+            });
+  }
+
   public long getHealthyInstances(String loadBalancerName) {
     long healthyInstances =
         this.classicLoadBalancerClient.describeInstanceHealth(loadBalancerName).stream()
@@ -164,6 +246,18 @@ public class ClassicLoadBalancerService {
     return healthyInstances;
   }
 
+  /**
+   * @return map of instance id to whether the instance is healthy in the load balancer
+   */
+  public Map<String, Boolean> getInstanceHealth(String loadBalancerName) {
+    return this.classicLoadBalancerClient.describeInstanceHealth(loadBalancerName).stream()
+        .collect(
+            Collectors.toMap(
+                InstanceState::instanceId,
+                instanceState ->
+                    instanceState.state().equals(Constants.CLB_HEALTHY_INSTANCE_STATE)));
+  }
+
   public long getAllInstances(String loadBalancerName) {
     long instances = this.classicLoadBalancerClient.describeInstanceHealth(loadBalancerName).size();
     log.debug("Number of instances in load balancer:[{}] is {}", loadBalancerName, instances);
@@ -200,6 +294,37 @@ public class ClassicLoadBalancerService {
     return errorCount;
   }
 
+  /**
+   * @return latency percentiles in milliseconds since start time. Percentiles without any request
+   *     are absent
+   */
+  public Map<String, Double> getLatency(String loadBalancerName, Instant startTime) {
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    Constants.LATENCY_PERCENTILES.forEach(
+        percentile ->
+            metrics.put(
+                percentile,
+                CloudWatchMetric.builder()
+                    .namespace("AWS/ELB")
+                    .metricName("Latency")
+                    .statistic(percentile)
+                    .resourceName("LoadBalancerName")
+                    .resourceValue(loadBalancerName)
+                    .build()));
+    Instant start = startTime.truncatedTo(ChronoUnit.MINUTES);
+    Instant end = Instant.now();
+    Map<String, Double> latency = new HashMap<>();
+    this.cloudwatchClient
+        .getMetrics(start, end, ApplicationUtil.getPeriodSpanning(start, end), metrics)
+        .forEach(
+            (percentile, values) ->
+                values
+                    .values()
+                    .forEach(value -> latency.merge(percentile, value * 1000, Math::max)));
+    log.debug("Latency:{} for load balancer:[{}]", latency, loadBalancerName);
+    return latency;
+  }
+
   public List<String> getLoadBalancerNamesForStack(String stackId, Character deploymentStack) {
     Optional<LoadBalancerState> internal =
         Application.getState()
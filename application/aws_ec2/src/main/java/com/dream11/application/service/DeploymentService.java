@@ -3,21 +3,29 @@ package com.dream11.application.service;
 import com.dream11.application.Application;
 import com.dream11.application.config.metadata.ComponentMetadata;
 import com.dream11.application.config.metadata.aws.AwsAccountData;
+import com.dream11.application.config.user.AutoScalingGroupConfig;
 import com.dream11.application.config.user.BlueGreenStrategyConfig;
 import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.LcuConfig;
 import com.dream11.application.config.user.LoadBalancerConfig;
+import com.dream11.application.config.user.PassiveDownscaleConfig;
 import com.dream11.application.config.user.RevertConfig;
+import com.dream11.application.config.user.RollingStrategyConfig;
 import com.dream11.application.constant.Constants;
 import com.dream11.application.constant.DeploymentStrategy;
 import com.dream11.application.constant.DiscoveryType;
 import com.dream11.application.constant.LoadBalancerType;
 import com.dream11.application.constant.Mode;
+import com.dream11.application.entity.InstanceHealthTracker;
+import com.dream11.application.entity.ProvisionedCapacityResponse;
 import com.dream11.application.error.ApplicationError;
 import com.dream11.application.exception.GenericApplicationException;
 import com.dream11.application.state.AutoscalingGroupState;
+import com.dream11.application.state.LoadTestState;
 import com.dream11.application.util.ApplicationUtil;
 import com.google.inject.Inject;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,6 +35,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +46,8 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
+import software.amazon.awssdk.services.autoscaling.model.InstanceRefresh;
+import software.amazon.awssdk.services.autoscaling.model.InstanceRefreshStatus;
 
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
@@ -50,17 +61,37 @@ public class DeploymentService {
   @NonNull final ComponentMetadata componentMetadata;
   @NonNull final RoutingService routingService;
   @NonNull final AwsAccountData awsAccountData;
+  @NonNull final ScaleOutService scaleOutService;
+  @NonNull final AsgEventService asgEventService;
+  @NonNull final ScalingActivityService scalingActivityService;
+  @NonNull final StragglerService stragglerService;
+  @NonNull final TelemetryService telemetryService;
+  @NonNull final ScalingPolicyService scalingPolicyService;
+  @NonNull final CapacityUnitService capacityUnitService;
+  @NonNull final DrainService drainService;
+  @NonNull final LoadTestService loadTestService;
 
   public void deploy() {
-    if (this.deployConfig.getDeploymentStrategyConfig().getName()
-        == DeploymentStrategy.BLUE_GREEN) {
-
-      this.performBlueGreenDeployment(
-          (BlueGreenStrategyConfig) this.deployConfig.getDeploymentStrategyConfig().getConfig());
-    } else {
-      throw new GenericApplicationException(
-          ApplicationError.INVALID_DEPLOYMENT_STRATEGY,
-          this.deployConfig.getDeploymentStrategyConfig().getName());
+    // Subscribe to ASG events before creating ASGs so that no launch event is missed
+    this.asgEventService.start();
+    try {
+      this.releaseExpiredStandby();
+      if (this.deployConfig.getDeploymentStrategyConfig().getName()
+          == DeploymentStrategy.BLUE_GREEN) {
+
+        this.performBlueGreenDeployment(
+            (BlueGreenStrategyConfig) this.deployConfig.getDeploymentStrategyConfig().getConfig());
+      } else if (this.deployConfig.getDeploymentStrategyConfig().getName()
+          == DeploymentStrategy.ROLLING) {
+        this.performRollingDeployment(
+            (RollingStrategyConfig) this.deployConfig.getDeploymentStrategyConfig().getConfig());
+      } else {
+        throw new GenericApplicationException(
+            ApplicationError.INVALID_DEPLOYMENT_STRATEGY,
+            this.deployConfig.getDeploymentStrategyConfig().getName());
+      }
+    } finally {
+      this.asgEventService.stop();
     }
   }
 
@@ -73,11 +104,16 @@ public class DeploymentService {
     } else {
       this.performBlueGreenDeploymentDiscoverable(uniqueId, blueGreenStrategyConfig);
     }
+    this.telemetryService.report();
 
     // Passive downscale
     if (blueGreenStrategyConfig.getPassiveDownscale().getEnabled().equals(Boolean.TRUE)) {
       if (Objects.isNull(Application.getState().getDeployConfig())) {
         log.info("Skipping wait as deployment has not been successful yet");
+      } else if (this.isDrainDetectionEnabled(blueGreenStrategyConfig.getPassiveDownscale())) {
+        this.drainService.waitForDrain(
+            this.routingService.getPassiveStackMap(),
+            blueGreenStrategyConfig.getPassiveDownscale().getDrain());
       } else {
         log.info(
             "Waiting for:[{}] seconds before downscaling passive deployment stack and deleting orphan deployments",
@@ -86,89 +122,501 @@ public class DeploymentService {
             TimeUnit.SECONDS.toMillis(blueGreenStrategyConfig.getPassiveDownscale().getDelay()));
       }
       log.info("Downscaling passive deployment stack and deleting orphan ASGs");
-      this.passiveDownscale();
+      this.passiveDownscale(blueGreenStrategyConfig.getPassiveDownscale().getStandby());
     } else {
       log.info("Skipping passive downscale");
     }
   }
 
-  private void performBlueGreenDeploymentNonDiscoverable(String uniqueId) {
-    // Create ASG. For non-discoverable components there can be only 1 stack
-    AutoScalingGroup asg =
-        this.createLtAndAsg(
-            this.getAsgName(uniqueId, "1"), Map.of(), List.of(), List.of(), Map.of());
-    // Wait for initial capacity of instances to come healthy for all ASGs
-    List<Callable<Boolean>> initialWaitTasks =
-        this.createAllAsgWaitTasks(
-            List.of(asg),
-            this.deployConfig.getAutoScalingGroupConfig().getInitialCapacity(),
-            Constants.WAIT_FOR_INITIAL_HEALHTY_INSTANCES_DURATION);
-    ApplicationUtil.runOnExecutorService(initialWaitTasks);
-    // Scale ASG
-    int instancesPerAsg = this.scaleAsg(List.of(asg));
-    // Wait for total capacity to come healthy
-    List<Callable<Boolean>> tasks =
-        this.createAllAsgWaitTasks(
-            List.of(asg), instancesPerAsg, Constants.WAIT_FOR_TOTAL_HEALHTY_INSTANCES_DURATION);
+  /**
+   * Replaces instances of the active ASGs in place using instance refresh. First deployment of an
+   * application has no active ASG to refresh, so it is performed as a blue-green deployment
+   *
+   * @param rollingStrategyConfig rolling strategy configuration
+   */
+  public void performRollingDeployment(RollingStrategyConfig rollingStrategyConfig) {
+    if (Objects.isNull(Application.getState().getDeployConfig())) {
+      log.info("No successful deployment found. Performing blue-green deployment");
+      BlueGreenStrategyConfig blueGreenStrategyConfig = new BlueGreenStrategyConfig();
+      blueGreenStrategyConfig.getCanaryConfig().setEnabled(Boolean.FALSE);
+      this.performBlueGreenDeployment(blueGreenStrategyConfig);
+      return;
+    }
+    String uniqueId = ApplicationUtil.generateRandomId(Constants.ASG_RANDOM_ID_LENGTH);
+    log.info("Unique id for creating launch templates:[{}]", uniqueId);
+    List<Callable<Boolean>> tasks = new ArrayList<>();
+    if (this.deployConfig.getDiscoveryConfig().getType() == DiscoveryType.NONE) {
+      String asgName = this.getActiveAsgs().get(0);
+      tasks.add(
+          () ->
+              this.performInstanceRefresh(
+                  asgName,
+                  this.getAsgName(uniqueId, "1"),
+                  Map.of(),
+                  rollingStrategyConfig,
+                  getInstanceRefreshTimeout(rollingStrategyConfig)));
+    } else {
+      this.routingService
+          .getActiveStackMap()
+          .forEach(
+              (stackId, deploymentStack) -> {
+                Pair<List<String>, List<String>> asgAttachments =
+                    this.getAsgAttachments(stackId, deploymentStack);
+                Map<String, String> envVars =
+                    this.getEnvVarsForDiscoverable(
+                        asgAttachments.getLeft(), asgAttachments.getRight(), deploymentStack);
+                this.getAsgsForStack(stackId, deploymentStack)
+                    .forEach(
+                        asgName ->
+                            tasks.add(
+                                () ->
+                                    this.performInstanceRefresh(
+                                        asgName,
+                                        this.getAsgName(uniqueId, stackId),
+                                        envVars,
+                                        rollingStrategyConfig,
+                                        getInstanceRefreshTimeout(rollingStrategyConfig))));
+              });
+    }
     ApplicationUtil.runOnExecutorService(tasks);
   }
 
+  /**
+   * Refreshes instances of ASG with new launch templates. If the refresh does not succeed, the
+   * artifact version tag of the ASG is restored and the new launch templates are deleted
+   *
+   * @param timeout time to wait for the refresh to reach a terminal state, after which it is
+   *     rolled back (or cancelled if auto rollback is disabled)
+   */
+  boolean performInstanceRefresh(
+      String asgName,
+      String launchTemplateName,
+      Map<String, String> envVars,
+      RollingStrategyConfig rollingStrategyConfig,
+      Duration timeout) {
+    Map<String, String> launchTemplateIdArchitectureMap =
+        this.launchTemplateService.createLaunchTemplates(launchTemplateName, envVars).entrySet()
+            .stream()
+            .collect(
+                Collectors.toMap(entry -> entry.getKey().launchTemplateId(), Map.Entry::getValue));
+    List<String> launchTemplateIds = launchTemplateIdArchitectureMap.keySet().stream().toList();
+    String instanceRefreshId;
+    try {
+      this.autoscalingGroupService.updateTags(
+          asgName,
+          Map.of(
+              Constants.ARTIFACT_VERSION_TAG,
+              this.deployConfig.getArtifactConfig().getVersion(),
+              Constants.DEPLOYMENT_STRATEGY_TAG,
+              DeploymentStrategy.ROLLING.name()));
+      instanceRefreshId =
+          this.autoscalingGroupService.startInstanceRefresh(
+              asgName, launchTemplateIdArchitectureMap, rollingStrategyConfig);
+    } catch (Exception e) {
+      this.revertInstanceRefresh(asgName, launchTemplateIds);
+      throw e;
+    }
+    Optional<InstanceRefresh> instanceRefresh =
+        this.waitForInstanceRefresh(asgName, instanceRefreshId, timeout);
+    if (instanceRefresh.isEmpty()) {
+      this.autoscalingGroupService.stopInstanceRefresh(
+          asgName, rollingStrategyConfig.getAutoRollback());
+      this.revertInstanceRefresh(asgName, launchTemplateIds);
+      throw new GenericApplicationException(
+          ApplicationError.INSTANCE_REFRESH_TIMEOUT,
+          timeout.toMinutes(),
+          instanceRefreshId,
+          asgName);
+    }
+    if (instanceRefresh.get().status() != InstanceRefreshStatus.SUCCESSFUL) {
+      this.revertInstanceRefresh(asgName, launchTemplateIds);
+      throw new GenericApplicationException(
+          ApplicationError.INSTANCE_REFRESH_FAILED,
+          instanceRefreshId,
+          asgName,
+          instanceRefresh.get().statusAsString(),
+          instanceRefresh.get().statusReason());
+    }
+    log.info("Instance refresh of ASG:[{}] completed successfully", asgName);
+    this.launchTemplateService.deleteLaunchTemplates(
+        this.autoscalingGroupService.replaceLaunchTemplates(asgName, launchTemplateIds));
+    return true;
+  }
+
+  /**
+   * @return time to wait for instance refresh, which includes delay at each checkpoint
+   */
+  static Duration getInstanceRefreshTimeout(RollingStrategyConfig rollingStrategyConfig) {
+    return Constants.WAIT_FOR_INSTANCE_REFRESH_DURATION.plusSeconds(
+        (long) rollingStrategyConfig.getCheckpointDelay()
+            * rollingStrategyConfig.getCheckpointPercentages().size());
+  }
+
+  private void revertInstanceRefresh(String asgName, List<String> launchTemplateIds) {
+    this.autoscalingGroupService.updateTags(
+        asgName,
+        Map.of(
+            Constants.ARTIFACT_VERSION_TAG,
+            Application.getState().getDeployConfig().getArtifactConfig().getVersion()));
+    this.launchTemplateService.deleteLaunchTemplates(launchTemplateIds);
+  }
+
+  /**
+   * Waits for instance refresh to reach a terminal state
+   *
+   * @return instance refresh in terminal state, empty if timeout is exceeded
+   */
+  @SneakyThrows
+  private Optional<InstanceRefresh> waitForInstanceRefresh(
+      String asgName, String instanceRefreshId, Duration timeout) {
+    long deadline = System.currentTimeMillis() + timeout.toMillis();
+    while (true) {
+      InstanceRefresh instanceRefresh =
+          this.autoscalingGroupService.describeInstanceRefresh(asgName, instanceRefreshId);
+      if (Constants.INSTANCE_REFRESH_TERMINAL_STATUSES.contains(
+          instanceRefresh.statusAsString())) {
+        return Optional.of(instanceRefresh);
+      }
+      if (System.currentTimeMillis() >= deadline) {
+        return Optional.empty();
+      }
+      log.info(
+          "Instance refresh:[{}] of ASG:[{}] is {}. Percentage complete:[{}], instances to update:[{}]",
+          instanceRefreshId,
+          asgName,
+          instanceRefresh.statusAsString(),
+          instanceRefresh.percentageComplete(),
+          instanceRefresh.instancesToUpdate());
+      Thread.sleep(Constants.DELAY_FOR_MAKING_NEXT_REQUEST.toMillis());
+    }
+  }
+
+  private void performBlueGreenDeploymentNonDiscoverable(String uniqueId) {
+    // Scaling policies of existing ASGs should not change capacity while new ASG comes up. New ASG
+    // is created with its scaling suspended
+    List<String> cutoverAsgs =
+        new ArrayList<>(
+            Application.getState().getAsg().stream().map(AutoscalingGroupState::getName).toList());
+    this.scalingPolicyService.suspendScaling(cutoverAsgs);
+    try {
+      // Create ASG. For non-discoverable components there can be only 1 stack
+      AutoScalingGroup asg =
+          this.createLtAndAsg(
+              this.getAsgName(uniqueId, "1"), Map.of(), List.of(), List.of(), Map.of());
+      cutoverAsgs.add(asg.autoScalingGroupName());
+      // Wait for initial capacity of instances to come healthy for all ASGs
+      List<Callable<Boolean>> initialWaitTasks =
+          this.createAllAsgWaitTasks(
+              List.of(asg),
+              this.deployConfig.getAutoScalingGroupConfig().getInitialCapacity(),
+              Constants.WAIT_FOR_INITIAL_HEALHTY_INSTANCES_DURATION);
+      ApplicationUtil.runOnExecutorService(initialWaitTasks);
+      // Scale ASG and wait for total capacity to come healthy
+      List<Callable<Boolean>> tasks = this.scaleAsgAndCreateWaitTasks(List.of(asg));
+      ApplicationUtil.runOnExecutorService(tasks);
+    } finally {
+      this.resumeScaling(cutoverAsgs);
+    }
+  }
+
   private void performBlueGreenDeploymentDiscoverable(
       String uniqueId, BlueGreenStrategyConfig blueGreenStrategyConfig) {
     // Get passive deployment stack for each stack
     Map<String, Character> passiveStackMap = this.routingService.getPassiveStackMap();
     log.info("Passive stacks map:[{}]", passiveStackMap);
-    // Create ASG for each stack
-    List<Callable<AutoScalingGroup>> asgCreateTasks = new ArrayList<>();
+
+    // Scaling policies of neither stack should change capacity while traffic is being shifted. New
+    // ASGs are created with their scaling suspended
+    List<String> cutoverAsgs = new ArrayList<>();
     passiveStackMap.forEach(
         (stackId, deploymentStack) ->
-            asgCreateTasks.add(
-                () -> this.createLtAndAsgForDiscoverable(uniqueId, stackId, deploymentStack)));
-    List<AutoScalingGroup> asgs = ApplicationUtil.runOnExecutorService(asgCreateTasks);
-
-    // Wait for initial capacity of instances to come healthy for all ASGs
-    List<Callable<Boolean>> initialWaitTasks =
-        this.createAllAsgWaitTasks(
-            asgs,
-            this.deployConfig.getAutoScalingGroupConfig().getInitialCapacity(),
-            Constants.WAIT_FOR_INITIAL_HEALHTY_INSTANCES_DURATION);
-    ApplicationUtil.runOnExecutorService(initialWaitTasks);
-
-    // Scale the ASG
-    int instancesPerAsg = this.scaleAsg(asgs);
-    // Scale LCU for each stack
-    Map<Character, Integer> lcus = this.getLcuToScale();
-    List<Pair<String, String>> lbsWithLcu =
-        passiveStackMap.entrySet().stream()
-            .flatMap(entry -> this.scaleLcus(entry.getKey(), entry.getValue(), lcus).stream())
-            .toList();
+            cutoverAsgs.addAll(
+                this.getAsgsForStack(
+                    stackId, ApplicationUtil.getSisterDeploymentStack(deploymentStack))));
+    this.scalingPolicyService.suspendScaling(cutoverAsgs);
+    boolean routed = false;
+    boolean healthChecksRestored = false;
+    try {
+      // Create ASG for each stack
+      List<Callable<AutoScalingGroup>> asgCreateTasks = new ArrayList<>();
+      passiveStackMap.forEach(
+          (stackId, deploymentStack) ->
+              asgCreateTasks.add(
+                  () -> this.createLtAndAsgForDiscoverable(uniqueId, stackId, deploymentStack)));
+      List<AutoScalingGroup> asgs = ApplicationUtil.runOnExecutorService(asgCreateTasks);
+      cutoverAsgs.addAll(asgs.stream().map(AutoScalingGroup::autoScalingGroupName).toList());
+
+      // Instances register with the new deployment stack after booting, by when health checks
+      // are fast
+      this.configureHealthChecks(passiveStackMap, true);
+      // Wait for initial capacity of instances to come healthy for all ASGs
+      List<Callable<Boolean>> initialWaitTasks =
+          this.createAllAsgWaitTasks(
+              asgs,
+              this.deployConfig.getAutoScalingGroupConfig().getInitialCapacity(),
+              Constants.WAIT_FOR_INITIAL_HEALHTY_INSTANCES_DURATION);
+      ApplicationUtil.runOnExecutorService(initialWaitTasks);
+
+      // Scale the ASG
+      List<Callable<Boolean>> tasks =
+          this.scaleAsgAndCreateWaitTasks(
+              asgs,
+              this.getDesiredCapacities(
+                  uniqueId, passiveStackMap, blueGreenStrategyConfig.getMatchActive()));
+      // Scale LCU for each stack before any traffic is shifted to it
+      List<Pair<String, String>> lbsWithLcu =
+          passiveStackMap.entrySet().stream()
+              .flatMap(
+                  entry ->
+                      this.scaleLcus(
+                          entry.getKey(),
+                          entry.getValue(),
+                          this.getLcuToScale(
+                              entry.getKey(),
+                              ApplicationUtil.getSisterDeploymentStack(entry.getValue())))
+                          .stream())
+              .toList();
 
-    // Wait for instances to come healthy and lcus to get provisioned
-    List<Callable<Boolean>> tasks =
-        this.createAllAsgWaitTasks(
-            asgs, instancesPerAsg, Constants.WAIT_FOR_TOTAL_HEALHTY_INSTANCES_DURATION);
-    tasks.addAll(this.createAllLcuWaitTasks(lbsWithLcu));
-    ApplicationUtil.runOnExecutorService(tasks);
+      // Wait for instances to come healthy and lcus to get provisioned
+      tasks.addAll(this.createAllLcuWaitTasks(lbsWithLcu));
+      ApplicationUtil.runOnExecutorService(tasks);
+      // Instances are healthy, steady state health checks apply before any traffic is shifted
+      this.configureHealthChecks(passiveStackMap, false);
+      healthChecksRestored = true;
+
+      // Catch regressions of new stack before it serves any traffic
+      List<LoadTestState> loadTestResults = List.of();
+      if (Boolean.TRUE.equals(blueGreenStrategyConfig.getLoadTest().getEnabled())) {
+        loadTestResults =
+            this.loadTestService.run(passiveStackMap, blueGreenStrategyConfig.getLoadTest());
+      }
 
-    // Route Traffic
-    if (blueGreenStrategyConfig.getAutoRouting().equals(Boolean.FALSE)) {
-      log.info("Skipping routing traffic as auto routing is false");
-    } else {
-      this.routingService.routeTraffic(blueGreenStrategyConfig, passiveStackMap);
+      // Route Traffic
+      if (blueGreenStrategyConfig.getAutoRouting().equals(Boolean.FALSE)) {
+        log.info("Skipping routing traffic as auto routing is false");
+      } else {
+        if (Boolean.TRUE.equals(blueGreenStrategyConfig.getMatchActive().getEnabled())) {
+          this.verifyCapacityMatchesActive(passiveStackMap);
+        }
+        this.routingService.routeTraffic(blueGreenStrategyConfig, passiveStackMap);
+        this.loadTestService.saveBaselines(loadTestResults);
+        routed = true;
+      }
+    } finally {
+      // Deployment failed before instances came healthy
+      if (!healthChecksRestored) {
+        this.configureHealthChecks(passiveStackMap, false);
+      }
+      this.resumeScaling(cutoverAsgs);
+    }
+    // Stacks scale on their own while waiting to release reservation
+    if (routed) {
+      this.releaseLcusAfterStable(passiveStackMap);
     }
   }
 
-  public int scaleAsg(List<AutoScalingGroup> asgs) {
-    return scaleAsgEqually(
-        asgs, this.deployConfig.getAutoScalingGroupConfig().getDesiredInstances());
+  /** Resumes scaling of ASGs without masking the outcome of the deployment */
+  public void resumeScaling(List<String> names) {
+    try {
+      this.scalingPolicyService.resumeScaling(names);
+    } catch (Exception e) {
+      log.error(
+          "Failed to resume scaling of ASGs:{}. Resume AlarmNotification and ScheduledActions processes manually",
+          names,
+          e);
+    }
   }
 
-  public int scaleAsgEqually(List<AutoScalingGroup> asgs, Integer totalDesiredCount) {
-    // Scale ASG
-    int instancesPerAsg = (int) Math.ceil((double) totalDesiredCount / asgs.size());
-    asgs.forEach(
-        asg -> this.autoscalingGroupService.scale(asg.autoScalingGroupName(), instancesPerAsg));
-    return instancesPerAsg;
+  /**
+   * Switches health checks of load balancers of deployment stacks between fast registration and
+   * steady state. No-op unless fast registration is enabled for a listener
+   */
+  private void configureHealthChecks(
+      Map<String, Character> deploymentStackMap, boolean fastRegistration) {
+    if (this.deployConfig.getLoadBalancerConfig().getListeners().stream()
+        .noneMatch(
+            listener ->
+                Boolean.TRUE.equals(
+                    listener.getHealthChecks().getFastRegistration().getEnabled()))) {
+      return;
+    }
+    deploymentStackMap.forEach(
+        (stackId, deploymentStack) -> {
+          if (this.deployConfig.getLoadBalancerConfig().getType() == LoadBalancerType.CLB) {
+            this.classicLoadBalancerService.configureHealthChecks(
+                stackId, deploymentStack, fastRegistration);
+          } else {
+            this.loadBalancerService.configureHealthChecks(
+                stackId, deploymentStack, fastRegistration);
+          }
+        });
+  }
+
+  /**
+   * @return map of ASG name to desired capacity. When matching active stack, each ASG is sized to
+   *     live capacity of the active stack plus headroom, but never below desired instances
+   */
+  private Map<String, Integer> getDesiredCapacities(
+      String uniqueId,
+      Map<String, Character> passiveStackMap,
+      BlueGreenStrategyConfig.MatchActiveConfig matchActive) {
+    AutoScalingGroupConfig autoScalingGroupConfig = this.deployConfig.getAutoScalingGroupConfig();
+    int instancesPerAsg =
+        (int)
+            Math.ceil(
+                (double) autoScalingGroupConfig.getDesiredInstances() / passiveStackMap.size());
+    Map<String, Integer> desiredCapacities = new HashMap<>();
+    passiveStackMap.forEach(
+        (stackId, deploymentStack) -> {
+          int desiredCapacity = instancesPerAsg;
+          if (Boolean.TRUE.equals(matchActive.getEnabled())) {
+            int activeCapacity = this.getActiveCapacity(stackId, deploymentStack);
+            int matchedCapacity =
+                (int)
+                    Math.ceil(activeCapacity * (100 + matchActive.getHeadroomPercentage()) / 100.0);
+            desiredCapacity =
+                Math.min(
+                    Math.max(instancesPerAsg, matchedCapacity),
+                    autoScalingGroupConfig.getMaxInstances());
+            log.info(
+                "Sizing ASG of stack:[{}] to {} instances to match {} instances of active stack with {}% headroom",
+                stackId,
+                desiredCapacity,
+                activeCapacity,
+                matchActive.getHeadroomPercentage());
+          }
+          desiredCapacities.put(this.getAsgName(uniqueId, stackId), desiredCapacity);
+        });
+    return desiredCapacities;
+  }
+
+  /**
+   * @return live capacity of the active sister of the given passive deployment stack. Larger of
+   *     desired and in service instances is taken for each ASG
+   */
+  private int getActiveCapacity(String stackId, Character passiveDeploymentStack) {
+    return this
+        .getAsgsForStack(stackId, ApplicationUtil.getSisterDeploymentStack(passiveDeploymentStack))
+        .stream()
+        .mapToInt(
+            name ->
+                (int)
+                    Math.max(
+                        this.autoscalingGroupService.describe(name).desiredCapacity(),
+                        this.autoscalingGroupService.getInServiceCapacity(name)))
+        .sum();
+  }
+
+  /**
+   * Fails if any passive stack has less in service capacity than its active sister. Passive stack
+   * is sized up to max instances only, hence active capacity above it is expected to be unmatched
+   */
+  private void verifyCapacityMatchesActive(Map<String, Character> passiveStackMap) {
+    int maxInstances = this.deployConfig.getAutoScalingGroupConfig().getMaxInstances();
+    passiveStackMap.forEach(
+        (stackId, deploymentStack) -> {
+          long activeCapacity =
+              this.getInServiceCapacity(
+                  stackId, ApplicationUtil.getSisterDeploymentStack(deploymentStack));
+          long passiveCapacity = this.getInServiceCapacity(stackId, deploymentStack);
+          long expectedCapacity = Math.min(activeCapacity, maxInstances);
+          if (expectedCapacity < activeCapacity) {
+            log.warn(
+                "Active stack:[{}] has {} instances which is above max instances of {}. Passive stack can only match {}",
+                stackId,
+                activeCapacity,
+                maxInstances,
+                expectedCapacity);
+          }
+          if (passiveCapacity < expectedCapacity) {
+            throw new GenericApplicationException(
+                ApplicationError.PASSIVE_STACK_UNDER_PROVISIONED,
+                stackId,
+                deploymentStack,
+                passiveCapacity,
+                expectedCapacity);
+          }
+        });
+  }
+
+  private long getInServiceCapacity(String stackId, Character deploymentStack) {
+    return this.getAsgsForStack(stackId, deploymentStack).stream()
+        .mapToLong(this.autoscalingGroupService::getInServiceCapacity)
+        .sum();
+  }
+
+  /**
+   * Scales ASGs to desired capacity and creates tasks waiting for total capacity to come healthy.
+   * When progressive scale out is enabled, scaling itself happens in steps inside the tasks
+   */
+  private List<Callable<Boolean>> scaleAsgAndCreateWaitTasks(List<AutoScalingGroup> asgs) {
+    int instancesPerAsg =
+        (int)
+            Math.ceil(
+                (double) this.deployConfig.getAutoScalingGroupConfig().getDesiredInstances()
+                    / asgs.size());
+    return this.scaleAsgAndCreateWaitTasks(
+        asgs,
+        asgs.stream()
+            .collect(
+                Collectors.toMap(AutoScalingGroup::autoScalingGroupName, asg -> instancesPerAsg)));
+  }
+
+  /**
+   * @param desiredCapacities map of ASG name to its desired capacity
+   */
+  private List<Callable<Boolean>> scaleAsgAndCreateWaitTasks(
+      List<AutoScalingGroup> asgs, Map<String, Integer> desiredCapacities) {
+    if (Boolean.FALSE.equals(
+        this.deployConfig.getAutoScalingGroupConfig().getScaleOut().getEnabled())) {
+      List<Callable<Boolean>> tasks = new ArrayList<>();
+      asgs.forEach(
+          asg -> {
+            int desiredCapacity = desiredCapacities.get(asg.autoScalingGroupName());
+            this.autoscalingGroupService.scale(asg.autoScalingGroupName(), desiredCapacity);
+            tasks.addAll(
+                this.createAsgWaitTasks(
+                    asg, desiredCapacity, Constants.WAIT_FOR_TOTAL_HEALHTY_INSTANCES_DURATION));
+          });
+      return tasks;
+    }
+    return asgs.stream()
+        .map(
+            asg ->
+                (Callable<Boolean>)
+                    () ->
+                        this.scaleOutProgressively(
+                            asg, desiredCapacities.get(asg.autoScalingGroupName())))
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  /**
+   * Scales ASG to desired capacity in steps. Each step waits, with its own timeout, for its
+   * instances to come healthy and the size of the next step is derived from launch success rate and
+   * time taken to become healthy
+   */
+  private boolean scaleOutProgressively(AutoScalingGroup asg, int desiredCapacity) {
+    String asgName = asg.autoScalingGroupName();
+    int capacity = asg.desiredCapacity();
+    int step = this.scaleOutService.getInitialStep(capacity);
+    log.info(
+        "Scaling out ASG:[{}] progressively from {} to {} instances",
+        asgName,
+        capacity,
+        desiredCapacity);
+    do {
+      int nextCapacity = Math.min(desiredCapacity, capacity + step);
+      Instant stepStartTime = Instant.now();
+      this.autoscalingGroupService.scale(asgName, nextCapacity);
+      ApplicationUtil.runOnExecutorService(
+          this.createAsgWaitTasks(
+              asg, nextCapacity, Constants.WAIT_FOR_TOTAL_HEALHTY_INSTANCES_DURATION));
+      if (nextCapacity < desiredCapacity) {
+        step = this.scaleOutService.getNextStep(asgName, step, stepStartTime);
+      }
+      capacity = nextCapacity;
+    } while (capacity != desiredCapacity);
+    return true;
   }
 
   public int scaleAsgEqually(List<String> asgs, Integer totalDesiredCount, Integer maxInstances) {
@@ -182,18 +630,73 @@ public class DeploymentService {
    * @return map containing lcus to scale for internal and external
    */
   private Map<Character, Integer> getLcuToScale() {
-    int internalLcu =
-        (int)
-            Math.ceil(
-                (double) this.deployConfig.getLoadBalancerConfig().getLcuConfig().getInternal()
-                    / this.deployConfig.getStacks());
-    int externalLcu =
-        (int)
-            Math.ceil(
-                (double) this.deployConfig.getLoadBalancerConfig().getLcuConfig().getExternal()
-                    / this.deployConfig.getStacks());
+    LcuConfig lcuConfig = this.deployConfig.getLoadBalancerConfig().getLcuConfig();
     return Map.of(
-        Constants.INTERNAL_IDENTIFIER, internalLcu, Constants.EXTERNAL_IDENTIFIER, externalLcu);
+        Constants.INTERNAL_IDENTIFIER,
+        this.getLcuPerStack(lcuConfig.getInternal()),
+        Constants.EXTERNAL_IDENTIFIER,
+        this.getLcuPerStack(lcuConfig.getExternal()));
+  }
+
+  /**
+   * Splits reservation equally across stacks. Each share is raised to the minimum reservation of
+   * load balancer type since AWS rejects smaller ones
+   */
+  private int getLcuPerStack(int lcu) {
+    if (lcu == 0) {
+      return 0;
+    }
+    return Math.max(
+        (int) Math.ceil((double) lcu / this.deployConfig.getStacks()),
+        this.deployConfig.getLoadBalancerConfig().getType().getMinimumLcu());
+  }
+
+  /**
+   * @param activeDeploymentStack deployment stack whose load balancers' history is used to predict
+   *     LCUs when predictive sizing is enabled
+   * @return map containing lcus to scale for internal and external load balancers of stack
+   */
+  private Map<Character, Integer> getLcuToScale(String stackId, Character activeDeploymentStack) {
+    Map<Character, Integer> lcus = new HashMap<>(this.getLcuToScale());
+    LcuConfig.PredictiveConfig predictive =
+        this.deployConfig.getLoadBalancerConfig().getLcuConfig().getPredictive();
+    if (!Boolean.TRUE.equals(predictive.getEnabled())) {
+      return lcus;
+    }
+    for (Character identifier :
+        List.of(Constants.INTERNAL_IDENTIFIER, Constants.EXTERNAL_IDENTIFIER)) {
+      String activeLbArn =
+          Application.getState()
+              .getLbArnOrName(String.format("%s%s%s", stackId, identifier, activeDeploymentStack))
+              .getLeft();
+      if (Objects.nonNull(activeLbArn)) {
+        lcus.merge(
+            identifier, this.loadBalancerService.predictLcu(activeLbArn, predictive), Math::max);
+      }
+    }
+    return lcus;
+  }
+
+  /**
+   * Releases LCU reservation of load balancers once they have served full traffic for the
+   * stabilization period, by when they have scaled up on their own
+   */
+  @SneakyThrows
+  private void releaseLcusAfterStable(Map<String, Character> deploymentStackMap) {
+    LcuConfig lcuConfig = this.deployConfig.getLoadBalancerConfig().getLcuConfig();
+    if (!Boolean.TRUE.equals(lcuConfig.getReleaseAfterStable())) {
+      return;
+    }
+    log.info(
+        "Waiting [{}s] for load balancers to stabilize before releasing LCU reservation",
+        lcuConfig.getStabilizationPeriod());
+    Thread.sleep(Duration.ofSeconds(lcuConfig.getStabilizationPeriod()).toMillis());
+    deploymentStackMap.forEach(
+        (stackId, deploymentStack) ->
+            this.scaleLcus(
+                stackId,
+                deploymentStack,
+                Map.of(Constants.INTERNAL_IDENTIFIER, 0, Constants.EXTERNAL_IDENTIFIER, 0)));
   }
 
   /**
@@ -361,15 +864,18 @@ public class DeploymentService {
             tasks.add(
                 () ->
                     this.waitForLcuProvisioning(
-                        () -> this.loadBalancerService.getLcu(lbArn).getStatus(),
-                        Constants.WAIT_FOR_LCU_PROVISIONING_DURATION,
-                        this.loadBalancerService.getLcu(lbArn).getLcu())));
+                        lbArn,
+                        () -> this.loadBalancerService.getLcu(lbArn),
+                        Constants.WAIT_FOR_LCU_PROVISIONING_DURATION)));
     return tasks;
   }
 
   @SneakyThrows
   public List<Callable<Boolean>> createAsgWaitTasks(
       AutoScalingGroup autoScalingGroup, Integer desiredHealthyCount, Duration timeout) {
+    // Instances are held in Pending:Wait while they warm up after boot
+    Duration healthyTimeout =
+        this.deployConfig.getAutoScalingGroupConfig().extendByWarmup(timeout);
     log.info(
         "Waiting for {} healthy instances in ASG:[{}]",
         desiredHealthyCount,
@@ -383,9 +889,9 @@ public class DeploymentService {
                   tasks.add(
                       () ->
                           this.waitForHealthyInstances(
-                              () -> this.loadBalancerService.getHealthyTargets(targetGroupARN),
+                              () -> this.loadBalancerService.getTargetHealth(targetGroupARN),
                               desiredHealthyCount,
-                              timeout,
+                              healthyTimeout,
                               autoScalingGroup.autoScalingGroupName())));
 
     } else if (!autoScalingGroup.loadBalancerNames().isEmpty()) {
@@ -397,43 +903,71 @@ public class DeploymentService {
                       () ->
                           this.waitForHealthyInstances(
                               () ->
-                                  this.classicLoadBalancerService.getHealthyInstances(
+                                  this.classicLoadBalancerService.getInstanceHealth(
                                       loadBalancerName),
                               desiredHealthyCount,
-                              timeout,
+                              healthyTimeout,
                               autoScalingGroup.autoScalingGroupName())));
     } else {
       tasks.add(
           () ->
               this.waitForHealthyInstances(
                   () ->
-                      this.autoscalingGroupService.getInServiceInstances(
+                      this.autoscalingGroupService.getInstanceHealth(
                           autoScalingGroup.autoScalingGroupName()),
                   desiredHealthyCount,
-                  timeout,
+                  healthyTimeout,
                   autoScalingGroup.autoScalingGroupName()));
     }
     return tasks;
   }
 
+  /**
+   * @param getInstanceHealthMapper returns map of instance id to whether the instance is healthy
+   * @param desiredHealthyCount healthy capacity to wait for, in the configured capacity unit
+   */
   @SneakyThrows
   public boolean waitForHealthyInstances(
-      Callable<Long> getHealthyInstanceCountMapper,
+      Callable<Map<String, Boolean>> getInstanceHealthMapper,
       Integer desiredHealthyCount,
       Duration timeout,
       String asgName) {
     long startTime = System.currentTimeMillis();
-    while (System.currentTimeMillis() <= startTime + timeout.toMillis()) {
-      long healthyTargets = getHealthyInstanceCountMapper.call();
-      if (healthyTargets >= desiredHealthyCount) {
-        return true;
+    InstanceHealthTracker tracker =
+        new InstanceHealthTracker(this.autoscalingGroupService::getLaunchTimes);
+    Map<String, Integer> instanceWeights = new HashMap<>();
+    try (AsgEventService.Subscription subscription = this.asgEventService.subscribe(asgName)) {
+      while (System.currentTimeMillis() <= startTime + timeout.toMillis()) {
+        tracker.update(getInstanceHealthMapper.call());
+        if (this.getHealthyCapacity(asgName, tracker, instanceWeights) >= desiredHealthyCount) {
+          this.telemetryService.recordHealthyTimes(asgName, tracker.getHealthyTimes());
+          return true;
+        }
+        // Abort without waiting for timeout if instances can never launch
+        this.scalingActivityService.checkLaunchFailures(asgName, Instant.ofEpochMilli(startTime));
+        this.stragglerService.replaceStragglers(asgName, tracker);
+        subscription.waitForNextCheck();
       }
-      Thread.sleep(Constants.DELAY_FOR_MAKING_NEXT_REQUEST.toMillis());
     }
     throw new GenericApplicationException(
         ApplicationError.UNHEALTHY_APPLICATION_TIMEOUT, timeout.toMinutes(), asgName);
   }
 
+  /**
+   * @param instanceWeights weights of instances cached for the wait, refreshed from the ASG only
+   *     when a healthy instance is missing from it
+   */
+  private long getHealthyCapacity(
+      String asgName, InstanceHealthTracker tracker, Map<String, Integer> instanceWeights) {
+    if (!this.capacityUnitService.isWeighted()) {
+      return tracker.getHealthyCount();
+    }
+    if (!instanceWeights.keySet().containsAll(tracker.getHealthyInstanceIds())) {
+      instanceWeights.putAll(this.autoscalingGroupService.getInstanceWeights(asgName));
+    }
+    return tracker.getHealthyCapacity(instanceWeights);
+  }
+
   @SneakyThrows
   public boolean waitForInstancesToDrain(Callable<Long> getInstanceCountMapper, Duration timeout) {
     long startTime = System.currentTimeMillis();
@@ -448,17 +982,35 @@ public class DeploymentService {
         ApplicationError.TARGET_DRAIN_TIMEOUT, timeout.toMinutes());
   }
 
+  /**
+   * Waits till capacity reservation of load balancer is provisioned in all zones
+   *
+   * @param getLcuMapper fetches current reservation of load balancer
+   */
   @SneakyThrows
   public boolean waitForLcuProvisioning(
-      Callable<String> getLcuStatusMapper, Duration timeout, Integer lcu) {
-    if (lcu == 0) {
-      return true;
-    }
+      String loadBalancerArn,
+      Callable<ProvisionedCapacityResponse.ProvisionedCapacity> getLcuMapper,
+      Duration timeout) {
     long startTime = System.currentTimeMillis();
+    String previousStatus = null;
     while (System.currentTimeMillis() <= startTime + timeout.toMillis()) {
-      if (getLcuStatusMapper.call().equals(Constants.LCU_PROVISIONED_STATUS)) {
+      ProvisionedCapacityResponse.ProvisionedCapacity capacity = getLcuMapper.call();
+      if (capacity.getLcu() == 0 || capacity.getStatus().equals(Constants.LCU_PROVISIONED_STATUS)) {
         return true;
       }
+      if (capacity.getStatus().equals(Constants.LCU_FAILED_STATUS)) {
+        throw new GenericApplicationException(
+            ApplicationError.LCU_PROVISIONING_FAILED, loadBalancerArn, capacity.getReason());
+      }
+      if (!capacity.getStatus().equals(previousStatus)) {
+        log.info(
+            "LCU reservation of [{}] for load balancer:[{}] is [{}]",
+            capacity.getLcu(),
+            loadBalancerArn,
+            capacity.getStatus());
+        previousStatus = capacity.getStatus();
+      }
       Thread.sleep(Constants.DELAY_FOR_MAKING_NEXT_REQUEST.toMillis());
     }
     throw new GenericApplicationException(
@@ -490,8 +1042,11 @@ public class DeploymentService {
    *
    * @param stackId stack id to downscale
    * @param deploymentStack deployment stack to downscale
+   * @param standby when enabled, ASGs are kept warm at a fraction of their capacity and LCUs are
+   *     retained instead of downscaling them to zero
    */
-  private void downscale(String stackId, Character deploymentStack) {
+  private void downscale(
+      String stackId, Character deploymentStack, PassiveDownscaleConfig.StandbyConfig standby) {
     Pair<List<String>, List<String>> asgAttachments =
         this.getAsgAttachments(stackId, deploymentStack);
     List<AutoscalingGroupState> asgsToDelete =
@@ -509,26 +1064,121 @@ public class DeploymentService {
           this.autoscalingGroupService.deleteAsg(asgState.getName());
           this.launchTemplateService.deleteLaunchTemplates(asgState.getLtIds());
         });
+    if (Boolean.TRUE.equals(standby.getEnabled()) && this.canExpireStandby(asgsToDownscale)) {
+      Instant expiresAt = Instant.now().plusSeconds(standby.getTtl());
+      asgsToDownscale.forEach(
+          name ->
+              this.autoscalingGroupService.scaleToStandby(
+                  name,
+                  this.getStandbyCapacity(name, standby.getCapacityPercentage()),
+                  expiresAt));
+      log.info("Retaining LCUs of deployment stack:[{}{}] on standby", stackId, deploymentStack);
+      return;
+    }
     // Downscale passive ASGs
-    asgsToDownscale.forEach(name -> this.autoscalingGroupService.scale(name, 0));
-    // Downscale LCUs
+    asgsToDownscale.forEach(this.autoscalingGroupService::scaleToZero);
+    // Downscale LCUs. Load balancers shared with the active deployment stack through target-group
+    // routing were reserved for cutover, after which active stack is stable
     this.scaleLcus(
         stackId,
         deploymentStack,
         Map.of(Constants.INTERNAL_IDENTIFIER, 0, Constants.EXTERNAL_IDENTIFIER, 0));
   }
 
+  /** Standby expires through a scheduled action, which never runs while it is suspended */
+  private boolean canExpireStandby(Set<String> asgNames) {
+    List<String> suspendedAsgs =
+        asgNames.stream()
+            .filter(
+                name ->
+                    this.autoscalingGroupService.isProcessSuspended(
+                        name, Constants.SCHEDULED_ACTIONS_PROCESS))
+            .toList();
+    if (suspendedAsgs.isEmpty()) {
+      return true;
+    }
+    log.warn(
+        "Standby cannot expire as scheduled actions are suspended for ASGs:{}. Downscaling to zero",
+        suspendedAsgs);
+    return false;
+  }
+
+  /**
+   * Releases LCUs retained for passive deployment stacks whose standby has expired. Standby ASGs
+   * are scaled to zero on expiry by a scheduled action, but their LCUs can only be released here
+   */
+  private void releaseExpiredStandby() {
+    if (this.deployConfig.getDiscoveryConfig().getType() == DiscoveryType.NONE
+        || Objects.isNull(Application.getState().getDeployConfig())) {
+      return;
+    }
+    long now = Instant.now().getEpochSecond();
+    this.routingService
+        .getPassiveStackMap()
+        .forEach(
+            (stackId, deploymentStack) -> {
+              List<AutoscalingGroupState> standbyAsgs =
+                  this.getAsgsForStack(stackId, deploymentStack).stream()
+                      .map(name -> Application.getState().getAsgByName(name))
+                      .flatMap(Optional::stream)
+                      .filter(asgState -> Objects.nonNull(asgState.getStandbyExpiresAt()))
+                      .toList();
+              if (standbyAsgs.isEmpty()
+                  || standbyAsgs.stream()
+                      .anyMatch(asgState -> asgState.getStandbyExpiresAt() > now)) {
+                return;
+              }
+              log.info(
+                  "Standby of deployment stack:[{}{}] has expired. Releasing its LCUs",
+                  stackId,
+                  deploymentStack);
+              this.scaleLcus(
+                  stackId,
+                  deploymentStack,
+                  Map.of(Constants.INTERNAL_IDENTIFIER, 0, Constants.EXTERNAL_IDENTIFIER, 0));
+              standbyAsgs.forEach(asgState -> asgState.setStandbyExpiresAt(null));
+            });
+  }
+
+  private int getStandbyCapacity(String asgName, Integer capacityPercentage) {
+    return (int)
+        Math.ceil(
+            this.autoscalingGroupService.describe(asgName).desiredCapacity()
+                * capacityPercentage
+                / 100.0);
+  }
+
   public void passiveDownscale() {
+    this.passiveDownscale(new PassiveDownscaleConfig.StandbyConfig());
+  }
+
+  private boolean isDrainDetectionEnabled(PassiveDownscaleConfig passiveDownscaleConfig) {
+    if (Boolean.FALSE.equals(passiveDownscaleConfig.getDrain().getEnabled())) {
+      return false;
+    }
     if (this.deployConfig.getDiscoveryConfig().getType() == DiscoveryType.NONE) {
+      log.warn("Drain detection is not supported without discovery, waiting for fixed delay");
+      return false;
+    }
+    return true;
+  }
+
+  public void passiveDownscale(PassiveDownscaleConfig.StandbyConfig standby) {
+    if (this.deployConfig.getDiscoveryConfig().getType() == DiscoveryType.NONE) {
+      if (Boolean.TRUE.equals(standby.getEnabled())) {
+        // Active and passive ASGs are told apart by capacity when there is no discovery
+        log.warn("Standby is not supported without discovery, downscaling passive ASG to zero");
+      }
       this.passiveDownscaleNonDiscoverable();
     } else {
-      this.passiveDownscaleDiscoverable();
+      this.passiveDownscaleDiscoverable(standby);
     }
   }
 
-  private void passiveDownscaleDiscoverable() {
+  private void passiveDownscaleDiscoverable(PassiveDownscaleConfig.StandbyConfig standby) {
     Map<String, Character> passiveStackMap = this.routingService.getPassiveStackMap();
-    passiveStackMap.forEach(this::downscale);
+    passiveStackMap.forEach(
+        (stackId, deploymentStack) -> this.downscale(stackId, deploymentStack, standby));
   }
 
   private void passiveDownscaleNonDiscoverable() {
@@ -558,7 +1208,8 @@ public class DeploymentService {
                 .toList());
     if (asgWithNonZeroCapacity.size() >= 2) {
       asgToDelete.addAll(asgWithNonZeroCapacity.subList(2, asgWithNonZeroCapacity.size()));
-      this.autoscalingGroupService.scale(asgWithNonZeroCapacity.get(1).autoScalingGroupName(), 0);
+      this.autoscalingGroupService.scaleToZero(
+          asgWithNonZeroCapacity.get(1).autoScalingGroupName());
     }
     asgToDelete.forEach(
         asg -> {
@@ -617,6 +1268,8 @@ public class DeploymentService {
       this.autoscalingGroupService.scale(
           passiveAsg.autoScalingGroupName(), activeAsg.desiredCapacity());
     }
+    // Scaling was removed when the ASG was downscaled
+    this.autoscalingGroupService.restoreScaling(passiveAsg.autoScalingGroupName());
   }
 
   private List<Callable<Boolean>> upscalePassiveStackAndCreateWaitTasks(
@@ -640,6 +1293,8 @@ public class DeploymentService {
     }
 
     for (int index = 0; index < passiveAsgs.size(); index++) {
+      this.autoscalingGroupService.cancelStandbyExpiry(
+          passiveAsgs.get(index).autoScalingGroupName());
       this.upscalePassiveAsg(passiveAsgs.get(index), activeAsgs.get(index));
       tasks.addAll(
           this.createAsgWaitTasks(
@@ -707,7 +1362,7 @@ public class DeploymentService {
 
       log.info("Downscaling the now passive deployment stack");
       asgWithNonZeroCapacity.forEach(
-          asg -> autoscalingGroupService.scale(asg.autoScalingGroupName(), 0));
+          asg -> this.autoscalingGroupService.scaleToZero(asg.autoScalingGroupName()));
     } else {
       log.info("Skipping passive downscale");
     }
@@ -727,16 +1382,26 @@ public class DeploymentService {
         (stackId, deploymentStack) ->
             tasks.addAll(this.upscalePassiveStackAndCreateWaitTasks(stackId, deploymentStack)));
     ApplicationUtil.runOnExecutorService(tasks);
+    // Passive stack may have been left with fast registration health checks by a failed deployment
+    this.configureHealthChecks(passiveStackMap, false);
 
     this.routingService.routeFullTraffic(passiveStackMap);
 
     if (Boolean.TRUE.equals(revertConfig.getPassiveDownscale().getEnabled())) {
-      log.info(
-          "Waiting for:[{}] seconds before downscaling the now passive deployment stack",
-          revertConfig.getPassiveDownscale().getDelay());
-      Thread.sleep(Duration.ofSeconds(revertConfig.getPassiveDownscale().getDelay()).toMillis());
+      if (this.isDrainDetectionEnabled(revertConfig.getPassiveDownscale())) {
+        this.drainService.waitForDrain(
+            activeStackMap, revertConfig.getPassiveDownscale().getDrain());
+      } else {
+        log.info(
+            "Waiting for:[{}] seconds before downscaling the now passive deployment stack",
+            revertConfig.getPassiveDownscale().getDelay());
+        Thread.sleep(Duration.ofSeconds(revertConfig.getPassiveDownscale().getDelay()).toMillis());
+      }
       log.info("Downscaling the now passive deployment stack");
-      activeStackMap.forEach(this::downscale);
+      activeStackMap.forEach(
+          (stackId, deploymentStack) ->
+              this.downscale(
+                  stackId, deploymentStack, revertConfig.getPassiveDownscale().getStandby()));
     } else {
       log.info("Skipping passive downscale");
     }
@@ -0,0 +1,211 @@
+package com.dream11.application.service;
+
+import com.dream11.application.Application;
+import com.dream11.application.aws.CloudwatchClient;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.PassiveDownscaleConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.LoadBalancerType;
+import com.dream11.application.entity.CloudWatchMetric;
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Detects when passive deployment stacks stop receiving traffic after it has been shifted away.
+ * Clients holding cached dns answers keep sending requests to passive load balancers for a while,
+ * so per minute requests and active connections of the load balancers are watched until they stay
+ * below threshold for a window
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class DrainService {
+
+  static final int PERIOD = 60;
+  static final String REQUESTS = "requests";
+  static final String CONNECTIONS = "connections";
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final LoadBalancerService loadBalancerService;
+  @NonNull final CloudwatchClient cloudwatchClient;
+
+  /**
+   * Waits till traffic of passive deployment stacks drains or max delay elapses, logging the drain
+   * curve
+   *
+   * @param passiveStackMap map of stack id to passive deployment stack
+   */
+  @SneakyThrows
+  public void waitForDrain(
+      Map<String, Character> passiveStackMap, PassiveDownscaleConfig.DrainConfig config) {
+    Instant startTime = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+    Instant deadline = Instant.now().plusSeconds(config.getMaxDelay());
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    passiveStackMap.forEach(
+        (stackId, deploymentStack) ->
+            metrics.putAll(this.getStackMetrics(stackId, deploymentStack)));
+    if (metrics.isEmpty()) {
+      log.warn("No load balancers found for passive deployment stacks, skipping drain detection");
+      return;
+    }
+    log.info(
+        "Waiting for traffic of passive deployment stacks:[{}] to stay below:[{}] per minute for:[{}] seconds, at most:[{}] seconds",
+        passiveStackMap,
+        config.getThreshold(),
+        config.getWindow(),
+        config.getMaxDelay());
+    Instant loggedTill = startTime;
+    while (true) {
+      // Datapoints of latest minutes are published with a delay
+      Instant endTime =
+          Instant.now()
+              .minus(Constants.DELAY_FOR_CLOUD_METRICS_STABILIZATION)
+              .truncatedTo(ChronoUnit.MINUTES);
+      if (endTime.isAfter(startTime)) {
+        NavigableMap<Long, Pair<Double, Double>> curve =
+            getDrainCurve(
+                this.cloudwatchClient.getMetrics(startTime, endTime, PERIOD, metrics),
+                startTime.getEpochSecond(),
+                endTime.getEpochSecond());
+        for (Map.Entry<Long, Pair<Double, Double>> entry :
+            curve.tailMap(loggedTill.getEpochSecond(), true).entrySet()) {
+          log.info(
+              "Passive deployment stacks at:[{}] requests:[{}] active connections:[{}]",
+              Instant.ofEpochSecond(entry.getKey()),
+              entry.getValue().getLeft(),
+              entry.getValue().getRight());
+        }
+        loggedTill = endTime;
+        if (isDrained(curve, config.getThreshold(), config.getWindow() / PERIOD)) {
+          log.info(
+              "Traffic of passive deployment stacks drained in:[{}] seconds",
+              Duration.between(startTime, Instant.now()).toSeconds());
+          return;
+        }
+      }
+      if (Instant.now().isAfter(deadline)) {
+        log.warn(
+            "Traffic of passive deployment stacks did not drain in:[{}] seconds, proceeding with downscale",
+            config.getMaxDelay());
+        return;
+      }
+      Thread.sleep(Duration.ofSeconds(PERIOD).toMillis());
+    }
+  }
+
+  /**
+   * @return per minute requests and active connections summed across load balancers. Load
+   *     balancers publish no datapoint for minutes without traffic, which are counted as 0. End
+   *     time lags by metrics stabilization delay, so these are not minutes yet to be published
+   */
+  static NavigableMap<Long, Pair<Double, Double>> getDrainCurve(
+      Map<String, Map<Long, Double>> datapoints, long startTime, long endTime) {
+    NavigableMap<Long, Pair<Double, Double>> curve = new TreeMap<>();
+    for (long timestamp = startTime; timestamp < endTime; timestamp += PERIOD) {
+      curve.put(
+          timestamp,
+          Pair.of(sum(datapoints, REQUESTS, timestamp), sum(datapoints, CONNECTIONS, timestamp)));
+    }
+    return curve;
+  }
+
+  /**
+   * @return whether requests and active connections of last window minutes are within threshold
+   */
+  static boolean isDrained(
+      NavigableMap<Long, Pair<Double, Double>> curve, int threshold, int windowMinutes) {
+    if (curve.size() < windowMinutes) {
+      return false;
+    }
+    return curve.descendingMap().values().stream()
+        .limit(windowMinutes)
+        .allMatch(traffic -> traffic.getLeft() <= threshold && traffic.getRight() <= threshold);
+  }
+
+  private static double sum(Map<String, Map<Long, Double>> datapoints, String metric, long time) {
+    return datapoints.entrySet().stream()
+        .filter(entry -> entry.getKey().startsWith(metric + "_"))
+        .mapToDouble(entry -> entry.getValue().getOrDefault(time, 0.0))
+        .sum();
+  }
+
+  private Map<String, CloudWatchMetric> getStackMetrics(String stackId, Character deploymentStack) {
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    LoadBalancerType type = this.deployConfig.getLoadBalancerConfig().getType();
+    for (Character lbType : List.of(Constants.INTERNAL_IDENTIFIER, Constants.EXTERNAL_IDENTIFIER)) {
+      String id = String.format("%s%s%s", stackId, lbType, deploymentStack);
+      Pair<String, String> lbArnOrName = Application.getState().getLbArnOrName(id);
+      if (type == LoadBalancerType.CLB) {
+        if (Objects.nonNull(lbArnOrName.getRight())) {
+          metrics.put(
+              getMetricId(REQUESTS, id),
+              getMetric("AWS/ELB", "LoadBalancerName", lbArnOrName.getRight(), "RequestCount"));
+        }
+        continue;
+      }
+      if (Objects.isNull(lbArnOrName.getLeft())) {
+        continue;
+      }
+      String loadBalancer = LoadBalancerService.getLbResourceFromArn(lbArnOrName.getLeft());
+      if (type == LoadBalancerType.NLB) {
+        metrics.put(
+            getMetricId(REQUESTS, id),
+            getMetric("AWS/NetworkELB", "LoadBalancer", loadBalancer, "NewFlowCount"));
+        CloudWatchMetric flows =
+            getMetric("AWS/NetworkELB", "LoadBalancer", loadBalancer, "ActiveFlowCount");
+        flows.setStatistic("Average");
+        metrics.put(getMetricId(CONNECTIONS, id), flows);
+      } else if (this.loadBalancerService.isTargetGroupRouting(stackId)) {
+        // Load balancer is shared with active deployment stack, only requests of target groups of
+        // passive deployment stack can be told apart
+        List<String> targetGroupArns =
+            this.loadBalancerService.getTargetGroupArnsForStack(stackId, deploymentStack);
+        for (int i = 0; i < targetGroupArns.size(); i++) {
+          CloudWatchMetric requests =
+              getMetric("AWS/ApplicationELB", "LoadBalancer", loadBalancer, "RequestCount");
+          requests.setDimensions(
+              Map.of(
+                  "TargetGroup",
+                  targetGroupArns
+                      .get(i)
+                      .substring(targetGroupArns.get(i).lastIndexOf(':') + 1)));
+          metrics.put(getMetricId(REQUESTS, id + i), requests);
+        }
+      } else {
+        metrics.put(
+            getMetricId(REQUESTS, id),
+            getMetric("AWS/ApplicationELB", "LoadBalancer", loadBalancer, "RequestCount"));
+        metrics.put(
+            getMetricId(CONNECTIONS, id),
+            getMetric("AWS/ApplicationELB", "LoadBalancer", loadBalancer, "ActiveConnectionCount"));
+      }
+    }
+    return metrics;
+  }
+
+  private static CloudWatchMetric getMetric(
+      String namespace, String resourceName, String resourceValue, String metricName) {
+    return CloudWatchMetric.builder()
+        .namespace(namespace)
+        .metricName(metricName)
+        .resourceName(resourceName)
+        .resourceValue(resourceValue)
+        .build();
+  }
+
+  private static String getMetricId(String metric, String suffix) {
+    return String.format("%s_%s", metric, suffix);
+  }
+}
@@ -0,0 +1,309 @@
+package com.dream11.application.service;
+
+import com.dream11.application.Application;
+import com.dream11.application.aws.CloudwatchClient;
+import com.dream11.application.config.user.BlueGreenStrategyConfig;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.LoadBalancerType;
+import com.dream11.application.entity.CloudWatchMetric;
+import com.dream11.application.entity.ExperimentEffect;
+import com.dream11.application.util.ApplicationUtil;
+import com.dream11.application.util.StatisticsUtil;
+import com.google.inject.Inject;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Compares performance of new deployment stack against active deployment stack while both of them
+ * serve a fixed share of traffic. Per minute datapoints of both stacks are averaged into blocks,
+ * which are treated as samples, and difference in their means is tested with Welch's confidence
+ * interval
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class ExperimentService {
+
+  static final int PERIOD = 60;
+  static final String REQUESTS = "requests";
+  static final String CPU = "cpu";
+  static final String INSTANCES = "instances";
+  static final String REQUESTS_PER_INSTANCE = "requestsPerSecondPerInstanceAtFullTraffic";
+  static final String CPU_PER_REQUEST = "cpuPer1kRequests";
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final LoadBalancerService loadBalancerService;
+  @NonNull final AutoscalingGroupService autoscalingGroupService;
+  @NonNull final CloudwatchClient cloudwatchClient;
+
+  /**
+   * @return effects of new deployment stack on latency, throughput and cpu cost of requests
+   */
+  public List<ExperimentEffect> analyse(
+      BlueGreenStrategyConfig.ExperimentConfig config,
+      String stackId,
+      Character deploymentStack,
+      Instant startTime,
+      Instant endTime) {
+    if (this.deployConfig.getLoadBalancerConfig().getType() != LoadBalancerType.ALB) {
+      log.warn(
+          "Skipping performance comparison for stackId:[{}] as it is supported only for application load balancers",
+          stackId);
+      return List.of();
+    }
+    if (this.loadBalancerService.isTargetGroupRouting(stackId)) {
+      log.warn(
+          "Skipping performance comparison for stackId:[{}] as deployment stacks share load balancers",
+          stackId);
+      return List.of();
+    }
+    Character activeDeploymentStack = ApplicationUtil.getSisterDeploymentStack(deploymentStack);
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    metrics.putAll(this.getStackMetrics("n", stackId, deploymentStack));
+    metrics.putAll(this.getStackMetrics("a", stackId, activeDeploymentStack));
+    Map<String, Map<Long, Double>> datapoints =
+        this.cloudwatchClient.getMetrics(startTime, endTime, PERIOD, metrics);
+
+    List<ExperimentEffect> effects = new ArrayList<>();
+    for (Character type : List.of(Constants.INTERNAL_IDENTIFIER, Constants.EXTERNAL_IDENTIFIER)) {
+      for (String percentile : Constants.LATENCY_PERCENTILES) {
+        String id = getMetricId(percentile, type);
+        compare(
+                stackId,
+                String.format("%s latency %s", getLbName(type), percentile),
+                new ArrayList<>(datapoints.getOrDefault("a" + id, Map.of()).values()),
+                new ArrayList<>(datapoints.getOrDefault("n" + id, Map.of()).values()),
+                config,
+                true)
+            .ifPresent(effects::add);
+      }
+    }
+    // Stacks of the same size serve unequal traffic unless weight is 50, hence throughput per
+    // instance of each stack is scaled to full traffic
+    Map<String, List<Double>> activeSeries =
+        getDerivedSeries("a", datapoints, (100 - config.getWeight()) / 100.0);
+    Map<String, List<Double>> newSeries =
+        getDerivedSeries("n", datapoints, config.getWeight() / 100.0);
+    compare(
+            stackId,
+            REQUESTS_PER_INSTANCE,
+            activeSeries.get(REQUESTS_PER_INSTANCE),
+            newSeries.get(REQUESTS_PER_INSTANCE),
+            config,
+            false)
+        .ifPresent(effects::add);
+    compare(
+            stackId,
+            CPU_PER_REQUEST,
+            activeSeries.get(CPU_PER_REQUEST),
+            newSeries.get(CPU_PER_REQUEST),
+            config,
+            true)
+        .ifPresent(effects::add);
+
+    effects.forEach(
+        effect ->
+            log.info(
+                "StackId:[{}] {} active:[{}] new:[{}] change:[{}%] confidence interval:[{}%, {}%] over {} blocks{}",
+                effect.getStackId(),
+                effect.getMetric(),
+                effect.getActiveMean(),
+                effect.getNewMean(),
+                effect.getChangePercentage(),
+                effect.getLowerBoundPercentage(),
+                effect.getUpperBoundPercentage(),
+                effect.getSamples(),
+                Boolean.TRUE.equals(effect.getRegression()) ? " REGRESSION" : ""));
+    return effects;
+  }
+
+  /**
+   * Compares two series of per minute datapoints of a metric
+   *
+   * @param activeSeries datapoints of active stack in order of time
+   * @param candidateSeries datapoints of new stack in order of time
+   * @param higherIsWorse whether increase in the metric is a regression
+   * @return empty if either series has less than two blocks of datapoints
+   */
+  static Optional<ExperimentEffect> compare(
+      String stackId,
+      String metric,
+      List<Double> activeSeries,
+      List<Double> candidateSeries,
+      BlueGreenStrategyConfig.ExperimentConfig config,
+      boolean higherIsWorse) {
+    if (Objects.isNull(activeSeries) || Objects.isNull(candidateSeries)) {
+      log.warn("Not enough datapoints to compare {} of stackId:[{}]", metric, stackId);
+      return Optional.empty();
+    }
+    List<Double> active = StatisticsUtil.blockMeans(activeSeries, config.getBlockMinutes());
+    List<Double> candidate = StatisticsUtil.blockMeans(candidateSeries, config.getBlockMinutes());
+    if (active.size() < 2 || candidate.size() < 2) {
+      log.warn("Not enough datapoints to compare {} of stackId:[{}]", metric, stackId);
+      return Optional.empty();
+    }
+    double activeMean = StatisticsUtil.mean(active);
+    if (activeMean == 0) {
+      return Optional.empty();
+    }
+    double newMean = StatisticsUtil.mean(candidate);
+    Pair<Double, Double> interval =
+        StatisticsUtil.welchInterval(active, candidate, config.getConfidenceLevel());
+    double lowerBound = interval.getLeft() / activeMean * 100;
+    double upperBound = interval.getRight() / activeMean * 100;
+    // Regression is significant when even the most favourable end of interval is beyond tolerance
+    boolean regression =
+        higherIsWorse
+            ? lowerBound > config.getMaxRegressionPercentage()
+            : upperBound < -config.getMaxRegressionPercentage();
+    return Optional.of(
+        ExperimentEffect.builder()
+            .stackId(stackId)
+            .metric(metric)
+            .samples(Math.min(active.size(), candidate.size()))
+            .activeMean(StatisticsUtil.round(activeMean))
+            .newMean(StatisticsUtil.round(newMean))
+            .changePercentage(StatisticsUtil.round((newMean - activeMean) / activeMean * 100))
+            .lowerBoundPercentage(StatisticsUtil.round(lowerBound))
+            .upperBoundPercentage(StatisticsUtil.round(upperBound))
+            .regression(regression)
+            .build());
+  }
+
+  private Map<String, CloudWatchMetric> getStackMetrics(
+      String prefix, String stackId, Character deploymentStack) {
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    for (Character type : List.of(Constants.INTERNAL_IDENTIFIER, Constants.EXTERNAL_IDENTIFIER)) {
+      String loadBalancerArn =
+          Application.getState()
+              .getLbArnOrName(String.format("%s%s%s", stackId, type, deploymentStack))
+              .getLeft();
+      if (Objects.isNull(loadBalancerArn)) {
+        continue;
+      }
+      String loadBalancer = LoadBalancerService.getLbResourceFromArn(loadBalancerArn);
+      metrics.put(
+          prefix + getMetricId(REQUESTS, type),
+          getLoadBalancerMetric(loadBalancer, "RequestCount", "Sum"));
+      Constants.LATENCY_PERCENTILES.forEach(
+          percentile ->
+              metrics.put(
+                  prefix + getMetricId(percentile, type),
+                  getLoadBalancerMetric(loadBalancer, "TargetResponseTime", percentile)));
+    }
+    List<String> asgs =
+        new ArrayList<>(
+            this.autoscalingGroupService.getAsgsFromTgArns(
+                this.loadBalancerService.getTargetGroupArnsForStack(stackId, deploymentStack)));
+    for (int i = 0; i < asgs.size(); i++) {
+      metrics.put(
+          prefix + getMetricId(CPU, i),
+          CloudWatchMetric.builder()
+              .namespace("AWS/EC2")
+              .metricName("CPUUtilization")
+              .statistic("Average")
+              .resourceName("AutoScalingGroupName")
+              .resourceValue(asgs.get(i))
+              .build());
+      metrics.put(
+          prefix + getMetricId(INSTANCES, i),
+          CloudWatchMetric.builder()
+              .namespace("AWS/AutoScaling")
+              .metricName("GroupInServiceInstances")
+              .statistic("Average")
+              .resourceName("AutoScalingGroupName")
+              .resourceValue(asgs.get(i))
+              .build());
+    }
+    return metrics;
+  }
+
+  private static CloudWatchMetric getLoadBalancerMetric(
+      String loadBalancer, String metricName, String statistic) {
+    return CloudWatchMetric.builder()
+        .namespace("AWS/ApplicationELB")
+        .metricName(metricName)
+        .statistic(statistic)
+        .resourceName("LoadBalancer")
+        .resourceValue(loadBalancer)
+        .build();
+  }
+
+  /**
+   * Derives per minute requests per second per instance and cpu seconds per thousand requests of a
+   * stack. Minutes for which any of the series has no datapoint are skipped
+   *
+   * @param trafficShare fraction of traffic served by the stack, by which requests per second per
+   *     instance is divided to scale it to full traffic
+   */
+  static Map<String, List<Double>> getDerivedSeries(
+      String prefix, Map<String, Map<Long, Double>> datapoints, double trafficShare) {
+    Map<String, Map<Long, Double>> requests = filter(prefix + REQUESTS, datapoints);
+    Map<String, Map<Long, Double>> cpus = filter(prefix + CPU, datapoints);
+    Map<String, Map<Long, Double>> instances = filter(prefix + INSTANCES, datapoints);
+    Set<Long> timestamps = new TreeSet<>();
+    requests.values().forEach(values -> timestamps.addAll(values.keySet()));
+
+    List<Double> requestsPerInstance = new ArrayList<>();
+    List<Double> cpuPerRequest = new ArrayList<>();
+    for (Long timestamp : timestamps) {
+      double requestCount =
+          requests.values().stream()
+              .mapToDouble(values -> values.getOrDefault(timestamp, 0.0))
+              .sum();
+      double instanceCount = 0;
+      double cpuCapacity = 0;
+      boolean complete = !cpus.isEmpty();
+      for (Map.Entry<String, Map<Long, Double>> cpu : cpus.entrySet()) {
+        Double utilisation = cpu.getValue().get(timestamp);
+        Double count =
+            instances
+                .getOrDefault(cpu.getKey().replace(CPU, INSTANCES), Map.of())
+                .get(timestamp);
+        if (Objects.isNull(utilisation) || Objects.isNull(count)) {
+          complete = false;
+          break;
+        }
+        instanceCount += count;
+        cpuCapacity += utilisation / 100 * count * PERIOD;
+      }
+      if (!complete || instanceCount == 0 || requestCount == 0) {
+        continue;
+      }
+      requestsPerInstance.add(requestCount / PERIOD / instanceCount / trafficShare);
+      cpuPerRequest.add(cpuCapacity / requestCount * 1000);
+    }
+    return Map.of(REQUESTS_PER_INSTANCE, requestsPerInstance, CPU_PER_REQUEST, cpuPerRequest);
+  }
+
+  private static Map<String, Map<Long, Double>> filter(
+      String idPrefix, Map<String, Map<Long, Double>> datapoints) {
+    Map<String, Map<Long, Double>> filtered = new HashMap<>();
+    datapoints.forEach(
+        (id, values) -> {
+          if (id.startsWith(idPrefix + "_")) {
+            filtered.put(id, values);
+          }
+        });
+    return filtered;
+  }
+
+  private static String getLbName(Character type) {
+    return type.equals(Constants.INTERNAL_IDENTIFIER) ? "internal" : "external";
+  }
+
+  private static String getMetricId(String metric, Object suffix) {
+    return String.format("%s_%s", metric, suffix);
+  }
+}
@@ -38,8 +38,10 @@ public class InfrastructureService {
         identifier);
     if (this.deployConfig.getLoadBalancerConfig().getType() == LoadBalancerType.CLB) {
       this.classicLoadBalancerService.createClassicLoadBalancerAndListener(identifier, type);
+      this.classicLoadBalancerService.reconcileLoadBalancerAttributes(identifier);
     } else {
       this.loadBalancerService.createLoadBalancer(identifier, type);
+      this.loadBalancerService.reconcileLoadBalancerAttributes(identifier);
       this.loadBalancerService.createTargetGroupsAndListeners(identifier, type);
     }
     this.route53Service.createRoute53(identifier, type);
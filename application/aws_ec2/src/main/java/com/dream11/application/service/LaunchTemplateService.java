@@ -6,9 +6,12 @@ import com.dream11.application.config.metadata.ComponentMetadata;
 import com.dream11.application.config.metadata.aws.AwsAccountData;
 import com.dream11.application.config.metadata.aws.EC2Data;
 import com.dream11.application.config.metadata.aws.NetworkData;
+import com.dream11.application.config.user.AutoScalingGroupConfig;
 import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.EbsConfig;
+import com.dream11.application.config.user.LoadBalancerConfig;
 import com.dream11.application.constant.Constants;
-import com.dream11.application.constant.DeploymentStrategy;
+import com.dream11.application.constant.Protocol;
 import com.dream11.application.error.ApplicationError;
 import com.dream11.application.exception.GenericApplicationException;
 import com.dream11.application.state.AMIState;
@@ -16,8 +19,11 @@ import com.dream11.application.state.State;
 import com.dream11.application.util.ApplicationUtil;
 import com.google.inject.Inject;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -106,7 +112,7 @@ public class LaunchTemplateService {
                         Constants.ARTIFACT_VERSION_TAG,
                         this.deployConfig.getArtifactConfig().getVersion(),
                         Constants.DEPLOYMENT_STRATEGY_TAG,
-                        DeploymentStrategy.BLUE_GREEN.name()))));
+                        this.deployConfig.getDeploymentStrategyConfig().getName().name()))));
     log.info(
         "Launch Template:[{}] for architecture:[{}] created successfully",
         ltNameWithArchitecture,
@@ -124,7 +130,7 @@ public class LaunchTemplateService {
                 .getBytes());
   }
 
-  private Map<String, Object> buildTemplateData(Map<String, String> envVars) {
+  Map<String, Object> buildTemplateData(Map<String, String> envVars) {
     String appDirectory =
         Constants.APPLICATION_DIRECTORY.apply(this.deployConfig.getArtifactConfig().getName());
     Map<String, String> environmentVariables =
@@ -145,7 +151,19 @@ public class LaunchTemplateService {
             "artifact_name_tag",
             Constants.ARTIFACT_NAME_TAG,
             "artifact_version_tag",
-            Constants.ARTIFACT_VERSION_TAG);
+            Constants.ARTIFACT_VERSION_TAG,
+            "userdata_completed_tag",
+            Constants.USERDATA_COMPLETED_TAG);
+    EbsConfig.InstanceStoreConfig instanceStoreConfig =
+        this.deployConfig.getEbsConfig().getInstanceStore();
+    Map<String, Object> instanceStoreData =
+        Map.of(
+            "instance_store_enabled",
+            instanceStoreConfig.getEnabled(),
+            "instance_store_mount_point",
+            instanceStoreConfig.getMountPoint(),
+            "instance_store_filesystem",
+            instanceStoreConfig.getFilesystem());
 
     return ApplicationUtil.merge(
         List.of(
@@ -164,7 +182,61 @@ public class LaunchTemplateService {
                 appDirectory,
                 "component_name",
                 this.componentMetadata.getComponentName()),
-            tagData));
+            tagData,
+            instanceStoreData,
+            this.buildWarmupData()));
+  }
+
+  /** Warm-up targets first listener unless a port is configured */
+  private Map<String, Object> buildWarmupData() {
+    AutoScalingGroupConfig.WarmupConfig warmupConfig =
+        this.deployConfig.getAutoScalingGroupConfig().getWarmup();
+    Map<String, Object> warmupData = new HashMap<>();
+    warmupData.put("warmup_enabled", warmupConfig.getEnabled());
+    if (!Boolean.TRUE.equals(warmupConfig.getEnabled())) {
+      return warmupData;
+    }
+    Optional<LoadBalancerConfig.Listener> listener =
+        this.deployConfig.getLoadBalancerConfig().getListeners().stream().findFirst();
+    warmupData.put(
+        "warmup_scheme",
+        listener
+                .filter(firstListener -> firstListener.getTargetProtocol() == Protocol.HTTPS)
+                .isPresent()
+            ? "https"
+            : "http");
+    warmupData.put(
+        "warmup_port",
+        Objects.nonNull(warmupConfig.getPort())
+            ? warmupConfig.getPort()
+            : listener.map(LoadBalancerConfig.Listener::getTargetPort).orElse(80));
+    listener.ifPresent(
+        firstListener ->
+            warmupData.put("warmup_health_path", firstListener.getHealthChecks().getPath()));
+    warmupData.put(
+        "warmup_requests",
+        warmupConfig.getRequests().stream()
+            .map(
+                request -> {
+                  Map<String, Object> requestData = new HashMap<>();
+                  requestData.put("method", request.getMethod());
+                  requestData.put("path", request.getPath());
+                  requestData.put("headers", request.getHeaders());
+                  if (Objects.nonNull(request.getBody())) {
+                    requestData.put("body", request.getBody());
+                  }
+                  return requestData;
+                })
+            .toList());
+    warmupData.put("warmup_concurrency", warmupConfig.getConcurrency());
+    warmupData.put("warmup_batch_size", warmupConfig.getBatchSize());
+    warmupData.put("warmup_max_requests", warmupConfig.getMaxRequests());
+    if (Objects.nonNull(warmupConfig.getLatencyTarget())) {
+      warmupData.put("warmup_latency_target", warmupConfig.getLatencyTarget());
+    }
+    warmupData.put("warmup_timeout", warmupConfig.getTimeout());
+    warmupData.put("warmup_lifecycle_hook", Constants.WARMUP_LIFECYCLE_HOOK_NAME);
+    return warmupData;
   }
 
   public void deleteLaunchTemplates() {
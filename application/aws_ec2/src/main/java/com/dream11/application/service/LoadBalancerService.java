@@ -10,9 +10,13 @@ import com.dream11.application.config.metadata.aws.EC2Data;
 import com.dream11.application.config.metadata.aws.NetworkData;
 import com.dream11.application.config.user.DeployConfig;
 import com.dream11.application.config.user.HealthCheckConfig;
+import com.dream11.application.config.user.LcuConfig;
 import com.dream11.application.config.user.LoadBalancerConfig;
+import com.dream11.application.config.user.TargetGroupConfig;
 import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.LoadBalancerType;
 import com.dream11.application.constant.Protocol;
+import com.dream11.application.constant.TrafficRouting;
 import com.dream11.application.entity.CloudWatchMetric;
 import com.dream11.application.entity.ProvisionedCapacityResponse;
 import com.dream11.application.error.ApplicationError;
@@ -20,16 +24,24 @@ import com.dream11.application.exception.GenericApplicationException;
 import com.dream11.application.state.LoadBalancerState;
 import com.dream11.application.state.State;
 import com.dream11.application.util.ApplicationUtil;
+import com.dream11.application.util.StatisticsUtil;
 import com.google.inject.Inject;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import software.amazon.awssdk.services.elasticloadbalancingv2.endpoints.internal.Arn;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.Listener;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.ListenerNotFoundException;
@@ -43,6 +55,11 @@ import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetHealth
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class LoadBalancerService {
+  static final String CONSUMED_LCUS = "consumedLcus";
+  static final String NEW_CONNECTIONS = "newConnections";
+  static final String ACTIVE_CONNECTIONS = "activeConnections";
+  static final String PROCESSED_BYTES = "processedBytes";
+
   @NonNull final LoadBalancerClient loadBalancerClient;
   @NonNull final TargetGroupClient targetGroupClient;
   @NonNull final CloudwatchClient cloudwatchClient;
@@ -89,6 +106,15 @@ public class LoadBalancerService {
                 lbState.get(),
                 () -> Application.getState().removeLoadBalancerState(identifier))
             .isEmpty()) {
+      Optional<LoadBalancer> sharedLoadBalancer = this.getSharedLoadBalancer(identifier);
+      if (sharedLoadBalancer.isPresent()) {
+        log.info(
+            "Load balancer:[{}] shared with identifier:[{}] for target group routing",
+            sharedLoadBalancer.get().loadBalancerName(),
+            identifier);
+        Application.getState().addLoadBalancerState(sharedLoadBalancer.get(), identifier);
+        return;
+      }
       // Create new load balancer and add to state
       String id = ApplicationUtil.generateRandomId(Constants.LB_RANDOM_ID_LENGTH);
       LoadBalancer loadBalancer = null;
@@ -120,6 +146,149 @@ public class LoadBalancerService {
     }
   }
 
+  /**
+   * Applies configured attributes which differ from current attributes of load balancer, both for
+   * new and existing load balancers
+   */
+  public void reconcileLoadBalancerAttributes(String identifier) {
+    Map<String, String> attributes =
+        this.deployConfig
+            .getLoadBalancerConfig()
+            .getAttributes()
+            .toAttributes(this.deployConfig.getLoadBalancerConfig().getType());
+    String loadBalancerArn = Application.getState().getLbArnOrName(identifier).getLeft();
+    if (attributes.isEmpty() || Objects.isNull(loadBalancerArn)) {
+      return;
+    }
+    Map<String, String> changedAttributes =
+        ApplicationUtil.getChangedAttributes(
+            attributes, this.loadBalancerClient.describeAttributes(loadBalancerArn));
+    if (changedAttributes.isEmpty()) {
+      return;
+    }
+    this.loadBalancerClient.modifyAttributes(loadBalancerArn, changedAttributes);
+    log.info(
+        "Load balancer attributes for identifier:[{}] updated:{}", identifier, changedAttributes);
+  }
+
+  /**
+   * With target group routing, both deployment stacks of a stack share the load balancer created
+   * for whichever of them was created first
+   *
+   * @return load balancer of sister deployment stack if target group routing is enabled
+   */
+  private Optional<LoadBalancer> getSharedLoadBalancer(String identifier) {
+    if (this.deployConfig.getLoadBalancerConfig().getRouting() != TrafficRouting.TARGET_GROUP) {
+      return Optional.empty();
+    }
+    String sisterIdentifier = getSisterIdentifier(identifier);
+    return Application.getState()
+        .getLoadBalancerState(sisterIdentifier)
+        .flatMap(
+            sisterState ->
+                this.getLoadBalancerFromState(
+                    sisterIdentifier,
+                    sisterState,
+                    () -> Application.getState().removeLoadBalancerState(sisterIdentifier)));
+  }
+
+  private Optional<LoadBalancerState.ListenerState> getSharedListenerState(
+      LoadBalancerState loadBalancerState, LoadBalancerConfig.Listener listener) {
+    if (this.deployConfig.getLoadBalancerConfig().getRouting() != TrafficRouting.TARGET_GROUP) {
+      return Optional.empty();
+    }
+    return Application.getState()
+        .getLoadBalancerState(getSisterIdentifier(loadBalancerState.getRouteIdentifier()))
+        .filter(sisterState -> sisterState.getArn().equals(loadBalancerState.getArn()))
+        .flatMap(
+            sisterState ->
+                sisterState.getListeners().stream()
+                    .filter(
+                        listenerState ->
+                            listenerState.getPort().equals(listener.getPort())
+                                && listenerState.getProtocol().equals(listener.getProtocol()))
+                    .findFirst());
+  }
+
+  private static String getSisterIdentifier(String identifier) {
+    return identifier.substring(0, identifier.length() - 1)
+        + ApplicationUtil.getSisterDeploymentStack(identifier.charAt(identifier.length() - 1));
+  }
+
+  /**
+   * @return whether both deployment stacks of the stack share load balancers, so that traffic is
+   *     shifted by weights of their target groups
+   */
+  public boolean isTargetGroupRouting(String stackId) {
+    if (this.deployConfig.getLoadBalancerConfig().getRouting() != TrafficRouting.TARGET_GROUP) {
+      return false;
+    }
+    List<Pair<String, String>> loadBalancerArns =
+        List.of(Constants.INTERNAL_IDENTIFIER, Constants.EXTERNAL_IDENTIFIER).stream()
+            .map(
+                type ->
+                    Pair.of(
+                        Application.getState()
+                            .getLbArnOrName(
+                                String.format(
+                                    "%s%s%s",
+                                    stackId, type, Constants.BLUE_DEPLOYMENT_STACK_IDENTIFIER))
+                            .getLeft(),
+                        Application.getState()
+                            .getLbArnOrName(
+                                String.format(
+                                    "%s%s%s",
+                                    stackId, type, Constants.GREEN_DEPLOYMENT_STACK_IDENTIFIER))
+                            .getLeft()))
+            .filter(pair -> Objects.nonNull(pair.getLeft()) || Objects.nonNull(pair.getRight()))
+            .toList();
+    return !loadBalancerArns.isEmpty()
+        && loadBalancerArns.stream()
+            .allMatch(
+                pair -> Objects.nonNull(pair.getLeft()) && pair.getLeft().equals(pair.getRight()));
+  }
+
+  /**
+   * Shifts traffic of stack by changing weights of deployment stack target groups in listeners of
+   * the shared load balancers. Takes effect within seconds unlike route53 weights
+   *
+   * @param weights map containing weights for each deployment stack. Example {b -> 0, g- > 100}
+   */
+  public void setTargetGroupWeights(String stackId, Map<Character, Long> weights) {
+    log.info(
+        "Updating weights of target groups for stack:[{}] with distribution:[{}]",
+        stackId,
+        weights);
+    for (Character type : List.of(Constants.INTERNAL_IDENTIFIER, Constants.EXTERNAL_IDENTIFIER)) {
+      // Key: listener arn, Value: weights of target groups
+      Map<String, Map<String, Long>> listenerWeights = new LinkedHashMap<>();
+      weights.forEach(
+          (deploymentStack, weight) ->
+              Application.getState()
+                  .getLoadBalancerState(String.format("%s%s%s", stackId, type, deploymentStack))
+                  .ifPresent(
+                      loadBalancerState ->
+                          loadBalancerState
+                              .getListeners()
+                              .forEach(
+                                  listenerState ->
+                                      listenerWeights
+                                          .computeIfAbsent(
+                                              listenerState.getArn(), k -> new LinkedHashMap<>())
+                                          .put(listenerState.getTgArn(), weight))));
+      listenerWeights.forEach(
+          (listenerArn, targetGroupWeights) -> {
+            // Listener needs at least one target group with non zero weight
+            if (targetGroupWeights.values().stream().allMatch(weight -> weight == 0)) {
+              log.warn("Skipping listener:[{}] as all weights are zero", listenerArn);
+              return;
+            }
+            this.loadBalancerClient.modifyListenerWeights(listenerArn, targetGroupWeights);
+            log.debug("Listener:[{}] weights set to {}", listenerArn, targetGroupWeights);
+          });
+    }
+  }
+
   public void createTargetGroupsAndListeners(String identifier, Character type) {
     Optional<LoadBalancerState> lbState = Application.getState().getLoadBalancerState(identifier);
     if (lbState.isEmpty()) {
@@ -147,10 +316,34 @@ public class LoadBalancerService {
             listener.getTargetProtocol(),
             listener.getHealthChecks(),
             loadBalancerState);
+    this.reconcileTargetGroupAttributes(targetGroup, listener.getTargetGroup());
     // Create listener
     this.createListener(listener, targetGroup.targetGroupArn(), loadBalancerState, type);
   }
 
+  /**
+   * Applies configured attributes which differ from current attributes of target group, both for
+   * new and existing target groups
+   */
+  private void reconcileTargetGroupAttributes(
+      TargetGroup targetGroup, TargetGroupConfig targetGroupConfig) {
+    Map<String, String> attributes = targetGroupConfig.toAttributes();
+    if (attributes.isEmpty()) {
+      return;
+    }
+    Map<String, String> changedAttributes =
+        ApplicationUtil.getChangedAttributes(
+            attributes, this.targetGroupClient.describeAttributes(targetGroup.targetGroupArn()));
+    if (changedAttributes.isEmpty()) {
+      return;
+    }
+    this.targetGroupClient.modifyAttributes(targetGroup.targetGroupArn(), changedAttributes);
+    log.info(
+        "Target group:[{}] attributes updated:{}",
+        targetGroup.targetGroupName(),
+        changedAttributes);
+  }
+
   private Optional<TargetGroup> getTargetGroupFromState(
       String identifier,
       Integer port,
@@ -256,6 +449,22 @@ public class LoadBalancerService {
                 listenerState.get(),
                 () -> loadBalancerState.removeListenerState(listenerState.get().getArn()))
             .isEmpty()) {
+      Optional<LoadBalancerState.ListenerState> sharedListenerState =
+          this.getSharedListenerState(loadBalancerState, listener);
+      if (sharedListenerState.isPresent()) {
+        // Add target group to listener of shared load balancer without sending it traffic
+        String listenerArn = sharedListenerState.get().getArn();
+        Map<String, Long> weights = this.loadBalancerClient.getListenerWeights(listenerArn);
+        weights.putIfAbsent(tgArn, 0L);
+        this.loadBalancerClient.modifyListenerWeights(listenerArn, weights);
+        log.info(
+            "Target group:[{}] added to listener:[{}] of load balancer:[{}]",
+            tgArn,
+            listenerArn,
+            loadBalancerState.getName());
+        loadBalancerState.addListenerState(listener, listenerArn, tgArn);
+        return;
+      }
       // Create Listener
       List<String> certificateArns = new ArrayList<>();
       if (listener.getProtocol() == Protocol.HTTPS) {
@@ -321,6 +530,8 @@ public class LoadBalancerService {
 
   public void deleteListeners() {
     log.info("Deleting listeners");
+    // Listeners of shared load balancers appear in state of both deployment stacks
+    Set<String> deletedListenerArns = new HashSet<>();
     Application.getState()
         .getLb()
         .forEach(
@@ -329,15 +540,65 @@ public class LoadBalancerService {
                 List.copyOf(loadBalancerState.getListeners())
                     .forEach(
                         listenerState -> {
-                          log.debug("Deleting listener:[{}]", listenerState.getArn());
-                          this.loadBalancerClient.deleteListener(listenerState.getArn());
-                          log.info("Deleted listener:[{}]", listenerState.getArn());
+                          if (deletedListenerArns.add(listenerState.getArn())) {
+                            log.debug("Deleting listener:[{}]", listenerState.getArn());
+                            this.loadBalancerClient.deleteListener(listenerState.getArn());
+                            log.info("Deleted listener:[{}]", listenerState.getArn());
+                          }
                           loadBalancerState.removeListenerState(listenerState.getArn());
                         });
               }
             });
   }
 
+  /**
+   * Switches health checks of target groups of a deployment stack between fast registration and
+   * steady state. Target groups which already have the health check are not modified
+   */
+  public void configureHealthChecks(
+      String stackId, Character deploymentStack, boolean fastRegistration) {
+    Set<String> targetGroupArns = new HashSet<>();
+    for (Character type : List.of(Constants.INTERNAL_IDENTIFIER, Constants.EXTERNAL_IDENTIFIER)) {
+      Optional<LoadBalancerState> lbState =
+          Application.getState()
+              .getLoadBalancerState(String.format("%s%s%s", stackId, type, deploymentStack));
+      if (lbState.isEmpty()) {
+        continue;
+      }
+      for (LoadBalancerConfig.Listener listener :
+          this.deployConfig.getLoadBalancerConfig().getListeners()) {
+        Optional<LoadBalancerState.TargetGroupState> targetGroupState =
+            lbState
+                .get()
+                .getTargetGroupState(listener.getTargetPort(), listener.getTargetProtocol());
+        // Listeners with same target port and protocol share target group
+        if (targetGroupState.isEmpty() || !targetGroupArns.add(targetGroupState.get().getArn())) {
+          continue;
+        }
+        HealthCheckConfig healthCheckConfig =
+            fastRegistration
+                ? listener.getHealthChecks().toFastRegistration()
+                : listener.getHealthChecks();
+        TargetGroup targetGroup = this.targetGroupClient.describe(targetGroupState.get().getArn());
+        if (targetGroup.healthCheckIntervalSeconds().equals(healthCheckConfig.getInterval())
+            && targetGroup.healthCheckTimeoutSeconds().equals(healthCheckConfig.getTimeout())
+            && targetGroup.healthyThresholdCount().equals(healthCheckConfig.getHealthyThreshold())
+            && targetGroup
+                .unhealthyThresholdCount()
+                .equals(healthCheckConfig.getUnhealthyThreshold())) {
+          continue;
+        }
+        this.targetGroupClient.modifyHealthCheck(targetGroup.targetGroupArn(), healthCheckConfig);
+        log.info(
+            "Health check of target group:[{}] set to {} interval:[{}s] healthy threshold:[{}]",
+            targetGroup.targetGroupName(),
+            fastRegistration ? "fast registration" : "steady state",
+            healthCheckConfig.getInterval(),
+            healthCheckConfig.getHealthyThreshold());
+      }
+    }
+  }
+
   public long getHealthyTargets(String targetGroupARN) {
     long healthyTargets =
         this.targetGroupClient.describeTargets(targetGroupARN).stream()
@@ -353,6 +614,22 @@ public class LoadBalancerService {
     return healthyTargets;
   }
 
+  /**
+   * @return map of instance id to whether the instance is healthy in the target group
+   */
+  public Map<String, Boolean> getTargetHealth(String targetGroupARN) {
+    return this.targetGroupClient.describeTargets(targetGroupARN).stream()
+        .collect(
+            Collectors.toMap(
+                targetHealthDescription -> targetHealthDescription.target().id(),
+                targetHealthDescription ->
+                    targetHealthDescription
+                        .targetHealth()
+                        .state()
+                        .equals(TargetHealthStateEnum.HEALTHY),
+                (first, second) -> first || second));
+  }
+
   public long getNonDrainingTargets(String targetGroupARN) {
     long targets =
         this.targetGroupClient.describeTargets(targetGroupARN).stream()
@@ -369,6 +646,11 @@ public class LoadBalancerService {
   }
 
   public void scaleLcu(String loadBalancerArn, Integer lcu) {
+    // Decreasing reservation is rate limited by AWS, hence skip calls which change nothing
+    if (this.loadBalancerClient.getProvisionedCapacity(loadBalancerArn).getLcu().equals(lcu)) {
+      log.debug("Load balancer:[{}] LCU is already [{}]", loadBalancerArn, lcu);
+      return;
+    }
     this.loadBalancerClient.modifyProvisionedCapacity(loadBalancerArn, lcu);
     log.info("Scaled load balancer:[{}] LCU to [{}]", loadBalancerArn, lcu);
   }
@@ -380,15 +662,136 @@ public class LoadBalancerService {
     return capacity;
   }
 
+  /**
+   * Projects capacity units needed to serve peak traffic of load balancer over lookback window.
+   * Peak is the highest per minute value of consumed capacity units and of units derived from each
+   * capacity dimension
+   *
+   * @return projected capacity units including margin
+   */
+  public Integer predictLcu(String loadBalancerArn, LcuConfig.PredictiveConfig config) {
+    String loadBalancer = getLbResourceFromArn(loadBalancerArn);
+    boolean network = loadBalancer.startsWith("net/");
+    String namespace = network ? "AWS/NetworkELB" : "AWS/ApplicationELB";
+    Map<String, CloudWatchMetric> metrics =
+        Map.of(
+            CONSUMED_LCUS,
+            this.buildLbMetric(namespace, loadBalancer, "ConsumedLCUs", "Maximum"),
+            NEW_CONNECTIONS,
+            this.buildLbMetric(
+                namespace, loadBalancer, network ? "NewFlowCount" : "NewConnectionCount", "Sum"),
+            ACTIVE_CONNECTIONS,
+            this.buildLbMetric(
+                namespace,
+                loadBalancer,
+                network ? "ActiveFlowCount" : "ActiveConnectionCount",
+                network ? "Maximum" : "Sum"),
+            PROCESSED_BYTES,
+            this.buildLbMetric(namespace, loadBalancer, "ProcessedBytes", "Sum"));
+    Instant endTime = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+    Map<String, Map<Long, Double>> datapoints =
+        this.cloudwatchClient.getMetrics(
+            endTime.minus(config.getLookbackDays(), ChronoUnit.DAYS), endTime, 60, metrics);
+    Pair<String, Double> peak = getPeakLcu(datapoints, network);
+    int lcu =
+        getReservation(
+            peak.getRight(),
+            config.getMarginPercentage(),
+            network ? LoadBalancerType.NLB : LoadBalancerType.ALB);
+    log.info(
+        "Peak LCU of load balancer:[{}] over last [{}] days is [{}] driven by [{}]. Projected LCU:[{}]",
+        loadBalancerArn,
+        config.getLookbackDays(),
+        StatisticsUtil.round(peak.getRight()),
+        peak.getLeft(),
+        lcu);
+    return lcu;
+  }
+
+  /**
+   * @return capacity units to reserve for peak including margin, 0 when they fall below the minimum
+   *     reservation of load balancer type as load balancer scales to such peaks on its own
+   */
+  static int getReservation(double peak, int marginPercentage, LoadBalancerType type) {
+    int lcu = (int) Math.ceil(peak * (100 + marginPercentage) / 100);
+    return lcu < type.getMinimumLcu() ? 0 : lcu;
+  }
+
+  /**
+   * @param datapoints per minute datapoints of load balancer metrics
+   * @return capacity dimension driving the peak and peak capacity units
+   */
+  static Pair<String, Double> getPeakLcu(
+      Map<String, Map<Long, Double>> datapoints, boolean network) {
+    Map<String, Double> peaks = new HashMap<>();
+    peaks.put(CONSUMED_LCUS, getPeak(datapoints, CONSUMED_LCUS));
+    peaks.put(
+        NEW_CONNECTIONS,
+        getPeak(datapoints, NEW_CONNECTIONS)
+            / 60
+            / (network
+                ? Constants.NLB_NEW_FLOWS_PER_SECOND_PER_LCU
+                : Constants.ALB_NEW_CONNECTIONS_PER_SECOND_PER_LCU));
+    peaks.put(
+        ACTIVE_CONNECTIONS,
+        getPeak(datapoints, ACTIVE_CONNECTIONS)
+            / (network
+                ? Constants.NLB_ACTIVE_FLOWS_PER_LCU
+                : Constants.ALB_ACTIVE_CONNECTIONS_PER_LCU));
+    peaks.put(
+        PROCESSED_BYTES,
+        getPeak(datapoints, PROCESSED_BYTES) * 60 / Constants.PROCESSED_BYTES_PER_HOUR_PER_LCU);
+    Map.Entry<String, Double> peak =
+        peaks.entrySet().stream().max(Map.Entry.comparingByValue()).orElseThrow();
+    return Pair.of(peak.getKey(), peak.getValue());
+  }
+
+  private static double getPeak(Map<String, Map<Long, Double>> datapoints, String id) {
+    return datapoints.getOrDefault(id, Map.of()).values().stream()
+        .mapToDouble(Double::doubleValue)
+        .max()
+        .orElse(0);
+  }
+
+  private CloudWatchMetric buildLbMetric(
+      String namespace, String loadBalancer, String metricName, String statistic) {
+    return CloudWatchMetric.builder()
+        .namespace(namespace)
+        .metricName(metricName)
+        .statistic(statistic)
+        .resourceName("LoadBalancer")
+        .resourceValue(loadBalancer)
+        .build();
+  }
+
   private Double getMetrics(String loadBalancerArn, String metric, Instant startTime) {
     CloudWatchMetric cloudWatchMetric =
         CloudWatchMetric.builder()
             .resourceName("LoadBalancer")
-            .resourceValue(this.getLbResourceFromArn(loadBalancerArn))
+            .resourceValue(getLbResourceFromArn(loadBalancerArn))
             .metricName(metric)
             .namespace("AWS/ApplicationELB")
             .build();
+    return this.getMetrics(cloudWatchMetric, startTime);
+  }
 
+  private Double getMetrics(
+      String loadBalancerArn, String targetGroupArn, String metric, Instant startTime) {
+    CloudWatchMetric cloudWatchMetric =
+        CloudWatchMetric.builder()
+            .resourceName("LoadBalancer")
+            .resourceValue(getLbResourceFromArn(loadBalancerArn))
+            .dimensions(
+                Map.of(
+                    "TargetGroup",
+                    targetGroupArn.substring(targetGroupArn.lastIndexOf(':') + 1)))
+            .metricName(metric)
+            .namespace("AWS/ApplicationELB")
+            .build();
+    return this.getMetrics(cloudWatchMetric, startTime);
+  }
+
+  private Double getMetrics(CloudWatchMetric cloudWatchMetric, Instant startTime) {
     return ApplicationUtil.sumList(
         this.cloudwatchClient
             .getMetric(
@@ -415,7 +818,93 @@ public class LoadBalancerService {
     return errorCount;
   }
 
-  private String getLbResourceFromArn(String arn) {
+  /**
+   * @return request count of target groups, used when load balancer is shared by deployment stacks
+   */
+  public Double getRequestCount(
+      String loadBalancerArn, List<String> targetGroupArns, Instant startTime) {
+    Double requestCount =
+        targetGroupArns.stream()
+            .mapToDouble(
+                targetGroupArn ->
+                    this.getMetrics(loadBalancerArn, targetGroupArn, "RequestCount", startTime))
+            .sum();
+    log.debug("Request count:[{}] for target groups:{}", requestCount, targetGroupArns);
+    return requestCount;
+  }
+
+  /**
+   * @return 5XX count of targets in target groups. Errors generated by load balancer itself can
+   *     not be attributed to a target group and are not counted
+   */
+  public Double getErrorCount(
+      String loadBalancerArn, List<String> targetGroupArns, Instant startTime) {
+    Double errorCount =
+        targetGroupArns.stream()
+            .mapToDouble(
+                targetGroupArn ->
+                    this.getMetrics(
+                        loadBalancerArn, targetGroupArn, "HTTPCode_Target_5XX_Count", startTime))
+            .sum();
+    log.debug("Error count:[{}] for target groups:{}", errorCount, targetGroupArns);
+    return errorCount;
+  }
+
+  /**
+   * @param targetGroupArns target groups to restrict latency to, used when load balancer is shared
+   *     by deployment stacks. Highest latency among them is returned
+   * @return target response time percentiles in milliseconds since start time. Percentiles without
+   *     any request are absent
+   */
+  public Map<String, Double> getLatency(
+      String loadBalancerArn, List<String> targetGroupArns, Instant startTime) {
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    List<Map<String, String>> dimensions =
+        targetGroupArns.isEmpty()
+            ? List.of(Map.of())
+            : targetGroupArns.stream()
+                .map(
+                    targetGroupArn ->
+                        Map.of(
+                            "TargetGroup",
+                            targetGroupArn.substring(targetGroupArn.lastIndexOf(':') + 1)))
+                .toList();
+    for (int i = 0; i < dimensions.size(); i++) {
+      for (String percentile : Constants.LATENCY_PERCENTILES) {
+        metrics.put(
+            String.format("%s_%d", percentile, i),
+            CloudWatchMetric.builder()
+                .namespace("AWS/ApplicationELB")
+                .metricName("TargetResponseTime")
+                .statistic(percentile)
+                .resourceName("LoadBalancer")
+                .resourceValue(getLbResourceFromArn(loadBalancerArn))
+                .dimensions(dimensions.get(i))
+                .build());
+      }
+    }
+    Instant start = startTime.truncatedTo(ChronoUnit.MINUTES);
+    Instant end = Instant.now();
+    Map<String, Map<Long, Double>> datapoints =
+        this.cloudwatchClient.getMetrics(
+            start, end, ApplicationUtil.getPeriodSpanning(start, end), metrics);
+    Map<String, Double> latency = new HashMap<>();
+    datapoints.forEach(
+        (id, values) ->
+            values
+                .values()
+                .forEach(
+                    value ->
+                        latency.merge(
+                            id.substring(0, id.indexOf('_')), value * 1000, Math::max)));
+    log.debug("Latency:{} for load balancer:[{}]", latency, loadBalancerArn);
+    return latency;
+  }
+
+  /**
+   * @return load balancer dimension of CloudWatch metrics, in the form type/lb-name/lb-id
+   */
+  public static String getLbResourceFromArn(String arn) {
     Optional<Arn> parsedArn = Arn.parse(arn);
     if (parsedArn.isEmpty()) {
       throw new GenericApplicationException(ApplicationError.INVALID_ARN, arn);
@@ -424,6 +913,11 @@ public class LoadBalancerService {
         "/", parsedArn.get().resource().subList(1, parsedArn.get().resource().size()));
   }
 
+  /** Request count and target response time are published only for application load balancers */
+  public static boolean isApplicationLoadBalancer(String arn) {
+    return getLbResourceFromArn(arn).startsWith("app/");
+  }
+
   public List<String> getTargetGroupArnsForStack(String stackId, Character deploymentStack) {
     Optional<LoadBalancerState> internal =
         Application.getState()
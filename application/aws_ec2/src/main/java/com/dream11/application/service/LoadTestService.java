@@ -0,0 +1,349 @@
+package com.dream11.application.service;
+
+import com.dream11.application.Application;
+import com.dream11.application.config.user.BlueGreenStrategyConfig;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.LoadBalancerConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.Protocol;
+import com.dream11.application.error.ApplicationError;
+import com.dream11.application.exception.GenericApplicationException;
+import com.dream11.application.state.LoadBalancerState;
+import com.dream11.application.state.LoadTestState;
+import com.dream11.application.util.ApplicationUtil;
+import com.dream11.application.util.StatisticsUtil;
+import com.google.inject.Inject;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Drives a fixed rate of synthetic requests at the load balancer of new deployment stack before
+ * any traffic is routed to it. Load is open loop, requests are sent at their scheduled time
+ * irrespective of responses, so a slow stack shows up as latency and errors rather than as reduced
+ * offered load
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class LoadTestService {
+
+  static final String HTTP = "http";
+  static final String HTTPS = "https";
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final LoadBalancerService loadBalancerService;
+
+  /**
+   * Load tests passive deployment stacks in parallel and fails if any of them regressed
+   *
+   * @return results to be saved with {@link #saveBaselines(List)} once new stacks serve traffic
+   */
+  public List<LoadTestState> run(
+      Map<String, Character> passiveStackMap, BlueGreenStrategyConfig.LoadTestConfig config) {
+    Optional<Pair<String, Integer>> schemeAndPort =
+        getSchemeAndPort(this.deployConfig.getLoadBalancerConfig().getListeners(), config);
+    if (schemeAndPort.isEmpty()) {
+      log.warn("Skipping load test as load balancer has no HTTP or HTTPS listener");
+      return List.of();
+    }
+    List<Callable<LoadTestState>> tasks = new ArrayList<>();
+    passiveStackMap.forEach(
+        (stackId, deploymentStack) -> {
+          if (this.loadBalancerService.isTargetGroupRouting(stackId)) {
+            log.warn(
+                "Skipping load test of stackId:[{}] as deployment stacks share load balancers",
+                stackId);
+            return;
+          }
+          getLoadBalancerDns(stackId, deploymentStack)
+              .ifPresent(
+                  dns ->
+                      tasks.add(
+                          () ->
+                              this.runForStack(
+                                  stackId,
+                                  URI.create(
+                                      String.format(
+                                          "%s://%s:%d",
+                                          schemeAndPort.get().getLeft(),
+                                          dns,
+                                          schemeAndPort.get().getRight())),
+                                  config)));
+        });
+    return ApplicationUtil.runOnExecutorService(tasks);
+  }
+
+  /**
+   * Saves results in state as baseline for next deploy. Called after traffic is routed, so that a
+   * version failing later checks does not become the baseline
+   */
+  public void saveBaselines(List<LoadTestState> results) {
+    results.forEach(Application.getState()::setLoadTestState);
+  }
+
+  private LoadTestState runForStack(
+      String stackId, URI uri, BlueGreenStrategyConfig.LoadTestConfig config) {
+    log.info(
+        "Load testing stackId:[{}] at {} with {} requests per second for {} seconds",
+        stackId,
+        uri,
+        config.getRps(),
+        config.getDuration());
+    HttpClient.Builder httpClientBuilder =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(config.getTimeout()));
+    if (HTTPS.equals(uri.getScheme())) {
+      // Certificate of listener is issued for domain of the service rather than dns of the load
+      // balancer, hence it is not verified
+      httpClientBuilder.sslContext(getUnverifiedSslContext());
+    }
+    HttpClient httpClient = httpClientBuilder.build();
+    LoadTestState result = execute(httpClient, uri, config);
+    result.setStackId(stackId);
+    result.setArtifactVersion(this.deployConfig.getArtifactConfig().getVersion());
+    log.info(
+        "Load test of stackId:[{}] served {} requests at [{}] requests per second with [{}%] errors. p50:[{}ms] p90:[{}ms] p99:[{}ms]",
+        stackId,
+        result.getRequests(),
+        result.getThroughput(),
+        result.getErrorPercentage(),
+        result.getP50(),
+        result.getP90(),
+        result.getP99());
+
+    LoadTestState baseline = Application.getState().getLoadTestState(stackId).orElse(null);
+    List<String> regressions = getRegressions(result, baseline, config);
+    if (!regressions.isEmpty()) {
+      throw new GenericApplicationException(
+          ApplicationError.LOAD_TEST_FAILED, stackId, String.join(". ", regressions));
+    }
+    return result;
+  }
+
+  /**
+   * Sends requests of the mix in weighted round robin at configured rate for configured duration
+   * and waits for all of them to complete. Responses with status 5xx, timeouts and connection
+   * failures are errors
+   *
+   * @return result without stackId and artifact version
+   */
+  @SneakyThrows
+  static LoadTestState execute(
+      HttpClient httpClient, URI uri, BlueGreenStrategyConfig.LoadTestConfig config) {
+    List<HttpRequest> requests = buildRequests(uri, config);
+    long total = (long) config.getRps() * config.getDuration();
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRps();
+    Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+    AtomicLong errors = new AtomicLong();
+    AtomicLong lastCompletionNanos = new AtomicLong();
+    List<CompletableFuture<Void>> responses = new ArrayList<>();
+
+    long startNanos = System.nanoTime();
+    for (long i = 0; i < total; i++) {
+      long delay = startNanos + i * intervalNanos - System.nanoTime();
+      if (delay > 0) {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      }
+      long sendNanos = System.nanoTime();
+      responses.add(
+          httpClient
+              .sendAsync(
+                  requests.get((int) (i % requests.size())), HttpResponse.BodyHandlers.discarding())
+              .handle(
+                  (response, throwable) -> {
+                    long completionNanos = System.nanoTime();
+                    lastCompletionNanos.accumulateAndGet(completionNanos, Math::max);
+                    if (Objects.nonNull(throwable) || response.statusCode() >= 500) {
+                      errors.incrementAndGet();
+                    } else {
+                      latencies.add(TimeUnit.NANOSECONDS.toMillis(completionNanos - sendNanos));
+                    }
+                    return null;
+                  }));
+    }
+    CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+
+    List<Long> successLatencies = new ArrayList<>(latencies);
+    double elapsedSeconds =
+        Math.max(lastCompletionNanos.get() - startNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+    return LoadTestState.builder()
+        .rps(config.getRps())
+        .requests(total)
+        .throughput(StatisticsUtil.round(successLatencies.size() / elapsedSeconds))
+        .errorPercentage(StatisticsUtil.round(errors.get() * 100.0 / total))
+        .p50(StatisticsUtil.percentile(successLatencies, 50))
+        .p90(StatisticsUtil.percentile(successLatencies, 90))
+        .p99(StatisticsUtil.percentile(successLatencies, 99))
+        .build();
+  }
+
+  /**
+   * @return requests of the mix, each repeated as many times as its weight
+   */
+  static List<HttpRequest> buildRequests(URI uri, BlueGreenStrategyConfig.LoadTestConfig config) {
+    List<HttpRequest> requests = new ArrayList<>();
+    config
+        .getRequests()
+        .forEach(
+            request -> {
+              HttpRequest.Builder builder =
+                  HttpRequest.newBuilder(uri.resolve(request.getPath()))
+                      .timeout(Duration.ofMillis(config.getTimeout()))
+                      .method(
+                          request.getMethod(),
+                          Objects.isNull(request.getBody())
+                              ? HttpRequest.BodyPublishers.noBody()
+                              : HttpRequest.BodyPublishers.ofString(request.getBody()));
+              request.getHeaders().forEach(builder::header);
+              HttpRequest httpRequest = builder.build();
+              for (int i = 0; i < request.getWeight(); i++) {
+                requests.add(httpRequest);
+              }
+            });
+    return requests;
+  }
+
+  /**
+   * Error rate and throughput are checked against configuration. Latency percentiles are checked
+   * against result of previous deploy when it ran at the same rate
+   *
+   * @return reasons for failing the load test, empty if it passed
+   */
+  static List<String> getRegressions(
+      LoadTestState result, LoadTestState baseline, BlueGreenStrategyConfig.LoadTestConfig config) {
+    List<String> regressions = new ArrayList<>();
+    if (result.getErrorPercentage() > config.getMaxErrorPercentage()) {
+      regressions.add(
+          String.format(
+              "Error percentage:[%s] > threshold:[%d]",
+              result.getErrorPercentage(), config.getMaxErrorPercentage()));
+    }
+    double minThroughput = config.getRps() * config.getMinThroughputPercentage() / 100.0;
+    if (result.getThroughput() < minThroughput) {
+      regressions.add(
+          String.format(
+              "Throughput:[%s] requests per second < threshold:[%s]",
+              result.getThroughput(), minThroughput));
+    }
+    if (Objects.isNull(baseline) || !Objects.equals(baseline.getRps(), result.getRps())) {
+      return regressions;
+    }
+    for (String percentile : Constants.LATENCY_PERCENTILES) {
+      Long previous = baseline.getPercentile(percentile);
+      Long current = result.getPercentile(percentile);
+      if (Objects.isNull(previous) || Objects.isNull(current)) {
+        continue;
+      }
+      double threshold = previous * (100 + config.getMaxLatencyIncreasePercentage()) / 100.0;
+      if (current > threshold) {
+        regressions.add(
+            String.format(
+                "Latency %s:[%dms] > threshold:[%sms] over version:[%s]",
+                percentile, current, threshold, baseline.getArtifactVersion()));
+      }
+    }
+    return regressions;
+  }
+
+  /**
+   * @return scheme and port of configured port, else of first HTTP listener, else of first HTTPS
+   *     listener. Scheme is https only for HTTPS listeners
+   */
+  static Optional<Pair<String, Integer>> getSchemeAndPort(
+      List<LoadBalancerConfig.Listener> listeners, BlueGreenStrategyConfig.LoadTestConfig config) {
+    if (Objects.nonNull(config.getPort())) {
+      boolean https =
+          listeners.stream()
+              .anyMatch(
+                  listener ->
+                      listener.getPort().equals(config.getPort())
+                          && listener.getProtocol() == Protocol.HTTPS);
+      return Optional.of(Pair.of(https ? HTTPS : HTTP, config.getPort()));
+    }
+    return Stream.of(Protocol.HTTP, Protocol.HTTPS)
+        .flatMap(
+            protocol ->
+                listeners.stream()
+                    .filter(
+                        listener ->
+                            listener.getProtocol() == protocol
+                                && listener.getTargetProtocol() != Protocol.GRPC))
+        .findFirst()
+        .map(
+            listener ->
+                Pair.of(
+                    listener.getProtocol() == Protocol.HTTPS ? HTTPS : HTTP, listener.getPort()));
+  }
+
+  @SneakyThrows
+  private static SSLContext getUnverifiedSslContext() {
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, new TrustManager[] {new UnverifiedTrustManager()}, null);
+    return sslContext;
+  }
+
+  /** Internal load balancer is preferred as deployer runs inside the network */
+  private static Optional<String> getLoadBalancerDns(String stackId, Character deploymentStack) {
+    return Stream.of(Constants.INTERNAL_IDENTIFIER, Constants.EXTERNAL_IDENTIFIER)
+        .map(
+            type ->
+                Application.getState()
+                    .getLoadBalancerState(
+                        String.format("%s%s%s", stackId, type, deploymentStack)))
+        .flatMap(Optional::stream)
+        .map(LoadBalancerState::getDns)
+        .findFirst();
+  }
+
+  /** Trusts any server certificate without verifying its chain or host name */
+  private static class UnverifiedTrustManager extends X509ExtendedTrustManager {
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {}
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {}
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {}
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return new X509Certificate[0];
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package com.dream11.application.service;
+
+import com.dream11.application.Application;
+import com.dream11.application.aws.CloudwatchClient;
+import com.dream11.application.aws.EC2Client;
+import com.dream11.application.config.user.ComparePerformanceConfig;
+import com.dream11.application.config.user.ScalingConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.entity.CloudWatchMetric;
+import com.dream11.application.entity.InstancePerformance;
+import com.dream11.application.entity.PerformanceGroup;
+import com.dream11.application.util.StatisticsUtil;
+import com.google.inject.Inject;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
+import software.amazon.awssdk.services.autoscaling.model.LifecycleState;
+import software.amazon.awssdk.services.ec2.model.Instance;
+
+/**
+ * Compares performance of in service instances of the active fleet grouped by architecture and
+ * by instance type. Groups are ranked by requests served per fully utilised vCPU and then by
+ * p99 latency of their instances
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class PerformanceService {
+
+  static final String CPU = "cpu";
+  static final String REQUESTS = "requests";
+  static final String LATENCY = "latency";
+  static final String ERRORS = "errors";
+  // Groups are compared by tail latency, as regressions of slow instances do not move the median
+  static final int TAIL_LATENCY_PERCENTILE = 99;
+
+  @NonNull final ComparePerformanceConfig comparePerformanceConfig;
+  @NonNull final DeploymentService deploymentService;
+  @NonNull final AutoscalingGroupService autoscalingGroupService;
+  @NonNull final EC2Client ec2Client;
+  @NonNull final CloudwatchClient cloudwatchClient;
+
+  @SneakyThrows
+  public void comparePerformance() {
+    List<AutoScalingGroup> asgs =
+        this.deploymentService.getActiveAsgs().stream()
+            .map(this.autoscalingGroupService::describe)
+            .toList();
+    List<Instance> instances =
+        this.describeInstances(
+            asgs.stream()
+                .flatMap(asg -> asg.instances().stream())
+                .filter(instance -> instance.lifecycleState().equals(LifecycleState.IN_SERVICE))
+                .map(software.amazon.awssdk.services.autoscaling.model.Instance::instanceId)
+                .toList());
+
+    int window = this.comparePerformanceConfig.getWindowMinutes() * 60;
+    Instant endTime = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+    Instant startTime = endTime.minusSeconds(window);
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    for (int i = 0; i < instances.size(); i++) {
+      metrics.putAll(this.getInstanceMetrics(i, instances.get(i).instanceId()));
+    }
+    log.info(
+        "Comparing performance of [{}] instances from {} to {}",
+        instances.size(),
+        startTime,
+        endTime);
+    Map<String, Map<Long, Double>> datapoints =
+        this.cloudwatchClient.getMetrics(startTime, endTime, window, metrics);
+
+    List<InstancePerformance> performances = new ArrayList<>();
+    for (int i = 0; i < instances.size(); i++) {
+      Double cpuUtilization = average(datapoints, getMetricId(CPU, i));
+      // Instances without cpu utilisation were not running through the window
+      if (Objects.nonNull(cpuUtilization)) {
+        Instance instance = instances.get(i);
+        performances.add(
+            InstancePerformance.builder()
+                .instanceId(instance.instanceId())
+                .architecture(instance.architectureAsString())
+                .instanceType(instance.instanceTypeAsString())
+                .vCpus(instance.cpuOptions().coreCount() * instance.cpuOptions().threadsPerCore())
+                .cpuUtilization(cpuUtilization)
+                .requests(aggregate(datapoints, getMetricId(REQUESTS, i), Double::sum))
+                .latency(aggregate(datapoints, getMetricId(LATENCY, i), Math::max))
+                .errors(aggregate(datapoints, getMetricId(ERRORS, i), Double::sum))
+                .build());
+      }
+    }
+    List<PerformanceGroup> groups = new ArrayList<>();
+    groups.addAll(
+        compare("architecture", performances, InstancePerformance::getArchitecture, window));
+    groups.addAll(
+        compare("instanceType", performances, InstancePerformance::getInstanceType, window));
+    groups.forEach(
+        group ->
+            log.info(
+                "{}:[{}] over {} instances. requests per vCPU second:[{}] requests per second per instance:[{}] cpu utilisation:[{}%] latency:[{}] error rate:[{}]",
+                group.getDimension(),
+                group.getValue(),
+                group.getInstances(),
+                group.getRequestsPerVCpuSecond(),
+                group.getRequestsPerSecondPerInstance(),
+                group.getCpuUtilization(),
+                group.getLatency(),
+                group.getErrorRate()));
+    log.info(
+        "Performance comparison:{}",
+        Application.getObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(groups));
+  }
+
+  private List<Instance> describeInstances(List<String> instanceIds) {
+    List<Instance> instances = new ArrayList<>();
+    for (int i = 0; i < instanceIds.size(); i += Constants.DESCRIBE_INSTANCES_BATCH_SIZE) {
+      instances.addAll(
+          this.ec2Client.describeInstances(
+              instanceIds.subList(
+                  i, Math.min(i + Constants.DESCRIBE_INSTANCES_BATCH_SIZE, instanceIds.size()))));
+    }
+    return instances;
+  }
+
+  private Map<String, CloudWatchMetric> getInstanceMetrics(int index, String instanceId) {
+    Map<String, CloudWatchMetric> metrics = new HashMap<>();
+    metrics.put(
+        getMetricId(CPU, index),
+        CloudWatchMetric.builder()
+            .namespace("AWS/EC2")
+            .metricName("CPUUtilization")
+            .statistic("Average")
+            .resourceName("InstanceId")
+            .resourceValue(instanceId)
+            .build());
+    putInstanceMetric(
+        metrics, REQUESTS, index, instanceId, this.comparePerformanceConfig.getRequestMetric());
+    putInstanceMetric(
+        metrics, LATENCY, index, instanceId, this.comparePerformanceConfig.getLatencyMetric());
+    putInstanceMetric(
+        metrics, ERRORS, index, instanceId, this.comparePerformanceConfig.getErrorMetric());
+    return metrics;
+  }
+
+  private static void putInstanceMetric(
+      Map<String, CloudWatchMetric> metrics,
+      String name,
+      int index,
+      String instanceId,
+      ScalingConfig.CustomMetric metric) {
+    if (Objects.isNull(metric)) {
+      return;
+    }
+    metrics.put(
+        getMetricId(name, index),
+        CloudWatchMetric.builder()
+            .namespace(metric.getNamespace())
+            .metricName(metric.getMetricName())
+            .statistic(metric.getStatistic())
+            .resourceName("InstanceId")
+            .resourceValue(instanceId)
+            .dimensions(metric.getDimensions())
+            .build());
+  }
+
+  private static String getMetricId(String metric, int index) {
+    return String.format("%s_%d", metric, index);
+  }
+
+  private static Double average(Map<String, Map<Long, Double>> datapoints, String id) {
+    Collection<Double> values = datapoints.getOrDefault(id, Map.of()).values();
+    return values.isEmpty()
+        ? null
+        : values.stream().mapToDouble(Double::doubleValue).average().getAsDouble();
+  }
+
+  private static Double aggregate(
+      Map<String, Map<Long, Double>> datapoints, String id, BinaryOperator<Double> aggregator) {
+    return datapoints.getOrDefault(id, Map.of()).values().stream().reduce(aggregator).orElse(null);
+  }
+
+  static List<PerformanceGroup> compare(
+      String dimension,
+      List<InstancePerformance> performances,
+      Function<InstancePerformance, String> classifier,
+      int windowSeconds) {
+    return performances.stream()
+        .filter(performance -> Objects.nonNull(classifier.apply(performance)))
+        .collect(Collectors.groupingBy(classifier))
+        .entrySet()
+        .stream()
+        .map(entry -> summarize(dimension, entry.getKey(), entry.getValue(), windowSeconds))
+        .sorted(
+            Comparator.comparing(
+                    PerformanceGroup::getRequestsPerVCpuSecond,
+                    Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(
+                    PerformanceGroup::getLatency, Comparator.nullsLast(Comparator.naturalOrder())))
+        .toList();
+  }
+
+  private static PerformanceGroup summarize(
+      String dimension, String value, List<InstancePerformance> performances, int windowSeconds) {
+    Double requests = sum(performances, InstancePerformance::getRequests);
+    Double errors = sum(performances, InstancePerformance::getErrors);
+    double vCpuSeconds =
+        performances.stream()
+            .mapToDouble(
+                performance ->
+                    performance.getCpuUtilization() / 100 * performance.getVCpus() * windowSeconds)
+            .sum();
+    return PerformanceGroup.builder()
+        .dimension(dimension)
+        .value(value)
+        .instances(performances.size())
+        .cpuUtilization(
+            StatisticsUtil.round(
+                performances.stream()
+                    .mapToDouble(InstancePerformance::getCpuUtilization)
+                    .average()
+                    .orElse(0)))
+        .requestsPerSecondPerInstance(
+            Objects.isNull(requests)
+                ? null
+                : StatisticsUtil.round(requests / windowSeconds / performances.size()))
+        .requestsPerVCpuSecond(
+            Objects.isNull(requests) || vCpuSeconds == 0
+                ? null
+                : StatisticsUtil.round(requests / vCpuSeconds))
+        .latency(
+            StatisticsUtil.percentile(
+                performances.stream()
+                    .map(InstancePerformance::getLatency)
+                    .filter(Objects::nonNull)
+                    .toList(),
+                TAIL_LATENCY_PERCENTILE))
+        .errorRate(
+            Objects.isNull(requests) || Objects.isNull(errors) || requests == 0
+                ? null
+                : errors / requests)
+        .build();
+  }
+
+  /**
+   * @return sum of values, null if value of any instance is unknown
+   */
+  private static Double sum(
+      List<InstancePerformance> performances, Function<InstancePerformance, Double> metric) {
+    List<Double> values = performances.stream().map(metric).toList();
+    return values.contains(null)
+        ? null
+        : values.stream().mapToDouble(Double::doubleValue).sum();
+  }
+}
@@ -1,11 +1,15 @@
 package com.dream11.application.service;
 
 import com.dream11.application.Application;
+import com.dream11.application.aws.ClassicLoadBalancerClient;
+import com.dream11.application.aws.LoadBalancerClient;
 import com.dream11.application.aws.Route53Client;
 import com.dream11.application.config.metadata.aws.DiscoveryData;
 import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.DnsRecordConfig;
 import com.dream11.application.constant.Constants;
 import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.constant.DnsRecordType;
 import com.dream11.application.entity.Route53Record;
 import com.dream11.application.error.ApplicationError;
 import com.dream11.application.exception.GenericApplicationException;
@@ -15,22 +19,28 @@ import com.dream11.application.util.ApplicationUtil;
 import com.google.inject.Inject;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.LoadBalancer;
+import software.amazon.awssdk.services.route53.model.RRType;
 
 @Slf4j
 @RequiredArgsConstructor(onConstructor = @__({@Inject}))
 public class Route53Service {
 
   @NonNull final Route53Client route53Client;
+  @NonNull final LoadBalancerClient loadBalancerClient;
+  @NonNull final ClassicLoadBalancerClient classicLoadBalancerClient;
 
   @NonNull final DiscoveryData discoveryData;
   @NonNull final DeployConfig deployConfig;
@@ -55,38 +65,142 @@ public class Route53Service {
 
   private void createRoute53(
       String identifier, String hostedZoneId, String route, LoadBalancerState lbState) {
-    Route53Record r53Record;
-    try {
-      r53Record = this.route53Client.get(hostedZoneId, route, identifier);
-      if (r53Record.getDns().equals(lbState.getDns())) {
-        log.info("Route53:[{}] for identifier:[{}] found", route, identifier);
-        return;
-      } else {
-        if (r53Record.getWeight() != 0L) {
-          throw new GenericApplicationException(
-              ApplicationError.INCORRECT_ACTIVE_ROUTE_FOUND, route, identifier);
-        }
-        log.warn(
-            "Route53 with name:[{}] and identifier:[{}] does not have correct dns value. Correcting...",
-            route,
-            identifier);
-        r53Record.setDns(lbState.getDns());
-      }
-    } catch (Route53NotFoundException route53NotFoundException) {
+    List<Route53Record> existingRecords =
+        this.convertRecordType(hostedZoneId, route).stream()
+            .filter(r53Record -> r53Record.getIdentifier().equals(identifier))
+            .toList();
+    List<Route53Record> r53Records = this.buildRecords(route, identifier, lbState, 0L);
+    if (existingRecords.isEmpty()) {
       log.warn(
           "Route53 with name:[{}] and identifier:[{}] not found. Creating...", route, identifier);
-      r53Record =
+      this.route53Client.createOrUpdate(hostedZoneId, r53Records);
+    } else if (isTargeting(existingRecords, r53Records)) {
+      log.info("Route53:[{}] for identifier:[{}] found", route, identifier);
+      return;
+    } else {
+      if (existingRecords.get(0).getWeight() != 0L) {
+        throw new GenericApplicationException(
+            ApplicationError.INCORRECT_ACTIVE_ROUTE_FOUND, route, identifier);
+      }
+      log.warn(
+          "Route53 with name:[{}] and identifier:[{}] does not have correct dns value. Correcting...",
+          route,
+          identifier);
+      Set<RRType> types =
+          r53Records.stream().map(Route53Record::getType).collect(Collectors.toSet());
+      this.route53Client.replace(
+          hostedZoneId,
+          existingRecords.stream()
+              .filter(r53Record -> !types.contains(r53Record.getType()))
+              .toList(),
+          r53Records);
+    }
+    Application.getState().addRoute53State(hostedZoneId, route, identifier);
+    log.info("Route53:[{}] for identifier:[{}] created", route, identifier);
+  }
+
+  private static boolean isTargeting(
+      List<Route53Record> existingRecords, List<Route53Record> r53Records) {
+    return existingRecords.size() == r53Records.size()
+        && r53Records.stream()
+            .allMatch(
+                r53Record ->
+                    existingRecords.stream()
+                        .anyMatch(
+                            existingRecord ->
+                                existingRecord.getType() == r53Record.getType()
+                                    && existingRecord
+                                        .getDns()
+                                        .equalsIgnoreCase(r53Record.getDns())));
+  }
+
+  /**
+   * Converts records of a route which are not of the configured type, keeping their weights.
+   * CNAME and alias records can not exist together for a name, hence all of them are converted in
+   * a single change batch
+   *
+   * @return records of the route after conversion
+   */
+  private List<Route53Record> convertRecordType(String hostedZoneId, String route) {
+    DnsRecordType recordType = this.deployConfig.getLoadBalancerConfig().getDnsRecord().getType();
+    List<Route53Record> records = this.route53Client.list(hostedZoneId, route);
+    List<Route53Record> staleRecords =
+        records.stream()
+            .filter(r53Record -> r53Record.isAlias() != (recordType == DnsRecordType.ALIAS))
+            .toList();
+    if (staleRecords.isEmpty()) {
+      return records;
+    }
+    Map<String, Long> weights = new LinkedHashMap<>();
+    staleRecords.forEach(
+        r53Record -> weights.putIfAbsent(r53Record.getIdentifier(), r53Record.getWeight()));
+    log.warn(
+        "Converting records of route:[{}] with identifiers:[{}] to {} records",
+        route,
+        weights.keySet(),
+        recordType);
+    List<Route53Record> convertedRecords = new ArrayList<>();
+    weights.forEach(
+        (identifier, weight) -> {
+          Optional<LoadBalancerState> lbState =
+              Application.getState().getLoadBalancerState(identifier);
+          if (lbState.isPresent()) {
+            convertedRecords.addAll(this.buildRecords(route, identifier, lbState.get(), weight));
+          } else if (weight != 0L) {
+            throw new GenericApplicationException(
+                ApplicationError.INCORRECT_ACTIVE_ROUTE_FOUND, route, identifier);
+          }
+        });
+    this.route53Client.replace(hostedZoneId, staleRecords, convertedRecords);
+    return this.route53Client.list(hostedZoneId, route);
+  }
+
+  private List<Route53Record> buildRecords(
+      String route, String identifier, LoadBalancerState lbState, Long weight) {
+    DnsRecordConfig dnsRecordConfig = this.deployConfig.getLoadBalancerConfig().getDnsRecord();
+    if (dnsRecordConfig.getType() == DnsRecordType.CNAME) {
+      return List.of(
           Route53Record.builder()
               .name(route)
               .dns(lbState.getDns())
               .ttl(Constants.ROUTE_53_TTL)
-              .weight(0L)
+              .weight(weight)
               .identifier(identifier)
-              .build();
+              .build());
     }
-    this.route53Client.createOrUpdate(hostedZoneId, List.of(r53Record));
-    Application.getState().addRoute53State(hostedZoneId, route, identifier);
-    log.info("Route53:[{}] for identifier:[{}] created", route, identifier);
+    String canonicalHostedZoneId = this.getCanonicalHostedZoneId(lbState);
+    List<RRType> types =
+        Boolean.TRUE.equals(lbState.getDualStack())
+            ? List.of(RRType.A, RRType.AAAA)
+            : List.of(RRType.A);
+    return types.stream()
+        .map(
+            type ->
+                Route53Record.builder()
+                    .name(route)
+                    .dns(lbState.getDns())
+                    .weight(weight)
+                    .identifier(identifier)
+                    .type(type)
+                    .aliasHostedZoneId(canonicalHostedZoneId)
+                    .evaluateTargetHealth(dnsRecordConfig.getEvaluateTargetHealth())
+                    .build())
+        .toList();
+  }
+
+  /** Load balancers in state created before alias records were supported lack hosted zone */
+  private String getCanonicalHostedZoneId(LoadBalancerState lbState) {
+    if (Objects.isNull(lbState.getCanonicalHostedZoneId())) {
+      if (Objects.nonNull(lbState.getArn())) {
+        LoadBalancer loadBalancer = this.loadBalancerClient.describe(lbState.getArn());
+        lbState.setCanonicalHostedZoneId(loadBalancer.canonicalHostedZoneId());
+        lbState.setDualStack(LoadBalancerState.isDualStack(loadBalancer));
+      } else {
+        lbState.setCanonicalHostedZoneId(
+            this.classicLoadBalancerClient.describe(lbState.getName()).canonicalHostedZoneNameID());
+      }
+    }
+    return lbState.getCanonicalHostedZoneId();
   }
 
   public void deleteRoute53s() {
@@ -202,6 +316,15 @@ public class Route53Service {
    * @param weights map containing weights for each deployment stack. Example {b -> 0, g- > 100}
    */
   public void setWeights(String stackId, Map<Character, Long> weights) {
+    this.setWeights(stackId, weights, true);
+  }
+
+  /**
+   * @param stackId stack id
+   * @param weights map containing weights for each deployment stack. Example {b -> 0, g- > 100}
+   * @param waitForSync whether to wait for changes to propagate to all route53 name servers
+   */
+  public void setWeights(String stackId, Map<Character, Long> weights, boolean waitForSync) {
     log.info(
         "Updating weights of route53 records for stack:[{}] with distribution:[{}]",
         stackId,
@@ -225,6 +348,9 @@ public class Route53Service {
               route,
               this.generateWeightMap(stackId, Constants.EXTERNAL_IDENTIFIER, weights)));
     }
+    if (!waitForSync) {
+      return;
+    }
     List<Callable<Boolean>> waitForChangesToSync =
         changeIds.stream()
             .map(changeId -> (Callable<Boolean>) () -> this.waitForChangeToSync(changeId))
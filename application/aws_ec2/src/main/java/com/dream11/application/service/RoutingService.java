@@ -5,14 +5,18 @@ import com.dream11.application.config.user.BlueGreenStrategyConfig;
 import com.dream11.application.config.user.DeployConfig;
 import com.dream11.application.constant.Constants;
 import com.dream11.application.constant.ErrorMetric;
+import com.dream11.application.constant.LoadBalancerType;
+import com.dream11.application.entity.ExperimentEffect;
 import com.dream11.application.error.ApplicationError;
 import com.dream11.application.exception.GenericApplicationException;
+import com.dream11.application.state.LoadBalancerState;
 import com.dream11.application.util.ApplicationUtil;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 import com.google.inject.Inject;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,6 +25,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import lombok.NonNull;
@@ -39,6 +44,7 @@ public class RoutingService {
 
   @NonNull final LoadBalancerService loadBalancerService;
   @NonNull final ClassicLoadBalancerService classicLoadBalancerService;
+  @NonNull final ExperimentService experimentService;
 
   public void routeTraffic(
       BlueGreenStrategyConfig config, Map<String, Character> deploymentStackMap) {
@@ -77,6 +83,7 @@ public class RoutingService {
                 Collectors.toUnmodifiableMap(
                     Map.Entry::getKey, entry -> Map.copyOf(entry.getValue())));
     log.info("Current route53 weights:[{}]", currentWeights);
+    Duration canaryDuration = Duration.ofSeconds(config.getCanaryConfig().getSteps().getDuration());
     try {
       for (int i = 0; i < config.getCanaryConfig().getSteps().getCount(); i++) {
         // Canary analysis iteration
@@ -103,7 +110,7 @@ public class RoutingService {
                       deploymentStackWeight,
                       sisterDeploymentStack,
                       sisterDeploymentStackWeight);
-              this.route53Service.setWeights(stackId, weightsToUpdate);
+              this.setWeights(stackId, weightsToUpdate);
               // Update current weights
               currentWeights.get(stackId).put(deploymentStack, deploymentStackWeight);
               currentWeights.get(stackId).put(sisterDeploymentStack, sisterDeploymentStackWeight);
@@ -112,10 +119,13 @@ public class RoutingService {
             "Waiting [{}s] to allow the metrics to stabilize",
             Constants.DELAY_FOR_CLOUD_METRICS_STABILIZATION.toSeconds());
         List<Callable<Boolean>> tasks =
-            this.createAllCanaryAnalysisTasks(config, deploymentStackMap);
+            this.createAllCanaryAnalysisTasks(config, deploymentStackMap, canaryDuration);
         ApplicationUtil.runOnExecutorService(tasks);
         log.info("Canary analysis step:[{}] completed successfully", i + 1);
       }
+      if (config.getCanaryConfig().getExperiment().getEnabled().equals(Boolean.TRUE)) {
+        this.runExperiment(config, deploymentStackMap, weightDistribution);
+      }
       // Shift to 100% and perform canary analysis
       log.info(
           "Starting canary analysis with full traffic for [{}] seconds",
@@ -124,44 +134,154 @@ public class RoutingService {
       log.info(
           "Waiting [{}s] to allow the metrics to stabilize",
           Constants.DELAY_FOR_CLOUD_METRICS_STABILIZATION.toSeconds());
-      List<Callable<Boolean>> tasks = this.createAllCanaryAnalysisTasks(config, deploymentStackMap);
+      List<Callable<Boolean>> tasks =
+          this.createAllCanaryAnalysisTasks(config, deploymentStackMap, canaryDuration);
       ApplicationUtil.runOnExecutorService(tasks);
       log.info("Canary analysis completed successfully");
 
     } catch (Exception ex) {
       // Revert weights
-      log.error("Canary analysis failed, reverting route53 weights");
+      log.error("Canary analysis failed, reverting weights");
       deploymentStackMap.forEach(
           (stackId, deploymentStack) ->
-              this.route53Service.setWeights(stackId, initialWeights.get(stackId)));
+              this.setWeights(stackId, initialWeights.get(stackId)));
       throw ex;
     }
   }
 
+  /**
+   * Holds configured share of traffic on new deployment stacks for experiment duration while canary
+   * analysis keeps running, then compares their performance with active deployment stacks
+   */
+  private void runExperiment(
+      BlueGreenStrategyConfig config,
+      Map<String, Character> deploymentStackMap,
+      Map<String, Long> weightDistribution) {
+    BlueGreenStrategyConfig.ExperimentConfig experimentConfig =
+        config.getCanaryConfig().getExperiment();
+    deploymentStackMap.forEach(
+        (stackId, deploymentStack) -> {
+          Long deploymentStackWeight =
+              weightDistribution.get(stackId) * experimentConfig.getWeight() / 100;
+          this.setWeights(
+              stackId,
+              Map.of(
+                  deploymentStack,
+                  deploymentStackWeight,
+                  ApplicationUtil.getSisterDeploymentStack(deploymentStack),
+                  weightDistribution.get(stackId) - deploymentStackWeight));
+        });
+    log.info(
+        "Starting performance experiment with [{}%] traffic on new deployment stacks for [{}] seconds",
+        experimentConfig.getWeight(),
+        experimentConfig.getDuration());
+    // Minutes before traffic split stabilizes are left out of comparison
+    Instant startTime =
+        Instant.now()
+            .plus(Constants.DELAY_FOR_CLOUD_METRICS_STABILIZATION)
+            .truncatedTo(ChronoUnit.MINUTES)
+            .plus(1, ChronoUnit.MINUTES);
+    ApplicationUtil.runOnExecutorService(
+        this.createAllCanaryAnalysisTasks(
+            config, deploymentStackMap, Duration.ofSeconds(experimentConfig.getDuration())));
+    Instant endTime = Instant.now().truncatedTo(ChronoUnit.MINUTES);
+
+    List<ExperimentEffect> regressions =
+        deploymentStackMap.entrySet().stream()
+            .flatMap(
+                entry ->
+                    this.experimentService
+                        .analyse(
+                            experimentConfig, entry.getKey(), entry.getValue(), startTime, endTime)
+                        .stream())
+            .filter(effect -> Boolean.TRUE.equals(effect.getRegression()))
+            .toList();
+    if (regressions.isEmpty()) {
+      log.info("Performance experiment completed without significant regression");
+      return;
+    }
+    String regressedMetrics =
+        regressions.stream()
+            .map(
+                effect ->
+                    String.format(
+                        "stackId:[%s] %s:[%s%%]",
+                        effect.getStackId(), effect.getMetric(), effect.getChangePercentage()))
+            .collect(Collectors.joining(", "));
+    if (experimentConfig.getBlockOnRegression().equals(Boolean.TRUE)) {
+      throw new GenericApplicationException(
+          ApplicationError.PERFORMANCE_REGRESSION,
+          experimentConfig.getMaxRegressionPercentage(),
+          regressedMetrics);
+    }
+    log.warn("Proceeding despite performance regression in {}", regressedMetrics);
+  }
+
   private List<Callable<Boolean>> createAllCanaryAnalysisTasks(
-      BlueGreenStrategyConfig config, Map<String, Character> deploymentStackMap) {
+      BlueGreenStrategyConfig config,
+      Map<String, Character> deploymentStackMap,
+      Duration canaryDuration) {
     List<Callable<Boolean>> tasks = new ArrayList<>();
     deploymentStackMap.forEach(
         (stackId, deploymentStack) -> {
           tasks.addAll(
               this.createCanaryAnalysisTasks(
-                  config, stackId, deploymentStack, Constants.INTERNAL_IDENTIFIER));
+                  config,
+                  stackId,
+                  deploymentStack,
+                  Constants.INTERNAL_IDENTIFIER,
+                  canaryDuration));
           tasks.addAll(
               this.createCanaryAnalysisTasks(
-                  config, stackId, deploymentStack, Constants.EXTERNAL_IDENTIFIER));
+                  config,
+                  stackId,
+                  deploymentStack,
+                  Constants.EXTERNAL_IDENTIFIER,
+                  canaryDuration));
         });
     return tasks;
   }
 
   private List<Callable<Boolean>> createCanaryAnalysisTasks(
-      BlueGreenStrategyConfig config, String stackId, Character deploymentStack, Character type) {
+      BlueGreenStrategyConfig config,
+      String stackId,
+      Character deploymentStack,
+      Character type,
+      Duration canaryDuration) {
     List<Callable<Boolean>> tasks = new ArrayList<>();
-    Duration canaryDuration = Duration.ofSeconds(config.getCanaryConfig().getSteps().getDuration());
-    Pair<String, String> lbInfo =
-        Application.getState()
-            .getLbArnOrName(String.format("%s%s%s", stackId, type, deploymentStack));
+    String identifier = String.format("%s%s%s", stackId, type, deploymentStack);
+    String activeIdentifier =
+        String.format(
+            "%s%s%s", stackId, type, ApplicationUtil.getSisterDeploymentStack(deploymentStack));
+    Pair<String, String> lbInfo = Application.getState().getLbArnOrName(identifier);
+    Pair<String, String> activeLbInfo = Application.getState().getLbArnOrName(activeIdentifier);
+    // Network load balancers do not publish latency
+    boolean latencyAvailable =
+        this.deployConfig.getLoadBalancerConfig().getType() != LoadBalancerType.NLB;
 
-    if (Objects.nonNull(lbInfo.getLeft())) {
+    if (Objects.nonNull(lbInfo.getLeft())
+        && this.loadBalancerService.isTargetGroupRouting(stackId)) {
+      // Load balancer is shared by deployment stacks, hence analyse their target groups only
+      List<String> targetGroupArns = getTargetGroupArns(identifier);
+      List<String> activeTargetGroupArns = getTargetGroupArns(activeIdentifier);
+      tasks.add(
+          () ->
+              this.doCanaryAnalysis(
+                  config,
+                  instant ->
+                      this.loadBalancerService.getRequestCount(
+                          lbInfo.getLeft(), targetGroupArns, instant),
+                  instant ->
+                      this.loadBalancerService.getErrorCount(
+                          lbInfo.getLeft(), targetGroupArns, instant),
+                  instant ->
+                      this.loadBalancerService.getLatency(
+                          lbInfo.getLeft(), targetGroupArns, instant),
+                  instant ->
+                      this.loadBalancerService.getLatency(
+                          lbInfo.getLeft(), activeTargetGroupArns, instant),
+                  canaryDuration));
+    } else if (Objects.nonNull(lbInfo.getLeft())) {
       // Application/Network load balancers
       tasks.add(
           () ->
@@ -169,6 +289,16 @@ public class RoutingService {
                   config,
                   instant -> this.loadBalancerService.getRequestCount(lbInfo.getLeft(), instant),
                   instant -> this.loadBalancerService.getErrorCount(lbInfo.getLeft(), instant),
+                  instant ->
+                      latencyAvailable
+                          ? this.loadBalancerService.getLatency(
+                              lbInfo.getLeft(), List.of(), instant)
+                          : Map.of(),
+                  instant ->
+                      latencyAvailable && Objects.nonNull(activeLbInfo.getLeft())
+                          ? this.loadBalancerService.getLatency(
+                              activeLbInfo.getLeft(), List.of(), instant)
+                          : Map.of(),
                   canaryDuration));
     }
     if (Objects.nonNull(lbInfo.getRight())) {
@@ -181,17 +311,42 @@ public class RoutingService {
                       this.classicLoadBalancerService.getRequestCount(lbInfo.getRight(), instant),
                   instant ->
                       this.classicLoadBalancerService.getErrorCount(lbInfo.getRight(), instant),
+                  instant -> this.classicLoadBalancerService.getLatency(lbInfo.getRight(), instant),
+                  instant ->
+                      Objects.nonNull(activeLbInfo.getRight())
+                          ? this.classicLoadBalancerService.getLatency(
+                              activeLbInfo.getRight(), instant)
+                          : Map.of(),
                   canaryDuration));
     }
     return tasks;
   }
 
+  private static List<String> getTargetGroupArns(String identifier) {
+    return Application.getState()
+        .getLoadBalancerState(identifier)
+        .map(
+            loadBalancerState ->
+                loadBalancerState.getTargetGroups().stream()
+                    .map(LoadBalancerState.TargetGroupState::getArn)
+                    .toList())
+        .orElse(List.of());
+  }
+
+  /**
+   * @param latencyFn latency percentiles of new deployment stack in milliseconds
+   * @param activeLatencyFn latency percentiles of active deployment stack over the same window
+   */
   @SneakyThrows
   private boolean doCanaryAnalysis(
       BlueGreenStrategyConfig config,
       ToDoubleFunction<Instant> requestCountFn,
       ToDoubleFunction<Instant> errorCountFn,
+      Function<Instant, Map<String, Double>> latencyFn,
+      Function<Instant, Map<String, Double>> activeLatencyFn,
       Duration duration) {
+    BlueGreenStrategyConfig.CanaryLatencyThreshold latencyThreshold =
+        config.getCanaryConfig().getLatencyThreshold();
     long startTime = System.currentTimeMillis();
     Instant startInstant = Instant.ofEpochMilli(startTime);
     Thread.sleep(Constants.DELAY_FOR_CLOUD_METRICS_STABILIZATION.toMillis());
@@ -202,6 +357,10 @@ public class RoutingService {
       Double requestCount = requestCountFn.applyAsDouble(startInstant);
       Double errorCount = errorCountFn.applyAsDouble(startInstant);
       this.verifyCanaryMetrics(requestCount, errorCount, config);
+      if (latencyThreshold.isEnabled() && requestCount >= latencyThreshold.getMinRequests()) {
+        verifyCanaryLatency(
+            latencyFn.apply(startInstant), activeLatencyFn.apply(startInstant), latencyThreshold);
+      }
       Thread.sleep(Constants.DELAY_FOR_MAKING_NEXT_REQUEST.toMillis());
     }
     return true;
@@ -227,6 +386,57 @@ public class RoutingService {
     }
   }
 
+  /**
+   * Relative threshold is checked only when active deployment stack has served requests in the
+   * window, which it does not once full traffic is routed to new deployment stack
+   */
+  static void verifyCanaryLatency(
+      Map<String, Double> latency,
+      Map<String, Double> activeLatency,
+      BlueGreenStrategyConfig.CanaryLatencyThreshold threshold) {
+    for (String percentile : Constants.LATENCY_PERCENTILES) {
+      Double value = latency.get(percentile);
+      if (Objects.isNull(value)) {
+        continue;
+      }
+      Integer absoluteThreshold = threshold.getThreshold(percentile);
+      if (Objects.nonNull(absoluteThreshold) && value > absoluteThreshold) {
+        throw new GenericApplicationException(
+            ApplicationError.LATENCY_CANARY_ANALYSIS_FAILED,
+            percentile,
+            value,
+            absoluteThreshold.doubleValue());
+      }
+      Double activeValue = activeLatency.get(percentile);
+      if (Objects.nonNull(threshold.getMaxIncreasePercentage())
+          && Objects.nonNull(activeValue)
+          && activeValue > 0) {
+        double relativeThreshold = activeValue * (100 + threshold.getMaxIncreasePercentage()) / 100;
+        if (value > relativeThreshold) {
+          throw new GenericApplicationException(
+              ApplicationError.LATENCY_CANARY_ANALYSIS_FAILED,
+              percentile,
+              value,
+              relativeThreshold);
+        }
+      }
+    }
+  }
+
+  /**
+   * Shifts traffic of stack to deployment stacks as per weights. When deployment stacks share load
+   * balancers, weights of their target groups shift traffic and route53 weights only record which
+   * deployment stack is active, hence there is no need to wait for them to sync
+   */
+  private void setWeights(String stackId, Map<Character, Long> weights) {
+    if (this.loadBalancerService.isTargetGroupRouting(stackId)) {
+      this.loadBalancerService.setTargetGroupWeights(stackId, weights);
+      this.route53Service.setWeights(stackId, weights, false);
+    } else {
+      this.route53Service.setWeights(stackId, weights);
+    }
+  }
+
   public void routeFullTraffic(Map<String, Character> deploymentStackMap) {
     Map<String, Long> weightDistribution =
         ApplicationUtil.getWeightDistribution(this.deployConfig.getStacks());
@@ -238,7 +448,7 @@ public class RoutingService {
                   weightDistribution.get(stackId),
                   ApplicationUtil.getSisterDeploymentStack(deploymentStack),
                   0L);
-          this.route53Service.setWeights(stackId, weightsToUpdate);
+          this.setWeights(stackId, weightsToUpdate);
         });
   }
 
@@ -0,0 +1,103 @@
+package com.dream11.application.service;
+
+import com.dream11.application.config.user.AutoScalingGroupConfig;
+import com.dream11.application.config.user.DeployConfig;
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.autoscaling.model.Activity;
+
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class ScaleOutService {
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final ScalingActivityService scalingActivityService;
+
+  /**
+   * @param currentCapacity capacity of the ASG before scale out starts
+   * @return number of instances to add in the first step
+   */
+  public int getInitialStep(int currentCapacity) {
+    AutoScalingGroupConfig.ScaleOutConfig scaleOutConfig = this.getScaleOutConfig();
+    int step = (int) Math.ceil(currentCapacity * (scaleOutConfig.getGrowthFactor() - 1));
+    return this.boundStep(step);
+  }
+
+  /**
+   * Computes the size of the next step from the scaling activities observed during the step which
+   * just completed
+   *
+   * @param asgName name of the ASG
+   * @param step number of instances added in the completed step
+   * @param stepStartTime time at which the completed step was started
+   * @return number of instances to add in the next step
+   */
+  public int getNextStep(String asgName, int step, Instant stepStartTime) {
+    Duration timeToHealthy = Duration.between(stepStartTime, Instant.now());
+    List<Activity> launchActivities =
+        this.scalingActivityService.getLaunchActivities(asgName, stepStartTime);
+    long failedLaunches =
+        launchActivities.stream().filter(ScalingActivityService::isFailed).count();
+    boolean capacityErrors =
+        launchActivities.stream()
+            .anyMatch(
+                activity -> ScalingActivityService.isCapacityError(activity.statusMessage()));
+    double launchSuccessRate =
+        launchActivities.isEmpty()
+            ? 1.0
+            : (double) (launchActivities.size() - failedLaunches) / launchActivities.size();
+    int nextStep = this.computeNextStep(step, launchSuccessRate, capacityErrors, timeToHealthy);
+    log.info(
+        "Step of {} instances in ASG:[{}] became healthy in {} seconds with launch success rate:[{}] and capacity errors:[{}]. Next step:[{}]",
+        step,
+        asgName,
+        timeToHealthy.toSeconds(),
+        String.format("%.2f", launchSuccessRate),
+        capacityErrors,
+        nextStep);
+    return nextStep;
+  }
+
+  /**
+   * Step is halved when launches fail or capacity is short, held when the step took longer than
+   * the target duration to become healthy and grown geometrically otherwise. Instance types are not
+   * switched on capacity errors, the mixed instances policy of the ASG already falls back to the
+   * other configured instance types, so only the step size is adjusted
+   *
+   * @param step number of instances added in the completed step
+   * @param launchSuccessRate ratio of successful launches to total launches in the completed step
+   * @param capacityErrors whether any launch failed due to insufficient capacity
+   * @param timeToHealthy time taken by the completed step to become healthy
+   * @return number of instances to add in the next step
+   */
+  public int computeNextStep(
+      int step, double launchSuccessRate, boolean capacityErrors, Duration timeToHealthy) {
+    AutoScalingGroupConfig.ScaleOutConfig scaleOutConfig = this.getScaleOutConfig();
+    if (capacityErrors || launchSuccessRate < scaleOutConfig.getMinLaunchSuccessRate()) {
+      return this.boundStep(step / 2);
+    }
+    if (timeToHealthy.toSeconds() > scaleOutConfig.getTargetStepDuration()) {
+      return this.boundStep(step);
+    }
+    return this.boundStep((int) Math.ceil(step * scaleOutConfig.getGrowthFactor()));
+  }
+
+  private int boundStep(int step) {
+    AutoScalingGroupConfig.ScaleOutConfig scaleOutConfig = this.getScaleOutConfig();
+    int boundedStep = Math.max(step, scaleOutConfig.getMinStep());
+    if (Objects.nonNull(scaleOutConfig.getMaxStep())) {
+      boundedStep = Math.min(boundedStep, scaleOutConfig.getMaxStep());
+    }
+    return boundedStep;
+  }
+
+  private AutoScalingGroupConfig.ScaleOutConfig getScaleOutConfig() {
+    return this.deployConfig.getAutoScalingGroupConfig().getScaleOut();
+  }
+}
@@ -0,0 +1,134 @@
+package com.dream11.application.service;
+
+import com.dream11.application.constant.Constants;
+import com.dream11.application.error.ApplicationError;
+import com.dream11.application.exception.GenericApplicationException;
+import com.google.inject.Inject;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.autoscaling.model.Activity;
+import software.amazon.awssdk.services.autoscaling.model.ScalingActivityStatusCode;
+
+/**
+ * Inspects launch activities of ASGs. Failed launches are classified as retryable when ASG can
+ * succeed on its own by retrying in another availability zone or with another instance type (for
+ * example insufficient capacity), and as fatal when every retry is bound to fail (for example an
+ * invalid AMI, IAM instance profile or exhausted subnet)
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class ScalingActivityService {
+
+  @NonNull final AutoscalingGroupService autoscalingGroupService;
+
+  final Set<String> reportedActivityIds = ConcurrentHashMap.newKeySet();
+  // Launches started before this time are in a terminal state and need not be described again
+  final Map<String, Instant> checkedUntil = new ConcurrentHashMap<>();
+  final Map<String, Instant> lastCheckTimes = new ConcurrentHashMap<>();
+
+  public List<Activity> getLaunchActivities(String asgName, Instant startTime) {
+    return this.autoscalingGroupService.getScalingActivities(asgName, startTime).stream()
+        .filter(ScalingActivityService::isLaunchActivity)
+        .toList();
+  }
+
+  /**
+   * Aborts if any launch started in the ASG at or after given time failed with a fatal error.
+   * Retryable failures are logged once per activity. Checks of an ASG are rate limited and only
+   * launches which were not in a terminal state at the previous check are described again
+   *
+   * @param asgName name of the ASG
+   * @param startTime launches started before this time are not checked
+   */
+  public void checkLaunchFailures(String asgName, Instant startTime) {
+    Instant now = Instant.now();
+    Instant lastCheckTime = this.lastCheckTimes.get(asgName);
+    if (Objects.nonNull(lastCheckTime)
+        && now.isBefore(lastCheckTime.plus(Constants.DELAY_FOR_CHECKING_SCALING_ACTIVITIES))) {
+      return;
+    }
+    this.lastCheckTimes.put(asgName, now);
+    Instant from = this.checkedUntil.getOrDefault(asgName, startTime);
+    if (from.isBefore(startTime)) {
+      from = startTime;
+    }
+    List<Activity> activities = this.getLaunchActivities(asgName, from);
+    this.checkedUntil.put(asgName, getCheckedUntil(activities, from));
+    activities.stream()
+        .filter(ScalingActivityService::isFailed)
+        .filter(activity -> this.reportedActivityIds.add(activity.activityId()))
+        .forEach(
+            activity -> {
+              if (isFatalError(activity.statusMessage())) {
+                throw new GenericApplicationException(
+                    ApplicationError.ASG_LAUNCH_FAILED,
+                    asgName,
+                    activity.activityId(),
+                    activity.statusMessage());
+              }
+              log.warn(
+                  "Instance launch in ASG:[{}] failed with retryable reason:[{}]",
+                  asgName,
+                  activity.statusMessage());
+            });
+  }
+
+  /**
+   * @return start time of the earliest launch which is still in progress, or of the latest launch
+   *     if all of them are in a terminal state
+   */
+  static Instant getCheckedUntil(List<Activity> activities, Instant from) {
+    Optional<Instant> inProgress =
+        activities.stream()
+            .filter(activity -> !isTerminal(activity))
+            .map(Activity::startTime)
+            .min(Comparator.naturalOrder());
+    if (inProgress.isPresent()) {
+      return inProgress.get();
+    }
+    return activities.stream()
+        .map(Activity::startTime)
+        .max(Comparator.naturalOrder())
+        .orElse(from);
+  }
+
+  private static boolean isTerminal(Activity activity) {
+    return activity.statusCode() == ScalingActivityStatusCode.SUCCESSFUL || isFailed(activity);
+  }
+
+  public static boolean isFailed(Activity activity) {
+    return activity.statusCode() == ScalingActivityStatusCode.FAILED
+        || activity.statusCode() == ScalingActivityStatusCode.CANCELLED;
+  }
+
+  public static boolean isCapacityError(String statusMessage) {
+    return matchesAny(statusMessage, Constants.CAPACITY_ERRORS);
+  }
+
+  public static boolean isFatalError(String statusMessage) {
+    return !isCapacityError(statusMessage)
+        && matchesAny(statusMessage, Constants.FATAL_LAUNCH_ERRORS);
+  }
+
+  private static boolean isLaunchActivity(Activity activity) {
+    return Objects.nonNull(activity.description())
+        && activity.description().startsWith(Constants.LAUNCH_ACTIVITY_DESCRIPTION_PREFIX);
+  }
+
+  private static boolean matchesAny(String statusMessage, List<Pattern> patterns) {
+    if (Objects.isNull(statusMessage)) {
+      return false;
+    }
+    return patterns.stream().anyMatch(pattern -> pattern.matcher(statusMessage).find());
+  }
+}
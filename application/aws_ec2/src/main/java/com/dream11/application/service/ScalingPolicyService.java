@@ -0,0 +1,197 @@
+package com.dream11.application.service;
+
+import com.dream11.application.aws.AutoscalingGroupClient;
+import com.dream11.application.aws.CloudwatchClient;
+import com.dream11.application.aws.TargetGroupClient;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.ScalingConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.ScalingMetric;
+import com.dream11.application.error.ApplicationError;
+import com.dream11.application.exception.GenericApplicationException;
+import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/** Manages scaling policies, their alarms and scheduled actions of application ASGs */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class ScalingPolicyService {
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final AutoscalingGroupClient autoscalingGroupClient;
+  @NonNull final CloudwatchClient cloudwatchClient;
+  @NonNull final TargetGroupClient targetGroupClient;
+
+  /**
+   * Puts configured scaling policies and scheduled actions on ASG and removes the ones no longer
+   * configured
+   *
+   * @param name name of the ASG
+   * @param targetGroupArns target groups attached to the ASG
+   */
+  public void syncScalingPolicies(String name, List<String> targetGroupArns) {
+    ScalingConfig scalingConfig = this.deployConfig.getAutoScalingGroupConfig().getScaling();
+    scalingConfig
+        .getTargetTracking()
+        .forEach(
+            policy ->
+                this.autoscalingGroupClient.putTargetTrackingPolicy(
+                    name,
+                    policy,
+                    policy.getMetric() == ScalingMetric.REQUEST_COUNT_PER_TARGET
+                        ? this.getResourceLabel(policy.getName(), targetGroupArns)
+                        : null));
+    scalingConfig.getStep().forEach(policy -> this.putStepPolicy(name, policy));
+    scalingConfig
+        .getScheduled()
+        .forEach(action -> this.autoscalingGroupClient.putScheduledAction(name, action));
+
+    Set<String> policyNames =
+        Stream.concat(
+                scalingConfig.getTargetTracking().stream()
+                    .map(ScalingConfig.TargetTrackingPolicy::getName),
+                scalingConfig.getStep().stream().map(ScalingConfig.StepPolicy::getName))
+            .collect(Collectors.toSet());
+    Set<String> scheduledActionNames =
+        scalingConfig.getScheduled().stream()
+            .map(ScalingConfig.ScheduledAction::getName)
+            .collect(Collectors.toSet());
+    this.deleteScalingPolicies(name, policyNames, scheduledActionNames);
+
+    if (!scalingConfig.isEmpty()) {
+      log.info(
+          "Attached {} target tracking policies, {} step policies and {} scheduled actions to ASG:[{}]",
+          scalingConfig.getTargetTracking().size(),
+          scalingConfig.getStep().size(),
+          scalingConfig.getScheduled().size(),
+          name);
+    }
+  }
+
+  /**
+   * Removes scaling policies, their alarms and scheduled actions of ASG, so that they do not bring
+   * back capacity of a passive ASG. Restored by {@link #syncScalingPolicies} once it is active
+   *
+   * @param name name of the ASG
+   */
+  public void removeScalingPolicies(String name) {
+    this.deleteScalingPolicies(name, Set.of(), Set.of());
+    log.info("Removed scaling policies and scheduled actions of ASG:[{}]", name);
+  }
+
+  /** Deletes policies along with their alarms and scheduled actions of ASG not in given names */
+  private void deleteScalingPolicies(
+      String name, Set<String> policyNames, Set<String> scheduledActionNames) {
+    List<String> stalePolicies =
+        this.autoscalingGroupClient.describePolicyNames(name).stream()
+            .filter(policyName -> !policyNames.contains(policyName))
+            .toList();
+    stalePolicies.forEach(policyName -> this.autoscalingGroupClient.deletePolicy(name, policyName));
+    this.cloudwatchClient.deleteAlarms(
+        stalePolicies.stream().map(policyName -> getAlarmName(name, policyName)).toList());
+
+    // Standby expiry is managed by passive downscale
+    this.autoscalingGroupClient.describeScheduledActionNames(name).stream()
+        .filter(
+            actionName ->
+                !scheduledActionNames.contains(actionName)
+                    && !actionName.equals(Constants.STANDBY_EXPIRY_SCHEDULED_ACTION))
+        .forEach(actionName -> this.autoscalingGroupClient.deleteScheduledAction(name, actionName));
+  }
+
+  /** Stops scaling policies and scheduled actions from changing capacity of ASGs */
+  public void suspendScaling(List<String> names) {
+    if (this.deployConfig.getAutoScalingGroupConfig().getScaling().isEmpty()) {
+      return;
+    }
+    names.forEach(
+        name ->
+            this.autoscalingGroupClient.suspendProcesses(
+                name, Constants.SCALING_POLICY_PROCESSES));
+    log.info("Suspended scaling policies and scheduled actions of ASGs:{}", names);
+  }
+
+  /** Resumes processes stopped by {@link #suspendScaling}, unless they are configured suspended */
+  public void resumeScaling(List<String> names) {
+    if (this.deployConfig.getAutoScalingGroupConfig().getScaling().isEmpty()) {
+      return;
+    }
+    List<String> processes = new ArrayList<>(Constants.SCALING_POLICY_PROCESSES);
+    processes.removeAll(this.deployConfig.getAutoScalingGroupConfig().getSuspendProcesses());
+    if (processes.isEmpty()) {
+      return;
+    }
+    names.forEach(name -> this.autoscalingGroupClient.resumeProcesses(name, processes));
+    log.info("Resumed scaling policies and scheduled actions of ASGs:{}", names);
+  }
+
+  /** Deletes alarms of step scaling policies of ASG, policies get deleted along with the ASG */
+  public void deleteAlarms(String name) {
+    this.cloudwatchClient.deleteAlarms(
+        this.cloudwatchClient.describeAlarmNames(getAlarmName(name, "")));
+  }
+
+  private void putStepPolicy(String name, ScalingConfig.StepPolicy policy) {
+    String policyArn = this.autoscalingGroupClient.putStepScalingPolicy(name, policy);
+    ScalingConfig.CustomMetric metric = policy.getCustomMetric();
+    if (Objects.isNull(metric)) {
+      this.cloudwatchClient.putScalingAlarm(
+          getAlarmName(name, policy.getName()),
+          "AWS/EC2",
+          "CPUUtilization",
+          "Average",
+          Map.of("AutoScalingGroupName", name),
+          policy,
+          policyArn);
+    } else {
+      this.cloudwatchClient.putScalingAlarm(
+          getAlarmName(name, policy.getName()),
+          metric.getNamespace(),
+          metric.getMetricName(),
+          metric.getStatistic(),
+          metric.getDimensions(),
+          policy,
+          policyArn);
+    }
+  }
+
+  /**
+   * @return label identifying the first target group of ASG and its load balancer, in the form
+   *     app/lb-name/lb-id/targetgroup/tg-name/tg-id
+   */
+  private String getResourceLabel(String policyName, List<String> targetGroupArns) {
+    if (targetGroupArns.isEmpty()) {
+      throw new GenericApplicationException(
+          ApplicationError.REQUEST_COUNT_SCALING_NOT_SUPPORTED, policyName);
+    }
+    String targetGroupArn = targetGroupArns.get(0);
+    List<String> loadBalancerArns =
+        this.targetGroupClient.describe(targetGroupArn).loadBalancerArns();
+    if (loadBalancerArns.isEmpty()
+        || !LoadBalancerService.isApplicationLoadBalancer(loadBalancerArns.get(0))) {
+      throw new GenericApplicationException(
+          ApplicationError.REQUEST_COUNT_SCALING_NOT_SUPPORTED, policyName);
+    }
+    return getResourceLabel(loadBalancerArns.get(0), targetGroupArn);
+  }
+
+  static String getResourceLabel(String loadBalancerArn, String targetGroupArn) {
+    return String.format(
+        "%s/%s",
+        LoadBalancerService.getLbResourceFromArn(loadBalancerArn),
+        targetGroupArn.substring(targetGroupArn.lastIndexOf(':') + 1));
+  }
+
+  static String getAlarmName(String asgName, String policyName) {
+    return String.format("%s/%s", asgName, policyName);
+  }
+}
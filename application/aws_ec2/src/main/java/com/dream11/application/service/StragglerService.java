@@ -0,0 +1,106 @@
+package com.dream11.application.service;
+
+import com.dream11.application.config.user.AutoScalingGroupConfig;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.entity.InstanceHealthTracker;
+import com.dream11.application.util.StatisticsUtil;
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replaces instances which stay unhealthy well past the time taken by the rest of the fleet to
+ * become healthy, so that a few bad hosts do not hold up a wait until timeout
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class StragglerService {
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final AutoscalingGroupService autoscalingGroupService;
+
+  // Shared by all waits of an ASG so that replacements are capped per ASG
+  final Map<String, Set<String>> replacedInstances = new ConcurrentHashMap<>();
+
+  /**
+   * Terminates instances unhealthy for longer than p90 time to healthy of the fleet times the
+   * configured multiplier. Healthcheck grace period is the lower bound of this threshold. Instances
+   * still warming up in Pending:Wait are left to the timeout of the warm-up lifecycle hook
+   *
+   * @param asgName name of the ASG
+   * @param tracker health tracker of the wait
+   */
+  public void replaceStragglers(String asgName, InstanceHealthTracker tracker) {
+    AutoScalingGroupConfig autoScalingGroupConfig = this.deployConfig.getAutoScalingGroupConfig();
+    AutoScalingGroupConfig.StragglerReplacementConfig config =
+        autoScalingGroupConfig.getStragglerReplacement();
+    if (!Boolean.TRUE.equals(config.getEnabled())) {
+      return;
+    }
+    List<Long> timesToHealthy =
+        tracker.getTimesToHealthy().stream().map(Duration::toMillis).toList();
+    if (timesToHealthy.size() < config.getMinHealthyInstances()) {
+      return;
+    }
+    long threshold =
+        Math.max(
+            (long) (StatisticsUtil.percentile(timesToHealthy, 90) * config.getP90Multiplier()),
+            Duration.ofSeconds(autoScalingGroupConfig.getHealthcheckGracePeriod()).toMillis());
+    Map<String, Duration> stragglers =
+        tracker.getUnhealthyInstanceAges().entrySet().stream()
+            .filter(entry -> entry.getValue().toMillis() > threshold)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    if (stragglers.isEmpty()) {
+      return;
+    }
+    Set<String> warmingInstances =
+        Boolean.TRUE.equals(autoScalingGroupConfig.getWarmup().getEnabled())
+            ? this.autoscalingGroupService.getWarmingInstanceIds(asgName)
+            : Set.of();
+    Set<String> replaced =
+        this.replacedInstances.computeIfAbsent(asgName, name -> ConcurrentHashMap.newKeySet());
+    stragglers.forEach(
+        (instanceId, age) -> {
+          if (warmingInstances.contains(instanceId)) {
+            log.debug(
+                "Instance:[{}] of ASG:[{}] is unhealthy for {} seconds while warming up",
+                instanceId,
+                asgName,
+                age.toSeconds());
+            return;
+          }
+          synchronized (replaced) {
+            if (replaced.contains(instanceId)) {
+              tracker.ignore(instanceId);
+              return;
+            }
+            if (replaced.size() >= config.getMaxReplacements()) {
+              log.warn(
+                  "Instance:[{}] of ASG:[{}] is unhealthy for {} seconds but replacement cap of {} is reached",
+                  instanceId,
+                  asgName,
+                  age.toSeconds(),
+                  config.getMaxReplacements());
+              tracker.ignore(instanceId);
+              return;
+            }
+            log.warn(
+                "Instance:[{}] of ASG:[{}] is unhealthy for {} seconds which exceeds threshold of {} seconds. Replacing",
+                instanceId,
+                asgName,
+                age.toSeconds(),
+                Duration.ofMillis(threshold).toSeconds());
+            this.autoscalingGroupService.terminateInstance(asgName, instanceId);
+            replaced.add(instanceId);
+            tracker.ignore(instanceId);
+          }
+        });
+  }
+}
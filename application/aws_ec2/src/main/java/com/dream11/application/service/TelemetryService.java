@@ -0,0 +1,229 @@
+package com.dream11.application.service;
+
+import com.dream11.application.Application;
+import com.dream11.application.aws.EC2Client;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.entity.InstanceTiming;
+import com.dream11.application.state.TelemetryState;
+import com.dream11.application.util.StatisticsUtil;
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import software.amazon.awssdk.services.autoscaling.model.Activity;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.Tag;
+
+/**
+ * Collects boot stages of instances launched during a deploy and reports percentiles of time to
+ * healthy per ASG, architecture and instance type. Report is persisted in state and compared with
+ * the report of previous deploy to flag regressions
+ */
+@Slf4j
+@RequiredArgsConstructor(onConstructor = @__({@Inject}))
+public class TelemetryService {
+
+  @NonNull final DeployConfig deployConfig;
+  @NonNull final EC2Client ec2Client;
+  @NonNull final ScalingActivityService scalingActivityService;
+
+  final Instant startTime = Instant.now();
+  // Key: instance id, Value: (ASG name, time at which instance was first seen healthy)
+  final Map<String, Pair<String, Instant>> healthyTimes = new ConcurrentHashMap<>();
+
+  public void recordHealthyTimes(String asgName, Map<String, Instant> instanceHealthyTimes) {
+    instanceHealthyTimes.forEach(
+        (instanceId, healthyTime) ->
+            this.healthyTimes.merge(
+                instanceId,
+                Pair.of(asgName, healthyTime),
+                (first, second) -> first.getRight().isBefore(second.getRight()) ? first : second));
+  }
+
+  /** Telemetry is best effort and never fails the deploy */
+  public void report() {
+    if (this.healthyTimes.isEmpty()) {
+      return;
+    }
+    try {
+      this.reportTimeToHealthy();
+    } catch (Exception e) {
+      log.warn("Failed to report time to healthy of instances", e);
+    }
+  }
+
+  private void reportTimeToHealthy() {
+    List<InstanceTiming> timings = this.getInstanceTimings();
+    if (timings.isEmpty()) {
+      return;
+    }
+    List<TelemetryState.TimeToHealthyState> timeToHealthy = new ArrayList<>();
+    timeToHealthy.addAll(summarize("asg", timings, InstanceTiming::getAsgName));
+    timeToHealthy.addAll(summarize("architecture", timings, InstanceTiming::getArchitecture));
+    timeToHealthy.addAll(summarize("instanceType", timings, InstanceTiming::getInstanceType));
+    timeToHealthy.forEach(
+        state ->
+            log.info(
+                "Time to healthy for {}:[{}] over {} instances. p50:[{}s] p90:[{}s] p99:[{}s] max:[{}s]. p90 to running:[{}s], p90 to userdata completion:[{}s]",
+                state.getDimension(),
+                state.getValue(),
+                state.getCount(),
+                state.getP50(),
+                state.getP90(),
+                state.getP99(),
+                state.getMax(),
+                state.getRunningP90(),
+                state.getUserdataCompletionP90()));
+
+    TelemetryState telemetry =
+        TelemetryState.builder()
+            .artifactVersion(this.deployConfig.getArtifactConfig().getVersion())
+            .timeToHealthy(timeToHealthy)
+            .build();
+    TelemetryState previousTelemetry = Application.getState().getTelemetry();
+    if (Objects.nonNull(previousTelemetry)) {
+      this.flagRegressions(previousTelemetry, telemetry);
+    }
+    Application.getState().setTelemetry(telemetry);
+  }
+
+  private void flagRegressions(TelemetryState previousTelemetry, TelemetryState telemetry) {
+    telemetry.getTimeToHealthy().stream()
+        // ASG names change on every deploy and cannot be compared
+        .filter(state -> !state.getDimension().equals("asg"))
+        .forEach(
+            state ->
+                previousTelemetry
+                    .getTimeToHealthy(state.getDimension(), state.getValue())
+                    .filter(previous -> isRegression(previous.getP90(), state.getP90()))
+                    .ifPresent(
+                        previous ->
+                            log.warn(
+                                "Time to healthy regressed for {}:[{}]. p90 increased from [{}s] in version:[{}] to [{}s] in version:[{}]",
+                                state.getDimension(),
+                                state.getValue(),
+                                previous.getP90(),
+                                previousTelemetry.getArtifactVersion(),
+                                state.getP90(),
+                                telemetry.getArtifactVersion())));
+  }
+
+  static boolean isRegression(Long previousP90, Long p90) {
+    if (Objects.isNull(previousP90) || Objects.isNull(p90)) {
+      return false;
+    }
+    return p90 - previousP90 >= Constants.TIME_TO_HEALTHY_REGRESSION_MIN_SECONDS
+        && p90 > previousP90 * (1 + Constants.TIME_TO_HEALTHY_REGRESSION_THRESHOLD);
+  }
+
+  static List<TelemetryState.TimeToHealthyState> summarize(
+      String dimension, List<InstanceTiming> timings, Function<InstanceTiming, String> classifier) {
+    return timings.stream()
+        .filter(timing -> Objects.nonNull(classifier.apply(timing)))
+        .collect(Collectors.groupingBy(classifier))
+        .entrySet()
+        .stream()
+        .map(
+            entry -> {
+              List<Long> timesToHealthy =
+                  toSeconds(entry.getValue(), InstanceTiming::getTimeToHealthy);
+              return TelemetryState.TimeToHealthyState.builder()
+                  .dimension(dimension)
+                  .value(entry.getKey())
+                  .count(timesToHealthy.size())
+                  .p50(StatisticsUtil.percentile(timesToHealthy, 50))
+                  .p90(StatisticsUtil.percentile(timesToHealthy, 90))
+                  .p99(StatisticsUtil.percentile(timesToHealthy, 99))
+                  .max(StatisticsUtil.percentile(timesToHealthy, 100))
+                  .runningP90(
+                      StatisticsUtil.percentile(
+                          toSeconds(entry.getValue(), InstanceTiming::getTimeToRunning), 90))
+                  .userdataCompletionP90(
+                      StatisticsUtil.percentile(
+                          toSeconds(entry.getValue(), InstanceTiming::getTimeToUserdataCompletion),
+                          90))
+                  .build();
+            })
+        .toList();
+  }
+
+  private static List<Long> toSeconds(
+      List<InstanceTiming> timings, Function<InstanceTiming, Duration> stage) {
+    return timings.stream()
+        .map(stage)
+        .filter(Objects::nonNull)
+        .map(Duration::toSeconds)
+        .toList();
+  }
+
+  private List<InstanceTiming> getInstanceTimings() {
+    Map<String, Instant> requestTimes = new HashMap<>();
+    this.healthyTimes.values().stream()
+        .map(Pair::getLeft)
+        .distinct()
+        .forEach(asgName -> requestTimes.putAll(this.getLaunchRequestTimes(asgName)));
+
+    List<String> instanceIds = new ArrayList<>(this.healthyTimes.keySet());
+    List<Instance> instances = new ArrayList<>();
+    for (int i = 0; i < instanceIds.size(); i += Constants.DESCRIBE_INSTANCES_BATCH_SIZE) {
+      instances.addAll(
+          this.ec2Client.describeInstances(
+              instanceIds.subList(
+                  i, Math.min(i + Constants.DESCRIBE_INSTANCES_BATCH_SIZE, instanceIds.size()))));
+    }
+
+    return instances.stream()
+        .filter(instance -> requestTimes.containsKey(instance.instanceId()))
+        .map(
+            instance ->
+                InstanceTiming.builder()
+                    .instanceId(instance.instanceId())
+                    .asgName(this.healthyTimes.get(instance.instanceId()).getLeft())
+                    .architecture(instance.architectureAsString())
+                    .instanceType(instance.instanceTypeAsString())
+                    .requestedAt(requestTimes.get(instance.instanceId()))
+                    .runningAt(instance.launchTime())
+                    .userdataCompletedAt(getUserdataCompletionTime(instance).orElse(null))
+                    .healthyAt(this.healthyTimes.get(instance.instanceId()).getRight())
+                    .build())
+        .toList();
+  }
+
+  /**
+   * @return map of instance id to time at which its launch was requested by ASG
+   */
+  private Map<String, Instant> getLaunchRequestTimes(String asgName) {
+    Map<String, Instant> requestTimes = new HashMap<>();
+    for (Activity activity :
+        this.scalingActivityService.getLaunchActivities(asgName, this.startTime)) {
+      Matcher matcher =
+          Constants.LAUNCH_ACTIVITY_INSTANCE_ID_PATTERN.matcher(activity.description());
+      if (matcher.find()) {
+        requestTimes.put(matcher.group(1), activity.startTime());
+      }
+    }
+    return requestTimes;
+  }
+
+  private static Optional<Instant> getUserdataCompletionTime(Instance instance) {
+    return instance.tags().stream()
+        .filter(tag -> tag.key().equals(Constants.USERDATA_COMPLETED_TAG))
+        .map(Tag::value)
+        .findFirst()
+        .map(value -> Instant.ofEpochSecond(Long.parseLong(value.trim())));
+  }
+}
@@ -54,23 +54,29 @@ public class UpdateStackService {
                 .toList());
     Pair<List<AutoScalingGroup>, Integer> asgDetails =
         this.createNewAsgs(activeStackMap, newPassiveStackMap);
-    List<Callable<Boolean>> tasks =
-        new ArrayList<>(
-            deploymentService.createAllAsgWaitTasks(
-                asgDetails.getLeft(),
-                asgDetails.getRight(),
-                Constants.WAIT_FOR_TOTAL_HEALHTY_INSTANCES_DURATION));
+    try {
+      List<Callable<Boolean>> tasks =
+          new ArrayList<>(
+              deploymentService.createAllAsgWaitTasks(
+                  asgDetails.getLeft(),
+                  asgDetails.getRight(),
+                  Constants.WAIT_FOR_TOTAL_HEALHTY_INSTANCES_DURATION));
 
-    List<Pair<String, String>> lbDetails =
-        this.scaleLoadBalancers(activeStackMap, newPassiveStackMap);
-    tasks.addAll(this.deploymentService.createAllLcuWaitTasks(lbDetails));
-    //
-    ApplicationUtil.runOnExecutorService(tasks);
-    if (this.updateStackConfig.getAutoRouting().equals(Boolean.TRUE)) {
-      routingService.routeFullTraffic(
-          ApplicationUtil.merge(List.of(activeStackMap, newPassiveStackMap)));
-    } else {
-      log.warn("Skipping routing.");
+      List<Pair<String, String>> lbDetails =
+          this.scaleLoadBalancers(activeStackMap, newPassiveStackMap);
+      tasks.addAll(this.deploymentService.createAllLcuWaitTasks(lbDetails));
+      //
+      ApplicationUtil.runOnExecutorService(tasks);
+      if (this.updateStackConfig.getAutoRouting().equals(Boolean.TRUE)) {
+        routingService.routeFullTraffic(
+            ApplicationUtil.merge(List.of(activeStackMap, newPassiveStackMap)));
+      } else {
+        log.warn("Skipping routing.");
+      }
+    } finally {
+      // New ASGs are created with their scaling suspended
+      this.deploymentService.resumeScaling(
+          asgDetails.getLeft().stream().map(AutoScalingGroup::autoScalingGroupName).toList());
     }
   }
 
@@ -99,7 +105,10 @@ public class UpdateStackService {
     List<AutoScalingGroup> allAsgs = new ArrayList<>();
     allAsgs.addAll(currentAsgs);
     allAsgs.addAll(createdAsgs);
-    Integer instanceCountPerAsg = deploymentService.scaleAsgEqually(allAsgs, totalDesiredCapacity);
+    int instanceCountPerAsg = (int) Math.ceil((double) totalDesiredCapacity / allAsgs.size());
+    allAsgs.forEach(
+        asg ->
+            this.autoscalingGroupService.scale(asg.autoScalingGroupName(), instanceCountPerAsg));
     return Pair.of(allAsgs, instanceCountPerAsg);
   }
 
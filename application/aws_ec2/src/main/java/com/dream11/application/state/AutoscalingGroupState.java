@@ -15,4 +15,5 @@ public class AutoscalingGroupState {
   List<String> ltIds;
   List<String> loadBalancerNames; // For classic load balancers;
   List<String> targetGroupArns; // For application/network load balancers;
+  Long standbyExpiresAt; // Epoch seconds till which passive ASG is kept warm
 }
@@ -9,6 +9,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.IpAddressType;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.LoadBalancer;
 import software.amazon.awssdk.services.elasticloadbalancingv2.model.TargetGroup;
 
 @Data
@@ -20,6 +22,8 @@ public class LoadBalancerState {
   String dns;
   String arn;
   String routeIdentifier;
+  String canonicalHostedZoneId;
+  Boolean dualStack; // Only for application and network load balancer
   @Builder.Default List<ListenerState> listeners = new ArrayList<>();
   @Builder.Default List<TargetGroupState> targetGroups = new ArrayList<>();
 
@@ -86,6 +90,11 @@ public class LoadBalancerState {
             .build());
   }
 
+  public static boolean isDualStack(LoadBalancer loadBalancer) {
+    return List.of(IpAddressType.DUALSTACK, IpAddressType.DUALSTACK_WITHOUT_PUBLIC_IPV4)
+        .contains(loadBalancer.ipAddressType());
+  }
+
   public void removeTargetGroupState(String tgArn) {
     this.targetGroups.removeIf(targetGroup -> targetGroup.getArn().equals(tgArn));
   }
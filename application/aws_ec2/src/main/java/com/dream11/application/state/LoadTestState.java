@@ -0,0 +1,35 @@
+package com.dream11.application.state;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Result of load test of a stack, kept as baseline for load test of next deploy */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestState {
+  String stackId;
+  String artifactVersion;
+  Integer rps;
+  Long requests;
+  Double throughput; // Requests per second achieved
+  Double errorPercentage;
+  // Milliseconds
+  Long p50;
+  Long p90;
+  Long p99;
+
+  @JsonIgnore
+  public Long getPercentile(String percentile) {
+    return switch (percentile) {
+      case "p50" -> this.p50;
+      case "p90" -> this.p90;
+      case "p99" -> this.p99;
+      default -> null;
+    };
+  }
+}
@@ -29,8 +29,10 @@ public class State {
   @Builder.Default List<LaunchTemplateState> lt = new ArrayList<>();
   @Builder.Default List<AutoscalingGroupState> asg = new ArrayList<>();
   @Builder.Default List<Route53State> r53 = new ArrayList<>();
+  @Builder.Default List<LoadTestState> loadTest = new ArrayList<>();
 
   DeployConfig deployConfig;
+  TelemetryState telemetry;
 
   public void removeLoadBalancerState(String identifier) {
     this.lb.removeIf(
@@ -44,6 +46,8 @@ public class State {
             .dns(loadBalancer.dnsName())
             .arn(loadBalancer.loadBalancerArn())
             .routeIdentifier(identifier)
+            .canonicalHostedZoneId(loadBalancer.canonicalHostedZoneId())
+            .dualStack(LoadBalancerState.isDualStack(loadBalancer))
             .build());
   }
 
@@ -56,6 +60,7 @@ public class State {
             .name(loadBalancer.loadBalancerName())
             .dns(loadBalancer.dnsName())
             .routeIdentifier(identifier)
+            .canonicalHostedZoneId(loadBalancer.canonicalHostedZoneNameID())
             .listeners(
                 listeners.stream()
                     .map(
@@ -168,6 +173,15 @@ public class State {
     this.r53.removeIf(route53State -> route53State.getRoute().equals(route));
   }
 
+  public Optional<LoadTestState> getLoadTestState(String stackId) {
+    return this.loadTest.stream().filter(state -> state.getStackId().equals(stackId)).findFirst();
+  }
+
+  public void setLoadTestState(LoadTestState loadTestState) {
+    this.loadTest.removeIf(state -> state.getStackId().equals(loadTestState.getStackId()));
+    this.loadTest.add(loadTestState);
+  }
+
   public Optional<AutoscalingGroupState> getAsgByName(String name) {
     return this.asg.stream().filter(state -> state.getName().equals(name)).findFirst();
   }
@@ -0,0 +1,41 @@
+package com.dream11.application.state;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryState {
+  String artifactVersion;
+  @Builder.Default List<TimeToHealthyState> timeToHealthy = new ArrayList<>();
+
+  public Optional<TimeToHealthyState> getTimeToHealthy(String dimension, String value) {
+    return this.timeToHealthy.stream()
+        .filter(state -> state.getDimension().equals(dimension) && state.getValue().equals(value))
+        .findFirst();
+  }
+
+  /** Percentiles of time (seconds) taken by instances to become healthy since launch request */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class TimeToHealthyState {
+    String dimension; // asg, architecture or instanceType
+    String value;
+    Integer count;
+    Long p50;
+    Long p90;
+    Long p99;
+    Long max;
+    Long runningP90;
+    Long userdataCompletionP90;
+  }
+}
@@ -16,6 +16,8 @@ import jakarta.validation.ValidatorFactory;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -196,6 +198,30 @@ public class ApplicationUtil {
     return weightDistribution;
   }
 
+  /**
+   * @return smallest multiple of a minute which covers the window, so that statistics of a metric
+   *     are aggregated over the whole window
+   */
+  public int getPeriodSpanning(Instant startTime, Instant endTime) {
+    long minutes = (Duration.between(startTime, endTime).toSeconds() + 59) / 60;
+    return (int) Math.max(1, minutes) * 60;
+  }
+
+  /**
+   * @return desired attributes whose value differs from current value of the attribute
+   */
+  public Map<String, String> getChangedAttributes(
+      Map<String, String> desiredAttributes, Map<String, String> currentAttributes) {
+    Map<String, String> changedAttributes = new HashMap<>();
+    desiredAttributes.forEach(
+        (key, value) -> {
+          if (!value.equals(currentAttributes.get(key))) {
+            changedAttributes.put(key, value);
+          }
+        });
+    return changedAttributes;
+  }
+
   public Double sumList(List<Double> doubles) {
     return doubles.stream().reduce(0.0, Double::sum);
   }
@@ -0,0 +1,184 @@
+package com.dream11.application.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.tuple.Pair;
+
+@UtilityClass
+public class StatisticsUtil {
+
+  /**
+   * Nearest rank percentile
+   *
+   * @param values values to compute percentile of, need not be sorted
+   * @param percentile percentile between 0 and 100
+   * @return value at the percentile, null if there are no values
+   */
+  public <T extends Comparable<? super T>> T percentile(List<T> values, double percentile) {
+    if (values.isEmpty()) {
+      return null;
+    }
+    List<T> sortedValues = values.stream().sorted().toList();
+    int rank = (int) Math.ceil(percentile / 100 * sortedValues.size());
+    return sortedValues.get(Math.max(rank, 1) - 1);
+  }
+
+  /**
+   * @return value rounded to two decimal places, null if value is null
+   */
+  public Double round(Double value) {
+    return Objects.isNull(value) ? null : Math.round(value * 100) / 100.0;
+  }
+
+  public double mean(List<Double> values) {
+    return values.stream().mapToDouble(Double::doubleValue).average().orElse(Double.NaN);
+  }
+
+  /**
+   * Means of consecutive blocks of values. Means of blocks longer than the correlation between
+   * successive values are close to independent. Trailing values which do not fill a block are
+   * dropped
+   */
+  public List<Double> blockMeans(List<Double> values, int blockSize) {
+    List<Double> means = new ArrayList<>();
+    for (int i = 0; i + blockSize <= values.size(); i += blockSize) {
+      means.add(mean(values.subList(i, i + blockSize)));
+    }
+    return means;
+  }
+
+  /**
+   * @return unbiased sample variance, NaN if there are less than two values
+   */
+  public double variance(List<Double> values) {
+    if (values.size() < 2) {
+      return Double.NaN;
+    }
+    double mean = mean(values);
+    return values.stream().mapToDouble(value -> Math.pow(value - mean, 2)).sum()
+        / (values.size() - 1);
+  }
+
+  /**
+   * Welch's confidence interval for difference in means of two samples with unequal variances
+   *
+   * @param control control sample
+   * @param treatment treatment sample
+   * @param confidenceLevel confidence level between 0 and 100
+   * @return lower and upper bound of treatment mean - control mean
+   */
+  public Pair<Double, Double> welchInterval(
+      List<Double> control, List<Double> treatment, double confidenceLevel) {
+    double controlError = variance(control) / control.size();
+    double treatmentError = variance(treatment) / treatment.size();
+    double difference = mean(treatment) - mean(control);
+    double standardError = Math.sqrt(controlError + treatmentError);
+    if (standardError == 0) {
+      return Pair.of(difference, difference);
+    }
+    double degreesOfFreedom =
+        Math.pow(controlError + treatmentError, 2)
+            / (Math.pow(controlError, 2) / (control.size() - 1)
+                + Math.pow(treatmentError, 2) / (treatment.size() - 1));
+    double margin =
+        tQuantile(1 - (1 - confidenceLevel / 100) / 2, degreesOfFreedom) * standardError;
+    return Pair.of(difference - margin, difference + margin);
+  }
+
+  /**
+   * @return quantile of student's t distribution for probability greater than 0.5
+   */
+  public double tQuantile(double probability, double degreesOfFreedom) {
+    double low = 0;
+    double high = 1;
+    while (tCdf(high, degreesOfFreedom) < probability) {
+      high *= 2;
+    }
+    for (int i = 0; i < 100; i++) {
+      double mid = (low + high) / 2;
+      if (tCdf(mid, degreesOfFreedom) < probability) {
+        low = mid;
+      } else {
+        high = mid;
+      }
+    }
+    return (low + high) / 2;
+  }
+
+  double tCdf(double t, double degreesOfFreedom) {
+    double tail =
+        0.5
+            * regularizedIncompleteBeta(
+                degreesOfFreedom / (degreesOfFreedom + t * t), degreesOfFreedom / 2, 0.5);
+    return t >= 0 ? 1 - tail : tail;
+  }
+
+  double regularizedIncompleteBeta(double x, double a, double b) {
+    if (x <= 0) {
+      return 0;
+    }
+    if (x >= 1) {
+      return 1;
+    }
+    double front =
+        Math.exp(
+            logGamma(a + b)
+                - logGamma(a)
+                - logGamma(b)
+                + a * Math.log(x)
+                + b * Math.log(1 - x));
+    // Continued fraction converges quickly only below the mean of the distribution
+    if (x > (a + 1) / (a + b + 2)) {
+      return 1 - regularizedIncompleteBeta(1 - x, b, a);
+    }
+    return front * betaContinuedFraction(x, a, b) / a;
+  }
+
+  // Lentz's algorithm
+  private double betaContinuedFraction(double x, double a, double b) {
+    double tiny = 1e-300;
+    double c = 1;
+    double d = 1 - (a + b) * x / (a + 1);
+    d = 1 / (Math.abs(d) < tiny ? tiny : d);
+    double result = d;
+    for (int m = 1; m <= 300; m++) {
+      for (double numerator :
+          new double[] {
+            m * (b - m) * x / ((a + 2 * m - 1) * (a + 2 * m)),
+            -(a + m) * (a + b + m) * x / ((a + 2 * m) * (a + 2 * m + 1))
+          }) {
+        d = 1 + numerator * d;
+        d = 1 / (Math.abs(d) < tiny ? tiny : d);
+        c = 1 + numerator / c;
+        c = Math.abs(c) < tiny ? tiny : c;
+        result *= c * d;
+      }
+      if (Math.abs(c * d - 1) < 1e-12) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  // Lanczos approximation
+  double logGamma(double x) {
+    double[] coefficients = {
+      76.18009172947146,
+      -86.50532032941677,
+      24.01409824083091,
+      -1.231739572450155,
+      0.1208650973866179e-2,
+      -0.5395239384953e-5
+    };
+    double y = x;
+    double tmp = x + 5.5;
+    tmp -= (x + 0.5) * Math.log(tmp);
+    double series = 1.000000000190015;
+    for (double coefficient : coefficients) {
+      series += coefficient / ++y;
+    }
+    return -tmp + Math.log(2.5066282746310005 * series / x);
+  }
+}
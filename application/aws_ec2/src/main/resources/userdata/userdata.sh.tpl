@@ -34,6 +34,32 @@ systemctl start ntpd
 sudo ntpdate -u 169.254.169.123
 systemctl restart nscd
 
+<#if instance_store_enabled>
+# Format and mount NVMe instance store volumes, striping them when there are more than one
+echo "Mounting instance store volumes at ${instance_store_mount_point}"
+INSTANCE_STORE_DEVICES=$(lsblk --nodeps --noheadings --output NAME,MODEL | awk '/Amazon EC2 NVMe Instance Storage/ {print "/dev/"$1}')
+INSTANCE_STORE_DEVICE_COUNT=$(echo "$INSTANCE_STORE_DEVICES" | grep -c .)
+if [ "$INSTANCE_STORE_DEVICE_COUNT" -eq 0 ]; then
+  echo "No instance store volumes found on instance"
+else
+  if [ "$INSTANCE_STORE_DEVICE_COUNT" -gt 1 ]; then
+    command -v mdadm > /dev/null || yum install -y mdadm
+    mdadm --create /dev/md0 --run --level=0 --raid-devices=$INSTANCE_STORE_DEVICE_COUNT $INSTANCE_STORE_DEVICES
+    # Assemble the array under the same name after reboot
+    mdadm --detail --scan >> /etc/mdadm.conf
+    INSTANCE_STORE_DEVICE=/dev/md0
+  else
+    INSTANCE_STORE_DEVICE=$INSTANCE_STORE_DEVICES
+  fi
+  mkfs -t ${instance_store_filesystem} $INSTANCE_STORE_DEVICE
+  mkdir -p ${instance_store_mount_point}
+  mount -o defaults,noatime $INSTANCE_STORE_DEVICE ${instance_store_mount_point}
+  # Instance store survives reboot but not stop, hence nofail so that boot does not hang without it
+  echo "UUID=$(blkid -s UUID -o value $INSTANCE_STORE_DEVICE) ${instance_store_mount_point} ${instance_store_filesystem} defaults,noatime,nofail 0 2" >> /etc/fstab
+  echo "Mounted $INSTANCE_STORE_DEVICE_COUNT instance store volumes at ${instance_store_mount_point}"
+fi
+
+</#if>
 # Execute pre start userdata patch
 echo "Executing pre start userdata patch"
 ${pre_start_userdata}
@@ -94,6 +120,64 @@ minutes=$(((time_difference % 3600) / 60))
 seconds=$((time_difference % 60))
 
 echo "Userdata end time: $end_time"
+
+# Record userdata completion time on the instance for deploy telemetry
+IMDS_TOKEN=$(curl --silent --request PUT "http://169.254.169.254/latest/api/token" -H "X-aws-ec2-metadata-token-ttl-seconds: 60")
+INSTANCE_ID=$(curl --silent -H "X-aws-ec2-metadata-token: $IMDS_TOKEN" http://169.254.169.254/latest/meta-data/instance-id)
+REGION=$(curl --silent -H "X-aws-ec2-metadata-token: $IMDS_TOKEN" http://169.254.169.254/latest/meta-data/placement/region)
+aws ec2 create-tags --region $REGION --resources $INSTANCE_ID --tags Key=${userdata_completed_tag},Value=$end_time || echo "Failed to record userdata completion time"
+
+<#if warmup_enabled>
+# Warm up application over localhost while the instance is held in Pending:Wait by the launch
+# lifecycle hook, so that it is registered with load balancers only once hot paths are compiled
+echo "Warming up application"
+ASG_NAME=$(aws autoscaling describe-auto-scaling-instances --region $REGION --instance-ids $INSTANCE_ID --query 'AutoScalingInstances[0].AutoScalingGroupName' --output text)
+aws autoscaling record-lifecycle-action-heartbeat --region $REGION --auto-scaling-group-name $ASG_NAME --lifecycle-hook-name ${warmup_lifecycle_hook} --instance-id $INSTANCE_ID || echo "Failed to record warm-up heartbeat"
+WARMUP_URL=${warmup_scheme}://localhost:${warmup_port?c}
+WARMUP_DEADLINE=$(($(date +%s) + ${warmup_timeout?c}))
+WARMUP_DIR=/etc/odin/${component_name}/warmup
+mkdir -p $WARMUP_DIR
+<#list warmup_requests as request>
+cat << 'EOM' > $WARMUP_DIR/${request?index}.curl
+url = "${warmup_scheme}://localhost:${warmup_port?c}${request.path?json_string}"
+request = "${request.method?json_string}"
+<#list request.headers as key, value>
+header = "${key?json_string}: ${value?json_string}"
+</#list>
+<#if request.body??>
+data = "${request.body?json_string}"
+</#if>
+EOM
+</#list>
+
+<#if warmup_health_path??>
+until [ "$(curl --silent --insecure --output /dev/null --write-out '%{http_code}' $WARMUP_URL${warmup_health_path})" = "200" ] || [ $(date +%s) -ge $WARMUP_DEADLINE ]; do
+  sleep 2
+done
+</#if>
+WARMUP_REQUESTS=0
+while [ $WARMUP_REQUESTS -lt ${warmup_max_requests?c} ] && [ $(date +%s) -lt $WARMUP_DEADLINE ]; do
+  # p90 latency of successful requests of the batch in milliseconds, -1 when none succeeded.
+  # Refused or failed requests return fast and would pass for a warm application
+  WARMUP_P90=$(seq 1 ${warmup_batch_size?c} \
+    | awk '{ print "'$WARMUP_DIR'/" ($1 % ${warmup_requests?size}) ".curl" }' \
+    | xargs -P ${warmup_concurrency?c} -I {} curl --fail --silent --insecure --output /dev/null --max-time 10 --write-out '%{http_code} %{time_total}\n' --config {} \
+    | awk '$1 ~ /^[23]/ { print $2 }' \
+    | sort -n \
+    | awk '{ values[NR] = $1 } END { if (NR == 0) { printf "-1"; exit } rank = int((NR * 9 + 9) / 10); printf "%d", values[rank] * 1000 }')
+  WARMUP_REQUESTS=$((WARMUP_REQUESTS + ${warmup_batch_size?c}))
+  echo "Warm-up requests:[$WARMUP_REQUESTS] p90:[$WARMUP_P90 ms]"
+<#if warmup_latency_target??>
+  if [ "$WARMUP_P90" -ge 0 ] && [ "$WARMUP_P90" -le ${warmup_latency_target?c} ]; then
+    echo "Warm-up latency target:[${warmup_latency_target?c} ms] reached"
+    break
+  fi
+</#if>
+done
+aws autoscaling complete-lifecycle-action --region $REGION --auto-scaling-group-name $ASG_NAME --lifecycle-hook-name ${warmup_lifecycle_hook} --instance-id $INSTANCE_ID --lifecycle-action-result CONTINUE || echo "Failed to complete warm-up lifecycle action"
+echo "Warm-up completed after $WARMUP_REQUESTS requests"
+</#if>
+
 # Print the difference
 echo "Time taken: $hours hours, $minutes minutes, $seconds seconds"
 } | write_log
@@ -0,0 +1,43 @@
+package com.dream11.application.aws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.config.user.AutoScalingGroupConfig;
+import com.dream11.application.config.user.RollingStrategyConfig;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.autoscaling.model.RefreshPreferences;
+
+class AutoscalingGroupClientTest {
+
+  @Test
+  void testRefreshPreferencesWithCheckpoints() {
+    // Arrange
+    RollingStrategyConfig rollingStrategyConfig = new RollingStrategyConfig();
+    rollingStrategyConfig.setCheckpointPercentages(List.of(20, 50, 100));
+    rollingStrategyConfig.setCheckpointDelay(600);
+
+    // Act
+    RefreshPreferences preferences =
+        AutoscalingGroupClient.buildRefreshPreferences(
+            new AutoScalingGroupConfig(), rollingStrategyConfig);
+
+    // Assert
+    assertThat(preferences.checkpointPercentages()).containsExactly(20, 50, 100);
+    assertThat(preferences.checkpointDelay()).isEqualTo(600);
+    assertThat(preferences.autoRollback()).isTrue();
+    assertThat(preferences.skipMatching()).isTrue();
+  }
+
+  @Test
+  void testRefreshPreferencesWithoutCheckpoints() {
+    // Act
+    RefreshPreferences preferences =
+        AutoscalingGroupClient.buildRefreshPreferences(
+            new AutoScalingGroupConfig(), new RollingStrategyConfig());
+
+    // Assert
+    assertThat(preferences.hasCheckpointPercentages()).isFalse();
+    assertThat(preferences.checkpointDelay()).isNull();
+  }
+}
@@ -0,0 +1,58 @@
+package com.dream11.application.aws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.dream11.application.config.user.EbsConfig;
+import com.dream11.application.constant.EbsVolumeType;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.BlockDeviceMapping;
+import software.amazon.awssdk.services.ec2.model.DescribeImagesResponse;
+import software.amazon.awssdk.services.ec2.model.EbsBlockDevice;
+import software.amazon.awssdk.services.ec2.model.Image;
+import software.amazon.awssdk.services.ec2.model.LaunchTemplateBlockDeviceMappingRequest;
+import software.amazon.awssdk.services.ec2.model.VolumeType;
+
+class LaunchTemplateClientTest {
+
+  static BlockDeviceMapping buildMapping(String deviceName) {
+    return BlockDeviceMapping.builder()
+        .deviceName(deviceName)
+        .ebs(EbsBlockDevice.builder().volumeType(VolumeType.GP2).iops(150).build())
+        .build();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testVolumeTypeOverrideAppliesToRootVolumeOnly() {
+    // Arrange
+    Ec2Client ec2Client = mock(Ec2Client.class);
+    when(ec2Client.describeImages(any(Consumer.class)))
+        .thenReturn(
+            DescribeImagesResponse.builder()
+                .images(
+                    Image.builder()
+                        .rootDeviceName("/dev/xvda")
+                        .blockDeviceMappings(buildMapping("/dev/xvda"), buildMapping("/dev/xvdb"))
+                        .build())
+                .build());
+    EbsConfig ebsConfig = new EbsConfig();
+    ebsConfig.setVolumeType(EbsVolumeType.GP3);
+    ebsConfig.setIops(4000);
+
+    // Act
+    List<LaunchTemplateBlockDeviceMappingRequest> mappings =
+        new LaunchTemplateClient(ec2Client).buildBlockDeviceMappings("ami-1", ebsConfig);
+
+    // Assert
+    assertThat(mappings.get(0).ebs().volumeTypeAsString()).isEqualTo("gp3");
+    assertThat(mappings.get(0).ebs().iops()).isEqualTo(4000);
+    assertThat(mappings.get(1).ebs().volumeTypeAsString()).isEqualTo("gp2");
+    assertThat(mappings.get(1).ebs().iops()).isEqualTo(150);
+  }
+}
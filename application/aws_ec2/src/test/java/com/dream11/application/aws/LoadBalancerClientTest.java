@@ -0,0 +1,65 @@
+package com.dream11.application.aws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.constant.Constants;
+import com.dream11.application.entity.ProvisionedCapacityResponse;
+import org.junit.jupiter.api.Test;
+
+class LoadBalancerClientTest {
+
+  static final String LOAD_BALANCER_ARN =
+      "arn:aws:elasticloadbalancing:us-east-1:123456789012:loadbalancer/app/odin/50dc6c495c0c9188";
+
+  @Test
+  void testCapacityReservationIsProvisionedAfterPending() {
+    // Arrange
+    StubLoadBalancingV2Client stub = new StubLoadBalancingV2Client();
+    LoadBalancerClient loadBalancerClient = new LoadBalancerClient(stub);
+
+    // Act
+    loadBalancerClient.modifyProvisionedCapacity(LOAD_BALANCER_ARN, 200);
+    ProvisionedCapacityResponse.ProvisionedCapacity pending =
+        loadBalancerClient.getProvisionedCapacity(LOAD_BALANCER_ARN);
+    loadBalancerClient.getProvisionedCapacity(LOAD_BALANCER_ARN);
+    ProvisionedCapacityResponse.ProvisionedCapacity provisioned =
+        loadBalancerClient.getProvisionedCapacity(LOAD_BALANCER_ARN);
+
+    // Assert
+    assertThat(pending.getLcu()).isEqualTo(200);
+    assertThat(pending.getStatus()).isEqualTo("pending");
+    assertThat(provisioned.getStatus()).isEqualTo(Constants.LCU_PROVISIONED_STATUS);
+  }
+
+  @Test
+  void testResetCapacityReservation() {
+    // Arrange
+    StubLoadBalancingV2Client stub = new StubLoadBalancingV2Client();
+    stub.setDescribeCallsToProvision(0);
+    LoadBalancerClient loadBalancerClient = new LoadBalancerClient(stub);
+    loadBalancerClient.modifyProvisionedCapacity(LOAD_BALANCER_ARN, 200);
+
+    // Act
+    loadBalancerClient.modifyProvisionedCapacity(LOAD_BALANCER_ARN, 0);
+
+    // Assert
+    assertThat(loadBalancerClient.getProvisionedCapacity(LOAD_BALANCER_ARN).getLcu()).isZero();
+  }
+
+  @Test
+  void testFailedReservationReportsReason() {
+    // Arrange
+    StubLoadBalancingV2Client stub = new StubLoadBalancingV2Client();
+    stub.setFailProvisioning(true);
+    LoadBalancerClient loadBalancerClient = new LoadBalancerClient(stub);
+    loadBalancerClient.modifyProvisionedCapacity(LOAD_BALANCER_ARN, 200);
+
+    // Act
+    ProvisionedCapacityResponse.ProvisionedCapacity capacity =
+        loadBalancerClient.getProvisionedCapacity(LOAD_BALANCER_ARN);
+
+    // Assert
+    assertThat(capacity.getStatus()).isEqualTo(Constants.LCU_FAILED_STATUS);
+    assertThat(capacity.getReason()).isEqualTo("Insufficient capacity");
+  }
+}
@@ -0,0 +1,86 @@
+package com.dream11.application.aws;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Setter;
+import software.amazon.awssdk.services.elasticloadbalancingv2.ElasticLoadBalancingV2Client;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.CapacityReservationStateEnum;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.DescribeCapacityReservationRequest;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.DescribeCapacityReservationResponse;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.ModifyCapacityReservationRequest;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.ModifyCapacityReservationResponse;
+import software.amazon.awssdk.services.elasticloadbalancingv2.model.ZonalCapacityReservationState;
+
+/**
+ * In memory capacity reservation of load balancers. A reservation stays pending for configured
+ * number of describe calls before it is provisioned in all zones
+ */
+class StubLoadBalancingV2Client implements ElasticLoadBalancingV2Client {
+
+  static final List<String> ZONES = List.of("us-east-1a", "us-east-1b");
+
+  final Map<String, Integer> reservations = new HashMap<>();
+  final Map<String, Integer> pendingCalls = new HashMap<>();
+  @Setter int describeCallsToProvision = 2;
+  @Setter boolean failProvisioning = false;
+  int modifyCalls = 0;
+
+  @Override
+  public ModifyCapacityReservationResponse modifyCapacityReservation(
+      ModifyCapacityReservationRequest request) {
+    this.modifyCalls++;
+    if (Boolean.TRUE.equals(request.resetCapacityReservation())) {
+      this.reservations.remove(request.loadBalancerArn());
+    } else {
+      this.reservations.put(
+          request.loadBalancerArn(), request.minimumLoadBalancerCapacity().capacityUnits());
+    }
+    this.pendingCalls.put(request.loadBalancerArn(), this.describeCallsToProvision);
+    return ModifyCapacityReservationResponse.builder().decreaseRequestsRemaining(3).build();
+  }
+
+  @Override
+  public DescribeCapacityReservationResponse describeCapacityReservation(
+      DescribeCapacityReservationRequest request) {
+    Integer lcu = this.reservations.get(request.loadBalancerArn());
+    int pending = this.pendingCalls.getOrDefault(request.loadBalancerArn(), 0);
+    this.pendingCalls.put(request.loadBalancerArn(), Math.max(pending - 1, 0));
+    CapacityReservationStateEnum code =
+        this.failProvisioning
+            ? CapacityReservationStateEnum.FAILED
+            : pending > 0
+                ? CapacityReservationStateEnum.PENDING
+                : CapacityReservationStateEnum.PROVISIONED;
+    DescribeCapacityReservationResponse.Builder response =
+        DescribeCapacityReservationResponse.builder()
+            .capacityReservationState(
+                ZONES.stream()
+                    .map(
+                        zone ->
+                            ZonalCapacityReservationState.builder()
+                                .availabilityZone(zone)
+                                .state(
+                                    state ->
+                                        state
+                                            .code(code)
+                                            .reason(
+                                                code == CapacityReservationStateEnum.FAILED
+                                                    ? "Insufficient capacity"
+                                                    : null))
+                                .build())
+                    .toList());
+    if (lcu != null) {
+      response.minimumLoadBalancerCapacity(capacity -> capacity.capacityUnits(lcu));
+    }
+    return response.build();
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {}
+}
@@ -0,0 +1,71 @@
+package com.dream11.application.config.user;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dream11.application.constant.EbsVolumeType;
+import com.dream11.application.exception.GenericApplicationException;
+import org.junit.jupiter.api.Test;
+
+class EbsConfigTest {
+
+  static EbsConfig.Volume volume(
+      EbsVolumeType volumeType, int size, Integer iops, Integer throughput) {
+    EbsConfig.Volume volume = new EbsConfig.Volume();
+    volume.setDeviceName("/dev/sdf");
+    volume.setVolumeType(volumeType);
+    volume.setSize(size);
+    volume.setIops(iops);
+    volume.setThroughput(throughput);
+    return volume;
+  }
+
+  @Test
+  void testValidGp3AndIo2Volumes() {
+    // Arrange
+    EbsConfig ebsConfig = new EbsConfig();
+    ebsConfig.setVolumeType(EbsVolumeType.GP3);
+    ebsConfig.setIops(6000);
+    ebsConfig.setThroughput(500);
+    ebsConfig.getVolumes().add(volume(EbsVolumeType.IO2, 100, 50000, null));
+
+    // Act & Assert
+    assertThatCode(ebsConfig::validate).doesNotThrowAnyException();
+  }
+
+  @Test
+  void testGp3ThroughputAboveIopsRatioIsRejected() {
+    // Arrange
+    EbsConfig ebsConfig = new EbsConfig();
+    ebsConfig.getVolumes().add(volume(EbsVolumeType.GP3, 100, null, 1000));
+
+    // Act & Assert
+    assertThatThrownBy(ebsConfig::validate)
+        .isInstanceOf(GenericApplicationException.class)
+        .hasMessageContaining("throughput is outside the limits of volumeType");
+  }
+
+  @Test
+  void testIo1WithoutIopsIsRejected() {
+    // Arrange
+    EbsConfig ebsConfig = new EbsConfig();
+    ebsConfig.getVolumes().add(volume(EbsVolumeType.IO1, 100, null, null));
+
+    // Act & Assert
+    assertThatThrownBy(ebsConfig::validate)
+        .isInstanceOf(GenericApplicationException.class)
+        .hasMessageContaining("iops is outside the limits of volumeType");
+  }
+
+  @Test
+  void testIopsWithoutVolumeTypeIsRejected() {
+    // Arrange
+    EbsConfig ebsConfig = new EbsConfig();
+    ebsConfig.setIops(4000);
+
+    // Act & Assert
+    assertThatThrownBy(ebsConfig::validate)
+        .isInstanceOf(GenericApplicationException.class)
+        .hasMessageContaining("volumeType must be set when iops or throughput is set");
+  }
+}
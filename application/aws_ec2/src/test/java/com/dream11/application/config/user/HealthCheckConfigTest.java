@@ -0,0 +1,28 @@
+package com.dream11.application.config.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HealthCheckConfigTest {
+
+  @Test
+  void testFastRegistrationKeepsUnhealthyThresholdAndPath() {
+    // Arrange
+    HealthCheckConfig healthCheckConfig = new HealthCheckConfig();
+    healthCheckConfig.setInterval(30);
+    healthCheckConfig.setUnhealthyThreshold(3);
+    healthCheckConfig.setPath("/ready");
+
+    // Act
+    HealthCheckConfig fastRegistration = healthCheckConfig.toFastRegistration();
+
+    // Assert
+    assertThat(fastRegistration.getInterval()).isEqualTo(5);
+    assertThat(fastRegistration.getTimeout()).isEqualTo(4);
+    assertThat(fastRegistration.getHealthyThreshold()).isEqualTo(2);
+    assertThat(fastRegistration.getUnhealthyThreshold()).isEqualTo(3);
+    assertThat(fastRegistration.getPath()).isEqualTo("/ready");
+    assertThat(healthCheckConfig.getInterval()).isEqualTo(30);
+  }
+}
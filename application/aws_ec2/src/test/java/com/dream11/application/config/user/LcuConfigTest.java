@@ -0,0 +1,21 @@
+package com.dream11.application.config.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.constant.LoadBalancerType;
+import org.junit.jupiter.api.Test;
+
+class LcuConfigTest {
+
+  @Test
+  void testReservationBelowMinimumIsNotSupported() {
+    // Arrange
+    LcuConfig lcuConfig = new LcuConfig();
+    lcuConfig.setExternal(200);
+
+    // Act & Assert
+    assertThat(new LcuConfig().isSupportedBy(LoadBalancerType.NLB)).isTrue();
+    assertThat(lcuConfig.isSupportedBy(LoadBalancerType.ALB)).isTrue();
+    assertThat(lcuConfig.isSupportedBy(LoadBalancerType.NLB)).isFalse();
+  }
+}
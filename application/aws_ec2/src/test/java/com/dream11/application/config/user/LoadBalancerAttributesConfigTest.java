@@ -0,0 +1,46 @@
+package com.dream11.application.config.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.dream11.application.constant.LoadBalancerType;
+import org.junit.jupiter.api.Test;
+
+class LoadBalancerAttributesConfigTest {
+
+  @Test
+  void testApplicationLoadBalancerAttributes() {
+    // Arrange
+    LoadBalancerAttributesConfig attributesConfig = new LoadBalancerAttributesConfig();
+    attributesConfig.setIdleTimeout(120);
+    attributesConfig.setHttp2(false);
+
+    // Act & Assert
+    assertThat(attributesConfig.toAttributes(LoadBalancerType.ALB))
+        .containsOnly(
+            entry("idle_timeout.timeout_seconds", "120"), entry("routing.http2.enabled", "false"));
+    assertThat(attributesConfig.isSupportedBy(LoadBalancerType.ALB)).isTrue();
+    assertThat(attributesConfig.isSupportedBy(LoadBalancerType.NLB)).isFalse();
+    assertThat(new LoadBalancerAttributesConfig().toAttributes(LoadBalancerType.ALB)).isEmpty();
+  }
+
+  @Test
+  void testClassicLoadBalancerAttributes() {
+    // Arrange
+    LoadBalancerAttributesConfig attributesConfig = new LoadBalancerAttributesConfig();
+    attributesConfig.setIdleTimeout(120);
+    attributesConfig.setCrossZone(true);
+    attributesConfig.setConnectionDraining(
+        new LoadBalancerAttributesConfig.ConnectionDrainingConfig());
+
+    // Act & Assert
+    assertThat(attributesConfig.toAttributes(LoadBalancerType.CLB))
+        .containsOnly(
+            entry(LoadBalancerAttributesConfig.CLB_IDLE_TIMEOUT, "120"),
+            entry(LoadBalancerAttributesConfig.CLB_CROSS_ZONE, "true"),
+            entry(LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING, "true"),
+            entry(LoadBalancerAttributesConfig.CLB_CONNECTION_DRAINING_TIMEOUT, "300"));
+    assertThat(attributesConfig.isSupportedBy(LoadBalancerType.CLB)).isTrue();
+    assertThat(attributesConfig.isSupportedBy(LoadBalancerType.ALB)).isFalse();
+  }
+}
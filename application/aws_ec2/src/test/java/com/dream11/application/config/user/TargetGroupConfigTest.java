@@ -0,0 +1,50 @@
+package com.dream11.application.config.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.dream11.application.constant.LoadBalancerType;
+import com.dream11.application.constant.LoadBalancingAlgorithm;
+import com.dream11.application.constant.StickinessType;
+import org.junit.jupiter.api.Test;
+
+class TargetGroupConfigTest {
+
+  @Test
+  void testOnlyConfiguredAttributesAreManaged() {
+    // Arrange
+    TargetGroupConfig targetGroupConfig = new TargetGroupConfig();
+    targetGroupConfig.setAlgorithm(LoadBalancingAlgorithm.WEIGHTED_RANDOM);
+    targetGroupConfig.setAnomalyMitigation(true);
+    targetGroupConfig.setDeregistrationDelay(30);
+    targetGroupConfig.setStickiness(new TargetGroupConfig.StickinessConfig());
+
+    // Act & Assert
+    assertThat(targetGroupConfig.toAttributes())
+        .containsOnly(
+            entry("load_balancing.algorithm.type", "weighted_random"),
+            entry("load_balancing.algorithm.anomaly_mitigation", "on"),
+            entry("deregistration_delay.timeout_seconds", "30"),
+            entry("stickiness.enabled", "true"),
+            entry("stickiness.type", "lb_cookie"),
+            entry("stickiness.lb_cookie.duration_seconds", "86400"));
+    assertThat(targetGroupConfig.isSupportedBy(LoadBalancerType.ALB)).isTrue();
+    assertThat(targetGroupConfig.isSupportedBy(LoadBalancerType.NLB)).isFalse();
+    assertThat(new TargetGroupConfig().toAttributes()).isEmpty();
+  }
+
+  @Test
+  void testNetworkLoadBalancerSupportsSourceIpStickiness() {
+    // Arrange
+    TargetGroupConfig targetGroupConfig = new TargetGroupConfig();
+    targetGroupConfig.setDeregistrationDelay(0);
+    TargetGroupConfig.StickinessConfig stickiness = new TargetGroupConfig.StickinessConfig();
+    stickiness.setType(StickinessType.SOURCE_IP);
+    targetGroupConfig.setStickiness(stickiness);
+
+    // Act & Assert
+    assertThat(targetGroupConfig.isSupportedBy(LoadBalancerType.NLB)).isTrue();
+    assertThat(targetGroupConfig.isSupportedBy(LoadBalancerType.ALB)).isFalse();
+    assertThat(targetGroupConfig.toAttributes()).containsEntry("stickiness.type", "source_ip");
+  }
+}
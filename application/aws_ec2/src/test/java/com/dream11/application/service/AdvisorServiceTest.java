@@ -0,0 +1,115 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dream11.application.Application;
+import com.dream11.application.config.user.AdviseConfig;
+import com.dream11.application.entity.Advice;
+import com.dream11.application.entity.AsgUtilisation;
+import com.dream11.application.exception.GenericApplicationException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
+import software.amazon.awssdk.services.ec2.model.InstanceTypeInfo;
+
+class AdvisorServiceTest {
+
+  static InstanceTypeInfo instanceType(String name, int vCpus, double bandwidthGbps) {
+    return InstanceTypeInfo.builder()
+        .instanceType(name)
+        .vCpuInfo(vCpuInfo -> vCpuInfo.defaultVCpus(vCpus))
+        .processorInfo(processorInfo -> processorInfo.supportedArchitecturesWithStrings("arm64"))
+        .networkInfo(
+            networkInfo ->
+                networkInfo.networkCards(
+                    networkCard -> networkCard.baselineBandwidthInGbps(bandwidthGbps)))
+        .build();
+  }
+
+  @SneakyThrows
+  static List<AsgUtilisation> readUtilisations() {
+    try (InputStream inputStream =
+        AdvisorServiceTest.class.getClassLoader().getResourceAsStream("advisor/utilisation.json")) {
+      return Application.getObjectMapper()
+          .readValue(inputStream, new TypeReference<List<AsgUtilisation>>() {});
+    }
+  }
+
+  @Test
+  void testRecommendCheapestInstanceTypeFromRecordedMetrics() {
+    // Arrange
+    AdviseConfig adviseConfig = new AdviseConfig();
+    adviseConfig.setHourlyPrices(
+        Map.of("c6g.large", 0.068, "c6g.xlarge", 0.136, "m6g.2xlarge", 0.308));
+    List<InstanceTypeInfo> candidates =
+        List.of(
+            instanceType("m6g.2xlarge", 8, 2.5),
+            instanceType("c6g.xlarge", 4, 1.25),
+            instanceType("c6g.large", 2, 0.75));
+
+    // Act
+    Advice advice = AdvisorService.recommend(readUtilisations(), candidates, adviseConfig, 3600);
+
+    // Assert
+    assertThat(advice.getDatapoints()).isEqualTo(48);
+    assertThat(advice.getCurrent().getInstances()).isEqualTo(8);
+    assertThat(advice.getCurrent().getVCpuDemand()).isEqualTo(8.0);
+    assertThat(advice.getCurrent().getCpuUtilization()).isEqualTo(50.0);
+    assertThat(advice.getCurrent().getRequestsPerSecond()).isEqualTo(200.0);
+    assertThat(advice.getCurrent().getTargetResponseTime()).isEqualTo(0.12);
+
+    Advice.Recommendation recommended = advice.getRecommended();
+    assertThat(recommended.getInstanceType()).isEqualTo("c6g.large");
+    assertThat(recommended.getFamily()).isEqualTo("c6g");
+    assertThat(recommended.getSize()).isEqualTo("large");
+    assertThat(recommended.getArchitecture()).isEqualTo("arm64");
+    assertThat(recommended.getCount()).isEqualTo(7);
+    assertThat(recommended.getProjectedCpuUtilization()).isEqualTo(57.14);
+    assertThat(recommended.getMonthlyCost()).isEqualTo(347.48);
+    assertThat(advice.getRecommendations())
+        .extracting(Advice.Recommendation::getInstanceType)
+        .containsExactly("c6g.large", "c6g.xlarge", "m6g.2xlarge");
+    assertThat(advice.getRecommendations().get(2).getCount()).isEqualTo(2);
+  }
+
+  @Test
+  void testNoUtilisationHistory() {
+    // Arrange
+    AsgUtilisation utilisation =
+        AsgUtilisation.builder().name("asg").instances(2).vCpusPerInstance(2.0).build();
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                AdvisorService.recommend(
+                    List.of(utilisation),
+                    List.of(instanceType("c6g.large", 2, 0.75)),
+                    new AdviseConfig(),
+                    3600))
+        .isInstanceOf(GenericApplicationException.class);
+  }
+
+  @Test
+  void testVCpusOfEmptyAsgFallBackToFirstOfferedType() {
+    // Arrange
+    AutoScalingGroup asg = AutoScalingGroup.builder().autoScalingGroupName("asg").build();
+    Map<String, InstanceTypeInfo> instanceTypes =
+        Map.of("c6g.xlarge", instanceType("c6g.xlarge", 4, 1.25));
+
+    // Act
+    double vCpus =
+        AdvisorService.getVCpusPerInstance(
+            asg, instanceTypes, List.of("c7g.xlarge", "c6g.xlarge"));
+
+    // Assert
+    assertThat(vCpus).isEqualTo(4);
+    assertThatThrownBy(
+            () -> AdvisorService.getVCpusPerInstance(asg, instanceTypes, List.of("c7g.xlarge")))
+        .isInstanceOf(GenericApplicationException.class);
+  }
+}
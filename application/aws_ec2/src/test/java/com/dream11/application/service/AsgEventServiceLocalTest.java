@@ -0,0 +1,93 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.aws.SNSClient;
+import com.dream11.application.aws.SQSClient;
+import com.dream11.application.config.metadata.aws.AwsAccountData;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.entity.AsgEvent;
+import com.dream11.application.util.TestUtil;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sqs.SqsClient;
+
+/**
+ * Runs event driven wait against a local SNS/SQS stand-in such as LocalStack, which is picked up
+ * by the SDK through AWS_ENDPOINT_URL. Queue policy is not enforced by such stand-ins, hence only
+ * queue creation, subscription, raw delivery and clean up are covered
+ */
+@EnabledIfEnvironmentVariable(named = "AWS_ENDPOINT_URL", matches = ".+")
+class AsgEventServiceLocalTest {
+
+  static final String REGION = "us-east-1";
+
+  SnsClient snsClient;
+  SqsClient sqsClient;
+  String topicArn;
+  AsgEventService asgEventService;
+
+  @BeforeEach
+  void setup() {
+    this.snsClient = SnsClient.builder().region(Region.of(REGION)).build();
+    this.sqsClient = SqsClient.builder().region(Region.of(REGION)).build();
+    this.topicArn =
+        this.snsClient.createTopic(request -> request.name("odin-asg-events-test")).topicArn();
+    DeployConfig deployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.PRIVATE);
+    deployConfig.getAutoScalingGroupConfig().setEventDrivenWait(true);
+    deployConfig.getAutoScalingGroupConfig().setSnsTopicArn(this.topicArn);
+    this.asgEventService =
+        new AsgEventService(
+            deployConfig,
+            new SQSClient(REGION, AwsRetryStrategy.standardRetryStrategy()),
+            new SNSClient(REGION, AwsRetryStrategy.standardRetryStrategy()),
+            new AwsAccountData());
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.snsClient.deleteTopic(request -> request.topicArn(this.topicArn));
+  }
+
+  @Test
+  @SneakyThrows
+  void testEventPublishedToTopicReachesWaitOfItsAsg() {
+    // Arrange
+    this.asgEventService.start();
+    AsgEventService.Subscription subscription = this.asgEventService.subscribe("asg-1");
+
+    // Act
+    this.snsClient.publish(
+        request ->
+            request
+                .topicArn(this.topicArn)
+                .message(
+                    """
+                    {"Event":"autoscaling:EC2_INSTANCE_LAUNCH","AutoScalingGroupName":"asg-1","EC2InstanceId":"i-1"}"""));
+    AsgEvent event = subscription.getEvents().poll(30, TimeUnit.SECONDS);
+    this.asgEventService.stop();
+
+    // Assert
+    assertThat(event).isNotNull();
+    assertThat(event.isLaunch()).isTrue();
+    assertThat(
+            this.sqsClient
+                .listQueues(request -> request.queueNamePrefix(Constants.ASG_EVENT_QUEUE_PREFIX))
+                .queueUrls())
+        .isEmpty();
+    assertThat(
+            this.snsClient
+                .listSubscriptionsByTopic(request -> request.topicArn(this.topicArn))
+                .subscriptions())
+        .isEmpty();
+  }
+}
@@ -0,0 +1,121 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.dream11.application.aws.SNSClient;
+import com.dream11.application.aws.SQSClient;
+import com.dream11.application.config.metadata.aws.AwsAccountData;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.util.TestUtil;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+@ExtendWith({MockitoExtension.class})
+class AsgEventServiceTest {
+
+  static final String TOPIC_ARN = "arn:aws:sns:us-east-1:000000000000:asg-events";
+  static final String QUEUE_URL = "http://localhost:4566/000000000000/odin-asg-events";
+  static final String QUEUE_ARN = "arn:aws:sqs:us-east-1:000000000000:odin-asg-events";
+
+  @Mock SQSClient sqsClient;
+  @Mock SNSClient snsClient;
+
+  DeployConfig deployConfig;
+
+  AsgEventService asgEventService;
+
+  @BeforeEach
+  void setup() {
+    deployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.PRIVATE);
+    deployConfig.getAutoScalingGroupConfig().setSnsTopicArn(TOPIC_ARN);
+    asgEventService =
+        new AsgEventService(deployConfig, sqsClient, snsClient, new AwsAccountData());
+  }
+
+  static Message launchMessage(String asgName) {
+    return Message.builder()
+        .messageId("1")
+        .body(
+            String.format(
+                """
+                {"Event":"autoscaling:EC2_INSTANCE_LAUNCH","AutoScalingGroupName":"%s","EC2InstanceId":"i-1"}""",
+                asgName))
+        .build();
+  }
+
+  void startListening() {
+    deployConfig.getAutoScalingGroupConfig().setEventDrivenWait(true);
+    when(sqsClient.createQueue(anyString(), any())).thenReturn(QUEUE_URL);
+    when(sqsClient.getQueueArn(QUEUE_URL)).thenReturn(QUEUE_ARN);
+    when(snsClient.subscribeQueue(TOPIC_ARN, QUEUE_ARN)).thenReturn("subscriptionArn");
+    // Long poll blocks till listener is cancelled, events are dispatched by tests
+    lenient()
+        .when(sqsClient.receiveMessages(eq(QUEUE_URL), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              new CountDownLatch(1).await();
+              return List.of();
+            });
+    asgEventService.start();
+  }
+
+  @Test
+  void testQueueIsSubscribedAndDeleted() {
+    // Act
+    startListening();
+    asgEventService.stop();
+
+    // Assert
+    verify(sqsClient).allowTopic(QUEUE_URL, QUEUE_ARN, TOPIC_ARN);
+    verify(snsClient).unsubscribe("subscriptionArn");
+    verify(sqsClient).deleteQueue(QUEUE_URL);
+  }
+
+  @Test
+  void testEventWakesUpEveryWaitOfItsAsg() {
+    // Arrange
+    startListening();
+    AsgEventService.Subscription first = asgEventService.subscribe("asg-1");
+    AsgEventService.Subscription second = asgEventService.subscribe("asg-1");
+    AsgEventService.Subscription other = asgEventService.subscribe("asg-2");
+    AsgEventService.Subscription closed = asgEventService.subscribe("asg-1");
+    closed.close();
+
+    // Act
+    asgEventService.dispatch(launchMessage("asg-1"));
+    first.waitForNextCheck();
+    second.waitForNextCheck();
+    asgEventService.stop();
+
+    // Assert
+    assertThat(first.getEvents()).isEmpty();
+    assertThat(second.getEvents()).isEmpty();
+    assertThat(other.getEvents()).isEmpty();
+    assertThat(closed.getEvents()).isEmpty();
+  }
+
+  @Test
+  void testNoQueueIsCreatedWhenEventDrivenWaitIsDisabled() {
+    // Act
+    asgEventService.start();
+    asgEventService.stop();
+
+    // Assert
+    verifyNoInteractions(sqsClient, snsClient);
+  }
+}
@@ -0,0 +1,48 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.autoscaling.model.AutoScalingGroup;
+import software.amazon.awssdk.services.autoscaling.model.LaunchTemplateOverrides;
+
+class AutoscalingGroupServiceTest {
+
+  static AutoScalingGroup buildAsg(String weightedCapacity) {
+    return AutoScalingGroup.builder()
+        .mixedInstancesPolicy(
+            policy ->
+                policy.launchTemplate(
+                    launchTemplate ->
+                        launchTemplate.overrides(
+                            LaunchTemplateOverrides.builder()
+                                .instanceType("c6g.xlarge")
+                                .weightedCapacity(weightedCapacity)
+                                .build())))
+        .build();
+  }
+
+  @Test
+  void testUnchangedCapacityUnit() {
+    // Assert
+    assertThat(AutoscalingGroupService.isCapacityUnitChanged(buildAsg(null), Map.of())).isFalse();
+    assertThat(
+            AutoscalingGroupService.isCapacityUnitChanged(
+                buildAsg("4"), Map.of("c6g.xlarge", 4, "c6g.2xlarge", 8)))
+        .isFalse();
+  }
+
+  @Test
+  void testChangedCapacityUnit() {
+    // Assert
+    assertThat(
+            AutoscalingGroupService.isCapacityUnitChanged(
+                buildAsg(null), Map.of("c6g.xlarge", 4)))
+        .isTrue();
+    assertThat(AutoscalingGroupService.isCapacityUnitChanged(buildAsg("4"), Map.of())).isTrue();
+    assertThat(
+            AutoscalingGroupService.isCapacityUnitChanged(buildAsg("4"), Map.of("c6g.xlarge", 8)))
+        .isTrue();
+  }
+}
@@ -0,0 +1,44 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dream11.application.constant.CapacityUnit;
+import com.dream11.application.exception.GenericApplicationException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ec2.model.InstanceTypeInfo;
+
+class CapacityUnitServiceTest {
+
+  static InstanceTypeInfo instanceType(String name, int vCpus, long memoryInMiB) {
+    return InstanceTypeInfo.builder()
+        .instanceType(name)
+        .vCpuInfo(vCpuInfo -> vCpuInfo.defaultVCpus(vCpus))
+        .memoryInfo(memoryInfo -> memoryInfo.sizeInMiB(memoryInMiB))
+        .build();
+  }
+
+  @Test
+  void testWeightByVCpuAndMemory() {
+    // Arrange
+    InstanceTypeInfo instanceType = instanceType("c6g.xlarge", 4, 8192);
+
+    // Act & Assert
+    assertThat(CapacityUnitService.getWeight(instanceType, CapacityUnit.VCPU)).isEqualTo(4);
+    assertThat(CapacityUnitService.getWeight(instanceType, CapacityUnit.MEMORY)).isEqualTo(8);
+    assertThat(
+            CapacityUnitService.getWeight(
+                instanceType("t4g.nano", 2, 512), CapacityUnit.MEMORY))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testWeightAboveLimitIsRejected() {
+    // Arrange
+    InstanceTypeInfo instanceType = instanceType("u-12tb1.112xlarge", 448, 12582912);
+
+    // Act & Assert
+    assertThatThrownBy(() -> CapacityUnitService.getWeight(instanceType, CapacityUnit.MEMORY))
+        .isInstanceOf(GenericApplicationException.class);
+  }
+}
@@ -0,0 +1,188 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dream11.application.Application;
+import com.dream11.application.config.metadata.ComponentMetadata;
+import com.dream11.application.config.metadata.aws.AwsAccountData;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.RollingStrategyConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.exception.GenericApplicationException;
+import com.dream11.application.state.State;
+import com.dream11.application.util.TestUtil;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.autoscaling.model.InstanceRefresh;
+import software.amazon.awssdk.services.autoscaling.model.InstanceRefreshStatus;
+import software.amazon.awssdk.services.ec2.model.LaunchTemplate;
+
+class DeploymentServiceTest {
+
+  static final String ASG_NAME = "odindemo-1";
+  static final String INSTANCE_REFRESH_ID = "refresh-1";
+  static final String PREVIOUS_VERSION = "1.1.6";
+
+  LaunchTemplateService launchTemplateService;
+  AutoscalingGroupService autoscalingGroupService;
+  ScalingPolicyService scalingPolicyService;
+  DeploymentService deploymentService;
+  RollingStrategyConfig rollingStrategyConfig;
+
+  @BeforeEach
+  void setup() {
+    DeployConfig deployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.NONE);
+    DeployConfig previousDeployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.NONE);
+    previousDeployConfig.getArtifactConfig().setVersion(PREVIOUS_VERSION);
+    Application.setState(State.builder().deployConfig(previousDeployConfig).build());
+
+    this.launchTemplateService = mock(LaunchTemplateService.class);
+    this.autoscalingGroupService = mock(AutoscalingGroupService.class);
+    this.scalingPolicyService = mock(ScalingPolicyService.class);
+    this.deploymentService =
+        new DeploymentService(
+            deployConfig,
+            this.launchTemplateService,
+            this.autoscalingGroupService,
+            mock(LoadBalancerService.class),
+            mock(ClassicLoadBalancerService.class),
+            mock(ComponentMetadata.class),
+            mock(RoutingService.class),
+            mock(AwsAccountData.class),
+            mock(ScaleOutService.class),
+            mock(AsgEventService.class),
+            mock(ScalingActivityService.class),
+            mock(StragglerService.class),
+            mock(TelemetryService.class),
+            this.scalingPolicyService,
+            mock(CapacityUnitService.class),
+            mock(DrainService.class),
+            mock(LoadTestService.class));
+    this.rollingStrategyConfig = new RollingStrategyConfig();
+
+    when(this.launchTemplateService.createLaunchTemplates(eq("lt"), anyMap()))
+        .thenReturn(Map.of(LaunchTemplate.builder().launchTemplateId("lt-new").build(), "x86_64"));
+    when(this.autoscalingGroupService.startInstanceRefresh(
+            eq(ASG_NAME), eq(Map.of("lt-new", "x86_64")), any()))
+        .thenReturn(INSTANCE_REFRESH_ID);
+  }
+
+  void givenRefreshStatus(InstanceRefreshStatus status) {
+    when(this.autoscalingGroupService.describeInstanceRefresh(ASG_NAME, INSTANCE_REFRESH_ID))
+        .thenReturn(
+            InstanceRefresh.builder()
+                .instanceRefreshId(INSTANCE_REFRESH_ID)
+                .status(status)
+                .statusReason("reason")
+                .build());
+  }
+
+  void verifyReverted() {
+    verify(this.autoscalingGroupService)
+        .updateTags(ASG_NAME, Map.of(Constants.ARTIFACT_VERSION_TAG, PREVIOUS_VERSION));
+    verify(this.launchTemplateService).deleteLaunchTemplates(List.of("lt-new"));
+    verify(this.autoscalingGroupService, never()).replaceLaunchTemplates(any(), any());
+  }
+
+  @Test
+  void testSuccessfulRefreshReplacesLaunchTemplates() {
+    // Arrange
+    givenRefreshStatus(InstanceRefreshStatus.SUCCESSFUL);
+    when(this.autoscalingGroupService.replaceLaunchTemplates(ASG_NAME, List.of("lt-new")))
+        .thenReturn(List.of("lt-old"));
+
+    // Act
+    this.deploymentService.performInstanceRefresh(
+        ASG_NAME, "lt", Map.of(), this.rollingStrategyConfig, Duration.ofMinutes(1));
+
+    // Assert
+    verify(this.autoscalingGroupService)
+        .startInstanceRefresh(ASG_NAME, Map.of("lt-new", "x86_64"), this.rollingStrategyConfig);
+    verify(this.launchTemplateService).deleteLaunchTemplates(List.of("lt-old"));
+    verify(this.autoscalingGroupService, never()).stopInstanceRefresh(any(), any());
+  }
+
+  @Test
+  void testRolledBackRefreshIsReverted() {
+    // Arrange
+    givenRefreshStatus(InstanceRefreshStatus.ROLLBACK_SUCCESSFUL);
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                this.deploymentService.performInstanceRefresh(
+                    ASG_NAME, "lt", Map.of(), this.rollingStrategyConfig, Duration.ofMinutes(1)))
+        .isInstanceOf(GenericApplicationException.class)
+        .hasMessageContaining("RollbackSuccessful");
+    verifyReverted();
+  }
+
+  @Test
+  void testTimedOutRefreshIsRolledBackAndReverted() {
+    // Arrange
+    givenRefreshStatus(InstanceRefreshStatus.IN_PROGRESS);
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                this.deploymentService.performInstanceRefresh(
+                    ASG_NAME, "lt", Map.of(), this.rollingStrategyConfig, Duration.ZERO))
+        .isInstanceOf(GenericApplicationException.class)
+        .hasMessageContaining(INSTANCE_REFRESH_ID);
+    verify(this.autoscalingGroupService).stopInstanceRefresh(ASG_NAME, true);
+    verifyReverted();
+  }
+
+  @Test
+  void testFailedStartIsReverted() {
+    // Arrange
+    when(this.autoscalingGroupService.startInstanceRefresh(any(), any(), any()))
+        .thenThrow(new IllegalStateException("InstanceRefreshInProgress"));
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                this.deploymentService.performInstanceRefresh(
+                    ASG_NAME, "lt", Map.of(), this.rollingStrategyConfig, Duration.ofMinutes(1)))
+        .isInstanceOf(IllegalStateException.class);
+    verifyReverted();
+  }
+
+  @Test
+  void testRefreshTimeoutIncludesCheckpointDelays() {
+    // Arrange
+    this.rollingStrategyConfig.setCheckpointPercentages(List.of(50, 100));
+    this.rollingStrategyConfig.setCheckpointDelay(600);
+
+    // Act & Assert
+    assertThat(
+            DeploymentService.getInstanceRefreshTimeout(this.rollingStrategyConfig))
+        .isEqualTo(Constants.WAIT_FOR_INSTANCE_REFRESH_DURATION.plusMinutes(20));
+  }
+
+  @Test
+  void testResumeScalingFailureIsNotRethrown() {
+    // Arrange
+    doThrow(new IllegalStateException("Throttling"))
+        .when(this.scalingPolicyService)
+        .resumeScaling(List.of(ASG_NAME));
+
+    // Act & Assert
+    assertThatCode(() -> this.deploymentService.resumeScaling(List.of(ASG_NAME)))
+        .doesNotThrowAnyException();
+  }
+}
@@ -0,0 +1,54 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+class DrainServiceTest {
+
+  @Test
+  void testTrafficDrainsOnceWindowStaysBelowThreshold() {
+    // Arrange
+    Map<String, Map<Long, Double>> datapoints =
+        Map.of(
+            "requests_0ib", Map.of(0L, 900.0, 60L, 120.0, 120L, 4.0),
+            "requests_0eb", Map.of(0L, 300.0, 60L, 30.0, 120L, 3.0),
+            "connections_0ib", Map.of(0L, 50.0, 60L, 12.0, 120L, 2.0, 180L, 1.0));
+
+    // Act
+    NavigableMap<Long, Pair<Double, Double>> curve = DrainService.getDrainCurve(datapoints, 0, 240);
+
+    // Assert
+    assertThat(curve)
+        .containsExactlyInAnyOrderEntriesOf(
+            Map.of(
+                0L, Pair.of(1200.0, 50.0),
+                60L, Pair.of(150.0, 12.0),
+                120L, Pair.of(7.0, 2.0),
+                180L, Pair.of(0.0, 1.0)));
+    assertThat(DrainService.isDrained(curve, 10, 2)).isTrue();
+    assertThat(DrainService.isDrained(curve, 10, 3)).isFalse();
+    assertThat(DrainService.isDrained(curve, 5, 2)).isFalse();
+    assertThat(DrainService.isDrained(curve, 10, 5)).isFalse();
+  }
+
+  @Test
+  void testMinutesWithoutDatapointsCountAsNoTraffic() {
+    // Arrange
+    Map<String, Map<Long, Double>> datapoints =
+        Map.of(
+            "requests_0ib", Map.of(0L, 900.0, 60L, 4.0),
+            "connections_0ib", Map.of(0L, 50.0, 60L, 2.0));
+
+    // Act
+    NavigableMap<Long, Pair<Double, Double>> curve = DrainService.getDrainCurve(datapoints, 0, 240);
+
+    // Assert
+    assertThat(curve.get(180L)).isEqualTo(Pair.of(0.0, 0.0));
+    assertThat(DrainService.isDrained(curve, 10, 3)).isTrue();
+    assertThat(DrainService.isDrained(curve, 10, 4)).isFalse();
+  }
+}
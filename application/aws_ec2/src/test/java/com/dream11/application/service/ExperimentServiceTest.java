@@ -0,0 +1,139 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.config.user.BlueGreenStrategyConfig;
+import com.dream11.application.entity.ExperimentEffect;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ExperimentServiceTest {
+
+  @Test
+  void testLatencyRegressionBeyondToleranceIsDetected() {
+    // Arrange
+    BlueGreenStrategyConfig.ExperimentConfig config =
+        new BlueGreenStrategyConfig.ExperimentConfig();
+    config.setBlockMinutes(1);
+    List<Double> active = List.of(0.100, 0.102, 0.098, 0.101, 0.099, 0.100);
+    List<Double> candidate = List.of(0.120, 0.122, 0.118, 0.121, 0.119, 0.120);
+
+    // Act
+    Optional<ExperimentEffect> effect =
+        ExperimentService.compare("0", "latency p99", active, candidate, config, true);
+
+    // Assert
+    assertThat(effect).isPresent();
+    assertThat(effect.get().getChangePercentage()).isEqualTo(20.0);
+    assertThat(effect.get().getLowerBoundPercentage()).isGreaterThan(5.0);
+    assertThat(effect.get().getRegression()).isTrue();
+  }
+
+  @Test
+  void testNoisyChangeIsNotARegression() {
+    // Arrange
+    BlueGreenStrategyConfig.ExperimentConfig config =
+        new BlueGreenStrategyConfig.ExperimentConfig();
+    config.setBlockMinutes(1);
+    List<Double> active = List.of(0.08, 0.12, 0.10, 0.09, 0.11);
+    List<Double> candidate = List.of(0.07, 0.15, 0.11, 0.09, 0.13);
+
+    // Act
+    Optional<ExperimentEffect> effect =
+        ExperimentService.compare("0", "latency p99", active, candidate, config, true);
+
+    // Assert
+    assertThat(effect).isPresent();
+    assertThat(effect.get().getRegression()).isFalse();
+    assertThat(ExperimentService.compare("0", "latency p99", active, List.of(0.1), config, true))
+        .isEmpty();
+  }
+
+  @Test
+  void testBlocksWidenIntervalOfCorrelatedDatapoints() {
+    // Arrange
+    BlueGreenStrategyConfig.ExperimentConfig config =
+        new BlueGreenStrategyConfig.ExperimentConfig();
+    List<Double> active = List.of(0.100, 0.100, 0.100, 0.110, 0.110, 0.110);
+    List<Double> candidate = List.of(0.115, 0.115, 0.115, 0.125, 0.125, 0.125);
+
+    // Act
+    Optional<ExperimentEffect> effect =
+        ExperimentService.compare("0", "latency p99", active, candidate, config, true);
+    config.setBlockMinutes(1);
+    Optional<ExperimentEffect> perMinuteEffect =
+        ExperimentService.compare("0", "latency p99", active, candidate, config, true);
+
+    // Assert
+    assertThat(effect).isPresent();
+    assertThat(effect.get().getSamples()).isEqualTo(2);
+    assertThat(effect.get().getRegression()).isFalse();
+    assertThat(perMinuteEffect).isPresent();
+    assertThat(perMinuteEffect.get().getRegression()).isTrue();
+  }
+
+  @Test
+  void testDerivedSeries() {
+    // Arrange
+    Map<String, Map<Long, Double>> datapoints =
+        Map.of(
+            "nrequests_i", Map.of(0L, 6000.0, 60L, 12000.0, 120L, 6000.0),
+            "ncpu_0", Map.of(0L, 50.0, 60L, 100.0),
+            "ninstances_0", Map.of(0L, 2.0, 60L, 2.0));
+
+    // Act
+    Map<String, List<Double>> series = ExperimentService.getDerivedSeries("n", datapoints, 0.5);
+
+    // Assert
+    assertThat(series.get(ExperimentService.REQUESTS_PER_INSTANCE)).containsExactly(100.0, 200.0);
+    assertThat(series.get(ExperimentService.CPU_PER_REQUEST)).containsExactly(10.0, 10.0);
+  }
+
+  @Test
+  void testThroughputPerInstanceIsScaledByTrafficShare() {
+    // Arrange
+    BlueGreenStrategyConfig.ExperimentConfig config =
+        new BlueGreenStrategyConfig.ExperimentConfig();
+    config.setBlockMinutes(1);
+    config.setWeight(10);
+    List<Double> requests = List.of(600.0, 660.0, 540.0, 630.0, 570.0, 600.0);
+    Map<Long, Double> newRequests = new HashMap<>();
+    Map<Long, Double> activeRequests = new HashMap<>();
+    Map<Long, Double> cpu = new HashMap<>();
+    Map<Long, Double> instances = new HashMap<>();
+    for (int i = 0; i < requests.size(); i++) {
+      newRequests.put(i * 60L, requests.get(i));
+      activeRequests.put(i * 60L, requests.get(i) * 9);
+      cpu.put(i * 60L, 50.0);
+      instances.put(i * 60L, 2.0);
+    }
+    Map<String, Map<Long, Double>> datapoints =
+        Map.of(
+            "nrequests_i", newRequests,
+            "ncpu_0", cpu,
+            "ninstances_0", instances,
+            "arequests_i", activeRequests,
+            "acpu_0", cpu,
+            "ainstances_0", instances);
+
+    // Act
+    Optional<ExperimentEffect> effect =
+        ExperimentService.compare(
+            "0",
+            ExperimentService.REQUESTS_PER_INSTANCE,
+            ExperimentService.getDerivedSeries("a", datapoints, 0.9)
+                .get(ExperimentService.REQUESTS_PER_INSTANCE),
+            ExperimentService.getDerivedSeries("n", datapoints, 0.1)
+                .get(ExperimentService.REQUESTS_PER_INSTANCE),
+            config,
+            false);
+
+    // Assert
+    assertThat(effect).isPresent();
+    assertThat(effect.get().getChangePercentage()).isZero();
+    assertThat(effect.get().getRegression()).isFalse();
+  }
+}
@@ -0,0 +1,88 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.dream11.application.aws.LaunchTemplateClient;
+import com.dream11.application.config.metadata.ComponentMetadata;
+import com.dream11.application.config.metadata.aws.AwsAccountData;
+import com.dream11.application.config.metadata.aws.EC2Data;
+import com.dream11.application.config.metadata.aws.NetworkData;
+import com.dream11.application.config.user.AutoScalingGroupConfig;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.util.ApplicationUtil;
+import com.dream11.application.util.TestUtil;
+import java.util.Base64;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LaunchTemplateServiceTest {
+
+  DeployConfig deployConfig;
+
+  LaunchTemplateService launchTemplateService;
+
+  @BeforeEach
+  void setup() {
+    deployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.PRIVATE);
+    EC2Data.UserData userData = new EC2Data.UserData();
+    userData.setEnvironmentVariables(Map.of());
+    userData.setPreStart(Base64.getEncoder().encodeToString("echo pre-start".getBytes()));
+    userData.setPostStart(Base64.getEncoder().encodeToString("echo post-start".getBytes()));
+    EC2Data ec2Data = new EC2Data();
+    ec2Data.setUserData(userData);
+    ComponentMetadata componentMetadata = mock(ComponentMetadata.class);
+    when(componentMetadata.getComponentName()).thenReturn("odindemo");
+    launchTemplateService =
+        new LaunchTemplateService(
+            deployConfig,
+            mock(LaunchTemplateClient.class),
+            ec2Data,
+            mock(NetworkData.class),
+            componentMetadata,
+            mock(AwsAccountData.class));
+  }
+
+  @Test
+  void testUserdataWarmsUpBeforeCompletingLifecycleAction() {
+    // Arrange
+    AutoScalingGroupConfig.WarmupConfig warmupConfig =
+        deployConfig.getAutoScalingGroupConfig().getWarmup();
+    warmupConfig.setEnabled(true);
+    warmupConfig.setLatencyTarget(50);
+
+    // Act
+    String userdata =
+        ApplicationUtil.readTemplateFile(
+            Constants.USERDATA_TEMPLATE_FILE, launchTemplateService.buildTemplateData(Map.of()));
+
+    // Assert
+    assertThat(userdata)
+        .contains(
+            "WARMUP_URL=http://localhost:8080",
+            "WARMUP_DEADLINE=$(($(date +%s) + 300))",
+            "url = \"http://localhost:8080",
+            "$WARMUP_URL/healthcheck",
+            "--fail",
+            "if [ \"$WARMUP_P90\" -ge 0 ] && [ \"$WARMUP_P90\" -le 50 ]",
+            "--lifecycle-hook-name " + Constants.WARMUP_LIFECYCLE_HOOK_NAME);
+    assertThat(userdata.indexOf("record-lifecycle-action-heartbeat"))
+        .isPositive()
+        .isLessThan(userdata.indexOf("complete-lifecycle-action"));
+  }
+
+  @Test
+  void testUserdataWithoutWarmup() {
+    // Act
+    String userdata =
+        ApplicationUtil.readTemplateFile(
+            Constants.USERDATA_TEMPLATE_FILE, launchTemplateService.buildTemplateData(Map.of()));
+
+    // Assert
+    assertThat(userdata).contains("systemctl start odindemo").doesNotContain("lifecycle-action");
+  }
+}
@@ -0,0 +1,126 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.dream11.application.Application;
+import com.dream11.application.aws.CloudwatchClient;
+import com.dream11.application.aws.LoadBalancerClient;
+import com.dream11.application.aws.TargetGroupClient;
+import com.dream11.application.config.metadata.aws.AwsAccountData;
+import com.dream11.application.config.metadata.aws.DiscoveryData;
+import com.dream11.application.config.metadata.aws.EC2Data;
+import com.dream11.application.config.metadata.aws.NetworkData;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.LoadBalancerType;
+import com.dream11.application.constant.TrafficRouting;
+import com.dream11.application.state.LoadBalancerState;
+import com.dream11.application.state.State;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+class LoadBalancerServiceTest {
+
+  static LoadBalancerState sharedLoadBalancerState(String identifier, String tgArn) {
+    return LoadBalancerState.builder()
+        .name("shared")
+        .arn("arn:aws:elasticloadbalancing:us-east-1:123456789012:loadbalancer/app/shared/1")
+        .routeIdentifier(identifier)
+        .listeners(
+            List.of(
+                LoadBalancerState.ListenerState.builder()
+                    .arn("listener")
+                    .port(80)
+                    .tgArn(tgArn)
+                    .build()))
+        .build();
+  }
+
+  @Test
+  void testTargetGroupWeightsOfSharedLoadBalancer() {
+    // Arrange
+    DeployConfig deployConfig = new DeployConfig();
+    deployConfig.getLoadBalancerConfig().setRouting(TrafficRouting.TARGET_GROUP);
+    LoadBalancerClient loadBalancerClient = mock(LoadBalancerClient.class);
+    LoadBalancerService loadBalancerService =
+        new LoadBalancerService(
+            loadBalancerClient,
+            mock(TargetGroupClient.class),
+            mock(CloudwatchClient.class),
+            mock(NetworkData.class),
+            deployConfig,
+            mock(EC2Data.class),
+            mock(DiscoveryData.class),
+            mock(AwsAccountData.class));
+    Application.setState(
+        State.builder()
+            .lb(
+                List.of(
+                    sharedLoadBalancerState("0ib", "blue"),
+                    sharedLoadBalancerState("0ig", "green")))
+            .build());
+
+    // Act
+    loadBalancerService.setTargetGroupWeights("0", Map.of('b', 0L, 'g', 100L));
+
+    // Assert
+    assertThat(loadBalancerService.isTargetGroupRouting("0")).isTrue();
+    verify(loadBalancerClient).modifyListenerWeights("listener", Map.of("blue", 0L, "green", 100L));
+    verifyNoMoreInteractions(loadBalancerClient);
+  }
+
+  @Test
+  void testPeakLcuIsDrivenByLargestDimension() {
+    // Arrange
+    Map<String, Map<Long, Double>> datapoints =
+        Map.of(
+            LoadBalancerService.CONSUMED_LCUS, Map.of(0L, 12.0, 60L, 30.0),
+            // 60000 new connections per minute are 1000 per second, i.e. 40 LCUs
+            LoadBalancerService.NEW_CONNECTIONS, Map.of(0L, 30000.0, 60L, 60000.0),
+            LoadBalancerService.ACTIVE_CONNECTIONS, Map.of(0L, 90000.0),
+            LoadBalancerService.PROCESSED_BYTES, Map.of(0L, 100_000_000.0));
+
+    // Act
+    Pair<String, Double> peak = LoadBalancerService.getPeakLcu(datapoints, false);
+
+    // Assert
+    assertThat(peak.getLeft()).isEqualTo(LoadBalancerService.NEW_CONNECTIONS);
+    assertThat(peak.getRight()).isEqualTo(40.0);
+  }
+
+  @Test
+  void testPeakLcuWithoutTraffic() {
+    // Act
+    Pair<String, Double> peak = LoadBalancerService.getPeakLcu(Map.of(), true);
+
+    // Assert
+    assertThat(peak.getRight()).isZero();
+  }
+
+  @Test
+  void testReservationBelowMinimumIsSkipped() {
+    // Act & Assert
+    assertThat(LoadBalancerService.getReservation(80.0, 30, LoadBalancerType.ALB)).isEqualTo(104);
+    assertThat(LoadBalancerService.getReservation(40.0, 30, LoadBalancerType.ALB)).isZero();
+    assertThat(LoadBalancerService.getReservation(2000.0, 30, LoadBalancerType.NLB)).isZero();
+  }
+
+  @Test
+  void testLbResourceFromArn() {
+    // Arrange
+    String applicationLb =
+        "arn:aws:elasticloadbalancing:us-east-1:123456789012:loadbalancer/app/app-lb/50dc6c495c0c9188";
+    String networkLb =
+        "arn:aws:elasticloadbalancing:us-east-1:123456789012:loadbalancer/net/net-lb/50dc6c495c0c9188";
+
+    // Act & Assert
+    assertThat(LoadBalancerService.getLbResourceFromArn(applicationLb))
+        .isEqualTo("app/app-lb/50dc6c495c0c9188");
+    assertThat(LoadBalancerService.isApplicationLoadBalancer(applicationLb)).isTrue();
+    assertThat(LoadBalancerService.isApplicationLoadBalancer(networkLb)).isFalse();
+  }
+}
@@ -0,0 +1,144 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.config.user.BlueGreenStrategyConfig;
+import com.dream11.application.config.user.LoadBalancerConfig;
+import com.dream11.application.constant.Protocol;
+import com.dream11.application.state.LoadTestState;
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoadTestServiceTest {
+
+  HttpServer server;
+  final AtomicInteger healthyRequests = new AtomicInteger();
+  final AtomicInteger failingRequests = new AtomicInteger();
+
+  @BeforeEach
+  @SneakyThrows
+  void setup() {
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext(
+        "/healthy",
+        exchange -> {
+          this.healthyRequests.incrementAndGet();
+          exchange.sendResponseHeaders(200, -1);
+          exchange.close();
+        });
+    this.server.createContext(
+        "/failing",
+        exchange -> {
+          this.failingRequests.incrementAndGet();
+          exchange.sendResponseHeaders(503, -1);
+          exchange.close();
+        });
+    this.server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.server.stop(0);
+  }
+
+  static BlueGreenStrategyConfig.LoadTestRequest request(String path, int weight) {
+    BlueGreenStrategyConfig.LoadTestRequest request =
+        new BlueGreenStrategyConfig.LoadTestRequest();
+    request.setPath(path);
+    request.setWeight(weight);
+    return request;
+  }
+
+  @Test
+  void testRequestMixAgainstStubServer() {
+    // Arrange
+    BlueGreenStrategyConfig.LoadTestConfig config = new BlueGreenStrategyConfig.LoadTestConfig();
+    config.setRps(40);
+    config.setDuration(2);
+    config.setRequests(List.of(request("/healthy", 3), request("/failing", 1)));
+    URI uri = URI.create("http://localhost:" + this.server.getAddress().getPort());
+
+    // Act
+    LoadTestState result = LoadTestService.execute(HttpClient.newHttpClient(), uri, config);
+
+    // Assert
+    assertThat(result.getRequests()).isEqualTo(80);
+    assertThat(this.healthyRequests.get()).isEqualTo(60);
+    assertThat(this.failingRequests.get()).isEqualTo(20);
+    assertThat(result.getErrorPercentage()).isEqualTo(25.0);
+    assertThat(result.getP50()).isNotNull();
+    assertThat(LoadTestService.getRegressions(result, null, config))
+        .hasSize(2)
+        .anyMatch(regression -> regression.startsWith("Error percentage"))
+        .anyMatch(regression -> regression.startsWith("Throughput"));
+  }
+
+  @Test
+  void testLatencyRegressionOverPreviousDeploy() {
+    // Arrange
+    BlueGreenStrategyConfig.LoadTestConfig config = new BlueGreenStrategyConfig.LoadTestConfig();
+    LoadTestState baseline =
+        LoadTestState.builder()
+            .artifactVersion("1.0.0")
+            .rps(50)
+            .p50(20L)
+            .p90(40L)
+            .p99(100L)
+            .build();
+    LoadTestState result =
+        LoadTestState.builder()
+            .rps(50)
+            .throughput(50.0)
+            .errorPercentage(0.0)
+            .p50(22L)
+            .p90(60L)
+            .p99(110L)
+            .build();
+
+    // Act
+    List<String> regressions = LoadTestService.getRegressions(result, baseline, config);
+
+    // Assert
+    assertThat(regressions)
+        .containsExactly("Latency p90:[60ms] > threshold:[48.0ms] over version:[1.0.0]");
+  }
+
+  @Test
+  void testSchemeIsDerivedFromListener() {
+    // Arrange
+    List<LoadBalancerConfig.Listener> listeners =
+        List.of(
+            LoadBalancerConfig.Listener.builder()
+                .port(443)
+                .protocol(Protocol.HTTPS)
+                .targetPort(8080)
+                .targetProtocol(Protocol.HTTP)
+                .build(),
+            LoadBalancerConfig.Listener.builder()
+                .port(80)
+                .protocol(Protocol.HTTP)
+                .targetPort(8080)
+                .targetProtocol(Protocol.HTTP)
+                .build());
+    BlueGreenStrategyConfig.LoadTestConfig config = new BlueGreenStrategyConfig.LoadTestConfig();
+    BlueGreenStrategyConfig.LoadTestConfig httpsConfig =
+        new BlueGreenStrategyConfig.LoadTestConfig();
+    httpsConfig.setPort(443);
+
+    // Act & Assert
+    assertThat(LoadTestService.getSchemeAndPort(listeners, config)).contains(Pair.of("http", 80));
+    assertThat(LoadTestService.getSchemeAndPort(listeners, httpsConfig))
+        .contains(Pair.of("https", 443));
+    assertThat(LoadTestService.getSchemeAndPort(listeners.subList(0, 1), config))
+        .contains(Pair.of("https", 443));
+  }
+}
@@ -0,0 +1,52 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.entity.InstancePerformance;
+import com.dream11.application.entity.PerformanceGroup;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PerformanceServiceTest {
+
+  static InstancePerformance performance(
+      String architecture, String instanceType, double cpuUtilization, Double latency) {
+    return InstancePerformance.builder()
+        .instanceId("i-" + instanceType)
+        .architecture(architecture)
+        .instanceType(instanceType)
+        .vCpus(2)
+        .cpuUtilization(cpuUtilization)
+        .requests(36000.0)
+        .latency(latency)
+        .errors(36.0)
+        .build();
+  }
+
+  @Test
+  void testGroupsAreRankedByRequestsPerVCpu() {
+    // Arrange
+    List<InstancePerformance> performances =
+        List.of(
+            performance("x86_64", "c6i.large", 50, 0.08),
+            performance("x86_64", "c6i.large", 50, 0.10),
+            performance("arm64", "c7g.large", 40, 0.07),
+            performance("arm64", "c6g.large", 45, 0.09));
+
+    // Act
+    List<PerformanceGroup> groups =
+        PerformanceService.compare(
+            "instanceType", performances, InstancePerformance::getInstanceType, 3600);
+
+    // Assert
+    assertThat(groups)
+        .extracting(PerformanceGroup::getValue)
+        .containsExactly("c7g.large", "c6g.large", "c6i.large");
+    PerformanceGroup c7g = groups.get(0);
+    assertThat(c7g.getRequestsPerSecondPerInstance()).isEqualTo(10.0);
+    assertThat(c7g.getRequestsPerVCpuSecond()).isEqualTo(12.5);
+    assertThat(c7g.getErrorRate()).isEqualTo(0.001);
+    assertThat(groups.get(2).getInstances()).isEqualTo(2);
+    assertThat(groups.get(2).getLatency()).isEqualTo(0.10);
+  }
+}
@@ -2,15 +2,24 @@ package com.dream11.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.dream11.application.Application;
+import com.dream11.application.aws.ClassicLoadBalancerClient;
+import com.dream11.application.aws.LoadBalancerClient;
 import com.dream11.application.aws.Route53Client;
 import com.dream11.application.config.metadata.aws.DiscoveryData;
 import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.Constants;
 import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.constant.DnsRecordType;
 import com.dream11.application.entity.Route53Record;
+import com.dream11.application.state.LoadBalancerState;
+import com.dream11.application.state.State;
 import com.dream11.application.util.TestUtil;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeAll;
@@ -18,11 +27,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.route53.model.RRType;
 
 @ExtendWith({MockitoExtension.class})
 class Route53ServiceTest {
 
   @Mock Route53Client route53Client;
+  @Mock LoadBalancerClient loadBalancerClient;
+  @Mock ClassicLoadBalancerClient classicLoadBalancerClient;
 
   static DeployConfig deployConfig;
 
@@ -95,7 +107,12 @@ class Route53ServiceTest {
   void testGetRoute53Weights() {
     // Arrange
     Route53Service route53Service =
-        new Route53Service(this.route53Client, discoveryData, deployConfig);
+        new Route53Service(
+            this.route53Client,
+            this.loadBalancerClient,
+            this.classicLoadBalancerClient,
+            discoveryData,
+            deployConfig);
 
     String route = deployConfig.getDiscoveryConfig().getPrivateRoute();
     when(this.route53Client.get(discoveryData.getDomainFromRoute(route).getId(), route, "1ib"))
@@ -115,4 +132,74 @@ class Route53ServiceTest {
     assertThat(weights)
         .containsExactlyInAnyOrderEntriesOf(Map.of("1ib", 100L, "1ig", 0L, "1eb", 20L, "1eg", 80L));
   }
+
+  @Test
+  @SneakyThrows
+  void testCnameRecordsAreConvertedToAliasRecords() {
+    // Arrange
+    DeployConfig aliasDeployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.BOTH);
+    aliasDeployConfig.getLoadBalancerConfig().getDnsRecord().setType(DnsRecordType.ALIAS);
+    Route53Service route53Service =
+        new Route53Service(
+            this.route53Client,
+            this.loadBalancerClient,
+            this.classicLoadBalancerClient,
+            discoveryData,
+            aliasDeployConfig);
+    Application.setState(
+        State.builder()
+            .lb(
+                List.of(
+                    LoadBalancerState.builder()
+                        .dns("blue.elb.amazonaws.com")
+                        .canonicalHostedZoneId("Z35SXDOTRQ7X7K")
+                        .routeIdentifier("0ib")
+                        .build(),
+                    LoadBalancerState.builder()
+                        .dns("green.elb.amazonaws.com")
+                        .canonicalHostedZoneId("Z35SXDOTRQ7X7K")
+                        .dualStack(true)
+                        .routeIdentifier("0ig")
+                        .build()))
+            .build());
+    String route = aliasDeployConfig.getDiscoveryConfig().getPrivateRoute();
+    String hostedZoneId = discoveryData.getDomainFromRoute(route).getId();
+    Route53Record cnameRecord =
+        Route53Record.builder()
+            .name(route + ".")
+            .dns("blue.elb.amazonaws.com")
+            .ttl(60L)
+            .weight(100L)
+            .identifier("0ib")
+            .build();
+    Route53Record aliasRecord = aliasRecord(route, "blue", "0ib", 100L, RRType.A);
+    when(this.route53Client.list(hostedZoneId, route))
+        .thenReturn(List.of(cnameRecord))
+        .thenReturn(List.of(aliasRecord));
+
+    // Act
+    route53Service.createRoute53("0ig", Constants.INTERNAL_IDENTIFIER);
+
+    // Assert
+    verify(this.route53Client).replace(hostedZoneId, List.of(cnameRecord), List.of(aliasRecord));
+    verify(this.route53Client)
+        .createOrUpdate(
+            hostedZoneId,
+            List.of(
+                aliasRecord(route, "green", "0ig", 0L, RRType.A),
+                aliasRecord(route, "green", "0ig", 0L, RRType.AAAA)));
+  }
+
+  static Route53Record aliasRecord(
+      String route, String loadBalancer, String identifier, Long weight, RRType type) {
+    return Route53Record.builder()
+        .name(route)
+        .dns(loadBalancer + ".elb.amazonaws.com")
+        .weight(weight)
+        .identifier(identifier)
+        .type(type)
+        .aliasHostedZoneId("Z35SXDOTRQ7X7K")
+        .evaluateTargetHealth(false)
+        .build();
+  }
 }
@@ -0,0 +1,67 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dream11.application.config.user.BlueGreenStrategyConfig;
+import com.dream11.application.exception.GenericApplicationException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RoutingServiceTest {
+
+  @Test
+  void testLatencyWithinThresholds() {
+    // Arrange
+    BlueGreenStrategyConfig.CanaryLatencyThreshold threshold =
+        new BlueGreenStrategyConfig.CanaryLatencyThreshold();
+    threshold.setP99(500);
+    threshold.setMaxIncreasePercentage(20);
+
+    // Act & Assert
+    assertThatCode(
+            () ->
+                RoutingService.verifyCanaryLatency(
+                    Map.of("p50", 40.0, "p99", 450.0),
+                    Map.of("p50", 35.0, "p99", 400.0),
+                    threshold))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void testLatencyAboveAbsoluteThreshold() {
+    // Arrange
+    BlueGreenStrategyConfig.CanaryLatencyThreshold threshold =
+        new BlueGreenStrategyConfig.CanaryLatencyThreshold();
+    threshold.setP99(500);
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                RoutingService.verifyCanaryLatency(
+                    Map.of("p50", 40.0, "p99", 650.0), Map.of(), threshold))
+        .isInstanceOf(GenericApplicationException.class)
+        .hasMessageContaining("p99");
+  }
+
+  @Test
+  void testLatencyAboveActiveStack() {
+    // Arrange
+    BlueGreenStrategyConfig.CanaryLatencyThreshold threshold =
+        new BlueGreenStrategyConfig.CanaryLatencyThreshold();
+    threshold.setMaxIncreasePercentage(20);
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                RoutingService.verifyCanaryLatency(
+                    Map.of("p50", 50.0), Map.of("p50", 40.0), threshold))
+        .isInstanceOf(GenericApplicationException.class)
+        .hasMessageContaining("p50");
+    assertThatCode(
+            () ->
+                RoutingService.verifyCanaryLatency(
+                    Map.of("p50", 50.0), Map.of("p50", 0.0), threshold))
+        .doesNotThrowAnyException();
+  }
+}
@@ -0,0 +1,75 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.util.TestUtil;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({MockitoExtension.class})
+class ScaleOutServiceTest {
+
+  @Mock ScalingActivityService scalingActivityService;
+
+  DeployConfig deployConfig;
+
+  ScaleOutService scaleOutService;
+
+  @BeforeEach
+  void setup() {
+    deployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.PRIVATE);
+    deployConfig.getAutoScalingGroupConfig().getScaleOut().setEnabled(true);
+    deployConfig.getAutoScalingGroupConfig().getScaleOut().setMaxStep(16);
+    scaleOutService = new ScaleOutService(deployConfig, scalingActivityService);
+  }
+
+  @Test
+  void testInitialStepGrowsCurrentCapacity() {
+    // Act
+    int fromOne = scaleOutService.getInitialStep(1);
+    int fromFive = scaleOutService.getInitialStep(5);
+
+    // Assert
+    assertThat(fromOne).isEqualTo(1);
+    assertThat(fromFive).isEqualTo(5);
+  }
+
+  @Test
+  void testStepGrowsGeometricallyUpToMaxStep() {
+    // Act
+    int nextStep = scaleOutService.computeNextStep(4, 1.0, false, Duration.ofSeconds(60));
+    int cappedStep = scaleOutService.computeNextStep(12, 1.0, false, Duration.ofSeconds(60));
+
+    // Assert
+    assertThat(nextStep).isEqualTo(8);
+    assertThat(cappedStep).isEqualTo(16);
+  }
+
+  @Test
+  void testStepIsHeldWhenHealthyTimeExceedsTarget() {
+    // Act
+    int nextStep = scaleOutService.computeNextStep(4, 1.0, false, Duration.ofMinutes(10));
+
+    // Assert
+    assertThat(nextStep).isEqualTo(4);
+  }
+
+  @Test
+  void testStepIsHalvedOnCapacityErrorsOrLowSuccessRate() {
+    // Act
+    int onCapacityError = scaleOutService.computeNextStep(8, 1.0, true, Duration.ofSeconds(60));
+    int onLowSuccessRate = scaleOutService.computeNextStep(8, 0.5, false, Duration.ofSeconds(60));
+    int atMinStep = scaleOutService.computeNextStep(1, 0.5, false, Duration.ofSeconds(60));
+
+    // Assert
+    assertThat(onCapacityError).isEqualTo(4);
+    assertThat(onLowSuccessRate).isEqualTo(4);
+    assertThat(atMinStep).isEqualTo(1);
+  }
+}
@@ -0,0 +1,141 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dream11.application.exception.GenericApplicationException;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.autoscaling.model.Activity;
+import software.amazon.awssdk.services.autoscaling.model.ScalingActivityStatusCode;
+
+@ExtendWith({MockitoExtension.class})
+class ScalingActivityServiceTest {
+
+  @Mock AutoscalingGroupService autoscalingGroupService;
+
+  static Activity failedLaunch(String activityId, String statusMessage) {
+    return Activity.builder()
+        .activityId(activityId)
+        .description("Launching a new EC2 instance.  Status Reason: " + statusMessage)
+        .statusCode(ScalingActivityStatusCode.FAILED)
+        .statusMessage(statusMessage)
+        .startTime(Instant.now())
+        .build();
+  }
+
+  @Test
+  void testClassifyLaunchFailures() {
+    // Assert
+    assertThat(
+            ScalingActivityService.isFatalError(
+                "The image id '[ami-0123]' does not exist. Launching EC2 instance failed."))
+        .isTrue();
+    assertThat(
+            ScalingActivityService.isFatalError(
+                "Value (odin-app) for parameter iamInstanceProfile.name is invalid. Invalid IAM Instance Profile name. Launching EC2 instance failed."))
+        .isTrue();
+    assertThat(
+            ScalingActivityService.isFatalError(
+                "There are not enough free addresses in subnet 'subnet-0123' to satisfy the requested number of instances. Launching EC2 instance failed."))
+        .isTrue();
+    assertThat(
+            ScalingActivityService.isFatalError(
+                "We currently do not have sufficient c5.xlarge capacity in the Availability Zone you requested (us-east-1a). Launching EC2 instance failed."))
+        .isFalse();
+    assertThat(
+            ScalingActivityService.isCapacityError(
+                "We currently do not have sufficient c5.xlarge capacity in the Availability Zone you requested (us-east-1a). Launching EC2 instance failed."))
+        .isTrue();
+  }
+
+  static Activity launch(Instant startTime, ScalingActivityStatusCode statusCode) {
+    return Activity.builder()
+        .activityId(startTime.toString())
+        .description("Launching a new EC2 instance: i-0123")
+        .statusCode(statusCode)
+        .startTime(startTime)
+        .build();
+  }
+
+  @Test
+  void testCheckLaunchFailuresAbortsOnlyOnFatalFailure() {
+    // Arrange
+    Instant startTime = Instant.now();
+    Activity capacityFailure =
+        failedLaunch(
+            "1",
+            "We currently do not have sufficient c5.xlarge capacity in the Availability Zone you requested (us-east-1a).");
+    Activity amiFailure = failedLaunch("2", "The image id '[ami-0123]' does not exist.");
+    when(autoscalingGroupService.getScalingActivities("capacity", startTime))
+        .thenReturn(List.of(capacityFailure));
+    when(autoscalingGroupService.getScalingActivities("ami", startTime))
+        .thenReturn(List.of(amiFailure, capacityFailure));
+
+    // Act & Assert
+    assertThatCode(
+            () ->
+                new ScalingActivityService(autoscalingGroupService)
+                    .checkLaunchFailures("capacity", startTime))
+        .doesNotThrowAnyException();
+    assertThatThrownBy(
+            () ->
+                new ScalingActivityService(autoscalingGroupService)
+                    .checkLaunchFailures("ami", startTime))
+        .isInstanceOf(GenericApplicationException.class)
+        .hasMessageContaining("ami-0123");
+  }
+
+  @Test
+  void testChecksOfAsgAreRateLimited() {
+    // Arrange
+    ScalingActivityService scalingActivityService =
+        new ScalingActivityService(autoscalingGroupService);
+    Instant startTime = Instant.now();
+    when(autoscalingGroupService.getScalingActivities("asg", startTime)).thenReturn(List.of());
+
+    // Act
+    scalingActivityService.checkLaunchFailures("asg", startTime);
+    scalingActivityService.checkLaunchFailures("asg", startTime);
+
+    // Assert
+    verify(autoscalingGroupService, times(1)).getScalingActivities("asg", startTime);
+  }
+
+  @Test
+  void testOnlyLaunchesInProgressAreDescribedAgain() {
+    // Arrange
+    Instant startTime = Instant.parse("2024-01-01T00:00:00Z");
+    Activity oldest = launch(startTime.plusSeconds(10), ScalingActivityStatusCode.SUCCESSFUL);
+    Activity inProgress =
+        launch(startTime.plusSeconds(20), ScalingActivityStatusCode.WAITING_FOR_INSTANCE_ID);
+    Activity latest = launch(startTime.plusSeconds(30), ScalingActivityStatusCode.FAILED);
+
+    // Act & Assert
+    assertThat(
+            ScalingActivityService.getCheckedUntil(
+                List.of(latest, inProgress, oldest), startTime))
+        .isEqualTo(startTime.plusSeconds(20));
+    assertThat(ScalingActivityService.getCheckedUntil(List.of(latest, oldest), startTime))
+        .isEqualTo(startTime.plusSeconds(30));
+    assertThat(ScalingActivityService.getCheckedUntil(List.of(), startTime)).isEqualTo(startTime);
+  }
+
+  @Test
+  void testGenericMessagesAreNotFatal() {
+    // Assert
+    assertThat(ScalingActivityService.isFatalError("Instance i-0123 does not exist in the ASG"))
+        .isFalse();
+    assertThat(
+            ScalingActivityService.isFatalError("Launching EC2 instance failed: VcpuLimitExceeded"))
+        .isTrue();
+  }
+}
@@ -0,0 +1,88 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dream11.application.aws.AutoscalingGroupClient;
+import com.dream11.application.aws.CloudwatchClient;
+import com.dream11.application.aws.TargetGroupClient;
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.config.user.ScalingConfig;
+import com.dream11.application.constant.Constants;
+import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.util.TestUtil;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({MockitoExtension.class})
+class ScalingPolicyServiceTest {
+
+  @Mock AutoscalingGroupClient autoscalingGroupClient;
+  @Mock CloudwatchClient cloudwatchClient;
+  @Mock TargetGroupClient targetGroupClient;
+
+  @Test
+  void testResourceLabel() {
+    // Act
+    String resourceLabel =
+        ScalingPolicyService.getResourceLabel(
+            "arn:aws:elasticloadbalancing:us-east-1:123456789012:loadbalancer/app/app-lb/50dc6c495c0c9188",
+            "arn:aws:elasticloadbalancing:us-east-1:123456789012:targetgroup/app-tg/943f017f100becff");
+
+    // Assert
+    assertThat(resourceLabel)
+        .isEqualTo("app/app-lb/50dc6c495c0c9188/targetgroup/app-tg/943f017f100becff");
+  }
+
+  @Test
+  void testResumeSkipsConfiguredSuspendedProcesses() {
+    // Arrange
+    DeployConfig deployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.PRIVATE);
+    ScalingConfig.ScheduledAction scheduledAction = new ScalingConfig.ScheduledAction();
+    scheduledAction.setName("night");
+    scheduledAction.setRecurrence("0 22 * * *");
+    scheduledAction.setDesiredInstances(2);
+    deployConfig.getAutoScalingGroupConfig().getScaling().getScheduled().add(scheduledAction);
+    deployConfig.getAutoScalingGroupConfig().setSuspendProcesses(List.of("ScheduledActions"));
+    ScalingPolicyService scalingPolicyService =
+        new ScalingPolicyService(
+            deployConfig, autoscalingGroupClient, cloudwatchClient, targetGroupClient);
+
+    // Act
+    scalingPolicyService.resumeScaling(List.of("asg"));
+
+    // Assert
+    verify(autoscalingGroupClient).resumeProcesses("asg", List.of("AlarmNotification"));
+  }
+
+  @Test
+  void testRemoveKeepsStandbyExpiry() {
+    // Arrange
+    ScalingPolicyService scalingPolicyService =
+        new ScalingPolicyService(
+            TestUtil.buildDeployConfig(1, DiscoveryType.PRIVATE),
+            autoscalingGroupClient,
+            cloudwatchClient,
+            targetGroupClient);
+    when(autoscalingGroupClient.describePolicyNames("asg")).thenReturn(List.of("cpu"));
+    when(autoscalingGroupClient.describeScheduledActionNames("asg"))
+        .thenReturn(List.of("night", Constants.STANDBY_EXPIRY_SCHEDULED_ACTION));
+
+    // Act
+    scalingPolicyService.removeScalingPolicies("asg");
+
+    // Assert
+    verify(autoscalingGroupClient).deletePolicy("asg", "cpu");
+    verify(cloudwatchClient).deleteAlarms(List.of("asg/cpu"));
+    verify(autoscalingGroupClient).deleteScheduledAction("asg", "night");
+    verify(autoscalingGroupClient, never())
+        .deleteScheduledAction(any(), eq(Constants.STANDBY_EXPIRY_SCHEDULED_ACTION));
+  }
+}
@@ -0,0 +1,133 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.dream11.application.config.user.DeployConfig;
+import com.dream11.application.constant.DiscoveryType;
+import com.dream11.application.entity.InstanceHealthTracker;
+import com.dream11.application.util.TestUtil;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({MockitoExtension.class})
+class StragglerServiceTest {
+
+  @Mock AutoscalingGroupService autoscalingGroupService;
+
+  DeployConfig deployConfig;
+
+  StragglerService stragglerService;
+
+  @BeforeEach
+  void setup() {
+    deployConfig = TestUtil.buildDeployConfig(1, DiscoveryType.PRIVATE);
+    deployConfig.getAutoScalingGroupConfig().setHealthcheckGracePeriod(0);
+    deployConfig.getAutoScalingGroupConfig().getStragglerReplacement().setEnabled(true);
+    stragglerService = new StragglerService(deployConfig, autoscalingGroupService);
+  }
+
+  /**
+   * Builds a tracker which sees all instances unhealthy on first check and then the given health,
+   * healthy instances are launched 10 seconds ago and unhealthy ones 100 seconds ago
+   */
+  InstanceHealthTracker buildTracker(Map<String, Boolean> instanceHealth) {
+    Instant now = Instant.now();
+    InstanceHealthTracker tracker =
+        new InstanceHealthTracker(
+            instanceIds ->
+                instanceIds.stream()
+                    .collect(
+                        Collectors.toMap(
+                            instanceId -> instanceId,
+                            instanceId ->
+                                now.minusSeconds(instanceHealth.get(instanceId) ? 10 : 100))));
+    tracker.update(
+        instanceHealth.keySet().stream()
+            .collect(Collectors.toMap(instanceId -> instanceId, instanceId -> false)));
+    tracker.update(instanceHealth);
+    return tracker;
+  }
+
+  @Test
+  void testStragglersAreReplacedUpToCap() {
+    // Arrange
+    InstanceHealthTracker tracker =
+        buildTracker(
+            Map.of(
+                "i-1", true, "i-2", true, "i-3", true, "i-4", false, "i-5", false, "i-6", false));
+
+    // Act
+    stragglerService.replaceStragglers("asg", tracker);
+    stragglerService.replaceStragglers("asg", tracker);
+
+    // Assert
+    verify(autoscalingGroupService, times(2)).terminateInstance(eq("asg"), anyString());
+  }
+
+  @Test
+  void testInstancesHealthyOnFirstCheckAreNotTimed() {
+    // Arrange
+    Map<String, Boolean> instanceHealth =
+        Map.of("i-1", true, "i-2", true, "i-3", true, "i-4", false);
+    InstanceHealthTracker tracker =
+        new InstanceHealthTracker(
+            instanceIds ->
+                instanceIds.stream()
+                    .collect(
+                        Collectors.toMap(
+                            instanceId -> instanceId,
+                            instanceId -> Instant.now().minusSeconds(100))));
+    tracker.update(instanceHealth);
+    tracker.update(instanceHealth);
+
+    // Act
+    stragglerService.replaceStragglers("asg", tracker);
+
+    // Assert
+    assertThat(tracker.getTimesToHealthy()).isEmpty();
+    assertThat(tracker.getHealthyTimes()).isEmpty();
+    verifyNoInteractions(autoscalingGroupService);
+  }
+
+  @Test
+  void testNoReplacementWithoutEnoughHealthyInstances() {
+    // Arrange
+    InstanceHealthTracker tracker = buildTracker(Map.of("i-1", true, "i-2", false));
+
+    // Act
+    stragglerService.replaceStragglers("asg", tracker);
+
+    // Assert
+    verifyNoInteractions(autoscalingGroupService);
+  }
+
+  @Test
+  void testInstancesWarmingUpAreNotReplaced() {
+    // Arrange
+    deployConfig.getAutoScalingGroupConfig().getWarmup().setEnabled(true);
+    InstanceHealthTracker tracker =
+        buildTracker(Map.of("i-1", true, "i-2", true, "i-3", true, "i-4", false, "i-5", false));
+    when(autoscalingGroupService.getWarmingInstanceIds("asg")).thenReturn(Set.of("i-4"));
+
+    // Act
+    stragglerService.replaceStragglers("asg", tracker);
+
+    // Assert
+    verify(autoscalingGroupService).terminateInstance("asg", "i-5");
+    verify(autoscalingGroupService, never()).terminateInstance("asg", "i-4");
+  }
+}
@@ -0,0 +1,59 @@
+package com.dream11.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dream11.application.entity.InstanceTiming;
+import com.dream11.application.state.TelemetryState;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TelemetryServiceTest {
+
+  static InstanceTiming timing(String instanceType, long secondsToHealthy) {
+    Instant requestedAt = Instant.now();
+    return InstanceTiming.builder()
+        .instanceId("i-" + secondsToHealthy)
+        .asgName("asg")
+        .architecture("arm64")
+        .instanceType(instanceType)
+        .requestedAt(requestedAt)
+        .runningAt(requestedAt.plusSeconds(10))
+        .healthyAt(requestedAt.plusSeconds(secondsToHealthy))
+        .build();
+  }
+
+  @Test
+  void testSummarizeByInstanceType() {
+    // Arrange
+    List<InstanceTiming> timings =
+        List.of(
+            timing("c6g.large", 60),
+            timing("c6g.large", 80),
+            timing("c6g.large", 200),
+            timing("c7g.large", 50));
+
+    // Act
+    List<TelemetryState.TimeToHealthyState> states =
+        TelemetryService.summarize("instanceType", timings, InstanceTiming::getInstanceType);
+
+    // Assert
+    assertThat(states).hasSize(2);
+    TelemetryState.TimeToHealthyState c6g =
+        states.stream().filter(state -> state.getValue().equals("c6g.large")).findFirst().get();
+    assertThat(c6g.getCount()).isEqualTo(3);
+    assertThat(c6g.getP50()).isEqualTo(80L);
+    assertThat(c6g.getP90()).isEqualTo(200L);
+    assertThat(c6g.getRunningP90()).isEqualTo(10L);
+    assertThat(c6g.getUserdataCompletionP90()).isNull();
+  }
+
+  @Test
+  void testRegressionNeedsRelativeAndAbsoluteIncrease() {
+    // Assert
+    assertThat(TelemetryService.isRegression(100L, 150L)).isTrue();
+    assertThat(TelemetryService.isRegression(100L, 115L)).isFalse();
+    assertThat(TelemetryService.isRegression(20L, 45L)).isFalse();
+    assertThat(TelemetryService.isRegression(null, 150L)).isFalse();
+  }
+}
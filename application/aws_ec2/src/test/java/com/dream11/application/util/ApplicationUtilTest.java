@@ -192,6 +192,18 @@ class ApplicationUtilTest {
     assertThat(ApplicationUtil.sumList(doubles)).isEqualTo(sum);
   }
 
+  @Test
+  void testGetChangedAttributes() {
+    // Act
+    Map<String, String> changedAttributes =
+        ApplicationUtil.getChangedAttributes(
+            Map.of("slow_start.duration_seconds", "60", "stickiness.enabled", "false"),
+            Map.of("slow_start.duration_seconds", "0", "stickiness.enabled", "false"));
+
+    // Assert
+    assertThat(changedAttributes).containsOnly(Map.entry("slow_start.duration_seconds", "60"));
+  }
+
   private static Stream<Arguments> deploymentStack() {
     return Stream.of(
         Arguments.of(
@@ -0,0 +1,54 @@
+package com.dream11.application.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+class StatisticsUtilTest {
+
+  @Test
+  void testPercentile() {
+    // Arrange
+    List<Long> values = List.of(10L, 1L, 9L, 2L, 8L, 3L, 7L, 4L, 6L, 5L);
+
+    // Act & Assert
+    assertThat(StatisticsUtil.percentile(values, 50)).isEqualTo(5L);
+    assertThat(StatisticsUtil.percentile(values, 90)).isEqualTo(9L);
+    assertThat(StatisticsUtil.percentile(values, 99)).isEqualTo(10L);
+    assertThat(StatisticsUtil.percentile(values, 0)).isEqualTo(1L);
+    assertThat(StatisticsUtil.percentile(List.<Long>of(), 90)).isNull();
+  }
+
+  @Test
+  void testBlockMeans() {
+    // Act & Assert
+    assertThat(StatisticsUtil.blockMeans(List.of(1.0, 3.0, 5.0, 7.0, 9.0), 2))
+        .containsExactly(2.0, 6.0);
+    assertThat(StatisticsUtil.blockMeans(List.of(1.0), 2)).isEmpty();
+  }
+
+  @Test
+  void testTQuantile() {
+    // Act & Assert
+    assertThat(StatisticsUtil.tQuantile(0.975, 10)).isCloseTo(2.228, within(0.001));
+    assertThat(StatisticsUtil.tQuantile(0.975, 1)).isCloseTo(12.706, within(0.001));
+    assertThat(StatisticsUtil.tQuantile(0.95, 30)).isCloseTo(1.697, within(0.001));
+  }
+
+  @Test
+  void testWelchInterval() {
+    // Arrange
+    List<Double> control = List.of(1.0, 2.0, 3.0, 4.0);
+    List<Double> treatment = List.of(3.0, 4.0, 5.0, 6.0, 7.0);
+
+    // Act
+    Pair<Double, Double> interval = StatisticsUtil.welchInterval(control, treatment, 95);
+
+    // Assert
+    assertThat(interval.getLeft()).isCloseTo(0.235, within(0.001));
+    assertThat(interval.getRight()).isCloseTo(4.765, within(0.001));
+  }
+}
@@ -104,8 +104,8 @@ public class TestUtil {
                     }
                 ],
                 "lcus": {
-                    "internal": 1,
-                    "external": 1
+                    "internal": 0,
+                    "external": 0
                 }
             },
             "strategy": {